@@ -0,0 +1,726 @@
+package compiler;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Bounds of the array accesses of an {@link Ast}: the INDEX nodes whose index provably lies
+ * within the array, so that a back end may drop their run-time check, and those whose index
+ * provably lies outside it.
+ *
+ * Every method with an access is interpreted over its {@link ControlFlowGraph} with intervals.
+ * The state entering a block holds, for each tracked local variable, an interval of its value
+ * if it is an int and of its length if it is an array, and for an int the array whose length
+ * it is known to be below, as inside {@code while (i < a.length)}. Statements update the state,
+ * branch conditions narrow it along the edge they hold on (an empty interval makes the edge
+ * infeasible), and states meeting at a block are joined, widening to the full int range at the
+ * targets of back edges so that loops settle in a few visits. Only the int and array variables
+ * that the accesses depend on, through initialisers, assignments and comparisons, are tracked.
+ * Parameters, fields and call results are unknown.
+ */
+public class ArrayBounds {
+    public static final int UNKNOWN = 0;
+    public static final int IN_RANGE = 1;
+    public static final int OUT_OF_RANGE = 2;
+
+    private static final int NONE = Ast.NONE;
+    private static final long MIN = Integer.MIN_VALUE;
+    private static final long MAX = Integer.MAX_VALUE;
+    // kinds of variables
+    private static final byte OTHER = 0;
+    private static final byte INT = 1;
+    private static final byte ARRAY = 2;
+
+    private final Ast ast;
+    private final ExpressionTypes types;
+    private final ControlFlowGraph.Builder graphs;
+    // folded on the first method with an access
+    private ConstantValues constants;
+    private final byte[] results;
+    private int accesses;
+    private int inRange;
+    private int[] outOfRange = new int[4];
+    private int outOfRangeCount;
+
+    // the method being analysed: its variables, the kind of each and its slot in the state
+    // (NONE when untracked), and the variable of each slot
+    private LocalVariables variables;
+    private byte[] kinds = new byte[16];
+    private int[] slots = new int[16];
+    private int[] tracked = new int[16];
+    private int trackedCount;
+    // expressions each variable depends on, as linked lists: a VAR's initialiser, an assigned
+    // value, or a comparison the variable appears in
+    private int[] linkHead = new int[16];
+    private int[] linkNext = new int[16];
+    private int[] linkExpression = new int[16];
+    private int links;
+    // the working state: bounds of each slot, and the slot of the array each int slot is below
+    private long[] low = new long[16];
+    private long[] high = new long[16];
+    private int[] below = new int[16];
+    // bounds of the last evaluated expression
+    private long lo;
+    private long hi;
+
+    private ArrayBounds(Ast ast, ExpressionTypes types) {
+        this.ast = ast;
+        this.types = types;
+        this.graphs = new ControlFlowGraph.Builder(ast);
+        this.results = new byte[ast.size()];
+    }
+
+    /**
+     * Analyses the accesses of {@code ast}, whose expressions have the types {@code types}.
+     */
+    public static ArrayBounds analyze(Ast ast, ExpressionTypes types) {
+        ArrayBounds bounds = new ArrayBounds(ast, types);
+        for (int node = ast.size() > 0 ? ast.firstChild(ast.root()) : NONE; node != NONE; node = ast.nextSibling(node)) {
+            if (ast.kind(node) != Ast.CLASS) {
+                continue;
+            }
+            // node ids are pre-order, so a method's subtree ends where the next member or class starts
+            int classEnd = ast.nextSibling(node) == NONE ? ast.size() : ast.nextSibling(node);
+            for (int member = ast.firstChild(node); member != NONE; member = ast.nextSibling(member)) {
+                if (ast.kind(member) == Ast.METHOD) {
+                    bounds.method(member, ast.nextSibling(member) == NONE ? classEnd : ast.nextSibling(member));
+                }
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Whether {@code ast} has any array access to analyse.
+     */
+    public static boolean hasAccesses(Ast ast) {
+        for (int node = 0; node < ast.size(); node++) {
+            if (ast.kind(node) == Ast.INDEX) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Ast getAst() {
+        return ast;
+    }
+
+    /**
+     * IN_RANGE, OUT_OF_RANGE or UNKNOWN for an INDEX node; accesses in unreachable code and
+     * nodes of other kinds are UNKNOWN.
+     */
+    public int result(int node) {
+        return results[node];
+    }
+
+    public boolean isInRange(int node) {
+        return results[node] == IN_RANGE;
+    }
+
+    /**
+     * The INDEX nodes whose index is out of range, in source order.
+     */
+    public int[] outOfRange() {
+        int[] nodes = Arrays.copyOf(outOfRange, outOfRangeCount);
+        Arrays.sort(nodes);
+        return nodes;
+    }
+
+    public int accessCount() {
+        return accesses;
+    }
+
+    public int inRangeCount() {
+        return inRange;
+    }
+
+    public void dump(PrintStream out) {
+        StringBuilder sb = new StringBuilder();
+        for (int node = 0; node < ast.size(); node++) {
+            if (ast.kind(node) == Ast.INDEX) {
+                sb.append("INDEX [").append(ast.line(node)).append(':').append(ast.column(node)).append("] ")
+                        .append(results[node] == IN_RANGE ? "in range" : results[node] == OUT_OF_RANGE ? "out of range" : "unknown")
+                        .append(System.lineSeparator());
+            }
+        }
+        out.print(sb);
+    }
+
+    private void method(int method, int end) {
+        boolean accessed = false;
+        for (int node = method + 1; node < end && !accessed; node++) {
+            accessed = ast.kind(node) == Ast.INDEX;
+        }
+        if (!accessed) {
+            return;
+        }
+        if (constants == null) {
+            constants = ConstantValues.fold(ast);
+        }
+        variables = LocalVariables.bind(ast, method);
+        track(method, end);
+        ControlFlowGraph cfg = graphs.build(method);
+        new Solver(cfg).solve();
+    }
+
+    // picks the variables to track: those in accesses, and those the tracked ones are
+    // initialised, assigned or compared with
+    private void track(int method, int end) {
+        int count = variables.count();
+        if (kinds.length < count) {
+            kinds = new byte[Math.max(count, kinds.length * 2)];
+            slots = new int[kinds.length];
+            tracked = new int[kinds.length];
+        }
+        for (int v = 0; v < count; v++) {
+            int type = types.type(variables.declaration(v));
+            String name = type == MethodSignature.UNKNOWN ? null : NamePool.global().name(type);
+            kinds[v] = type == MethodSignature.INT ? INT : name != null && name.endsWith("[]") ? ARRAY : OTHER;
+            slots[v] = NONE;
+        }
+        trackedCount = 0;
+        if (linkHead.length < count) {
+            linkHead = new int[kinds.length];
+        }
+        Arrays.fill(linkHead, 0, count, NONE);
+        links = 0;
+        for (int node = method + 1; node < end; node++) {
+            int kind = ast.kind(node);
+            if (kind == Ast.INDEX) {
+                mark(node);
+                continue;
+            }
+            int variable = NONE;
+            int depends = NONE;
+            if (kind == Ast.VAR) {
+                variable = variables.variable(node);
+                depends = ast.firstChild(node);
+            } else if (kind == Ast.ASSIGN) {
+                int target = ast.firstChild(node);
+                if (target != NONE && ast.kind(target) == Ast.NAME) {
+                    variable = variables.variable(target);
+                    depends = ast.nextSibling(target);
+                }
+            } else if (kind == Ast.LT || kind == Ast.GT || kind == Ast.EQ || kind == Ast.NE) {
+                // every variable compared depends on the comparison as a whole
+                linkNames(node, node);
+                continue;
+            }
+            if (variable != NONE && depends != NONE) {
+                link(variable, depends);
+            }
+        }
+        // tracked[] doubles as the worklist: slots from done onwards are still to be followed
+        for (int done = 0; done < trackedCount; done++) {
+            for (int link = linkHead[tracked[done]]; link != NONE; link = linkNext[link]) {
+                mark(linkExpression[link]);
+            }
+        }
+        if (low.length < trackedCount) {
+            low = new long[Math.max(trackedCount, low.length * 2)];
+            high = new long[low.length];
+            below = new int[low.length];
+        }
+    }
+
+    private void linkNames(int node, int comparison) {
+        if (ast.kind(node) == Ast.NAME && variables.variable(node) != NONE) {
+            link(variables.variable(node), comparison);
+        }
+        for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+            linkNames(child, comparison);
+        }
+    }
+
+    private void link(int variable, int expression) {
+        if (links == linkNext.length) {
+            linkNext = Arrays.copyOf(linkNext, links * 2);
+            linkExpression = Arrays.copyOf(linkExpression, links * 2);
+        }
+        linkExpression[links] = expression;
+        linkNext[links] = linkHead[variable];
+        linkHead[variable] = links++;
+    }
+
+    // tracks the int and array variables named in the subtree of node
+    private void mark(int node) {
+        if (node == NONE) {
+            return;
+        }
+        if (ast.kind(node) == Ast.NAME) {
+            int variable = variables.variable(node);
+            if (variable != NONE && kinds[variable] != OTHER && slots[variable] == NONE) {
+                slots[variable] = trackedCount;
+                tracked[trackedCount++] = variable;
+            }
+            return;
+        }
+        for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+            mark(child);
+        }
+    }
+
+    // the slot of the variable a NAME node refers to, or NONE
+    private int slot(int node) {
+        if (node == NONE || ast.kind(node) != Ast.NAME) {
+            return NONE;
+        }
+        int variable = variables.variable(node);
+        return variable == NONE ? NONE : slots[variable];
+    }
+
+    private boolean isInt(int node) {
+        return types.type(node) == MethodSignature.INT;
+    }
+
+    // sets lo and hi to the bounds of an int expression, or of the length of an array expression
+    private void evaluate(int node) {
+        lo = MIN;
+        hi = MAX;
+        if (node == NONE) {
+            return;
+        }
+        if (constants.type(node) == MethodSignature.INT) {
+            lo = hi = constants.intValue(node);
+            return;
+        }
+        int left = ast.firstChild(node);
+        int right = left == NONE ? NONE : ast.nextSibling(left);
+        switch (ast.kind(node)) {
+            case Ast.NAME: {
+                int slot = slot(node);
+                if (slot != NONE) {
+                    lo = low[slot];
+                    hi = high[slot];
+                }
+                break;
+            }
+            case Ast.NEW_ARRAY:
+                length(right);
+                break;
+            case Ast.FIELD_ACCESS:
+                if ("length".equals(ast.nameText(node))) {
+                    length(left);
+                }
+                break;
+            case Ast.NEG:
+                evaluate(left);
+                range(-hi, -lo);
+                break;
+            case Ast.ADD:
+            case Ast.SUB:
+            case Ast.MUL: {
+                evaluate(left);
+                long leftLo = lo;
+                long leftHi = hi;
+                evaluate(right);
+                if (ast.kind(node) == Ast.ADD) {
+                    range(leftLo + lo, leftHi + hi);
+                } else if (ast.kind(node) == Ast.SUB) {
+                    range(leftLo - hi, leftHi - lo);
+                } else {
+                    long a = leftLo * lo;
+                    long b = leftLo * hi;
+                    long c = leftHi * lo;
+                    long d = leftHi * hi;
+                    range(Math.min(Math.min(a, b), Math.min(c, d)), Math.max(Math.max(a, b), Math.max(c, d)));
+                }
+                break;
+            }
+            case Ast.DIV:
+                if (constants.type(right) == MethodSignature.INT && constants.intValue(right) != 0) {
+                    long divisor = constants.intValue(right);
+                    evaluate(left);
+                    range(Math.min(lo / divisor, hi / divisor), Math.max(lo / divisor, hi / divisor));
+                }
+                break;
+            case Ast.MOD:
+                if (constants.type(right) == MethodSignature.INT && constants.intValue(right) != 0) {
+                    // the remainder takes the sign of the dividend and is smaller than the divisor
+                    long limit = Math.abs((long) constants.intValue(right)) - 1;
+                    evaluate(left);
+                    range(lo >= 0 ? 0 : -limit, hi <= 0 ? 0 : lo >= 0 ? Math.min(hi, limit) : limit);
+                }
+                break;
+            default:
+        }
+    }
+
+    private void length(int array) {
+        evaluate(array);
+        lo = Math.max(lo, 0);
+    }
+
+    // bounds that leave the int range may wrap around, so they are unknown
+    private void range(long min, long max) {
+        if (min < MIN || max > MAX) {
+            lo = MIN;
+            hi = MAX;
+        } else {
+            lo = min;
+            hi = max;
+        }
+    }
+
+    private void assign(int variable, int value) {
+        int slot = variable == NONE ? NONE : slots[variable];
+        if (slot == NONE) {
+            return;
+        }
+        evaluate(value);
+        if (kinds[variable] == ARRAY) {
+            lo = Math.max(lo, 0);
+            // ints below the old array's length need not be below the new one's
+            for (int s = 0; s < trackedCount; s++) {
+                if (below[s] == slot) {
+                    below[s] = NONE;
+                }
+            }
+        }
+        low[slot] = lo;
+        high[slot] = hi;
+        int from = slot(value);
+        below[slot] = from == NONE || from == slot ? NONE : below[from];
+    }
+
+    private void statement(int node) {
+        switch (ast.kind(node)) {
+            case Ast.VAR_DEF:
+                for (int var = ast.firstChild(node); var != NONE; var = ast.nextSibling(var)) {
+                    assign(variables.variable(var), ast.firstChild(var));
+                }
+                break;
+            case Ast.ASSIGN: {
+                int target = ast.firstChild(node);
+                if (target != NONE && ast.kind(target) == Ast.NAME) {
+                    assign(variables.variable(target), ast.nextSibling(target));
+                }
+                break;
+            }
+            case Ast.INC:
+            case Ast.DEC: {
+                int slot = slot(ast.firstChild(node));
+                if (slot != NONE) {
+                    long step = ast.kind(node) == Ast.INC ? 1 : -1;
+                    lo = low[slot];
+                    hi = high[slot];
+                    range(lo + step, hi + step);
+                    low[slot] = lo;
+                    high[slot] = hi;
+                    if (step > 0) {
+                        below[slot] = NONE;
+                    }
+                }
+                break;
+            }
+            default:
+        }
+    }
+
+    // narrows the state to where condition evaluates to holds; false when it never does
+    private boolean refine(int condition, boolean holds) {
+        if (condition == NONE) {
+            return true;
+        }
+        if (constants.type(condition) == MethodSignature.BOOL) {
+            return constants.boolValue(condition) == holds;
+        }
+        int left = ast.firstChild(condition);
+        int right = left == NONE ? NONE : ast.nextSibling(left);
+        switch (ast.kind(condition)) {
+            case Ast.NOT:
+                return refine(left, !holds);
+            case Ast.AND:
+                return !holds || refine(left, true) && refine(right, true);
+            case Ast.OR:
+                return holds || refine(left, false) && refine(right, false);
+            case Ast.LT:
+                return holds ? less(left, right) : atLeast(left, right);
+            case Ast.GT:
+                return holds ? less(right, left) : atLeast(right, left);
+            case Ast.EQ:
+                return !holds || equal(left, right);
+            case Ast.NE:
+                return holds || equal(left, right);
+            default:
+                return true;
+        }
+    }
+
+    // left < right
+    private boolean less(int left, int right) {
+        if (!isInt(left) || !isInt(right)) {
+            return true;
+        }
+        evaluate(left);
+        long leftLo = lo;
+        long leftHi = hi;
+        evaluate(right);
+        if (leftLo >= hi) {
+            return false;
+        }
+        int slot = slot(left);
+        if (slot != NONE) {
+            high[slot] = Math.min(leftHi, hi - 1);
+            if (ast.kind(right) == Ast.FIELD_ACCESS && "length".equals(ast.nameText(right))) {
+                int array = slot(ast.firstChild(right));
+                if (array != NONE) {
+                    below[slot] = array;
+                }
+            }
+        }
+        slot = slot(right);
+        if (slot != NONE) {
+            low[slot] = Math.max(lo, leftLo + 1);
+        }
+        return true;
+    }
+
+    // left >= right
+    private boolean atLeast(int left, int right) {
+        if (!isInt(left) || !isInt(right)) {
+            return true;
+        }
+        evaluate(left);
+        long leftLo = lo;
+        long leftHi = hi;
+        evaluate(right);
+        if (leftHi < lo) {
+            return false;
+        }
+        int slot = slot(left);
+        if (slot != NONE) {
+            low[slot] = Math.max(leftLo, lo);
+        }
+        slot = slot(right);
+        if (slot != NONE) {
+            high[slot] = Math.min(hi, leftHi);
+        }
+        return true;
+    }
+
+    private boolean equal(int left, int right) {
+        if (!isInt(left) || !isInt(right)) {
+            return true;
+        }
+        evaluate(left);
+        long leftLo = lo;
+        long leftHi = hi;
+        evaluate(right);
+        long min = Math.max(leftLo, lo);
+        long max = Math.min(leftHi, hi);
+        if (min > max) {
+            return false;
+        }
+        int slot = slot(left);
+        if (slot != NONE) {
+            low[slot] = min;
+            high[slot] = max;
+        }
+        slot = slot(right);
+        if (slot != NONE) {
+            low[slot] = min;
+            high[slot] = max;
+        }
+        return true;
+    }
+
+    // classifies the accesses in the subtree of node in the current state; the right operand of
+    // && and || is checked where the left one let it run, as in i < a.length && a[i] > 0
+    private void check(int node) {
+        if (node == NONE) {
+            return;
+        }
+        int kind = ast.kind(node);
+        int left = ast.firstChild(node);
+        if ((kind == Ast.AND || kind == Ast.OR) && left != NONE && ast.nextSibling(left) != NONE) {
+            check(left);
+            long[] savedLow = Arrays.copyOf(low, trackedCount);
+            long[] savedHigh = Arrays.copyOf(high, trackedCount);
+            int[] savedBelow = Arrays.copyOf(below, trackedCount);
+            if (refine(left, kind == Ast.AND)) {
+                check(ast.nextSibling(left));
+            }
+            System.arraycopy(savedLow, 0, low, 0, trackedCount);
+            System.arraycopy(savedHigh, 0, high, 0, trackedCount);
+            System.arraycopy(savedBelow, 0, below, 0, trackedCount);
+            return;
+        }
+        for (int child = left; child != NONE; child = ast.nextSibling(child)) {
+            check(child);
+        }
+        if (kind == Ast.INDEX) {
+            access(node, left, left == NONE ? NONE : ast.nextSibling(left));
+        }
+    }
+
+    private void access(int node, int array, int index) {
+        if (index == NONE) {
+            return;
+        }
+        accesses++;
+        if (!isInt(index)) {
+            return;
+        }
+        evaluate(index);
+        long indexLo = lo;
+        long indexHi = hi;
+        int indexSlot = slot(index);
+        length(array);
+        if (indexHi < 0 || indexLo >= hi) {
+            results[node] = OUT_OF_RANGE;
+            if (outOfRangeCount == outOfRange.length) {
+                outOfRange = Arrays.copyOf(outOfRange, outOfRangeCount * 2);
+            }
+            outOfRange[outOfRangeCount++] = node;
+        } else if (indexLo >= 0 && (indexHi < lo || indexSlot != NONE && below[indexSlot] != NONE && below[indexSlot] == slot(array))) {
+            results[node] = IN_RANGE;
+            inRange++;
+        }
+    }
+
+    // the states entering the blocks of one method, solved with a worklist in reverse postorder
+    private class Solver {
+        private final ControlFlowGraph cfg;
+        private final int width = trackedCount;
+        private final long[] blockLow;
+        private final long[] blockHigh;
+        private final int[] blockBelow;
+        private final boolean[] reached;
+        // targets of back edges, where joins widen
+        private final boolean[] widens;
+        // the state after a block's statements, restored for each successor
+        private final long[] outLow;
+        private final long[] outHigh;
+        private final int[] outBelow;
+
+        Solver(ControlFlowGraph cfg) {
+            this.cfg = cfg;
+            int blocks = cfg.blockCount();
+            blockLow = new long[blocks * width];
+            blockHigh = new long[blocks * width];
+            blockBelow = new int[blocks * width];
+            reached = new boolean[blocks];
+            widens = new boolean[blocks];
+            outLow = new long[width];
+            outHigh = new long[width];
+            outBelow = new int[width];
+        }
+
+        void solve() {
+            int blocks = cfg.blockCount();
+            int[] order = Dataflow.order(cfg, true);
+            int[] position = new int[blocks];
+            for (int i = 0; i < blocks; i++) {
+                position[order[i]] = i;
+            }
+            for (int block = 0; block < blocks; block++) {
+                for (int i = 0; i < cfg.predecessorCount(block); i++) {
+                    if (position[cfg.predecessor(block, i)] >= position[block]) {
+                        widens[block] = true;
+                    }
+                }
+            }
+            // variables hold anything before their definition
+            reached[ControlFlowGraph.ENTRY] = true;
+            Arrays.fill(blockLow, 0, width, MIN);
+            Arrays.fill(blockHigh, 0, width, MAX);
+            Arrays.fill(blockBelow, 0, width, NONE);
+            long[] pending = new long[Dataflow.words(blocks)];
+            pending[0] = 1L << position[ControlFlowGraph.ENTRY];
+            int remaining = 1;
+            int cursor = 0;
+            while (remaining > 0) {
+                int next = Dataflow.nextSet(pending, cursor, blocks);
+                if (next < 0) {
+                    next = Dataflow.nextSet(pending, 0, blocks);
+                }
+                pending[next >>> 6] &= ~(1L << next);
+                remaining--;
+                cursor = next + 1;
+                int block = order[next];
+
+                load(block);
+                for (int i = cfg.statementStart(block); i < cfg.statementEnd(block); i++) {
+                    statement(cfg.statement(i));
+                }
+                System.arraycopy(low, 0, outLow, 0, width);
+                System.arraycopy(high, 0, outHigh, 0, width);
+                System.arraycopy(below, 0, outBelow, 0, width);
+                for (int i = 0; i < cfg.successorCount(block); i++) {
+                    if (i > 0) {
+                        System.arraycopy(outLow, 0, low, 0, width);
+                        System.arraycopy(outHigh, 0, high, 0, width);
+                        System.arraycopy(outBelow, 0, below, 0, width);
+                    }
+                    int successor = cfg.successor(block, i);
+                    if (cfg.branch(block) != NONE && !refine(cfg.branch(block), i == 0)) {
+                        continue;
+                    }
+                    int target = position[successor];
+                    if (join(successor) && (pending[target >>> 6] & (1L << target)) == 0) {
+                        pending[target >>> 6] |= 1L << target;
+                        remaining++;
+                    }
+                }
+            }
+
+            for (int block = 0; block < blocks; block++) {
+                if (!reached[block]) {
+                    continue;
+                }
+                load(block);
+                for (int i = cfg.statementStart(block); i < cfg.statementEnd(block); i++) {
+                    int statement = cfg.statement(i);
+                    if (ast.kind(statement) == Ast.VAR_DEF) {
+                        for (int var = ast.firstChild(statement); var != NONE; var = ast.nextSibling(var)) {
+                            check(ast.firstChild(var));
+                            assign(variables.variable(var), ast.firstChild(var));
+                        }
+                    } else {
+                        check(statement);
+                        statement(statement);
+                    }
+                }
+                check(cfg.branch(block));
+            }
+        }
+
+        private void load(int block) {
+            int row = block * width;
+            System.arraycopy(blockLow, row, low, 0, width);
+            System.arraycopy(blockHigh, row, high, 0, width);
+            System.arraycopy(blockBelow, row, below, 0, width);
+        }
+
+        // joins the working state into the state entering block; true when that changed
+        private boolean join(int block) {
+            int row = block * width;
+            if (!reached[block]) {
+                reached[block] = true;
+                System.arraycopy(low, 0, blockLow, row, width);
+                System.arraycopy(high, 0, blockHigh, row, width);
+                System.arraycopy(below, 0, blockBelow, row, width);
+                return true;
+            }
+            boolean changed = false;
+            for (int s = 0; s < width; s++) {
+                long min = Math.min(blockLow[row + s], low[s]);
+                long max = Math.max(blockHigh[row + s], high[s]);
+                if (widens[block]) {
+                    min = min < blockLow[row + s] ? MIN : min;
+                    max = max > blockHigh[row + s] ? MAX : max;
+                }
+                int bound = blockBelow[row + s] == below[s] ? below[s] : NONE;
+                if (min != blockLow[row + s] || max != blockHigh[row + s] || bound != blockBelow[row + s]) {
+                    blockLow[row + s] = min;
+                    blockHigh[row + s] = max;
+                    blockBelow[row + s] = bound;
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The resolved inheritance tree of the classes of one program, built once every class has been
+ * declared. Parents are resolved by name; a class whose parent is undefined, or which is part of
+ * an inheritance cycle, is recorded as a problem and treated as a root.
+ *
+ * Classes are numbered in a pre-order walk of the inheritance forest, so the subclasses of a class
+ * are exactly the classes numbered between it and the last class of its subtree. That makes
+ * {@link #isSubtypeOf} two int comparisons however deep the chain is. Every class also gets a field
+ * and a method table that already include what it inherits, so member lookups do not walk parents.
+ */
+public class ClassHierarchy {
+    private static final int NONE = -1;
+
+    // indexed by pre-order number
+    private final SymbolTable.SymbolInfo[] classes;
+    private final int[] parent;
+    private final int[] last;
+    private final int[] depth;
+    private final List<IntMap<SymbolTable.SymbolInfo>> fields;
+    private final List<IntMap<SymbolTable.SymbolInfo[]>> methods;
+    // class name id -> pre-order number
+    private final IntMap<Integer> numbers;
+    private final List<SymbolTable.SymbolInfo> undefinedParents = new ArrayList<>();
+    private final List<SymbolTable.SymbolInfo> cyclic = new ArrayList<>();
+
+    private ClassHierarchy(int size) {
+        classes = new SymbolTable.SymbolInfo[size];
+        parent = new int[size];
+        last = new int[size];
+        depth = new int[size];
+        fields = new ArrayList<>(size);
+        methods = new ArrayList<>(size);
+        numbers = new IntMap<>(size);
+    }
+
+    /**
+     * Builds the hierarchy of the classes defined in {@code globalScope}. Of several classes with
+     * the same name only the first one is used, like the symbol passes do.
+     */
+    public static ClassHierarchy build(Scope globalScope) {
+        List<Scope> classScopes = new ArrayList<>();
+        for (Scope scope : globalScope.getChildren()) {
+            if (scope.getKind() == Scope.CLASS && !scope.getOwner().redefined) {
+                classScopes.add(scope);
+            }
+        }
+        return build(classScopes);
+    }
+
+    /**
+     * Builds the hierarchy of the given class scopes, which may come from several files. A class
+     * whose name was already used by an earlier scope in the list is left out.
+     */
+    public static ClassHierarchy build(List<Scope> candidates) {
+        // class name id -> declaration order index
+        List<Scope> classScopes = new ArrayList<>(candidates.size());
+        IntMap<Integer> declared = new IntMap<>(candidates.size());
+        for (Scope scope : candidates) {
+            if (declared.get(scope.getOwner().nameId) == null) {
+                declared.put(scope.getOwner().nameId, classScopes.size());
+                classScopes.add(scope);
+            }
+        }
+        int size = classScopes.size();
+        ClassHierarchy hierarchy = new ClassHierarchy(size);
+
+        int[] declaredParent = new int[size];
+        for (int i = 0; i < size; i++) {
+            SymbolTable.SymbolInfo classInfo = classScopes.get(i).getOwner();
+            declaredParent[i] = NONE;
+            if (classInfo.parentNameId >= 0) {
+                Integer parentIndex = declared.get(classInfo.parentNameId);
+                if (parentIndex == null) {
+                    hierarchy.undefinedParents.add(classInfo);
+                } else {
+                    declaredParent[i] = parentIndex;
+                }
+            }
+        }
+        hierarchy.breakCycles(classScopes, declaredParent);
+
+        // children as first-child / next-sibling lists, kept in declaration order
+        int[] firstChild = new int[size];
+        int[] nextSibling = new int[size];
+        Arrays.fill(firstChild, NONE);
+        Arrays.fill(nextSibling, NONE);
+        for (int i = size - 1; i >= 0; i--) {
+            if (declaredParent[i] != NONE) {
+                nextSibling[i] = firstChild[declaredParent[i]];
+                firstChild[declaredParent[i]] = i;
+            }
+        }
+
+        // iterative pre-order walk, inheritance chains can be deeper than the Java stack
+        int[] number = new int[size];
+        int[] stack = new int[size];
+        int next = 0;
+        for (int root = 0; root < size; root++) {
+            if (declaredParent[root] != NONE) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int node = stack[--top];
+                int n = next++;
+                number[node] = n;
+                hierarchy.enter(n, classScopes.get(node), declaredParent[node] == NONE ? NONE : number[declaredParent[node]]);
+                // push children in reverse so that they are numbered in declaration order
+                int count = 0;
+                for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                    stack[top + count++] = child;
+                }
+                reverse(stack, top, top + count);
+                top += count;
+            }
+        }
+        // a subtree ends where the next class that is not below it starts
+        for (int n = size - 1; n >= 0; n--) {
+            hierarchy.last[n] = Math.max(hierarchy.last[n], n);
+            if (hierarchy.parent[n] != NONE) {
+                hierarchy.last[hierarchy.parent[n]] = Math.max(hierarchy.last[hierarchy.parent[n]], hierarchy.last[n]);
+            }
+        }
+        return hierarchy;
+    }
+
+    // records every class on a parent cycle and cuts the cycle by making its classes roots
+    private void breakCycles(List<Scope> classScopes, int[] declaredParent) {
+        final byte unvisited = 0;
+        final byte onPath = 1;
+        final byte done = 2;
+        byte[] state = new byte[declaredParent.length];
+        for (int start = 0; start < declaredParent.length; start++) {
+            int node = start;
+            while (node != NONE && state[node] == unvisited) {
+                state[node] = onPath;
+                node = declaredParent[node];
+            }
+            int cycle = node != NONE && state[node] == onPath ? node : NONE;
+            for (node = start; node != NONE && state[node] == onPath; node = declaredParent[node]) {
+                state[node] = done;
+            }
+            if (cycle != NONE) {
+                int member = cycle;
+                do {
+                    cyclic.add(classScopes.get(member).getOwner());
+                    int up = declaredParent[member];
+                    declaredParent[member] = NONE;
+                    member = up;
+                } while (member != cycle);
+            }
+        }
+    }
+
+    private void enter(int n, Scope classScope, int parentNumber) {
+        SymbolTable.SymbolInfo classInfo = classScope.getOwner();
+        classes[n] = classInfo;
+        parent[n] = parentNumber;
+        depth[n] = parentNumber == NONE ? 0 : depth[parentNumber] + 1;
+        numbers.put(classInfo.nameId, n);
+
+        IntMap<SymbolTable.SymbolInfo> fieldTable = parentNumber == NONE ? new IntMap<>(8) : new IntMap<>(fields.get(parentNumber));
+        IntMap<SymbolTable.SymbolInfo[]> methodTable = parentNumber == NONE ? new IntMap<>(8) : new IntMap<>(methods.get(parentNumber));
+        for (SymbolTable.SymbolInfo member : classScope.getSymbols()) {
+            if (member.redefined) {
+                continue;
+            }
+            if (member.kind.equals("field")) {
+                fieldTable.put(member.nameId, member);
+            } else if (member.kind.equals("method")) {
+                methodTable.put(member.nameId, override(methodTable.get(member.nameId), member));
+            }
+        }
+        fields.add(fieldTable);
+        methods.add(methodTable);
+    }
+
+    // the inherited overloads of a name with the one of the same signature replaced by method
+    private static SymbolTable.SymbolInfo[] override(SymbolTable.SymbolInfo[] inherited, SymbolTable.SymbolInfo method) {
+        if (inherited == null) {
+            return new SymbolTable.SymbolInfo[]{method};
+        }
+        for (int i = 0; i < inherited.length; i++) {
+            if (inherited[i].signature.sameParameterTypes(method.signature)) {
+                SymbolTable.SymbolInfo[] overridden = inherited.clone();
+                overridden[i] = method;
+                return overridden;
+            }
+        }
+        SymbolTable.SymbolInfo[] extended = Arrays.copyOf(inherited, inherited.length + 1);
+        extended[inherited.length] = method;
+        return extended;
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int swap = array[i];
+            array[i] = array[j];
+            array[j] = swap;
+        }
+    }
+
+    private int number(int classNameId) {
+        Integer n = classNameId < 0 ? null : numbers.get(classNameId);
+        return n == null ? NONE : n;
+    }
+
+    public int size() {
+        return classes.length;
+    }
+
+    public boolean contains(int classNameId) {
+        return number(classNameId) != NONE;
+    }
+
+    public SymbolTable.SymbolInfo getClass(int classNameId) {
+        int n = number(classNameId);
+        return n == NONE ? null : classes[n];
+    }
+
+    /**
+     * The resolved parent class, or null for roots and unknown classes.
+     */
+    public SymbolTable.SymbolInfo getParent(int classNameId) {
+        int n = number(classNameId);
+        return n == NONE || parent[n] == NONE ? null : classes[parent[n]];
+    }
+
+    /**
+     * Number of resolved ancestors of the class, -1 for unknown classes.
+     */
+    public int getDepth(int classNameId) {
+        int n = number(classNameId);
+        return n == NONE ? NONE : depth[n];
+    }
+
+    /**
+     * Whether the class is {@code superNameId} or inherits from it, directly or not.
+     */
+    public boolean isSubtypeOf(int classNameId, int superNameId) {
+        int sub = number(classNameId);
+        int sup = number(superNameId);
+        return sub != NONE && sup != NONE && sup <= sub && sub <= last[sup];
+    }
+
+    /**
+     * The field visible under that name in the class, declared there or inherited.
+     */
+    public SymbolTable.SymbolInfo findField(int classNameId, int fieldNameId) {
+        int n = number(classNameId);
+        return n == NONE || fieldNameId < 0 ? null : fields.get(n).get(fieldNameId);
+    }
+
+    /**
+     * All methods of that name visible in the class, one per parameter list, the most derived
+     * definition of each. Returns an empty array when there are none.
+     */
+    public SymbolTable.SymbolInfo[] findMethods(int classNameId, int methodNameId) {
+        int n = number(classNameId);
+        SymbolTable.SymbolInfo[] found = n == NONE || methodNameId < 0 ? null : methods.get(n).get(methodNameId);
+        return found == null ? new SymbolTable.SymbolInfo[0] : found;
+    }
+
+    public SymbolTable.SymbolInfo findMethod(int classNameId, int methodNameId, MethodSignature signature) {
+        for (SymbolTable.SymbolInfo method : findMethods(classNameId, methodNameId)) {
+            if (method.signature.sameParameterTypes(signature)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Classes whose parent is not a defined class, in declaration order.
+     */
+    public List<SymbolTable.SymbolInfo> getUndefinedParents() {
+        return Collections.unmodifiableList(undefinedParents);
+    }
+
+    /**
+     * Classes that take part in an inheritance cycle.
+     */
+    public List<SymbolTable.SymbolInfo> getCyclicClasses() {
+        return Collections.unmodifiableList(cyclic);
+    }
+}
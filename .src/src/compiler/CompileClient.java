@@ -0,0 +1,65 @@
+package compiler;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Thin front end for {@link CompileDaemon}: forwards its command line to the daemon and
+ * replays the returned stdout, stderr and exit status. It never loads the parser classes.
+ *
+ * Usage: CompileClient [--socket path] [batch compiler arguments | --stop]
+ */
+public class CompileClient {
+    public static void main(String[] args) throws IOException {
+        Path socket = DaemonProtocol.defaultSocket();
+        if (args.length >= 2 && args[0].equals("--socket")) {
+            socket = Paths.get(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        int status;
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            DaemonProtocol.writeRequest(out, Paths.get("").toAbsolutePath().toString(), args);
+            status = readReply(in);
+        } catch (IOException e) {
+            System.err.println("error: cannot reach compile daemon at " + socket + ": " + e.getMessage());
+            status = 2;
+        }
+        System.exit(status);
+    }
+
+    private static int readReply(DataInputStream in) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (true) {
+            int tag = in.read();
+            if (tag < 0) {
+                throw new EOFException("daemon closed the connection without an exit status");
+            }
+            int length = in.readInt();
+            if (tag == DaemonProtocol.EXIT) {
+                return in.readInt();
+            }
+            if (buffer.length < length) {
+                buffer = new byte[length];
+            }
+            in.readFully(buffer, 0, length);
+            PrintStream target = tag == DaemonProtocol.ERR ? System.err : System.out;
+            target.write(buffer, 0, length);
+            target.flush();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Long running compile server listening on a Unix domain socket. Keeping the JVM alive
+ * keeps the generated lexer and parser classes loaded and their shared DFA caches warm,
+ * so a request only pays for the actual lexing, parsing and checking. Each connection
+ * carries one request in the {@link DaemonProtocol} format and is answered on its own thread.
+ * The parse trees of compiled files are kept in a {@link ParseCache}, so a file compiled again
+ * after a small edit only has the changed method or class re-parsed.
+ */
+public class CompileDaemon {
+    // parses without syntax errors, which warmUp checks
+    private static final String WARM_UP_SOURCE =
+            "MAIN class Warm begin\n" +
+            "    private field int[] x\n" +
+            "    func main() returns int begin\n" +
+            "        var a = new int[2]\n" +
+            "        this.x = a\n" +
+            "        a[0] = 1 + 2 * 3\n" +
+            "        while (a[0] < 10 && !false) begin\n" +
+            "            a[0] = a[0] + 1\n" +
+            "        end\n" +
+            "        if (a[0] == 10) begin\n" +
+            "            sout(\"done\")\n" +
+            "        end\n" +
+            "        elif (a[0] <> 11) begin\n" +
+            "            sout(this.x[1])\n" +
+            "        end\n" +
+            "        return a[0]\n" +
+            "    end\n" +
+            "end\n";
+
+    private final Path socket;
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "compile-daemon-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ParseCache parses = new ParseCache();
+    private volatile ServerSocketChannel server;
+    private volatile boolean running = true;
+
+    public CompileDaemon(Path socket) {
+        this.socket = socket;
+    }
+
+    public void serve() throws IOException {
+        warmUp();
+        Files.deleteIfExists(socket);
+        try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server = channel;
+            channel.bind(UnixDomainSocketAddress.of(socket));
+            System.err.println("compile daemon listening on " + socket);
+            while (running) {
+                SocketChannel connection;
+                try {
+                    connection = channel.accept();
+                } catch (ClosedChannelException e) {
+                    break;
+                }
+                connections.execute(() -> handle(connection));
+            }
+        } finally {
+            connections.shutdown();
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    private void handle(SocketChannel connection) {
+        try (SocketChannel channel = connection) {
+            DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            String[] request = DaemonProtocol.readRequest(in);
+            String[] args = Arrays.copyOfRange(request, 1, request.length);
+            if (args.length == 1 && args[0].equals(DaemonProtocol.STOP)) {
+                DaemonProtocol.writeExit(out, 0);
+                stop();
+                return;
+            }
+
+            PrintStream stdout = new PrintStream(new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.OUT),
+                    false, StandardCharsets.UTF_8.name());
+            PrintStream stderr = new PrintStream(new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.ERR),
+                    false, StandardCharsets.UTF_8.name());
+            int status;
+            try {
+                status = Compiler.runBatch(CompileOptions.parse(args), parses, Paths.get(request[0]), stdout, stderr);
+            } catch (IOException | RuntimeException e) {
+                stderr.println("error: " + e);
+                status = 2;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                status = 2;
+            }
+            stdout.flush();
+            stderr.flush();
+            DaemonProtocol.writeExit(out, status);
+        } catch (IOException e) {
+            System.err.println("compile daemon: dropped connection: " + e.getMessage());
+        }
+    }
+
+    private void stop() throws IOException {
+        running = false;
+        ServerSocketChannel channel = server;
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // one throw-away parse so that the first real request does not pay for
+    // ATN deserialisation and an empty DFA; a syntax error would mean the
+    // warm-up took the parser's error paths instead of the ones requests take
+    private static void warmUp() {
+        StreamErrorListener errors = new StreamErrorListener(System.err);
+        japyLexer lexer = new japyLexer(CharStreams.fromString(WARM_UP_SOURCE));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errors);
+        japyParser parser = new japyParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errors);
+        new TwoStageParser(true).parseProgram(parser);
+        if (errors.getErrorCount() > 0) {
+            throw new IllegalStateException("warm-up source has " + errors.getErrorCount() + " syntax errors");
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package compiler;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * The control-flow graph of one method of an {@link Ast}. Blocks are numbered densely from
+ * {@link #ENTRY}; {@link #exit()} is the last block, an empty one every return leads to. Both
+ * graph and block contents live in int arrays: the statements of block b are the nodes
+ * {@code statement(statementStart(b))} up to {@code statementStart(b + 1)}, and successors and
+ * predecessors are kept the same way, so analyses walk the graph without touching an object.
+ *
+ * A block holds the simple statements that run one after another: variable definitions, writes,
+ * assignments, increments and decrements, and a closing return, break or continue. Blocks and
+ * if/while statements are taken apart. A block that ends in a branch has the condition in
+ * {@link #branch}, and its first successor is taken when the condition holds, the second when it
+ * does not. Every elif condition has a block of its own. Statements after a jump start a new block
+ * without predecessors, so unreachable code stays in the graph.
+ */
+public class ControlFlowGraph {
+    public static final int ENTRY = 0;
+
+    private static final int NONE = Ast.NONE;
+
+    private final Ast ast;
+    private final int method;
+    private final int blockCount;
+    // statementStart[b]..statementStart[b + 1] index statements
+    private final int[] statementStart;
+    private final int[] statements;
+    private final int[] branch;
+    private final int[] successorStart;
+    private final int[] successors;
+    private final int[] predecessorStart;
+    private final int[] predecessors;
+
+    private ControlFlowGraph(Ast ast, int method, int blockCount, int[] statementStart, int[] statements, int[] branch,
+                             int[] successorStart, int[] successors, int[] predecessorStart, int[] predecessors) {
+        this.ast = ast;
+        this.method = method;
+        this.blockCount = blockCount;
+        this.statementStart = statementStart;
+        this.statements = statements;
+        this.branch = branch;
+        this.successorStart = successorStart;
+        this.successors = successors;
+        this.predecessorStart = predecessorStart;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * Builds the graph of the METHOD node {@code method}. To build the graphs of many methods,
+     * reuse one {@link Builder}.
+     */
+    public static ControlFlowGraph build(Ast ast, int method) {
+        return new Builder(ast).build(method);
+    }
+
+    public Ast getAst() {
+        return ast;
+    }
+
+    public int getMethod() {
+        return method;
+    }
+
+    public int blockCount() {
+        return blockCount;
+    }
+
+    public int exit() {
+        return blockCount - 1;
+    }
+
+    public int statementStart(int block) {
+        return statementStart[block];
+    }
+
+    public int statementEnd(int block) {
+        return statementStart[block + 1];
+    }
+
+    public int statement(int index) {
+        return statements[index];
+    }
+
+    public int statementCount() {
+        return statements.length;
+    }
+
+    /**
+     * The condition block ends on, or NONE when it does not branch.
+     */
+    public int branch(int block) {
+        return branch[block];
+    }
+
+    public int successorCount(int block) {
+        return successorStart[block + 1] - successorStart[block];
+    }
+
+    public int successor(int block, int index) {
+        return successors[successorStart[block] + index];
+    }
+
+    public int predecessorCount(int block) {
+        return predecessorStart[block + 1] - predecessorStart[block];
+    }
+
+    public int predecessor(int block, int index) {
+        return predecessors[predecessorStart[block] + index];
+    }
+
+    public void dump(PrintStream out) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("CFG ").append(ast.nameText(method)).append(" [").append(ast.line(method)).append(':')
+                .append(ast.column(method)).append("] blocks: ").append(blockCount).append(System.lineSeparator());
+        for (int block = 0; block < blockCount; block++) {
+            sb.append("    B").append(block);
+            if (block == ENTRY) {
+                sb.append(" entry");
+            } else if (block == exit()) {
+                sb.append(" exit");
+            }
+            sb.append(" <-");
+            for (int i = 0; i < predecessorCount(block); i++) {
+                sb.append(" B").append(predecessor(block, i));
+            }
+            sb.append(System.lineSeparator());
+            for (int i = statementStart(block); i < statementEnd(block); i++) {
+                node(sb.append("        "), statements[i]).append(System.lineSeparator());
+            }
+            if (branch[block] != NONE) {
+                node(sb.append("        branch "), branch[block]).append(System.lineSeparator());
+            }
+            if (successorCount(block) > 0) {
+                sb.append("        ->");
+                for (int i = 0; i < successorCount(block); i++) {
+                    sb.append(" B").append(successor(block, i));
+                }
+                sb.append(System.lineSeparator());
+            }
+        }
+        out.print(sb);
+    }
+
+    private StringBuilder node(StringBuilder sb, int node) {
+        return sb.append(Ast.kindName(ast.kind(node))).append(" [").append(ast.line(node)).append(':')
+                .append(ast.column(node)).append(']');
+    }
+
+    /**
+     * Builds the graphs of the methods of one Ast. Its work arrays grow to the largest method
+     * and are reused from method to method, so a graph costs little more than its own arrays.
+     * Not thread-safe.
+     */
+    public static class Builder {
+        // edges to the exit block, which is numbered last
+        private static final int EXIT = -2;
+
+        private final Ast ast;
+        private int[] blockStart = new int[16];
+        private int[] blockBranch = new int[16];
+        private int blocks;
+        private int[] statements = new int[64];
+        private int statementCount;
+        private int[] edgeFrom = new int[32];
+        private int[] edgeTo = new int[32];
+        private int edges;
+        // blocks that fall through to the join of the if statements being built
+        private int[] ends = new int[16];
+        private int endCount;
+        // blocks that break out of the loops being built, and the header of each loop
+        private int[] breaks = new int[16];
+        private int breakCount;
+        private int[] loopHeaders = new int[8];
+        private int loops;
+        // block statements are added to, NONE after a jump
+        private int current;
+
+        public Builder(Ast ast) {
+            this.ast = ast;
+        }
+
+        public ControlFlowGraph build(int method) {
+            blocks = 0;
+            statementCount = 0;
+            edges = 0;
+            endCount = 0;
+            breakCount = 0;
+            loops = 0;
+            current = newBlock();
+            statement(ast.childOfKind(method, Ast.BLOCK));
+            if (current != NONE) {
+                edge(current, EXIT);
+            }
+            return finish(method);
+        }
+
+        private void statement(int node) {
+            if (node == NONE) {
+                return;
+            }
+            switch (ast.kind(node)) {
+                case Ast.BLOCK:
+                    for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+                        statement(child);
+                    }
+                    break;
+                case Ast.IF:
+                    conditional(node);
+                    break;
+                case Ast.WHILE:
+                    loop(node);
+                    break;
+                case Ast.RETURN:
+                    add(node);
+                    edge(current, EXIT);
+                    current = NONE;
+                    break;
+                case Ast.BREAK:
+                    add(node);
+                    if (loops == 0) {
+                        edge(current, EXIT);
+                    } else {
+                        breaks = push(breaks, breakCount, current);
+                        breakCount++;
+                    }
+                    current = NONE;
+                    break;
+                case Ast.CONTINUE:
+                    add(node);
+                    edge(current, loops == 0 ? EXIT : loopHeaders[loops - 1]);
+                    current = NONE;
+                    break;
+                default:
+                    add(node);
+            }
+        }
+
+        // children: cond, body, then (cond, body) per elif, then the else body if any
+        private void conditional(int node) {
+            int mark = endCount;
+            int child = ast.firstChild(node);
+            while (child != NONE) {
+                int body = ast.nextSibling(child);
+                if (!isExpression(child)) {
+                    // the else body
+                    statement(child);
+                    fallThrough();
+                    break;
+                }
+                if (body == NONE) {
+                    // a condition without a body, after a syntax error
+                    break;
+                }
+                int condition = reachable();
+                blockBranch[condition] = child;
+                current = newBlock();
+                edge(condition, current);
+                statement(body);
+                fallThrough();
+                child = ast.nextSibling(body);
+                if (child == NONE) {
+                    // no else: a false condition falls through to the join
+                    ends = push(ends, endCount++, condition);
+                } else {
+                    current = newBlock();
+                    edge(condition, current);
+                }
+            }
+            current = NONE;
+            if (endCount > mark) {
+                int join = newBlock();
+                for (int i = mark; i < endCount; i++) {
+                    edge(ends[i], join);
+                }
+                endCount = mark;
+                current = join;
+            }
+        }
+
+        // children: cond, body
+        private void loop(int node) {
+            int header;
+            if (current != NONE && current != ENTRY && blockStart[current] == statementCount) {
+                // an empty block, such as the join of an if, can serve as the header
+                header = current;
+            } else {
+                header = newBlock();
+                if (current != NONE) {
+                    edge(current, header);
+                }
+            }
+            int condition = ast.firstChild(node);
+            blockBranch[header] = condition;
+            current = newBlock();
+            edge(header, current);
+
+            loopHeaders = push(loopHeaders, loops++, header);
+            int mark = breakCount;
+            statement(condition == NONE ? NONE : ast.nextSibling(condition));
+            if (current != NONE) {
+                edge(current, header);
+            }
+            loops--;
+
+            current = newBlock();
+            edge(header, current);
+            for (int i = mark; i < breakCount; i++) {
+                edge(breaks[i], current);
+            }
+            breakCount = mark;
+        }
+
+        private void fallThrough() {
+            if (current != NONE) {
+                ends = push(ends, endCount++, current);
+            }
+        }
+
+        // the current block, or a new one without predecessors after a jump
+        private int reachable() {
+            if (current == NONE) {
+                current = newBlock();
+            }
+            return current;
+        }
+
+        private void add(int node) {
+            reachable();
+            statements = push(statements, statementCount++, node);
+        }
+
+        private int newBlock() {
+            if (blocks == blockStart.length) {
+                blockStart = Arrays.copyOf(blockStart, blocks * 2);
+                blockBranch = Arrays.copyOf(blockBranch, blocks * 2);
+            }
+            // blocks are filled in the order they are made, so each one's statements follow the last one's
+            blockStart[blocks] = statementCount;
+            blockBranch[blocks] = NONE;
+            return blocks++;
+        }
+
+        private void edge(int from, int to) {
+            if (edges == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edges * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edges * 2);
+            }
+            edgeFrom[edges] = from;
+            edgeTo[edges] = to;
+            edges++;
+        }
+
+        private ControlFlowGraph finish(int method) {
+            int exit = newBlock();
+            int count = blocks;
+            int[] statementStart = Arrays.copyOf(blockStart, count + 1);
+            statementStart[count] = statementCount;
+            for (int i = 0; i < edges; i++) {
+                if (edgeTo[i] == EXIT) {
+                    edgeTo[i] = exit;
+                }
+            }
+            // counting sorts keep the edges of a block in the order they were added, true before false
+            int[] successorStart = new int[count + 1];
+            int[] predecessorStart = new int[count + 1];
+            for (int i = 0; i < edges; i++) {
+                successorStart[edgeFrom[i] + 1]++;
+                predecessorStart[edgeTo[i] + 1]++;
+            }
+            for (int b = 0; b < count; b++) {
+                successorStart[b + 1] += successorStart[b];
+                predecessorStart[b + 1] += predecessorStart[b];
+            }
+            int[] successors = new int[edges];
+            int[] predecessors = new int[edges];
+            int[] nextSuccessor = Arrays.copyOf(successorStart, count);
+            int[] nextPredecessor = Arrays.copyOf(predecessorStart, count);
+            for (int i = 0; i < edges; i++) {
+                successors[nextSuccessor[edgeFrom[i]]++] = edgeTo[i];
+                predecessors[nextPredecessor[edgeTo[i]]++] = edgeFrom[i];
+            }
+            return new ControlFlowGraph(ast, method, count, statementStart, Arrays.copyOf(statements, statementCount),
+                    Arrays.copyOf(blockBranch, count), successorStart, successors, predecessorStart, predecessors);
+        }
+
+        private boolean isExpression(int node) {
+            return ast.kind(node) >= Ast.OR;
+        }
+
+        private static int[] push(int[] array, int size, int value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            array[size] = value;
+            return array;
+        }
+    }
+}
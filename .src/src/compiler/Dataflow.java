@@ -0,0 +1,217 @@
+package compiler;
+
+import java.util.Arrays;
+
+/**
+ * Solves a bit-vector dataflow problem over a {@link ControlFlowGraph}. A problem is given by a
+ * gen and a kill set per block, a direction and a meet: the set leaving a block is its gen set
+ * plus whatever enters it and is not killed, and the set entering a block is the union or the
+ * intersection of the sets leaving its predecessors (successors, for a backward problem). Nothing
+ * enters the entry block of a forward problem or the exit block of a backward one.
+ *
+ * Sets are rows of {@link #words} longs in flat arrays, one row per block, so a problem over n
+ * blocks and v bits costs two arrays of n * ceil(v / 64) longs. Blocks wait in a worklist
+ * visited in reverse postorder of the direction the problem flows in, and a block is revisited
+ * only when the set leaving one of its neighbours changed, so a pass over the graph settles all
+ * blocks outside loops, and later passes touch only the blocks of loops whose sets still change.
+ */
+public class Dataflow {
+    private final ControlFlowGraph cfg;
+    private final int words;
+    private final long[] in;
+    private final long[] out;
+
+    private Dataflow(ControlFlowGraph cfg, int words, long[] in, long[] out) {
+        this.cfg = cfg;
+        this.words = words;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * Number of longs per set for {@code bits} bits.
+     */
+    public static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Solves the problem with {@code bits} bits whose gen and kill sets are the rows of
+     * {@code gen} and {@code kill}, each {@code blockCount * words(bits)} longs long; a null
+     * {@code kill} kills nothing. {@code intersect} selects intersection as the meet, otherwise
+     * union.
+     */
+    public static Dataflow solve(ControlFlowGraph cfg, int bits, boolean forward, boolean intersect, long[] gen, long[] kill) {
+        int words = words(bits);
+        int blocks = cfg.blockCount();
+        long[] in = new long[blocks * words];
+        long[] out = new long[blocks * words];
+        // the sets flowing out of a block start at the top of the lattice, so the meet only shrinks them
+        long[] flowing = forward ? out : in;
+        long[] top = new long[words];
+        if (intersect) {
+            Arrays.fill(top, -1L);
+            if (bits % 64 != 0) {
+                top[words - 1] = -1L >>> (64 - bits % 64);
+            }
+            for (int b = 0; b < blocks; b++) {
+                System.arraycopy(top, 0, flowing, b * words, words);
+            }
+        }
+
+        int[] order = order(cfg, forward);
+        int[] position = new int[blocks];
+        for (int i = 0; i < blocks; i++) {
+            position[order[i]] = i;
+        }
+        int boundary = forward ? ControlFlowGraph.ENTRY : cfg.exit();
+        long[] pending = new long[words(blocks)];
+        Arrays.fill(pending, -1L);
+        if (blocks % 64 != 0) {
+            pending[pending.length - 1] = -1L >>> (64 - blocks % 64);
+        }
+        int remaining = blocks;
+        int cursor = 0;
+        long[] meet = new long[words];
+        while (remaining > 0) {
+            int next = nextSet(pending, cursor, blocks);
+            if (next < 0) {
+                next = nextSet(pending, 0, blocks);
+            }
+            pending[next >>> 6] &= ~(1L << next);
+            remaining--;
+            cursor = next + 1;
+            int block = order[next];
+
+            // meet over the neighbours the problem flows from
+            int neighbours = forward ? cfg.predecessorCount(block) : cfg.successorCount(block);
+            if (block == boundary) {
+                Arrays.fill(meet, 0L);
+            } else if (neighbours == 0) {
+                // unreachable, or never reaching the exit
+                System.arraycopy(top, 0, meet, 0, words);
+            } else {
+                int first = forward ? cfg.predecessor(block, 0) : cfg.successor(block, 0);
+                System.arraycopy(flowing, first * words, meet, 0, words);
+                for (int i = 1; i < neighbours; i++) {
+                    int row = (forward ? cfg.predecessor(block, i) : cfg.successor(block, i)) * words;
+                    for (int w = 0; w < words; w++) {
+                        meet[w] = intersect ? meet[w] & flowing[row + w] : meet[w] | flowing[row + w];
+                    }
+                }
+            }
+            long[] entering = forward ? in : out;
+            System.arraycopy(meet, 0, entering, block * words, words);
+
+            // transfer, noting whether the set flowing on changed
+            int row = block * words;
+            boolean changed = false;
+            for (int w = 0; w < words; w++) {
+                long value = gen[row + w] | (kill == null ? meet[w] : meet[w] & ~kill[row + w]);
+                if (value != flowing[row + w]) {
+                    flowing[row + w] = value;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                int targets = forward ? cfg.successorCount(block) : cfg.predecessorCount(block);
+                for (int i = 0; i < targets; i++) {
+                    int target = position[forward ? cfg.successor(block, i) : cfg.predecessor(block, i)];
+                    if ((pending[target >>> 6] & (1L << target)) == 0) {
+                        pending[target >>> 6] |= 1L << target;
+                        remaining++;
+                    }
+                }
+            }
+        }
+        return new Dataflow(cfg, words, in, out);
+    }
+
+    // reverse postorder of a depth-first walk from the entry along successors, or for backward
+    // problems from the exit along predecessors, so that a chain of nested loops settles in one
+    // pass either way; blocks the walk does not reach follow in block order
+    static int[] order(ControlFlowGraph cfg, boolean forward) {
+        int blocks = cfg.blockCount();
+        int[] postorder = new int[blocks];
+        int count = 0;
+        boolean[] seen = new boolean[blocks];
+        // iterative depth-first walk; next[b] is the neighbour of b to try next
+        int[] stack = new int[blocks];
+        int[] next = new int[blocks];
+        int depth = 0;
+        int start = forward ? ControlFlowGraph.ENTRY : cfg.exit();
+        stack[depth++] = start;
+        seen[start] = true;
+        while (depth > 0) {
+            int block = stack[depth - 1];
+            if (next[block] < (forward ? cfg.successorCount(block) : cfg.predecessorCount(block))) {
+                int neighbour = forward ? cfg.successor(block, next[block]++) : cfg.predecessor(block, next[block]++);
+                if (!seen[neighbour]) {
+                    seen[neighbour] = true;
+                    stack[depth++] = neighbour;
+                }
+            } else {
+                postorder[count++] = block;
+                depth--;
+            }
+        }
+        int[] order = new int[blocks];
+        int i = 0;
+        for (int p = count - 1; p >= 0; p--) {
+            order[i++] = postorder[p];
+        }
+        for (int block = 0; block < blocks; block++) {
+            if (!seen[block]) {
+                order[i++] = block;
+            }
+        }
+        return order;
+    }
+
+    static int nextSet(long[] bits, int from, int limit) {
+        if (from >= limit) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long value = bits[word] & (-1L << from);
+        while (true) {
+            if (value != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(value);
+            }
+            if (++word == bits.length) {
+                return -1;
+            }
+            value = bits[word];
+        }
+    }
+
+    public ControlFlowGraph getGraph() {
+        return cfg;
+    }
+
+    public int words() {
+        return words;
+    }
+
+    public boolean in(int block, int bit) {
+        return (in[block * words + (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    public boolean out(int block, int bit) {
+        return (out[block * words + (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Copies the set entering {@code block} to {@code set}, which holds {@link #words} longs.
+     */
+    public void copyIn(int block, long[] set) {
+        System.arraycopy(in, block * words, set, 0, words);
+    }
+
+    /**
+     * Copies the set leaving {@code block} to {@code set}.
+     */
+    public void copyOut(int block, long[] set) {
+        System.arraycopy(out, block * words, set, 0, words);
+    }
+}
@@ -0,0 +1,334 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The static type of every expression of an {@link Ast}, kept in one int array indexed by node id.
+ * A type is a {@link MethodSignature} descriptor: the {@link NamePool#global()} id of the type's
+ * source text, such as "int", "string[]" or a class name, or {@link MethodSignature#UNKNOWN}.
+ * Nodes that are not expressions, and expressions whose type cannot be told, are UNKNOWN.
+ *
+ * Types are inferred bottom-up in one walk over the tree: literals and object creations carry
+ * their type; names take the type of the local variable, parameter or field they refer to, and a
+ * local variable takes the type of its initialiser; operators combine the types of their operands;
+ * and calls take the return type of the method {@link MethodResolver} picks for the receiver and
+ * argument types. Each node is typed exactly once, so later checks read a type with an array load.
+ */
+public class ExpressionTypes {
+    private static final int NONE = Ast.NONE;
+
+    private final Ast ast;
+    private final ClassHierarchy hierarchy;
+    private final MethodResolver resolver;
+    private final int[] types;
+    // array type descriptor -> element type descriptor
+    private final IntMap<Integer> elements = new IntMap<>(8);
+    // local variables in scope, innermost binding of each name first
+    private final IntMap<Local> locals = new IntMap<>(16);
+    private final List<Local> declared = new ArrayList<>();
+    private int[] argumentTypes = new int[8];
+    private int currentClass = MethodSignature.UNKNOWN;
+    private int currentMethod = NONE;
+
+    private ExpressionTypes(Ast ast, ClassHierarchy hierarchy, MethodResolver resolver) {
+        this.ast = ast;
+        this.hierarchy = hierarchy;
+        this.resolver = resolver;
+        this.types = new int[ast.size()];
+        Arrays.fill(types, MethodSignature.UNKNOWN);
+    }
+
+    /**
+     * Infers the types of the expressions of {@code ast}. Classes, fields and methods are looked
+     * up in {@code hierarchy}, and calls are resolved with {@code resolver}, which must resolve
+     * against the same hierarchy.
+     */
+    public static ExpressionTypes infer(Ast ast, ClassHierarchy hierarchy, MethodResolver resolver) {
+        ExpressionTypes types = new ExpressionTypes(ast, hierarchy, resolver);
+        if (ast.size() > 0) {
+            types.program(ast.root());
+        }
+        return types;
+    }
+
+    public Ast getAst() {
+        return ast;
+    }
+
+    /**
+     * The type descriptor of {@code node}, MethodSignature.UNKNOWN when it has none.
+     */
+    public int type(int node) {
+        return node == NONE ? MethodSignature.UNKNOWN : types[node];
+    }
+
+    /**
+     * The source text of the type of {@code node}, or null.
+     */
+    public String typeName(int node) {
+        int type = type(node);
+        return type == MethodSignature.UNKNOWN ? null : NamePool.global().name(type);
+    }
+
+    private void program(int program) {
+        for (int node = ast.firstChild(program); node != NONE; node = ast.nextSibling(node)) {
+            if (ast.kind(node) != Ast.CLASS) {
+                continue;
+            }
+            currentClass = global(node);
+            for (int member = ast.firstChild(node); member != NONE; member = ast.nextSibling(member)) {
+                if (ast.kind(member) == Ast.METHOD) {
+                    currentMethod = member;
+                    statement(ast.childOfKind(member, Ast.BLOCK));
+                }
+            }
+        }
+    }
+
+    private void statement(int node) {
+        if (node == NONE) {
+            return;
+        }
+        switch (ast.kind(node)) {
+            case Ast.BLOCK:
+            case Ast.IF:
+            case Ast.WHILE: {
+                // variables defined in a block, or in a branch or body without a block, end with it
+                int mark = declared.size();
+                for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+                    if (isExpression(ast.kind(child))) {
+                        expression(child);
+                    } else {
+                        statement(child);
+                    }
+                }
+                leave(mark);
+                break;
+            }
+            case Ast.VAR_DEF:
+                for (int var = ast.firstChild(node); var != NONE; var = ast.nextSibling(var)) {
+                    int value = ast.firstChild(var);
+                    types[var] = value == NONE ? MethodSignature.UNKNOWN : expression(value);
+                    declare(ast.name(var), types[var]);
+                }
+                break;
+            default:
+                for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+                    expression(child);
+                }
+        }
+    }
+
+    private int expression(int node) {
+        if (node == NONE) {
+            // an operand missing after a syntax error
+            return MethodSignature.UNKNOWN;
+        }
+        int type = infer(node);
+        types[node] = type;
+        return type;
+    }
+
+    private int infer(int node) {
+        switch (ast.kind(node)) {
+            case Ast.NUM:
+                return ast.nameText(node).indexOf('.') >= 0 ? MethodSignature.DOUBLE : MethodSignature.INT;
+            case Ast.STR:
+                return MethodSignature.STRING;
+            case Ast.TRUE:
+            case Ast.FALSE:
+                return MethodSignature.BOOL;
+            case Ast.THIS:
+                return currentClass;
+            case Ast.NEW_OBJECT:
+                return global(node);
+            case Ast.NEW_ARRAY: {
+                int type = ast.firstChild(node);
+                expression(next(type));
+                return type == NONE ? MethodSignature.UNKNOWN : MethodSignature.descriptor(ast.nameText(type) + "[]");
+            }
+            case Ast.NAME:
+                return name(node);
+            case Ast.INDEX: {
+                int array = ast.firstChild(node);
+                int arrayType = expression(array);
+                expression(next(array));
+                return element(arrayType);
+            }
+            case Ast.FIELD_ACCESS: {
+                int receiverType = expression(ast.firstChild(node));
+                if (element(receiverType) != MethodSignature.UNKNOWN && "length".equals(ast.nameText(node))) {
+                    return MethodSignature.INT;
+                }
+                return field(receiverType, global(node));
+            }
+            case Ast.CALL:
+                return call(node, currentClass, ast.firstChild(node));
+            case Ast.METHOD_CALL: {
+                int receiver = ast.firstChild(node);
+                return call(node, expression(receiver), next(receiver));
+            }
+            case Ast.NOT:
+                expression(ast.firstChild(node));
+                return MethodSignature.BOOL;
+            case Ast.NEG: {
+                int operand = expression(ast.firstChild(node));
+                return isNumeric(operand) ? operand : MethodSignature.UNKNOWN;
+            }
+            case Ast.OR:
+            case Ast.AND:
+            case Ast.EQ:
+            case Ast.NE:
+            case Ast.LT:
+            case Ast.GT:
+                operands(node);
+                return MethodSignature.BOOL;
+            case Ast.ADD: {
+                int left = expression(ast.firstChild(node));
+                int right = expression(next(ast.firstChild(node)));
+                if (left == MethodSignature.STRING || right == MethodSignature.STRING) {
+                    return MethodSignature.STRING;
+                }
+                return numeric(left, right);
+            }
+            case Ast.SUB:
+            case Ast.MUL:
+            case Ast.DIV:
+            case Ast.MOD: {
+                int left = expression(ast.firstChild(node));
+                return numeric(left, expression(next(ast.firstChild(node))));
+            }
+            default:
+                return MethodSignature.UNKNOWN;
+        }
+    }
+
+    private int next(int node) {
+        return node == NONE ? NONE : ast.nextSibling(node);
+    }
+
+    private void operands(int node) {
+        for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+            expression(child);
+        }
+    }
+
+    private int call(int node, int receiverType, int firstArgument) {
+        int count = 0;
+        for (int argument = firstArgument; argument != NONE; argument = ast.nextSibling(argument)) {
+            expression(argument);
+            count++;
+        }
+        if (!hierarchy.contains(receiverType)) {
+            return MethodSignature.UNKNOWN;
+        }
+        // filled only now, the arguments may contain calls of their own
+        if (count > argumentTypes.length) {
+            argumentTypes = new int[Math.max(count, argumentTypes.length * 2)];
+        }
+        int index = 0;
+        for (int argument = firstArgument; argument != NONE; argument = ast.nextSibling(argument)) {
+            argumentTypes[index++] = types[argument];
+        }
+        MethodResolver.Resolution resolution = resolver.resolve(receiverType, global(node), argumentTypes, count);
+        return resolution.status == MethodResolver.RESOLVED && resolution.method.type != null
+                ? MethodSignature.descriptor(resolution.method.type)
+                : MethodSignature.UNKNOWN;
+    }
+
+    private int name(int node) {
+        Local local = locals.get(ast.name(node));
+        if (local != null) {
+            return local.type;
+        }
+        for (int child = ast.firstChild(currentMethod); child != NONE; child = ast.nextSibling(child)) {
+            if (ast.kind(child) == Ast.PARAM && ast.name(child) == ast.name(node)) {
+                return declaredType(ast.firstChild(child));
+            }
+        }
+        return field(currentClass, global(node));
+    }
+
+    private int field(int classType, int fieldNameId) {
+        SymbolTable.SymbolInfo field = hierarchy.findField(classType, fieldNameId);
+        return field == null || field.type == null ? MethodSignature.UNKNOWN : MethodSignature.descriptor(field.type);
+    }
+
+    // descriptor of a TYPE node
+    private int declaredType(int typeNode) {
+        if (typeNode == NONE) {
+            return MethodSignature.UNKNOWN;
+        }
+        String text = ast.nameText(typeNode);
+        return MethodSignature.descriptor(ast.hasFlag(typeNode, Ast.ARRAY) ? text + "[]" : text);
+    }
+
+    private int element(int arrayType) {
+        if (arrayType == MethodSignature.UNKNOWN) {
+            return MethodSignature.UNKNOWN;
+        }
+        Integer element = elements.get(arrayType);
+        if (element == null) {
+            String text = NamePool.global().name(arrayType);
+            element = text.endsWith("[]")
+                    ? MethodSignature.descriptor(text.substring(0, text.length() - "[]".length()))
+                    : MethodSignature.UNKNOWN;
+            elements.put(arrayType, element);
+        }
+        return element;
+    }
+
+    private static int numeric(int left, int right) {
+        if (left == MethodSignature.INT && right == MethodSignature.INT) {
+            return MethodSignature.INT;
+        }
+        return isNumeric(left) && isNumeric(right) ? MethodSignature.DOUBLE : MethodSignature.UNKNOWN;
+    }
+
+    private static boolean isNumeric(int type) {
+        return type == MethodSignature.INT || type == MethodSignature.DOUBLE;
+    }
+
+    private static boolean isExpression(int kind) {
+        return kind >= Ast.OR;
+    }
+
+    // the NamePool.global() id of the name of node, which may come from another pool
+    private int global(int node) {
+        if (ast.getNames() == NamePool.global()) {
+            return ast.name(node);
+        }
+        String text = ast.nameText(node);
+        return text == null ? MethodSignature.UNKNOWN : NamePool.global().find(text);
+    }
+
+    private void declare(int nameId, int type) {
+        if (nameId == NONE) {
+            return;
+        }
+        Local local = new Local(nameId, type, locals.get(nameId));
+        locals.put(nameId, local);
+        declared.add(local);
+    }
+
+    private void leave(int mark) {
+        for (int i = declared.size() - 1; i >= mark; i--) {
+            Local local = declared.remove(i);
+            locals.put(local.nameId, local.shadowed);
+        }
+    }
+
+    private static class Local {
+        final int nameId;
+        final int type;
+        final Local shadowed;
+
+        Local(int nameId, int type, Local shadowed) {
+            this.nameId = nameId;
+            this.type = type;
+            this.shadowed = shadowed;
+        }
+    }
+}
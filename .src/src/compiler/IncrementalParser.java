@@ -0,0 +1,298 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the tokens and parse tree of one source file and updates them for text edits.
+ * An edit that falls inside a single method (or, failing that, a single class) between its
+ * first token and the 'd' of its closing 'end' only re-lexes and re-parses that declaration
+ * and splices the new subtree into the old tree. Tokens after it are shifted in place, so
+ * every context outside the edited declaration keeps its identity, and results keyed by
+ * those contexts (for example in a ParseTreeProperty) stay valid. Anything that cannot be
+ * handled locally - syntax errors, a token or '###' comment crossing the region - falls
+ * back to parsing the whole file. {@link ParseCache} keeps one per file in the compile daemon.
+ */
+public class IncrementalParser {
+    private final String sourceName;
+    private ANTLRErrorListener errorListener;
+    private final TwoStageParser programParser = new TwoStageParser(true);
+    private final japyLexer lexer = new japyLexer(null);
+    private final japyParser parser = new japyParser(null);
+    private final japyParser regionParser = new japyParser(null);
+    private final ErrorCounter regionErrors = new ErrorCounter();
+
+    private String text;
+    private List<Token> tokens;
+    private japyParser.ProgramContext tree;
+    private boolean hasErrors;
+    private ParserRuleContext replaced;
+    private ParserRuleContext replacement;
+    private int incrementalParses;
+    private int fullParses;
+
+    public IncrementalParser(String sourceName, String text, ANTLRErrorListener errorListener) {
+        this.sourceName = sourceName;
+        this.errorListener = errorListener;
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+        regionParser.setErrorHandler(new BailErrorStrategy());
+        regionParser.removeErrorListeners();
+        regionParser.setBuildParseTree(true);
+        regionParser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parseAll(text);
+    }
+
+    /**
+     * Replaces {@code length} chars at {@code offset} with {@code newText} and returns the
+     * updated tree. The returned object is the same ProgramContext as before whenever the
+     * edit could be handled incrementally.
+     */
+    public japyParser.ProgramContext edit(int offset, int length, String newText) {
+        if (offset < 0 || length < 0 || offset + length > text.length()) {
+            throw new IndexOutOfBoundsException("edit [" + offset + ", " + (offset + length) + ") outside of " + text.length() + " chars");
+        }
+        String updated = text.substring(0, offset) + newText + text.substring(offset + length);
+        ParserRuleContext target = hasErrors ? null : enclosingDeclaration(offset, offset + length);
+        if (target == null || !reparse(target, updated, newText.length() - length)) {
+            parseAll(updated);
+        }
+        return tree;
+    }
+
+    /**
+     * Sends the syntax errors of later full parses to {@code errorListener}.
+     */
+    public void setErrorListener(ANTLRErrorListener errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Whether the tree has syntax errors; the next edit then parses the whole file again.
+     */
+    public boolean hasErrors() {
+        return hasErrors;
+    }
+
+    public japyParser.ProgramContext getTree() {
+        return tree;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public List<Token> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * The declaration dropped by the last edit, or null when the last edit reparsed the whole file.
+     */
+    public ParserRuleContext getReplaced() {
+        return replaced;
+    }
+
+    /**
+     * The declaration that took the place of {@link #getReplaced()}, or null after a full parse.
+     */
+    public ParserRuleContext getReplacement() {
+        return replacement;
+    }
+
+    public int getIncrementalParses() {
+        return incrementalParses;
+    }
+
+    public int getFullParses() {
+        return fullParses;
+    }
+
+    private void parseAll(String source) {
+        ErrorCounter counter = new ErrorCounter();
+        lexer.setInputStream(CharStreams.fromString(source, sourceName));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(counter);
+        lexer.addErrorListener(errorListener);
+        CommonTokenStream stream = new CommonTokenStream(lexer);
+        parser.setTokenStream(stream);
+        parser.removeErrorListeners();
+        parser.addErrorListener(counter);
+        parser.addErrorListener(errorListener);
+        parser.setBuildParseTree(true);
+        tree = programParser.parseProgram(parser);
+        tokens = new ArrayList<>(stream.getTokens());
+        text = source;
+        hasErrors = counter.errors > 0;
+        replaced = null;
+        replacement = null;
+        fullParses++;
+    }
+
+    // smallest method, else class, whose tokens strictly enclose [start, end)
+    private ParserRuleContext enclosingDeclaration(int start, int end) {
+        List<japyParser.ClassDeclarationContext> classes = new ArrayList<>(tree.classDeclaration());
+        if (tree.entryClassDeclaration() != null) {
+            classes.add(tree.entryClassDeclaration().classDeclaration());
+        }
+        for (japyParser.ClassDeclarationContext classContext : classes) {
+            if (!encloses(classContext, start, end)) {
+                continue;
+            }
+            for (japyParser.MethodDeclarationContext method : classContext.methodDeclaration()) {
+                if (encloses(method, start, end)) {
+                    return method;
+                }
+            }
+            return classContext;
+        }
+        return null;
+    }
+
+    private static boolean encloses(ParserRuleContext ctx, int start, int end) {
+        return ctx != null && ctx.getStop() != null
+                && ctx.getStart().getStartIndex() < start && end <= ctx.getStop().getStopIndex();
+    }
+
+    private boolean reparse(ParserRuleContext target, String updated, int delta) {
+        Token oldStart = target.getStart();
+        Token oldStop = target.getStop();
+        int regionStart = oldStart.getStartIndex();
+        int regionEnd = oldStop.getStopIndex() + delta;
+        if (updated.substring(regionStart, regionEnd + 1).contains("###")) {
+            // a block comment may now pair up with '###' outside the region
+            return false;
+        }
+
+        List<Token> region = relex(updated, regionStart, regionEnd, oldStart.getLine(), oldStart.getCharPositionInLine());
+        if (region == null) {
+            return false;
+        }
+        regionParser.setTokenStream(new CommonTokenStream(new ListTokenSource(region, sourceName)));
+        ParserRuleContext parsed;
+        try {
+            parsed = target instanceof japyParser.MethodDeclarationContext
+                    ? regionParser.methodDeclaration()
+                    : regionParser.classDeclaration();
+        } catch (ParseCancellationException e) {
+            return false;
+        }
+        if (regionParser.getCurrentToken().getType() != Token.EOF) {
+            return false;
+        }
+
+        splice(target, parsed, region.subList(0, region.size() - 1), delta);
+        text = updated;
+        replaced = target;
+        replacement = parsed;
+        incrementalParses++;
+        return true;
+    }
+
+    // lexes [start, end] of the updated text with positions continuing from the old tokens;
+    // returns null on lexer errors
+    private List<Token> relex(String updated, int start, int end, int line, int column) {
+        lexer.setInputStream(CharStreams.fromString(updated.substring(start, end + 1), sourceName));
+        lexer.removeErrorListeners();
+        regionErrors.errors = 0;
+        lexer.addErrorListener(regionErrors);
+        lexer.setLine(line);
+        lexer.setCharPositionInLine(column);
+
+        List<Token> region = new ArrayList<>();
+        Token token;
+        while ((token = lexer.nextToken()).getType() != Token.EOF) {
+            CommonToken common = (CommonToken) token;
+            common.setStartIndex(token.getStartIndex() + start);
+            common.setStopIndex(token.getStopIndex() + start);
+            region.add(token);
+        }
+        if (regionErrors.errors > 0 || region.isEmpty()) {
+            return null;
+        }
+        Token last = region.get(region.size() - 1);
+        CommonToken eof = new CommonToken(Token.EOF, "<EOF>");
+        eof.setStartIndex(last.getStopIndex() + 1);
+        eof.setStopIndex(last.getStopIndex());
+        eof.setLine(last.getLine());
+        eof.setCharPositionInLine(last.getCharPositionInLine() + last.getText().length());
+        region.add(eof);
+        return region;
+    }
+
+    private void splice(ParserRuleContext target, ParserRuleContext parsed, List<Token> region, int delta) {
+        Token oldStop = target.getStop();
+        Token newStop = parsed.getStop();
+        int first = target.getStart().getTokenIndex();
+        int last = oldStop.getTokenIndex();
+        int lineDelta = newStop.getLine() - oldStop.getLine();
+        int columnDelta = newStop.getCharPositionInLine() - oldStop.getCharPositionInLine();
+
+        List<Token> updated = new ArrayList<>(tokens.size() + region.size() - (last - first + 1));
+        updated.addAll(tokens.subList(0, first));
+        updated.addAll(region);
+        for (Token token : tokens.subList(last + 1, tokens.size())) {
+            WritableToken writable = (WritableToken) token;
+            CommonToken common = (CommonToken) token;
+            if (token.getLine() == oldStop.getLine()) {
+                writable.setCharPositionInLine(token.getCharPositionInLine() + columnDelta);
+            }
+            writable.setLine(token.getLine() + lineDelta);
+            common.setStartIndex(token.getStartIndex() + delta);
+            common.setStopIndex(token.getStopIndex() + delta);
+            updated.add(token);
+        }
+        for (int i = first; i < updated.size(); i++) {
+            ((WritableToken) updated.get(i)).setTokenIndex(i);
+        }
+        tokens = updated;
+
+        ParserRuleContext parent = target.getParent();
+        parsed.parent = parent;
+        parsed.invokingState = target.invokingState;
+        List<ParseTree> children = parent.children;
+        children.set(children.indexOf(target), parsed);
+        if (tree.c1 == target) {
+            tree.c1 = (japyParser.ClassDeclarationContext) parsed;
+        }
+        if (tree.c3 == target) {
+            tree.c3 = (japyParser.ClassDeclarationContext) parsed;
+        }
+        for (ParserRuleContext ancestor = parent; ancestor != null; ancestor = ancestor.getParent()) {
+            if (ancestor.start == target.getStart()) {
+                ancestor.start = parsed.getStart();
+            }
+            if (ancestor.stop == oldStop) {
+                ancestor.stop = newStop;
+            }
+        }
+    }
+
+    private static class ErrorCounter extends BaseErrorListener {
+        int errors;
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                String msg, RecognitionException e) {
+            errors++;
+        }
+    }
+}
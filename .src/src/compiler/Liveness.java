@@ -0,0 +1,125 @@
+package compiler;
+
+import java.util.Arrays;
+
+/**
+ * The local variables live at the start and end of each block of a method: those whose value
+ * may still be read before they are assigned again. A backward {@link Dataflow} problem met by
+ * union. A {@code var} statement or an assignment to the plain name of a variable kills it; every
+ * other mention of the name reads it, increments and decrements included.
+ */
+public class Liveness {
+    private final Dataflow flow;
+
+    private Liveness(Dataflow flow) {
+        this.flow = flow;
+    }
+
+    public static Liveness analyze(ControlFlowGraph cfg, LocalVariables variables) {
+        Ast ast = cfg.getAst();
+        int bits = variables.count();
+        int words = Dataflow.words(bits);
+        long[] gen = new long[cfg.blockCount() * words];
+        long[] kill = new long[gen.length];
+        long[] live = new long[words];
+        long[] killed = new long[words];
+        Transfer transfer = new Transfer(ast, variables, live, killed);
+        for (int block = 0; block < cfg.blockCount(); block++) {
+            // walk the block backwards from nothing live: what is live at its start is its gen set
+            Arrays.fill(live, 0L);
+            Arrays.fill(killed, 0L);
+            transfer.uses(cfg.branch(block));
+            for (int i = cfg.statementEnd(block) - 1; i >= cfg.statementStart(block); i--) {
+                transfer.statement(cfg.statement(i));
+            }
+            System.arraycopy(live, 0, gen, block * words, words);
+            System.arraycopy(killed, 0, kill, block * words, words);
+        }
+        return new Liveness(Dataflow.solve(cfg, bits, false, false, gen, kill));
+    }
+
+    public boolean isLiveIn(int block, int variable) {
+        return flow.in(block, variable);
+    }
+
+    public boolean isLiveOut(int block, int variable) {
+        return flow.out(block, variable);
+    }
+
+    /**
+     * Copies the variables live at the end of {@code block} to {@code set}, which holds
+     * {@code Dataflow.words(variables.count())} longs.
+     */
+    public void copyLiveOut(int block, long[] set) {
+        flow.copyOut(block, set);
+    }
+
+    /**
+     * Steps a set of live variables backwards over statements.
+     */
+    static class Transfer {
+        private final Ast ast;
+        private final LocalVariables variables;
+        private final long[] live;
+        // variables assigned in the statements walked so far, whether or not read earlier
+        private final long[] killed;
+
+        Transfer(Ast ast, LocalVariables variables, long[] live, long[] killed) {
+            this.ast = ast;
+            this.variables = variables;
+            this.live = live;
+            this.killed = killed;
+        }
+
+        void statement(int statement) {
+            switch (ast.kind(statement)) {
+                case Ast.VAR_DEF:
+                    // var a = 1, b = a defines a before reading it for b, so walk the vars backwards too
+                    vars(ast.firstChild(statement));
+                    break;
+                case Ast.ASSIGN: {
+                    int target = ast.firstChild(statement);
+                    int value = target == Ast.NONE ? Ast.NONE : ast.nextSibling(target);
+                    if (target != Ast.NONE && ast.kind(target) == Ast.NAME && variables.variable(target) != Ast.NONE) {
+                        define(variables.variable(target));
+                    } else {
+                        uses(target);
+                    }
+                    uses(value);
+                    break;
+                }
+                default:
+                    uses(statement);
+            }
+        }
+
+        private void vars(int var) {
+            if (var != Ast.NONE) {
+                vars(ast.nextSibling(var));
+                define(variables.variable(var));
+                uses(ast.firstChild(var));
+            }
+        }
+
+        void uses(int node) {
+            if (node == Ast.NONE) {
+                return;
+            }
+            if (ast.kind(node) == Ast.NAME) {
+                int variable = variables.variable(node);
+                if (variable != Ast.NONE) {
+                    live[variable >>> 6] |= 1L << variable;
+                }
+                return;
+            }
+            for (int child = ast.firstChild(node); child != Ast.NONE; child = ast.nextSibling(child)) {
+                uses(child);
+            }
+        }
+
+        private void define(int variable) {
+            live[variable >>> 6] &= ~(1L << variable);
+            killed[variable >>> 6] |= 1L << variable;
+        }
+    }
+}
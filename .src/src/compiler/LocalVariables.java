@@ -0,0 +1,229 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The local variables of one method of an {@link Ast} and the variable each name in the method
+ * refers to. Variables are numbered densely in the order they are defined, so analyses can keep
+ * one bit per variable; see {@link DefiniteAssignment} and {@link Liveness}.
+ *
+ * A name refers to a variable defined in the innermost block, if or while around it that defines
+ * one of that name, even when the definition comes later: the definition before the name if
+ * there is one, the first after it otherwise. Whether it was run by the time the name is used is
+ * for the analyses to tell. Names that refer to no variable or parameter are {@link #freeNames},
+ * fields or errors.
+ */
+public class LocalVariables {
+    private static final int NONE = Ast.NONE;
+
+    private final Ast ast;
+    private final int method;
+    // VAR node of each variable
+    private final int[] declarations;
+    // variable of each NAME and VAR node of the method, indexed by node - method
+    private final int[] variables;
+    private final int[] freeNames;
+    private final boolean ordered;
+
+    private LocalVariables(Ast ast, int method, int[] declarations, int[] variables, int[] freeNames, boolean ordered) {
+        this.ast = ast;
+        this.method = method;
+        this.declarations = declarations;
+        this.variables = variables;
+        this.freeNames = freeNames;
+        this.ordered = ordered;
+    }
+
+    public static LocalVariables bind(Ast ast, int method) {
+        return new Binder(ast, method).bind();
+    }
+
+    public Ast getAst() {
+        return ast;
+    }
+
+    public int count() {
+        return declarations.length;
+    }
+
+    /**
+     * The VAR node that defines {@code variable}.
+     */
+    public int declaration(int variable) {
+        return declarations[variable];
+    }
+
+    /**
+     * The variable a NAME node refers to, or a VAR node defines; NONE for other nodes, parameters
+     * and free names.
+     */
+    public int variable(int node) {
+        int index = node - method;
+        return index < 0 || index >= variables.length ? NONE : variables[index];
+    }
+
+    /**
+     * The NAME nodes that refer to neither a variable nor a parameter, in source order.
+     */
+    public int[] freeNames() {
+        return freeNames;
+    }
+
+    /**
+     * Whether every name refers to a variable defined by an earlier statement of the same block
+     * as the definition, so that the definition always runs before the name is reached.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    private static class Binder {
+        private final Ast ast;
+        private final int method;
+        private final int[] variables;
+        private final List<Integer> declarations = new ArrayList<>();
+        private int[] free = new int[8];
+        private int freeCount;
+        private boolean ordered = true;
+        // the variable whose initialiser is being visited
+        private int defining = NONE;
+        // definitions of each name in the innermost scope defining it
+        private final IntMap<Scoped> names = new IntMap<>(16);
+        private final List<Scoped> declared = new ArrayList<>();
+
+        Binder(Ast ast, int method) {
+            this.ast = ast;
+            this.method = method;
+            // node ids are pre-order, so the method's nodes run up to its last descendant
+            int last = method;
+            for (int child = ast.firstChild(last); child != NONE; child = ast.firstChild(last)) {
+                last = child;
+                while (ast.nextSibling(last) != NONE) {
+                    last = ast.nextSibling(last);
+                }
+            }
+            this.variables = new int[last - method + 1];
+            Arrays.fill(variables, NONE);
+        }
+
+        LocalVariables bind() {
+            visit(ast.childOfKind(method, Ast.BLOCK));
+            int[] declarationNodes = new int[declarations.size()];
+            for (int i = 0; i < declarationNodes.length; i++) {
+                declarationNodes[i] = declarations.get(i);
+            }
+            return new LocalVariables(ast, method, declarationNodes, variables, Arrays.copyOf(free, freeCount), ordered);
+        }
+
+        private void visit(int node) {
+            if (node == NONE) {
+                return;
+            }
+            switch (ast.kind(node)) {
+                case Ast.BLOCK:
+                case Ast.IF:
+                case Ast.WHILE:
+                    scope(node);
+                    break;
+                case Ast.NAME:
+                    name(node);
+                    break;
+                case Ast.VAR:
+                    defining = variables[node - method];
+                    for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+                        visit(child);
+                    }
+                    defining = NONE;
+                    break;
+                default:
+                    for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+                        visit(child);
+                    }
+            }
+        }
+
+        // the variables defined by the statements directly in node are known throughout it
+        private void scope(int node) {
+            int mark = declared.size();
+            for (int statement = ast.firstChild(node); statement != NONE; statement = ast.nextSibling(statement)) {
+                if (ast.kind(statement) == Ast.VAR_DEF) {
+                    for (int var = ast.firstChild(statement); var != NONE; var = ast.nextSibling(var)) {
+                        declare(var, mark, ast.kind(node) == Ast.BLOCK);
+                    }
+                }
+            }
+            for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+                visit(child);
+            }
+            for (int i = declared.size() - 1; i >= mark; i--) {
+                Scoped scoped = declared.remove(i);
+                names.put(scoped.nameId, scoped.shadowed);
+            }
+        }
+
+        private void declare(int var, int mark, boolean sequential) {
+            int variable = declarations.size();
+            declarations.add(var);
+            variables[var - method] = variable;
+            Scoped scoped = names.get(ast.name(var));
+            if (scoped == null || scoped.mark != mark) {
+                scoped = new Scoped(ast.name(var), mark, sequential, scoped);
+                names.put(scoped.nameId, scoped);
+                declared.add(scoped);
+            }
+            scoped.add(var);
+        }
+
+        private void name(int node) {
+            Scoped scoped = names.get(ast.name(node));
+            if (scoped != null) {
+                // the last definition before the name, or the first one
+                int var = scoped.vars[0];
+                for (int i = 1; i < scoped.count && scoped.vars[i] < node; i++) {
+                    var = scoped.vars[i];
+                }
+                variables[node - method] = variables[var - method];
+                if (var > node || !scoped.sequential || variables[var - method] == defining) {
+                    ordered = false;
+                }
+                return;
+            }
+            for (int child = ast.firstChild(method); child != NONE; child = ast.nextSibling(child)) {
+                if (ast.kind(child) == Ast.PARAM && ast.name(child) == ast.name(node)) {
+                    return;
+                }
+            }
+            if (freeCount == free.length) {
+                free = Arrays.copyOf(free, freeCount * 2);
+            }
+            free[freeCount++] = node;
+        }
+    }
+
+    // the VAR nodes of one name in one scope, in source order
+    private static class Scoped {
+        final int nameId;
+        final int mark;
+        // declared in a block, whose statements run in order, rather than an if or while
+        final boolean sequential;
+        final Scoped shadowed;
+        int[] vars = new int[1];
+        int count;
+
+        Scoped(int nameId, int mark, boolean sequential, Scoped shadowed) {
+            this.nameId = nameId;
+            this.mark = mark;
+            this.sequential = sequential;
+            this.shadowed = shadowed;
+        }
+
+        void add(int var) {
+            if (count == vars.length) {
+                vars = Arrays.copyOf(vars, count * 2);
+            }
+            vars[count++] = var;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chooses the method a call refers to, given the receiver class, the method name and the type
+ * descriptors of the arguments (see {@link MethodSignature}). The candidates are the overloads
+ * visible in the receiver class, inherited ones included. Of those that accept the arguments the
+ * most specific one wins: the one whose every parameter type equals, or is a subclass of, the
+ * corresponding parameter type of each other applicable overload.
+ *
+ * Results are memoised per (class, name, argument types) in a fixed-size direct-mapped cache, so
+ * a call repeated in a loop costs a hash and a few int comparisons and allocates nothing. When
+ * two keys share a slot the newer one replaces the older, which bounds the cache however many
+ * distinct calls a program makes. Not thread-safe.
+ */
+public class MethodResolver {
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    /** The call resolves to {@link Resolution#method}. */
+    public static final int RESOLVED = 0;
+    /** The class has no method of that name. */
+    public static final int NOT_FOUND = 1;
+    /** No overload has as many parameters as the call has arguments. */
+    public static final int WRONG_ARITY = 2;
+    /** An overload with the call's arity rejects argument {@link Resolution#argument}. */
+    public static final int MISMATCH = 3;
+    /** Several overloads apply and none is more specific than all the others. */
+    public static final int AMBIGUOUS = 4;
+    /** Several overloads apply but some argument types are unknown, so no choice can be made. */
+    public static final int UNDECIDED = 5;
+
+    private static final Resolution NOT_FOUND_RESOLUTION = new Resolution(NOT_FOUND, null, -1);
+
+    private final ClassHierarchy hierarchy;
+    private final Entry[] cache;
+
+    public MethodResolver(ClassHierarchy hierarchy) {
+        this(hierarchy, DEFAULT_CACHE_SIZE);
+    }
+
+    public MethodResolver(ClassHierarchy hierarchy, int cacheSize) {
+        int capacity = 1;
+        while (capacity < cacheSize) {
+            capacity <<= 1;
+        }
+        this.hierarchy = hierarchy;
+        this.cache = new Entry[capacity];
+    }
+
+    public static final class Resolution {
+        public final int status;
+        // the chosen method; for errors the overload the error refers to, null when there is none
+        public final SymbolTable.SymbolInfo method;
+        // index of the first rejected argument for MISMATCH, -1 otherwise
+        public final int argument;
+
+        private Resolution(int status, SymbolTable.SymbolInfo method, int argument) {
+            this.status = status;
+            this.method = method;
+            this.argument = argument;
+        }
+    }
+
+    /**
+     * Resolves a call of {@code methodNameId} on an instance of {@code classNameId} with the
+     * first {@code argumentCount} descriptors of {@code argumentTypes} as arguments. The array
+     * is not kept, so callers may reuse it from call to call.
+     */
+    public Resolution resolve(int classNameId, int methodNameId, int[] argumentTypes, int argumentCount) {
+        int hash = hash(classNameId, methodNameId, argumentTypes, argumentCount);
+        int slot = hash & (cache.length - 1);
+        Entry entry = cache[slot];
+        if (entry != null && entry.matches(hash, classNameId, methodNameId, argumentTypes, argumentCount)) {
+            return entry.resolution;
+        }
+        Resolution resolution = search(classNameId, methodNameId, argumentTypes, argumentCount);
+        cache[slot] = new Entry(hash, classNameId, methodNameId, Arrays.copyOf(argumentTypes, argumentCount), resolution);
+        return resolution;
+    }
+
+    private Resolution search(int classNameId, int methodNameId, int[] argumentTypes, int argumentCount) {
+        SymbolTable.SymbolInfo[] candidates = hierarchy.findMethods(classNameId, methodNameId);
+        if (candidates.length == 0) {
+            return NOT_FOUND_RESOLUTION;
+        }
+        SymbolTable.SymbolInfo sameArity = null;
+        List<SymbolTable.SymbolInfo> applicable = new ArrayList<>(candidates.length);
+        for (SymbolTable.SymbolInfo candidate : candidates) {
+            if (candidate.signature.arity() != argumentCount) {
+                continue;
+            }
+            if (sameArity == null) {
+                sameArity = candidate;
+            }
+            if (rejected(candidate.signature, argumentTypes, argumentCount) < 0) {
+                applicable.add(candidate);
+            }
+        }
+        if (sameArity == null) {
+            return new Resolution(WRONG_ARITY, candidates[0], -1);
+        }
+        if (applicable.isEmpty()) {
+            return new Resolution(MISMATCH, sameArity, rejected(sameArity.signature, argumentTypes, argumentCount));
+        }
+        // only the winner of a pairwise run can be the most specific; one more pass confirms it
+        SymbolTable.SymbolInfo best = applicable.get(0);
+        for (SymbolTable.SymbolInfo method : applicable) {
+            if (moreSpecific(method, best)) {
+                best = method;
+            }
+        }
+        if (mostSpecific(best, applicable)) {
+            return new Resolution(RESOLVED, best, -1);
+        }
+        for (int i = 0; i < argumentCount; i++) {
+            if (argumentTypes[i] == MethodSignature.UNKNOWN) {
+                return new Resolution(UNDECIDED, null, -1);
+            }
+        }
+        return new Resolution(AMBIGUOUS, applicable.get(0), -1);
+    }
+
+    // index of the first argument the signature does not accept, -1 when it accepts all of them
+    private int rejected(MethodSignature signature, int[] argumentTypes, int argumentCount) {
+        for (int i = 0; i < argumentCount; i++) {
+            if (!assignable(argumentTypes[i], signature.parameterType(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean mostSpecific(SymbolTable.SymbolInfo method, List<SymbolTable.SymbolInfo> applicable) {
+        for (SymbolTable.SymbolInfo other : applicable) {
+            if (!moreSpecific(method, other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // whether every parameter of method may be passed to the same parameter of other
+    private boolean moreSpecific(SymbolTable.SymbolInfo method, SymbolTable.SymbolInfo other) {
+        for (int i = 0; i < method.signature.arity(); i++) {
+            if (!assignable(method.signature.parameterType(i), other.signature.parameterType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean assignable(int type, int target) {
+        return type == MethodSignature.UNKNOWN || type == target || hierarchy.isSubtypeOf(type, target);
+    }
+
+    private static int hash(int classNameId, int methodNameId, int[] argumentTypes, int argumentCount) {
+        int h = classNameId * 31 + methodNameId;
+        for (int i = 0; i < argumentCount; i++) {
+            h = h * 31 + argumentTypes[i];
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        final int hash;
+        final int classNameId;
+        final int methodNameId;
+        final int[] argumentTypes;
+        final Resolution resolution;
+
+        Entry(int hash, int classNameId, int methodNameId, int[] argumentTypes, Resolution resolution) {
+            this.hash = hash;
+            this.classNameId = classNameId;
+            this.methodNameId = methodNameId;
+            this.argumentTypes = argumentTypes;
+            this.resolution = resolution;
+        }
+
+        boolean matches(int hash, int classNameId, int methodNameId, int[] argumentTypes, int argumentCount) {
+            if (this.hash != hash || this.classNameId != classNameId || this.methodNameId != methodNameId
+                    || this.argumentTypes.length != argumentCount) {
+                return false;
+            }
+            for (int i = 0; i < argumentCount; i++) {
+                if (this.argumentTypes[i] != argumentTypes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package compiler;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Maps identifier and literal text to dense int ids, so that later passes can compare
+ * and index names by id instead of hashing strings.
+ *
+ * The pool is an open-addressing table with linear probing. Lookups of names that are
+ * already present take no lock: a slot's id is written before its key, and the key array
+ * has volatile semantics, so a reader that sees the key also sees the id. New names are
+ * added under the pool's lock, and a grown table is published as a whole.
+ */
+public class NamePool {
+    private static final NamePool GLOBAL = new NamePool();
+
+    private volatile Table table = new Table(256);
+    private volatile String[] names = new String[128];
+    private int size;
+
+    /**
+     * The process-wide pool shared by all files and passes, so ids stay comparable across files.
+     */
+    public static NamePool global() {
+        return GLOBAL;
+    }
+
+    public int intern(String name) {
+        int id = table.find(name);
+        if (id >= 0) {
+            return id;
+        }
+        synchronized (this) {
+            Table current = table;
+            id = current.find(name);
+            if (id >= 0) {
+                return id;
+            }
+            id = size;
+            if (id == names.length) {
+                names = Arrays.copyOf(names, id * 2);
+            }
+            names[id] = name;
+            if ((size + 1) * 2 > current.capacity()) {
+                current = current.grow();
+            }
+            current.insert(name, id);
+            table = current;
+            size++;
+            return id;
+        }
+    }
+
+    /**
+     * Returns the id of {@code name}, or -1 when it was never interned.
+     */
+    public int find(String name) {
+        return table.find(name);
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        synchronized (this) {
+            return size;
+        }
+    }
+
+    private static final class Table {
+        private final AtomicReferenceArray<String> keys;
+        private final int[] ids;
+        private final int mask;
+
+        Table(int capacity) {
+            keys = new AtomicReferenceArray<>(capacity);
+            ids = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        int capacity() {
+            return ids.length;
+        }
+
+        int find(String name) {
+            for (int slot = mix(name.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+                String key = keys.get(slot);
+                if (key == null) {
+                    return -1;
+                }
+                if (key.equals(name)) {
+                    return ids[slot];
+                }
+            }
+        }
+
+        void insert(String name, int id) {
+            int slot = mix(name.hashCode()) & mask;
+            while (keys.get(slot) != null) {
+                slot = (slot + 1) & mask;
+            }
+            ids[slot] = id;
+            keys.set(slot, name);
+        }
+
+        Table grow() {
+            Table grown = new Table(ids.length * 2);
+            for (int slot = 0; slot < ids.length; slot++) {
+                String key = keys.get(slot);
+                if (key != null) {
+                    grown.insert(key, ids[slot]);
+                }
+            }
+            return grown;
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
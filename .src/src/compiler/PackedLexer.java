@@ -0,0 +1,238 @@
+package compiler;
+
+import gen.japyLexer;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written lexer for the japy token set. It produces the same token types as
+ * the generated japyLexer (keywords and operators are read from its vocabulary), but
+ * writes them into a {@link PackedTokens} array instead of allocating a Token per match.
+ * NL, WS, '##' and '###' comments are skipped just like in the grammar.
+ */
+public class PackedLexer {
+    private static final String[][] KEYWORDS = new String[16][];
+    private static final int[][] KEYWORD_TYPES = new int[16][];
+    private static final int[] SINGLE = new int[128];
+    private static final int[] DOUBLE = new int[128 * 128];
+    private static final boolean[] PARTIAL = new boolean[128];
+
+    static {
+        Vocabulary vocabulary = japyLexer.VOCABULARY;
+        List<List<String>> words = new ArrayList<>();
+        List<List<Integer>> wordTypes = new ArrayList<>();
+        for (int i = 0; i < KEYWORDS.length; i++) {
+            words.add(new ArrayList<>());
+            wordTypes.add(new ArrayList<>());
+        }
+        for (int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            String literal = vocabulary.getLiteralName(type);
+            if (literal == null) {
+                continue;
+            }
+            String text = literal.substring(1, literal.length() - 1);
+            if (isIdStart(text.charAt(0))) {
+                words.get(text.length()).add(text);
+                wordTypes.get(text.length()).add(type);
+            } else if (text.length() == 1) {
+                SINGLE[text.charAt(0)] = type;
+            } else {
+                DOUBLE[text.charAt(0) * 128 + text.charAt(1)] = type;
+                PARTIAL[text.charAt(0)] = true;
+            }
+        }
+        for (int c = 0; c < PARTIAL.length; c++) {
+            PARTIAL[c] &= SINGLE[c] == 0;
+        }
+        PARTIAL['#'] = true;
+        PARTIAL['\r'] = true;
+        for (int i = 0; i < KEYWORDS.length; i++) {
+            KEYWORDS[i] = words.get(i).toArray(new String[0]);
+            KEYWORD_TYPES[i] = new int[wordTypes.get(i).size()];
+            for (int j = 0; j < KEYWORD_TYPES[i].length; j++) {
+                KEYWORD_TYPES[i][j] = wordTypes.get(i).get(j);
+            }
+        }
+    }
+
+    private final CharStream input;
+    private final ANTLRErrorListener errorListener;
+    private int line = 1;
+    private int column = 0;
+
+    public PackedLexer(CharStream input, ANTLRErrorListener errorListener) {
+        this.input = input;
+        this.errorListener = errorListener;
+    }
+
+    public PackedTokens tokenize() {
+        input.seek(0);
+        PackedTokens tokens = new PackedTokens(input, input.size() / 4);
+        int c;
+        while ((c = input.LA(1)) != IntStream.EOF) {
+            int start = input.index();
+            int startLine = line;
+            int startColumn = column;
+            if (c == ' ' || c == '\t') {
+                advance(1);
+            } else if (c == '\n' || (c == '\r' && input.LA(2) == '\n')) {
+                advance(c == '\r' ? 2 : 1);
+            } else if (c == '#' && input.LA(2) == '#') {
+                skipComment();
+            } else if (isIdStart(c)) {
+                int length = identifierLength();
+                tokens.add(keywordOrId(length), start, start + length - 1, startLine, startColumn);
+                advance(length);
+            } else if (c >= '0' && c <= '9') {
+                int length = numberLength(c);
+                tokens.add(japyLexer.CONST_NUM, start, start + length - 1, startLine, startColumn);
+                advance(length);
+            } else if (c == '"') {
+                int length = stringLength();
+                if (length > 0) {
+                    tokens.add(japyLexer.CONST_STR, start, start + length - 1, startLine, startColumn);
+                    advance(length);
+                } else {
+                    int errorLength = input.LA(-length + 1) == IntStream.EOF ? -length : -length + 1;
+                    reportError(start, start + errorLength - 1, startLine, startColumn);
+                    advance(errorLength);
+                }
+            } else {
+                int type = c < 128 && input.LA(2) >= 0 && input.LA(2) < 128 ? DOUBLE[c * 128 + input.LA(2)] : 0;
+                if (type != 0) {
+                    tokens.add(type, start, start + 1, startLine, startColumn);
+                    advance(2);
+                } else if (c < 128 && SINGLE[c] != 0) {
+                    tokens.add(SINGLE[c], start, start, startLine, startColumn);
+                    advance(1);
+                } else {
+                    // like japyLexer, a character that starts a token but cannot complete it is
+                    // reported and skipped together with the character that broke the match
+                    int errorLength = c < 128 && PARTIAL[c] && input.LA(2) != IntStream.EOF ? 2 : 1;
+                    reportError(start, start + errorLength - 1, startLine, startColumn);
+                    advance(errorLength);
+                }
+            }
+        }
+        int end = input.index();
+        tokens.add(Token.EOF, end, end - 1, line, column);
+        return tokens;
+    }
+
+    private int keywordOrId(int length) {
+        if (length >= KEYWORDS.length) {
+            return japyLexer.ID;
+        }
+        String[] candidates = KEYWORDS[length];
+        for (int k = 0; k < candidates.length; k++) {
+            String keyword = candidates[k];
+            int i = 0;
+            while (i < length && input.LA(i + 1) == keyword.charAt(i)) {
+                i++;
+            }
+            if (i == length) {
+                return KEYWORD_TYPES[length][k];
+            }
+        }
+        return japyLexer.ID;
+    }
+
+    private int identifierLength() {
+        int length = 1;
+        while (isIdPart(input.LA(length + 1))) {
+            length++;
+        }
+        return length;
+    }
+
+    // CONST_NUM: [1-9][0-9]* | '0' | [1-9][0-9]* '.' [0-9]+
+    private int numberLength(int first) {
+        if (first == '0') {
+            return 1;
+        }
+        int length = 1;
+        while (isDigit(input.LA(length + 1))) {
+            length++;
+        }
+        if (input.LA(length + 1) == '.' && isDigit(input.LA(length + 2))) {
+            length += 2;
+            while (isDigit(input.LA(length + 1))) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    // CONST_STR: '"' ~('\r' | '\n' | '"')* '"'; a negative result is the length of an unterminated string
+    private int stringLength() {
+        int length = 1;
+        while (true) {
+            int c = input.LA(length + 1);
+            if (c == '"') {
+                return length + 1;
+            }
+            if (c == '\r' || c == '\n' || c == IntStream.EOF) {
+                return -length;
+            }
+            length++;
+        }
+    }
+
+    // '##' runs to the end of the line; '###' ... '###' wins when it is the longer match
+    private void skipComment() {
+        int lineLength = 2;
+        int c;
+        while ((c = input.LA(lineLength + 1)) != '\r' && c != '\n' && c != IntStream.EOF) {
+            lineLength++;
+        }
+        int length = lineLength;
+        if (input.LA(3) == '#') {
+            for (int i = 4; input.LA(i) != IntStream.EOF; i++) {
+                if (input.LA(i) == '#' && input.LA(i + 1) == '#' && input.LA(i + 2) == '#') {
+                    length = Math.max(lineLength, i + 2);
+                    break;
+                }
+            }
+        }
+        advance(length);
+    }
+
+    private void advance(int count) {
+        for (int i = 0; i < count; i++) {
+            if (input.LA(1) == '\n') {
+                line++;
+                column = 0;
+            } else {
+                column++;
+            }
+            input.consume();
+        }
+    }
+
+    private void reportError(int start, int stop, int errorLine, int errorColumn) {
+        String text = input.getText(Interval.of(start, stop))
+                .replace("\n", "\\n")
+                .replace("\r", "\\r")
+                .replace("\t", "\\t");
+        errorListener.syntaxError(null, null, errorLine, errorColumn, "token recognition error at: '" + text + "'", null);
+    }
+
+    private static boolean isIdStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdPart(int c) {
+        return isIdStart(c) || isDigit(c);
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,97 @@
+package compiler;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.Arrays;
+
+/**
+ * Tokens of one source file packed into a single int array, five ints per token:
+ * type, start offset, stop offset, line and column. The last token is always EOF.
+ * Passes that only need types and positions can read the array without ever
+ * creating Token objects.
+ */
+public class PackedTokens {
+    public static final int TYPE = 0;
+    public static final int START = 1;
+    public static final int STOP = 2;
+    public static final int LINE = 3;
+    public static final int COLUMN = 4;
+    public static final int STRIDE = 5;
+
+    private final CharStream source;
+    private int[] data;
+    private int count;
+
+    PackedTokens(CharStream source, int expectedTokens) {
+        this.source = source;
+        this.data = new int[Math.max(expectedTokens, 16) * STRIDE];
+    }
+
+    void add(int type, int start, int stop, int line, int column) {
+        int offset = count * STRIDE;
+        if (offset + STRIDE > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[offset + TYPE] = type;
+        data[offset + START] = start;
+        data[offset + STOP] = stop;
+        data[offset + LINE] = line;
+        data[offset + COLUMN] = column;
+        count++;
+    }
+
+    public CharStream getSource() {
+        return source;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * The raw array; only the first {@code size() * STRIDE} entries are valid.
+     */
+    public int[] getData() {
+        return data;
+    }
+
+    public int type(int token) {
+        return data[token * STRIDE + TYPE];
+    }
+
+    public int start(int token) {
+        return data[token * STRIDE + START];
+    }
+
+    public int stop(int token) {
+        return data[token * STRIDE + STOP];
+    }
+
+    public int line(int token) {
+        return data[token * STRIDE + LINE];
+    }
+
+    public int column(int token) {
+        return data[token * STRIDE + COLUMN];
+    }
+
+    public String text(int token) {
+        return source.getText(Interval.of(start(token), stop(token)));
+    }
+
+    public boolean textEquals(int token, String text) {
+        int start = start(token);
+        int length = stop(token) - start + 1;
+        if (length != text.length()) {
+            return false;
+        }
+        source.seek(start);
+        for (int i = 0; i < length; i++) {
+            if (source.LA(i + 1) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
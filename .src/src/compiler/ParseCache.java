@@ -0,0 +1,86 @@
+package compiler;
+
+import gen.japyParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The parse trees of the files a {@link CompileDaemon} compiled, kept from one request to the
+ * next in an {@link IncrementalParser} per file. When a file is compiled again its text is
+ * compared with the last one, and the changed range is handed to the parser as one edit, so a
+ * change inside a single method or class only re-lexes and re-parses that declaration. The
+ * least recently compiled files are dropped once more than {@code capacity} are kept.
+ */
+public class ParseCache {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<Path, Entry> entries;
+
+    public ParseCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ParseCache(int capacity) {
+        entries = new LinkedHashMap<Path, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * The entry of {@code file}, made empty on first use. A caller must hold the entry's lock
+     * from parsing until it is done with the tree, since the next parse edits the tree in place.
+     */
+    public synchronized Entry entry(Path file) {
+        return entries.computeIfAbsent(file, path -> new Entry());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public static final class Entry {
+        private IncrementalParser parser;
+
+        /**
+         * Parses the current text of {@code file}, reporting syntax errors to {@code errorListener}.
+         * An unchanged file without syntax errors keeps its tree; one with errors is parsed again
+         * so that they are reported again.
+         */
+        public japyParser.ProgramContext parse(Path file, ANTLRErrorListener errorListener) throws IOException {
+            String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            if (parser == null) {
+                parser = new IncrementalParser(file.toString(), text, errorListener);
+                return parser.getTree();
+            }
+            parser.setErrorListener(errorListener);
+            String old = parser.getText();
+            if (old.equals(text)) {
+                return parser.hasErrors() ? parser.edit(0, old.length(), text) : parser.getTree();
+            }
+            int prefix = 0;
+            int shorter = Math.min(old.length(), text.length());
+            while (prefix < shorter && old.charAt(prefix) == text.charAt(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < shorter - prefix
+                    && old.charAt(old.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+                suffix++;
+            }
+            return parser.edit(prefix, old.length() - prefix - suffix, text.substring(prefix, text.length() - suffix));
+        }
+
+        public IncrementalParser getParser() {
+            return parser;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The classes, fields and method signatures of every file of a program, for checking each file
+ * against the whole program. The declarations of the files are collected independently, see
+ * {@link ScopeBuilder#declare}, and merged here in file order, so the first file that declares a
+ * class name owns it no matter which file was collected first.
+ *
+ * An index is never modified after it is built. Threads that receive it through a safe handoff,
+ * such as task submission to an executor, read it without any locking.
+ */
+public class ProgramIndex {
+    private final ClassHierarchy hierarchy;
+    // class-level errors of each file, in declaration order
+    private final List<List<Diagnostics.Diagnostic>> errors;
+
+    private ProgramIndex(ClassHierarchy hierarchy, List<List<Diagnostics.Diagnostic>> errors) {
+        this.hierarchy = hierarchy;
+        this.errors = errors;
+    }
+
+    /**
+     * Merges the declarations of the files, given as one global scope per file in file order.
+     */
+    public static ProgramIndex build(List<Scope> fileScopes) {
+        List<Scope> classScopes = new ArrayList<>();
+        Map<SymbolTable.SymbolInfo, Integer> fileOf = new IdentityHashMap<>();
+        IntMap<SymbolTable.SymbolInfo> owners = new IntMap<>(64);
+        List<List<Diagnostics.Diagnostic>> errors = new ArrayList<>(fileScopes.size());
+        for (int file = 0; file < fileScopes.size(); file++) {
+            errors.add(new ArrayList<>());
+            for (Scope scope : fileScopes.get(file).getChildren()) {
+                SymbolTable.SymbolInfo classInfo = scope.getOwner();
+                if (scope.getKind() != Scope.CLASS || classInfo.redefined) {
+                    // a redefinition within one file is reported by the file's own pass
+                    continue;
+                }
+                if (owners.get(classInfo.nameId) != null) {
+                    errors.get(file).add(SemanticError.classRedefinedError(classInfo));
+                    continue;
+                }
+                owners.put(classInfo.nameId, classInfo);
+                fileOf.put(classInfo, file);
+                classScopes.add(scope);
+            }
+        }
+
+        ClassHierarchy hierarchy = ClassHierarchy.build(classScopes);
+        for (SymbolTable.SymbolInfo classInfo : hierarchy.getUndefinedParents()) {
+            errors.get(fileOf.get(classInfo)).add(SemanticError.undefinedParentError(classInfo));
+        }
+        for (SymbolTable.SymbolInfo classInfo : hierarchy.getCyclicClasses()) {
+            errors.get(fileOf.get(classInfo)).add(SemanticError.cyclicClassError(classInfo));
+        }
+        return new ProgramIndex(hierarchy, errors);
+    }
+
+    public ClassHierarchy getHierarchy() {
+        return hierarchy;
+    }
+
+    public int getFileCount() {
+        return errors.size();
+    }
+
+    /**
+     * The class-level errors found in file number {@code file}.
+     */
+    public List<Diagnostics.Diagnostic> getErrors(int file) {
+        return errors.get(file);
+    }
+}
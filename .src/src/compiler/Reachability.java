@@ -0,0 +1,242 @@
+package compiler;
+
+import java.util.Arrays;
+
+/**
+ * Which blocks of a method's {@link ControlFlowGraph} can run, whether every path through the
+ * method ends in a return, and the statements that can never run. Blocks are reached from the
+ * entry along the edges of the graph, leaving out the edge a loop with a constant condition never
+ * takes: nothing after {@code while (true)} runs unless the loop breaks, and the body of
+ * {@code while (false)} never runs. As in Java, the conditions of if statements are not looked
+ * at.
+ *
+ * A statement is dead when it holds code and none of that code is in a reached block; a
+ * statement that runs nothing, such as an empty block, is never dead. Every walk is linear in the
+ * size of the method.
+ */
+public class Reachability {
+    private static final int NONE = Ast.NONE;
+
+    private final Ast ast;
+    private final ControlFlowGraph cfg;
+    private final ConstantValues constants;
+    private final int method;
+    // the node after the method's last one; the method's nodes are method..end - 1
+    private final int end;
+    private final boolean[] reached;
+    private boolean returns = true;
+    // indexed by node - method: whether the node is a loop condition, and the number of nodes
+    // before it that are statements or conditions of the graph, and of those in reached blocks
+    private final boolean[] loopCondition;
+    private final int[] code;
+    private final int[] live;
+    private int[] dead = new int[4];
+    private int deadCount;
+
+    private Reachability(ControlFlowGraph cfg, ConstantValues constants) {
+        this.ast = cfg.getAst();
+        this.cfg = cfg;
+        this.constants = constants;
+        this.method = cfg.getMethod();
+        this.end = subtreeEnd(method);
+        this.reached = new boolean[cfg.blockCount()];
+        this.loopCondition = new boolean[end - method];
+        this.code = new int[end - method + 1];
+        this.live = new int[end - method + 1];
+    }
+
+    /**
+     * Analyses the method of {@code cfg}. {@code constants} gives the values of loop conditions;
+     * with null, only the literals true and false are constant.
+     */
+    public static Reachability analyze(ControlFlowGraph cfg, ConstantValues constants) {
+        Reachability reachability = new Reachability(cfg, constants);
+        reachability.reach();
+        reachability.count();
+        return reachability;
+    }
+
+    /**
+     * Removes the dead statements of every method of {@code ast} from the tree, see
+     * {@link #prune()}, and returns how many were removed.
+     */
+    public static int prune(Ast ast) {
+        ConstantValues constants = ConstantValues.fold(ast);
+        ControlFlowGraph.Builder graphs = new ControlFlowGraph.Builder(ast);
+        int removed = 0;
+        for (int node = 0; node < ast.size(); node++) {
+            if (ast.kind(node) == Ast.METHOD) {
+                removed += analyze(graphs.build(node), constants).prune();
+            }
+        }
+        return removed;
+    }
+
+    public boolean isReachable(int block) {
+        return reached[block];
+    }
+
+    /**
+     * Whether every path from the start of the method leaves it through a return, rather than by
+     * running off the end of the body or by a break or continue outside any loop.
+     */
+    public boolean returnsOnEveryPath() {
+        return returns;
+    }
+
+    /**
+     * The first statement of every run of dead statements, in source order. The statements of a
+     * dead statement are not reported apart from it.
+     */
+    public int[] deadStatements() {
+        deadCount = 0;
+        walk(ast.childOfKind(method, Ast.BLOCK), end, false);
+        return Arrays.copyOf(dead, deadCount);
+    }
+
+    /**
+     * Unlinks every dead statement from its parent, so that later walks of the tree, such as the
+     * graph builder's, never reach it, and returns how many were unlinked. Node ids do not change,
+     * and the unlinked nodes stay in the Ast's arrays.
+     */
+    public int prune() {
+        deadCount = 0;
+        return walk(ast.childOfKind(method, Ast.BLOCK), end, true);
+    }
+
+    private void reach() {
+        int[] stack = new int[cfg.blockCount()];
+        int size = 0;
+        reached[ControlFlowGraph.ENTRY] = true;
+        stack[size++] = ControlFlowGraph.ENTRY;
+        for (int node = method; node < end; node++) {
+            if (ast.kind(node) == Ast.WHILE && ast.firstChild(node) != NONE) {
+                loopCondition[ast.firstChild(node) - method] = true;
+            }
+        }
+        int exit = cfg.exit();
+        while (size > 0) {
+            int block = stack[--size];
+            for (int i = 0; i < cfg.successorCount(block); i++) {
+                if (!takes(block, i)) {
+                    continue;
+                }
+                int successor = cfg.successor(block, i);
+                if (successor == exit && !endsInReturn(block)) {
+                    returns = false;
+                }
+                if (!reached[successor]) {
+                    reached[successor] = true;
+                    stack[size++] = successor;
+                }
+            }
+        }
+    }
+
+    // whether the edge to successor number index of block may be taken
+    private boolean takes(int block, int index) {
+        int condition = cfg.branch(block);
+        if (condition == NONE || !loopCondition[condition - method]) {
+            return true;
+        }
+        boolean value;
+        if (constants != null && constants.type(condition) == MethodSignature.BOOL) {
+            value = constants.boolValue(condition);
+        } else if (ast.kind(condition) == Ast.TRUE || ast.kind(condition) == Ast.FALSE) {
+            value = ast.kind(condition) == Ast.TRUE;
+        } else {
+            return true;
+        }
+        // the first successor is taken when the condition holds
+        return value == (index == 0);
+    }
+
+    private boolean endsInReturn(int block) {
+        int last = cfg.statementEnd(block) - 1;
+        return last >= cfg.statementStart(block) && ast.kind(cfg.statement(last)) == Ast.RETURN;
+    }
+
+    private void count() {
+        for (int block = 0; block < cfg.blockCount(); block++) {
+            int reachedCode = reached[block] ? 1 : 0;
+            for (int i = cfg.statementStart(block); i < cfg.statementEnd(block); i++) {
+                code[cfg.statement(i) - method + 1] = 1;
+                live[cfg.statement(i) - method + 1] = reachedCode;
+            }
+            if (cfg.branch(block) != NONE) {
+                code[cfg.branch(block) - method + 1] = 1;
+                live[cfg.branch(block) - method + 1] = reachedCode;
+            }
+        }
+        for (int i = 1; i < code.length; i++) {
+            code[i] += code[i - 1];
+            live[i] += live[i - 1];
+        }
+    }
+
+    // the statement whose nodes run up to end holds code, none of it reached
+    private boolean isDead(int statement, int end) {
+        int from = statement - method;
+        int to = end - method;
+        return code[to] > code[from] && live[to] == live[from];
+    }
+
+    // walks the statements under parent, whose nodes end before end, and returns how many dead
+    // ones it unlinked
+    private int walk(int parent, int end, boolean unlink) {
+        if (parent == NONE) {
+            return 0;
+        }
+        int removed = 0;
+        int previous = NONE;
+        boolean previousDead = false;
+        int child = ast.firstChild(parent);
+        while (child != NONE) {
+            int next = ast.nextSibling(child);
+            int childEnd = next == NONE ? end : next;
+            if (isExpression(child)) {
+                // a condition of an if or while
+                previousDead = false;
+            } else if (isDead(child, childEnd)) {
+                if (!previousDead) {
+                    if (deadCount == dead.length) {
+                        dead = Arrays.copyOf(dead, deadCount * 2);
+                    }
+                    dead[deadCount++] = child;
+                }
+                previousDead = true;
+                if (unlink) {
+                    ast.unlink(parent, previous, child);
+                    removed++;
+                    child = next;
+                    continue;
+                }
+            } else {
+                previousDead = false;
+                int kind = ast.kind(child);
+                if (kind == Ast.BLOCK || kind == Ast.IF || kind == Ast.WHILE) {
+                    removed += walk(child, childEnd, unlink);
+                }
+            }
+            previous = child;
+            child = next;
+        }
+        return removed;
+    }
+
+    // the node after the last one of the subtree of node, which is numbered in pre-order
+    private int subtreeEnd(int node) {
+        int last = node;
+        for (int child = ast.firstChild(last); child != NONE; child = ast.firstChild(last)) {
+            last = child;
+            while (ast.nextSibling(last) != NONE) {
+                last = ast.nextSibling(last);
+            }
+        }
+        return last + 1;
+    }
+
+    private boolean isExpression(int node) {
+        return ast.kind(node) >= Ast.OR;
+    }
+}
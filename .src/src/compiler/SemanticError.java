@@ -0,0 +1,927 @@
+package compiler;
+
+import gen.japyListener;
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.io.PrintStream;
+import java.util.*;
+
+public class SemanticError implements japyListener {
+    private Map<String, SymbolTable.SymbolInfo> SemanticError;
+    private final ScopeBuilder scopes;
+    // classes of the whole program when checking one of several files, see setProgramIndex
+    private ProgramIndex program;
+    private int file;
+    // errors found, written to err at the end of the program unless a shared collector is set
+    private Diagnostics diagnostics = new Diagnostics();
+    private boolean ownsDiagnostics = true;
+    private int diagnosticsFile;
+    // classes calls are resolved against: the program's, or this file's declared up front
+    private ClassHierarchy hierarchy;
+    private MethodResolver resolver;
+    // the program, or the current class when streamed, lowered from typed on first use, and the
+    // types of its expressions
+    private Ast ast;
+    private ExpressionTypes types;
+    private ConstantValues constants;
+    private ParserRuleContext typed;
+    // set when classes are walked as the parser reduces them, see StreamingChecker
+    private boolean streamed;
+    private int[] argumentTypes = new int[8];
+    // a pass that is walked on its own drives its private builder itself
+    private final boolean ownsScopes;
+    private String inputFile;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public SemanticError() {
+        this(System.out, System.err);
+    }
+
+    public SemanticError(PrintStream out, PrintStream err) {
+        this(new ScopeBuilder(), true, out, err);
+    }
+
+    /**
+     * Creates a pass that reads scopes from a builder walked alongside it, see {@link ListenerMultiplexer}.
+     */
+    public SemanticError(ScopeBuilder scopes, PrintStream out, PrintStream err) {
+        this(scopes, false, out, err);
+    }
+
+    private SemanticError(ScopeBuilder scopes, boolean ownsScopes, PrintStream out, PrintStream err) {
+        this.scopes = scopes;
+        this.ownsScopes = ownsScopes;
+        this.out = out;
+        this.err = err;
+        this.SemanticError = new HashMap<>();
+    }
+
+    /**
+     * Checks this file as file number {@code file} of {@code program}: calls resolve against the
+     * classes of every file, and class-level errors come from the index instead of this file alone.
+     */
+    public void setProgramIndex(ProgramIndex program, int file) {
+        this.program = program;
+        this.file = file;
+    }
+
+    /**
+     * Reports errors to {@code diagnostics} as those of file number {@code file} instead of
+     * printing them; the owner of the collector writes them. The walk ends with
+     * {@link Diagnostics.LimitReached} once the collector is full.
+     */
+    public void setDiagnostics(Diagnostics diagnostics, int file) {
+        this.diagnostics = diagnostics;
+        this.ownsDiagnostics = false;
+        this.diagnosticsFile = file;
+    }
+
+    static Diagnostics.Diagnostic classRedefinedError(SymbolTable.SymbolInfo classInfo) {
+        return symbolError(Diagnostics.CLASS_REDEFINED, classInfo, "class [" + classInfo.getName() + "] has been defined already.");
+    }
+
+    static Diagnostics.Diagnostic undefinedParentError(SymbolTable.SymbolInfo classInfo) {
+        return symbolError(Diagnostics.UNDEFINED_PARENT, classInfo, "class [" + classInfo.getName() + "] inherits from undefined class [" + NamePool.global().name(classInfo.parentNameId) + "]");
+    }
+
+    static Diagnostics.Diagnostic cyclicClassError(SymbolTable.SymbolInfo classInfo) {
+        return symbolError(Diagnostics.CYCLIC_INHERITANCE, classInfo, "class [" + classInfo.getName() + "] inherits from itself");
+    }
+
+    // an error spanning the name of a declaration
+    private static Diagnostics.Diagnostic symbolError(int code, SymbolTable.SymbolInfo symbol, String message) {
+        return new Diagnostics.Diagnostic(code, symbol.line, symbol.column, symbol.line, symbol.column + symbol.getName().length(), message);
+    }
+
+    // an error spanning ctx, reported at the position of its first token
+    private static Diagnostics.Diagnostic error(int code, ParserRuleContext ctx, String message) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop() != null && ctx.getStop().getTokenIndex() >= start.getTokenIndex() ? ctx.getStop() : start;
+        int endColumn = stop.getCharPositionInLine() + (stop.getText() == null ? 0 : stop.getText().length());
+        return new Diagnostics.Diagnostic(code, start.getLine(), start.getCharPositionInLine(), stop.getLine(), endColumn, message);
+    }
+
+    private void report(Diagnostics.Diagnostic diagnostic) {
+        // a private collector keeps the old output, without file names
+        diagnostics.report(diagnostic.in(diagnosticsFile, ownsDiagnostics ? null : inputFile));
+        diagnostics.check();
+    }
+
+    @Override
+    public void enterProgram(japyParser.ProgramContext ctx) {
+        inputFile = ctx.getStart().getInputStream().getSourceName();
+        if (ownsDiagnostics) {
+            diagnostics = new Diagnostics();
+        }
+        ast = null;
+        types = null;
+        constants = null;
+        typed = ctx;
+        if (program != null) {
+            hierarchy = program.getHierarchy();
+            resolver = new MethodResolver(hierarchy);
+        } else if (ctx.children != null) {
+            // a call may refer to a method declared further down or inherited from a later class
+            ScopeBuilder declarations = new ScopeBuilder();
+            declarations.declare(ctx);
+            hierarchy = declarations.getHierarchy();
+            resolver = new MethodResolver(hierarchy);
+        } else {
+            // the program is streamed and its classes arrive one by one, see enterClassDeclaration
+            streamed = true;
+        }
+    }
+
+    @Override
+    public void exitProgram(japyParser.ProgramContext ctx) {
+        if (!streamed) {
+            checkVariables();
+            checkArrays();
+            checkReturns();
+        }
+        if (program != null) {
+            for (Diagnostics.Diagnostic error : program.getErrors(file)) {
+                report(error);
+            }
+        } else {
+            ClassHierarchy classes = streamed ? scopes.getHierarchy() : hierarchy;
+            for (SymbolTable.SymbolInfo classInfo : classes.getUndefinedParents()) {
+                report(undefinedParentError(classInfo));
+            }
+            for (SymbolTable.SymbolInfo classInfo : classes.getCyclicClasses()) {
+                report(cyclicClassError(classInfo));
+            }
+        }
+        if (ownsDiagnostics) {
+            diagnostics.write("text", err);
+        }
+        out.printf("------------------ program:\"%s\" ------------------%n", inputFile);
+        List<Scope> orderedScopes = new ArrayList<>();
+        scopes.getGlobalScope().collect(orderedScopes);
+
+        for (Scope scope : orderedScopes) {
+            String scopeName = scopeName(scope);
+            if (scopeName.equals("class_global")) {
+                continue;
+            }
+            out.printf("-------------------- %s --------------------%n", scopeName);
+            Map<String, SymbolTable.SymbolInfo> scopeTable = sortedSymbols(scope);
+
+            if (scope.getKind() == Scope.IF || scope.getKind() == Scope.WHILE) {
+                out.println("                    !NO KEY FOUND!");
+                for (Map.Entry<String, SymbolTable.SymbolInfo> entry : scopeTable.entrySet()) {
+                    SymbolTable.SymbolInfo info = entry.getValue();
+                    if (info.kind.equals("variable")) {
+                        out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", entry.getKey(), info.getName(), info.firstAppearance);
+                    }
+                }
+            } else {
+                for (Map.Entry<String, SymbolTable.SymbolInfo> entry : scopeTable.entrySet()) {
+                    if (scope.getKind() == Scope.ELSE) {
+                        SymbolTable.SymbolInfo info = entry.getValue();
+                        out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", entry.getKey(), info.getName(), info.firstAppearance);
+                    } else {
+                        out.printf("key = %s, value = %s%n", entry.getKey(), entry.getValue());
+                    }
+                }
+
+                if (scopeTable.isEmpty()) {
+                    out.println("                    !NO KEY FOUND!");
+                }
+            }
+
+            out.println("------------------------------------------------------");
+        }
+    }
+
+
+    // the printed names follow the old string keys, but are only built for the dump
+    private static String scopeName(Scope scope) {
+        switch (scope.getKind()) {
+            case Scope.GLOBAL:
+                return "global";
+            case Scope.CLASS:
+            case Scope.METHOD:
+                return symbolKey(scope.getOwner());
+            default:
+                return scope.getKindName() + "_" + scope.getStartLine() + "_" + scope.getStopLine();
+        }
+    }
+
+    private static Map<String, SymbolTable.SymbolInfo> sortedSymbols(Scope scope) {
+        Map<String, SymbolTable.SymbolInfo> sorted = new TreeMap<>();
+        for (SymbolTable.SymbolInfo symbol : scope.getSymbols()) {
+            sorted.putIfAbsent(symbolKey(symbol), symbol);
+        }
+        return sorted;
+    }
+
+    private static String symbolKey(SymbolTable.SymbolInfo symbol) {
+        String key;
+        switch (symbol.kind) {
+            case "class":
+                key = "class_" + symbol.getName();
+                break;
+            case "method":
+                key = "method_" + symbol.getName() + symbol.signature;
+                break;
+            case "field":
+                key = "field_" + symbol.getName();
+                break;
+            case "variable":
+                key = "var_" + symbol.getName();
+                break;
+            default:
+                key = symbol.getName();
+        }
+        return symbol.redefined ? key + "_" + symbol.line + "_" + symbol.column : key;
+    }
+
+    @Override
+    public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.enterClassDeclaration(ctx);
+        }
+        SymbolTable.SymbolInfo classInfo = scopes.getLastDefined();
+        if (classInfo.redefined) {
+            report(classRedefinedError(classInfo));
+        }
+        if (streamed) {
+            // later classes are not parsed yet, so calls resolve among this class's own methods
+            ScopeBuilder declarations = new ScopeBuilder();
+            declarations.declare(ctx);
+            hierarchy = declarations.getHierarchy();
+            resolver = new MethodResolver(hierarchy);
+            ast = null;
+            types = null;
+            constants = null;
+            typed = ctx;
+        }
+    }
+
+
+    @Override
+    public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.exitClassDeclaration(ctx);
+        }
+        if (streamed) {
+            checkVariables();
+            checkArrays();
+            checkReturns();
+        }
+    }
+
+    @Override
+    public void enterEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {
+    }
+
+    @Override
+    public void exitEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {
+    }
+
+
+    @Override
+    public void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.enterFieldDeclaration(ctx);
+        }
+        SymbolTable.SymbolInfo fieldInfo = scopes.getLastDefined();
+        if (fieldInfo.redefined) {
+            report(symbolError(Diagnostics.FIELD_REDEFINED, fieldInfo, "field [" + fieldInfo.getName() + "] has been defined already."));
+        }
+    }
+
+    @Override
+    public void exitFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+    }
+
+    @Override
+    public void enterAccess_modifier(japyParser.Access_modifierContext ctx) {
+    }
+
+    @Override
+    public void exitAccess_modifier(japyParser.Access_modifierContext ctx) {
+    }
+
+    @Override
+    public void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.enterMethodDeclaration(ctx);
+        }
+        SymbolTable.SymbolInfo methodInfo = scopes.getLastDefined();
+        if (methodInfo.redefined) {
+            report(error(Diagnostics.METHOD_REDEFINED, ctx, "method [" + methodInfo.getName() + "] has been defined already."));
+        } else {
+            List<String> paramNames = new ArrayList<>();
+            if (ctx.param1 != null) {
+                paramNames.add(ctx.param1.getText());
+            }
+            if (ctx.param2 != null) {
+                paramNames.add(ctx.param2.getText());
+            }
+
+            int formalParamCount = paramNames.size();
+            int actualParamCount = ctx.ID().size() - 1;
+            if (actualParamCount != formalParamCount) {
+                report(error(Diagnostics.PARAMETER_COUNT, ctx, "Number of parameters in method call does not match with formal parameter count in method definition."));
+            }
+        }
+    }
+
+    @Override
+    public void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.exitMethodDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void enterClosedStatement(japyParser.ClosedStatementContext ctx) {
+    }
+
+    @Override
+    public void exitClosedStatement(japyParser.ClosedStatementContext ctx) {
+    }
+
+    @Override
+    public void enterClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        if (ownsScopes) {
+            scopes.enterClosedConditional(ctx);
+        }
+    }
+
+    @Override
+    public void exitClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        if (ownsScopes) {
+            scopes.exitClosedConditional(ctx);
+        }
+    }
+
+    @Override
+    public void enterOpenConditional(japyParser.OpenConditionalContext ctx) {
+    }
+
+    @Override
+    public void exitOpenConditional(japyParser.OpenConditionalContext ctx) {
+    }
+
+    @Override
+    public void enterOpenStatement(japyParser.OpenStatementContext ctx) {
+    }
+
+    @Override
+    public void exitOpenStatement(japyParser.OpenStatementContext ctx) {
+    }
+
+    @Override
+    public void enterStatement(japyParser.StatementContext ctx) {
+    }
+
+    @Override
+    public void exitStatement(japyParser.StatementContext ctx) {
+    }
+
+    @Override
+    public void enterStatementVarDef(japyParser.StatementVarDefContext ctx) {
+        if (ownsScopes) {
+            scopes.enterStatementVarDef(ctx);
+        }
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            ParseTree child = ctx.getChild(i);
+            if (child instanceof japyParser.ExpressionContext && !checkCall(ctx, (japyParser.ExpressionContext) child)) {
+                return;
+            }
+        }
+    }
+
+    // checks a call of a method of the enclosing class, or of a method on a receiver whose class
+    // is evident, against the overloads it may refer to; returns false when an error was reported
+    private boolean checkCall(japyParser.StatementVarDefContext statement, japyParser.ExpressionContext expression) {
+        ParserRuleContext call;
+        ParseTree receiver = null;
+        Token name;
+        int classNameId;
+        if (expression instanceof japyParser.ExpressionPrimaryContext && ((japyParser.ExpressionPrimaryContext) expression).o.i3 != null) {
+            call = ((japyParser.ExpressionPrimaryContext) expression).o;
+            name = ((japyParser.ExpressionPrimaryContext) expression).o.i3;
+            classNameId = enclosingClass().nameId;
+        } else if (expression instanceof japyParser.ExpressionMethodCallContext) {
+            japyParser.ExpressionMethodCallContext methodCall = (japyParser.ExpressionMethodCallContext) expression;
+            call = methodCall;
+            receiver = methodCall.e;
+            name = methodCall.i;
+            classNameId = staticType(methodCall.e);
+            if (!hierarchy.contains(classNameId)) {
+                return true;
+            }
+        } else {
+            return true;
+        }
+
+        int arity = 0;
+        for (int i = 0; i < call.getChildCount(); i++) {
+            ParseTree child = call.getChild(i);
+            if (child instanceof japyParser.ExpressionContext && child != receiver) {
+                if (arity == argumentTypes.length) {
+                    argumentTypes = Arrays.copyOf(argumentTypes, arity * 2);
+                }
+                argumentTypes[arity++] = staticType((japyParser.ExpressionContext) child);
+            }
+        }
+        MethodResolver.Resolution resolution = resolver.resolve(classNameId, NamePool.global().find(name.getText()), argumentTypes, arity);
+
+        switch (resolution.status) {
+            case MethodResolver.WRONG_ARITY:
+                report(error(Diagnostics.ARGUMENT_COUNT, statement, "Incorrect number of arguments for method [" + resolution.method.getName() + "]"));
+                return false;
+            case MethodResolver.MISMATCH:
+                report(error(Diagnostics.ARGUMENT_TYPE, call, "Type mismatch for argument " + (resolution.argument + 1) + " of method [" + resolution.method.getName() + "]"));
+                return false;
+            case MethodResolver.AMBIGUOUS:
+                report(error(Diagnostics.AMBIGUOUS_CALL, call, "Ambiguous call of method [" + resolution.method.getName() + "]"));
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    // type descriptor of an expression, read from the types of the whole program or class, which
+    // are inferred once on first use; MethodSignature.UNKNOWN when the type cannot be told
+    private int staticType(japyParser.ExpressionContext expression) {
+        Token token = AstLowering.expressionToken(expression);
+        if (token == null) {
+            return MethodSignature.UNKNOWN;
+        }
+        return types().type(ast.nodeAtToken(token.getTokenIndex()));
+    }
+
+    private ExpressionTypes types() {
+        if (types == null) {
+            types = ExpressionTypes.infer(ast(), hierarchy, resolver);
+        }
+        return types;
+    }
+
+    private ConstantValues constants() {
+        if (constants == null) {
+            constants = ConstantValues.fold(ast());
+        }
+        return constants;
+    }
+
+    private Ast ast() {
+        if (ast == null) {
+            ast = typed instanceof japyParser.ProgramContext
+                    ? AstLowering.lower((japyParser.ProgramContext) typed, NamePool.global())
+                    : AstLowering.lower((japyParser.ClassDeclarationContext) typed, NamePool.global());
+        }
+        return ast;
+    }
+
+    // reports names in method bodies that refer to nothing, and local variables used where their
+    // var statement may not have run yet
+    private void checkVariables() {
+        Ast ast = ast();
+        ControlFlowGraph.Builder graphs = new ControlFlowGraph.Builder(ast);
+        for (int node = ast.firstChild(ast.root()); node != Ast.NONE; node = ast.nextSibling(node)) {
+            if (ast.kind(node) != Ast.CLASS) {
+                continue;
+            }
+            int classNameId = ast.name(node);
+            // a name may be a field inherited from a class that is not known
+            boolean fieldsKnown = ancestryKnown(classNameId);
+            for (int method = ast.firstChild(node); method != Ast.NONE; method = ast.nextSibling(method)) {
+                if (ast.kind(method) != Ast.METHOD) {
+                    continue;
+                }
+                LocalVariables variables = LocalVariables.bind(ast, method);
+                for (int name : variables.freeNames()) {
+                    if (fieldsKnown && hierarchy.findField(classNameId, ast.name(name)) == null) {
+                        report(nodeError(Diagnostics.UNDEFINED_VARIABLE, name, "variable [" + ast.nameText(name) + "] is not defined"));
+                    }
+                }
+                if (!variables.isOrdered()) {
+                    for (int name : DefiniteAssignment.usesBeforeDefinition(graphs.build(method), variables)) {
+                        report(nodeError(Diagnostics.USE_BEFORE_DEFINITION, name, "variable [" + ast.nameText(name) + "] is used before its definition"));
+                    }
+                }
+            }
+        }
+    }
+
+    // reports array indexes that are not ints, and those that are out of range on every run
+    private void checkArrays() {
+        Ast ast = ast();
+        if (!ArrayBounds.hasAccesses(ast)) {
+            return;
+        }
+        ExpressionTypes types = types();
+        for (int node = 0; node < ast.size(); node++) {
+            if (ast.kind(node) == Ast.INDEX) {
+                int index = ast.child(node, 1);
+                if (index != Ast.NONE && types.type(index) != MethodSignature.UNKNOWN && types.type(index) != MethodSignature.INT) {
+                    report(nodeError(Diagnostics.INDEX_NOT_INTEGER, node, "array index of type [" + types.typeName(index) + "] must be an integer"));
+                }
+            }
+        }
+        for (int node : ArrayBounds.analyze(ast, types).outOfRange()) {
+            // names and literals carry their text
+            String index = ast.nameText(ast.child(node, 1));
+            report(nodeError(Diagnostics.INDEX_OUT_OF_RANGE, node, index == null ? "array index is out of range" : "array index [" + index + "] is out of range"));
+        }
+    }
+
+    // reports returns of a value the method's return type cannot hold, methods that may end
+    // without returning a value, and statements that never run
+    private void checkReturns() {
+        Ast ast = ast();
+        ControlFlowGraph.Builder graphs = new ControlFlowGraph.Builder(ast);
+        for (int node = ast.firstChild(ast.root()); node != Ast.NONE; node = ast.nextSibling(node)) {
+            if (ast.kind(node) != Ast.CLASS) {
+                continue;
+            }
+            for (int method = ast.firstChild(node); method != Ast.NONE; method = ast.nextSibling(method)) {
+                if (ast.kind(method) != Ast.METHOD) {
+                    continue;
+                }
+                ControlFlowGraph cfg = graphs.build(method);
+                int returnType = Ast.NONE;
+                for (int i = 0; i < cfg.statementCount(); i++) {
+                    int statement = cfg.statement(i);
+                    if (ast.kind(statement) != Ast.RETURN || ast.firstChild(statement) == Ast.NONE) {
+                        continue;
+                    }
+                    if (returnType == Ast.NONE) {
+                        returnType = ast.childOfKind(method, Ast.TYPE);
+                    }
+                    int type = types().type(ast.firstChild(statement));
+                    if (returnType != Ast.NONE && !returnable(type, returnType)) {
+                        report(nodeError(Diagnostics.RETURN_TYPE, statement, "ReturnType of this method must be [" + typeText(returnType) + "]"));
+                    }
+                }
+                Reachability reachability = Reachability.analyze(cfg, constants());
+                if (!reachability.returnsOnEveryPath()) {
+                    report(nodeError(Diagnostics.MISSING_RETURN, method, "method [" + ast.nameText(method) + "] does not return a value on every path"));
+                }
+                for (int statement : reachability.deadStatements()) {
+                    report(nodeError(Diagnostics.UNREACHABLE_CODE, statement, "statement is unreachable"));
+                }
+            }
+        }
+    }
+
+    // whether a value of type may be returned from a method declared to return typeNode; unknown
+    // types pass, like arguments do
+    private boolean returnable(int type, int typeNode) {
+        int declared = MethodSignature.descriptor(typeText(typeNode));
+        return type == MethodSignature.UNKNOWN || type == declared || hierarchy.isSubtypeOf(type, declared);
+    }
+
+    private String typeText(int typeNode) {
+        String text = ast.nameText(typeNode);
+        return ast.hasFlag(typeNode, Ast.ARRAY) ? text + "[]" : text;
+    }
+
+    // whether the class and every class it inherits from are defined
+    private boolean ancestryKnown(int classNameId) {
+        SymbolTable.SymbolInfo classInfo = hierarchy.getClass(classNameId);
+        for (int depth = 0; classInfo != null && depth <= hierarchy.size(); depth++) {
+            if (classInfo.parentNameId < 0) {
+                return true;
+            }
+            classInfo = hierarchy.getParent(classInfo.nameId);
+        }
+        return false;
+    }
+
+    private Diagnostics.Diagnostic nodeError(int code, int node, String message) {
+        String text = ast.nameText(node);
+        int length = text == null ? 0 : text.length();
+        return new Diagnostics.Diagnostic(code, ast.line(node), ast.column(node), ast.line(node), ast.column(node) + length, message);
+    }
+
+    private SymbolTable.SymbolInfo enclosingClass() {
+        Scope scope = scopes.getCurrentScope();
+        while (scope.getKind() != Scope.CLASS) {
+            scope = scope.getParent();
+        }
+        return scope.getOwner();
+    }
+
+    @Override
+    public void exitStatementVarDef(japyParser.StatementVarDefContext ctx) {
+    }
+
+    @Override
+    public void enterStatementBlock(japyParser.StatementBlockContext ctx) {
+    }
+
+    @Override
+    public void exitStatementBlock(japyParser.StatementBlockContext ctx) {
+    }
+
+    @Override
+    public void enterStatementContinue(japyParser.StatementContinueContext ctx) {
+    }
+
+    @Override
+    public void exitStatementContinue(japyParser.StatementContinueContext ctx) {
+    }
+
+    @Override
+    public void enterStatementBreak(japyParser.StatementBreakContext ctx) {
+    }
+
+    @Override
+    public void exitStatementBreak(japyParser.StatementBreakContext ctx) {
+    }
+
+    @Override
+    public void enterStatementReturn(japyParser.StatementReturnContext ctx) {
+    }
+
+    @Override
+    public void exitStatementReturn(japyParser.StatementReturnContext ctx) {
+    }
+
+
+    @Override
+    public void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        if (ownsScopes) {
+            scopes.enterStatementClosedLoop(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        if (ownsScopes) {
+            scopes.exitStatementClosedLoop(ctx);
+        }
+    }
+
+
+    @Override
+    public void enterStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {
+    }
+
+    @Override
+    public void exitStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {
+    }
+
+    @Override
+    public void enterStatementWrite(japyParser.StatementWriteContext ctx) {
+
+    }
+
+    @Override
+    public void exitStatementWrite(japyParser.StatementWriteContext ctx) {
+
+    }
+
+    @Override
+    public void enterStatementAssignment(japyParser.StatementAssignmentContext ctx) {
+    }
+
+    @Override
+    public void exitStatementAssignment(japyParser.StatementAssignmentContext ctx) {
+    }
+
+    @Override
+    public void enterStatementInc(japyParser.StatementIncContext ctx) {
+
+    }
+
+    @Override
+    public void exitStatementInc(japyParser.StatementIncContext ctx) {
+
+    }
+
+    @Override
+    public void enterStatementDec(japyParser.StatementDecContext ctx) {
+
+    }
+
+    @Override
+    public void exitStatementDec(japyParser.StatementDecContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionIndex(japyParser.ExpressionIndexContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionIndex(japyParser.ExpressionIndexContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionAdd(japyParser.ExpressionAddContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionAdd(japyParser.ExpressionAddContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionOther(japyParser.ExpressionOtherContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionOther(japyParser.ExpressionOtherContext ctx) {
+
+    }
+
+    @Override
+    public void enterJapyType(japyParser.JapyTypeContext ctx) {
+    }
+
+    @Override
+    public void exitJapyType(japyParser.JapyTypeContext ctx) {
+    }
+
+    @Override
+    public void enterSingleType(japyParser.SingleTypeContext ctx) {
+
+    }
+
+    @Override
+    public void exitSingleType(japyParser.SingleTypeContext ctx) {
+
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+    }
+
+private static class SymbolInfo {
+    String kind;
+    String name;
+    String type;
+    String accessModifier;
+    String inherits;
+    List<SymbolTable.ParameterInfo> parameters;
+    int firstAppearance;
+
+    SymbolInfo(String kind, String name) {
+        this.kind = kind;
+        this.name = name;
+    }
+
+    SymbolInfo(String kind, String name, String type) {
+        this(kind, name);
+        this.type = type;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{kind='").append(kind).append('\'');
+        sb.append(", name='").append(name).append('\'');
+        if (type != null) {
+            sb.append(", type='").append(type).append('\'');
+        }
+        if (accessModifier != null) {
+            sb.append(", accessModifier='").append(accessModifier).append('\'');
+        }
+        if (inherits != null) {
+            sb.append(", inherits='").append(inherits).append('\'');
+        }
+        if (parameters != null && !parameters.isEmpty()) {
+            sb.append(", parameters=").append(parameters);
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+}
+
+private static class ParameterInfo {
+    int index;
+    String name;
+    String type;
+
+    ParameterInfo(int index, String name, String type) {
+        this.index = index;
+        this.name = name;
+        this.type = type;
+    }
+
+    @Override
+    public String toString() {
+        return "{index=" + index + ", name='" + name + '\'' + ", type='" + type + '\'' + '}';
+    }
+}
+}
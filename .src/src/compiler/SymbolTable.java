@@ -0,0 +1,507 @@
+package compiler;
+
+import gen.japyListener;
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.io.PrintStream;
+import java.util.List;
+
+public class SymbolTable implements japyListener {
+    private final ScopeBuilder scopes;
+    // a pass that is walked on its own drives its private builder itself
+    private final boolean ownsScopes;
+    private final SymbolDump dump;
+    private String inputFile;
+
+    public SymbolTable() {
+        this(System.out);
+    }
+
+    public SymbolTable(PrintStream out) {
+        this(SymbolDump.create("text", out));
+    }
+
+    /**
+     * Creates a pass that writes its table through {@code dump}, in the dump's format.
+     */
+    public SymbolTable(SymbolDump dump) {
+        this(new ScopeBuilder(), true, dump);
+    }
+
+    /**
+     * Creates a pass that reads scopes from a builder walked alongside it, see {@link ListenerMultiplexer}.
+     */
+    public SymbolTable(ScopeBuilder scopes, PrintStream out) {
+        this(scopes, SymbolDump.create("text", out));
+    }
+
+    public SymbolTable(ScopeBuilder scopes, SymbolDump dump) {
+        this(scopes, false, dump);
+    }
+
+    private SymbolTable(ScopeBuilder scopes, boolean ownsScopes, SymbolDump dump) {
+        this.scopes = scopes;
+        this.ownsScopes = ownsScopes;
+        this.dump = dump;
+    }
+
+    @Override
+    public void enterProgram(japyParser.ProgramContext ctx) {
+        inputFile = ctx.getStart().getInputStream().getSourceName();
+    }
+
+    @Override
+    public void exitProgram(japyParser.ProgramContext ctx) {
+        dump.write(inputFile, scopes.getGlobalScope());
+    }
+
+    @Override
+    public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.enterClassDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.exitClassDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void enterEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {
+    }
+
+    @Override
+    public void exitEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {
+    }
+
+    @Override
+    public void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.enterFieldDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void exitFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+    }
+
+    @Override
+    public void enterAccess_modifier(japyParser.Access_modifierContext ctx) {
+    }
+
+    @Override
+    public void exitAccess_modifier(japyParser.Access_modifierContext ctx) {
+    }
+
+    @Override
+    public void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.enterMethodDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.exitMethodDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void enterClosedStatement(japyParser.ClosedStatementContext ctx) {
+    }
+
+    @Override
+    public void exitClosedStatement(japyParser.ClosedStatementContext ctx) {
+    }
+
+    @Override
+    public void enterClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        if (ownsScopes) {
+            scopes.enterClosedConditional(ctx);
+        }
+    }
+
+    @Override
+    public void exitClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        if (ownsScopes) {
+            scopes.exitClosedConditional(ctx);
+        }
+    }
+
+
+
+    @Override
+    public void enterOpenConditional(japyParser.OpenConditionalContext ctx) {
+    }
+
+    @Override
+    public void exitOpenConditional(japyParser.OpenConditionalContext ctx) {
+    }
+
+    @Override
+    public void enterOpenStatement(japyParser.OpenStatementContext ctx) {
+    }
+
+    @Override
+    public void exitOpenStatement(japyParser.OpenStatementContext ctx) {
+    }
+
+    @Override
+    public void enterStatement(japyParser.StatementContext ctx) {
+    }
+
+    @Override
+    public void exitStatement(japyParser.StatementContext ctx) {
+    }
+
+    @Override
+    public void enterStatementVarDef(japyParser.StatementVarDefContext ctx) {
+        if (ownsScopes) {
+            scopes.enterStatementVarDef(ctx);
+        }
+    }
+
+
+    @Override
+    public void exitStatementVarDef(japyParser.StatementVarDefContext ctx) {
+    }
+
+    @Override
+    public void enterStatementBlock(japyParser.StatementBlockContext ctx) {
+    }
+
+    @Override
+    public void exitStatementBlock(japyParser.StatementBlockContext ctx) {
+    }
+
+    @Override
+    public void enterStatementContinue(japyParser.StatementContinueContext ctx) {
+    }
+
+    @Override
+    public void exitStatementContinue(japyParser.StatementContinueContext ctx) {
+    }
+
+    @Override
+    public void enterStatementBreak(japyParser.StatementBreakContext ctx) {
+    }
+
+    @Override
+    public void exitStatementBreak(japyParser.StatementBreakContext ctx) {
+    }
+
+    @Override
+    public void enterStatementReturn(japyParser.StatementReturnContext ctx) {
+    }
+
+    @Override
+    public void exitStatementReturn(japyParser.StatementReturnContext ctx) {
+    }
+
+
+    @Override
+    public void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        if (ownsScopes) {
+            scopes.enterStatementClosedLoop(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        if (ownsScopes) {
+            scopes.exitStatementClosedLoop(ctx);
+        }
+    }
+
+
+    @Override
+    public void enterStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {
+    }
+
+    @Override
+    public void exitStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {
+    }
+
+    @Override
+    public void enterStatementWrite(japyParser.StatementWriteContext ctx) {
+
+    }
+
+    @Override
+    public void exitStatementWrite(japyParser.StatementWriteContext ctx) {
+
+    }
+
+    @Override
+    public void enterStatementAssignment(japyParser.StatementAssignmentContext ctx) {
+
+    }
+
+    @Override
+    public void exitStatementAssignment(japyParser.StatementAssignmentContext ctx) {
+
+    }
+
+    @Override
+    public void enterStatementInc(japyParser.StatementIncContext ctx) {
+
+    }
+
+    @Override
+    public void exitStatementInc(japyParser.StatementIncContext ctx) {
+
+    }
+
+    @Override
+    public void enterStatementDec(japyParser.StatementDecContext ctx) {
+
+    }
+
+    @Override
+    public void exitStatementDec(japyParser.StatementDecContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionIndex(japyParser.ExpressionIndexContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionIndex(japyParser.ExpressionIndexContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionAdd(japyParser.ExpressionAddContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionAdd(japyParser.ExpressionAddContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {
+
+    }
+
+    @Override
+    public void enterExpressionOther(japyParser.ExpressionOtherContext ctx) {
+
+    }
+
+    @Override
+    public void exitExpressionOther(japyParser.ExpressionOtherContext ctx) {
+
+    }
+
+    @Override
+    public void enterJapyType(japyParser.JapyTypeContext ctx) {
+    }
+
+    @Override
+    public void exitJapyType(japyParser.JapyTypeContext ctx) {
+    }
+
+    @Override
+    public void enterSingleType(japyParser.SingleTypeContext ctx) {
+
+    }
+
+    @Override
+    public void exitSingleType(japyParser.SingleTypeContext ctx) {
+
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+    }
+
+    static class SymbolInfo {
+        String kind;
+        // NamePool.global() id of the symbol's name
+        final int nameId;
+        String type;
+        String accessModifier;
+        String inherits;
+        // NamePool.global() id of the parent class, -1 for classes without one
+        int parentNameId = -1;
+        List<ParameterInfo> parameters;
+        // set for methods: arity and parameter type descriptors
+        MethodSignature signature;
+        int firstAppearance;
+        // scope declared by a class or method symbol
+        Scope scope;
+        // next symbol with the same name in the same scope
+        SymbolInfo next;
+        // set when the symbol redefines an existing one
+        boolean redefined;
+        // where a class, field or method is declared
+        int line;
+        int column;
+
+        SymbolInfo(String kind, String name) {
+            this.kind = kind;
+            this.nameId = NamePool.global().intern(name);
+        }
+
+        SymbolInfo(String kind, String name, String type) {
+            this(kind, name);
+            this.type = type;
+        }
+
+        String getName() {
+            return NamePool.global().name(nameId);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("{kind='").append(kind).append('\'');
+            sb.append(", name='").append(getName()).append('\'');
+            if (type != null) {
+                sb.append(", type='").append(type).append('\'');
+            }
+            if (accessModifier != null) {
+                sb.append(", accessModifier='").append(accessModifier).append('\'');
+            }
+            if (inherits != null) {
+                sb.append(", inherits='").append(inherits).append('\'');
+            }
+            if (parameters != null && !parameters.isEmpty()) {
+                sb.append(", parameters=").append(parameters);
+            }
+            sb.append('}');
+            return sb.toString();
+        }
+    }
+
+
+
+    static class ParameterInfo {
+        int index;
+        final int nameId;
+        String type;
+
+        ParameterInfo(int index, String name, String type) {
+            this.index = index;
+            this.nameId = NamePool.global().intern(name);
+            this.type = type;
+        }
+
+        String getName() {
+            return NamePool.global().name(nameId);
+        }
+
+        @Override
+        public String toString() {
+            return "{index=" + index + ", name='" + getName() + '\'' + ", type='" + type + '\'' + '}';
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package compiler;
+
+import gen.japyParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses a program with the cheap SLL prediction mode first and only falls back to
+ * full LL when SLL gives up. Error listeners are silenced during the SLL attempt, so
+ * syntax errors are reported exactly once, by the LL pass that produces the final tree.
+ * Safe to share between threads; each call works on the parser it is given.
+ */
+public class TwoStageParser {
+    private final boolean twoStage;
+    private final AtomicInteger parses = new AtomicInteger();
+    private final AtomicInteger fallbacks = new AtomicInteger();
+
+    public TwoStageParser(boolean twoStage) {
+        this.twoStage = twoStage;
+    }
+
+    public japyParser.ProgramContext parseProgram(japyParser parser) {
+        parses.incrementAndGet();
+        if (!twoStage) {
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parser.program();
+        }
+
+        List<? extends ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return parser.program();
+        } catch (ParseCancellationException e) {
+            fallbacks.incrementAndGet();
+            for (ANTLRErrorListener listener : listeners) {
+                parser.addErrorListener(listener);
+            }
+            parser.setErrorHandler(errorHandler);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.reset();
+            return parser.program();
+        } finally {
+            parser.removeErrorListeners();
+            for (ANTLRErrorListener listener : listeners) {
+                parser.addErrorListener(listener);
+            }
+            parser.setErrorHandler(errorHandler);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        }
+    }
+
+    public boolean isTwoStage() {
+        return twoStage;
+    }
+
+    public int getParses() {
+        return parses.get();
+    }
+
+    public int getFallbacks() {
+        return fallbacks.get();
+    }
+}
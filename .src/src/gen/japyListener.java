@@ -0,0 +1,391 @@
+package gen;// Generated from C:/Users/rezap/Desktop/University/Compiler Design/Project/Jython/grammar/japy.g4 by ANTLR 4.13.1
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link japyParser}.
+ */
+public interface japyListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link japyParser#program}.
+	 * @param ctx the parse tree
+	 */
+	void enterProgram(japyParser.ProgramContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#program}.
+	 * @param ctx the parse tree
+	 */
+	void exitProgram(japyParser.ProgramContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#classDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterClassDeclaration(japyParser.ClassDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#classDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitClassDeclaration(japyParser.ClassDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#entryClassDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#entryClassDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#fieldDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#fieldDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitFieldDeclaration(japyParser.FieldDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#access_modifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterAccess_modifier(japyParser.Access_modifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#access_modifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitAccess_modifier(japyParser.Access_modifierContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#methodDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#methodDeclaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#closedStatement}.
+	 * @param ctx the parse tree
+	 */
+	void enterClosedStatement(japyParser.ClosedStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#closedStatement}.
+	 * @param ctx the parse tree
+	 */
+	void exitClosedStatement(japyParser.ClosedStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#closedConditional}.
+	 * @param ctx the parse tree
+	 */
+	void enterClosedConditional(japyParser.ClosedConditionalContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#closedConditional}.
+	 * @param ctx the parse tree
+	 */
+	void exitClosedConditional(japyParser.ClosedConditionalContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#openConditional}.
+	 * @param ctx the parse tree
+	 */
+	void enterOpenConditional(japyParser.OpenConditionalContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#openConditional}.
+	 * @param ctx the parse tree
+	 */
+	void exitOpenConditional(japyParser.OpenConditionalContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#openStatement}.
+	 * @param ctx the parse tree
+	 */
+	void enterOpenStatement(japyParser.OpenStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#openStatement}.
+	 * @param ctx the parse tree
+	 */
+	void exitOpenStatement(japyParser.OpenStatementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatement(japyParser.StatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatement(japyParser.StatementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementVarDef}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementVarDef(japyParser.StatementVarDefContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementVarDef}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementVarDef(japyParser.StatementVarDefContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementBlock}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementBlock(japyParser.StatementBlockContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementBlock}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementBlock(japyParser.StatementBlockContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementContinue}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementContinue(japyParser.StatementContinueContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementContinue}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementContinue(japyParser.StatementContinueContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementBreak}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementBreak(japyParser.StatementBreakContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementBreak}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementBreak(japyParser.StatementBreakContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementReturn}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementReturn(japyParser.StatementReturnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementReturn}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementReturn(japyParser.StatementReturnContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementClosedLoop}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementClosedLoop}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementOpenLoop}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementOpenLoop(japyParser.StatementOpenLoopContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementOpenLoop}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementOpenLoop(japyParser.StatementOpenLoopContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementWrite}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementWrite(japyParser.StatementWriteContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementWrite}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementWrite(japyParser.StatementWriteContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementAssignment}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementAssignment(japyParser.StatementAssignmentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementAssignment}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementAssignment(japyParser.StatementAssignmentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementInc}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementInc(japyParser.StatementIncContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementInc}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementInc(japyParser.StatementIncContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#statementDec}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatementDec(japyParser.StatementDecContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#statementDec}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatementDec(japyParser.StatementDecContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionAdd(japyParser.ExpressionAddContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionAdd(japyParser.ExpressionAddContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionIndex}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionIndex(japyParser.ExpressionIndexContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionIndex}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionIndex(japyParser.ExpressionIndexContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionEq(japyParser.ExpressionEqContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionEq(japyParser.ExpressionEqContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionAnd(japyParser.ExpressionAndContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionAnd(japyParser.ExpressionAndContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionCmp(japyParser.ExpressionCmpContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionCmp(japyParser.ExpressionCmpContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionOr(japyParser.ExpressionOrContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionOr(japyParser.ExpressionOrContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link japyParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#expressionOther}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpressionOther(japyParser.ExpressionOtherContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#expressionOther}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpressionOther(japyParser.ExpressionOtherContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#japyType}.
+	 * @param ctx the parse tree
+	 */
+	void enterJapyType(japyParser.JapyTypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#japyType}.
+	 * @param ctx the parse tree
+	 */
+	void exitJapyType(japyParser.JapyTypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link japyParser#singleType}.
+	 * @param ctx the parse tree
+	 */
+	void enterSingleType(japyParser.SingleTypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link japyParser#singleType}.
+	 * @param ctx the parse tree
+	 */
+	void exitSingleType(japyParser.SingleTypeContext ctx);
+}
\ No newline at end of file
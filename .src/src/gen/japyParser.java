@@ -0,0 +1,3075 @@
+package gen;// Generated from C:/Users/rezap/Desktop/University/Compiler Design/Project/Jython/grammar/japy.g4 by ANTLR 4.13.1
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue"})
+public class japyParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
+		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
+		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
+		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
+		T__45=46, T__46=47, T__47=48, T__48=49, CONST_NUM=50, CONST_STR=51, NL=52, 
+		ID=53, COMMENT=54, MULTILINE_COMMENT=55, WS=56;
+	public static final int
+		RULE_program = 0, RULE_classDeclaration = 1, RULE_entryClassDeclaration = 2, 
+		RULE_fieldDeclaration = 3, RULE_access_modifier = 4, RULE_methodDeclaration = 5, 
+		RULE_closedStatement = 6, RULE_closedConditional = 7, RULE_openConditional = 8, 
+		RULE_openStatement = 9, RULE_statement = 10, RULE_statementVarDef = 11, 
+		RULE_statementBlock = 12, RULE_statementContinue = 13, RULE_statementBreak = 14, 
+		RULE_statementReturn = 15, RULE_statementClosedLoop = 16, RULE_statementOpenLoop = 17, 
+		RULE_statementWrite = 18, RULE_statementAssignment = 19, RULE_statementInc = 20, 
+		RULE_statementDec = 21, RULE_expression = 22, RULE_expressionOther = 23, 
+		RULE_japyType = 24, RULE_singleType = 25;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"program", "classDeclaration", "entryClassDeclaration", "fieldDeclaration", 
+			"access_modifier", "methodDeclaration", "closedStatement", "closedConditional", 
+			"openConditional", "openStatement", "statement", "statementVarDef", "statementBlock", 
+			"statementContinue", "statementBreak", "statementReturn", "statementClosedLoop", 
+			"statementOpenLoop", "statementWrite", "statementAssignment", "statementInc", 
+			"statementDec", "expression", "expressionOther", "japyType", "singleType"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'class'", "'inherits'", "'begin'", "'end'", "'MAIN'", "'field'", 
+			"','", "'public'", "'private'", "'protected'", "'func'", "'('", "':'", 
+			"')'", "'returns'", "'if'", "'elif'", "'else'", "'var'", "'='", "'continue'", 
+			"'break'", "'return'", "'while'", "'sout'", "'++'", "'--'", "'.'", "'['", 
+			"']'", "'!'", "'-'", "'*'", "'/'", "'%'", "'+'", "'<'", "'>'", "'=='", 
+			"'<>'", "'&&'", "'||'", "'new'", "'this'", "'true'", "'false'", "'double'", 
+			"'bool'", "'string'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, "CONST_NUM", "CONST_STR", "NL", "ID", "COMMENT", "MULTILINE_COMMENT", 
+			"WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "japy.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public japyParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ProgramContext extends ParserRuleContext {
+		public ClassDeclarationContext c1;
+		public EntryClassDeclarationContext mainclass;
+		public ClassDeclarationContext c3;
+		public TerminalNode EOF() { return getToken(japyParser.EOF, 0); }
+		public EntryClassDeclarationContext entryClassDeclaration() {
+			return getRuleContext(EntryClassDeclarationContext.class,0);
+		}
+		public List<ClassDeclarationContext> classDeclaration() {
+			return getRuleContexts(ClassDeclarationContext.class);
+		}
+		public ClassDeclarationContext classDeclaration(int i) {
+			return getRuleContext(ClassDeclarationContext.class,i);
+		}
+		public ProgramContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_program; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterProgram(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitProgram(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitProgram(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProgramContext program() throws RecognitionException {
+		ProgramContext _localctx = new ProgramContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_program);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(55);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1794L) != 0)) {
+				{
+				{
+				setState(52);
+				((ProgramContext)_localctx).c1 = classDeclaration();
+				}
+				}
+				setState(57);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(58);
+			((ProgramContext)_localctx).mainclass = entryClassDeclaration();
+			setState(62);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1794L) != 0)) {
+				{
+				{
+				setState(59);
+				((ProgramContext)_localctx).c3 = classDeclaration();
+				}
+				}
+				setState(64);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(65);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ClassDeclarationContext extends ParserRuleContext {
+		public Token className;
+		public Token classParent;
+		public List<TerminalNode> ID() { return getTokens(japyParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyParser.ID, i);
+		}
+		public Access_modifierContext access_modifier() {
+			return getRuleContext(Access_modifierContext.class,0);
+		}
+		public List<FieldDeclarationContext> fieldDeclaration() {
+			return getRuleContexts(FieldDeclarationContext.class);
+		}
+		public FieldDeclarationContext fieldDeclaration(int i) {
+			return getRuleContext(FieldDeclarationContext.class,i);
+		}
+		public List<MethodDeclarationContext> methodDeclaration() {
+			return getRuleContexts(MethodDeclarationContext.class);
+		}
+		public MethodDeclarationContext methodDeclaration(int i) {
+			return getRuleContext(MethodDeclarationContext.class,i);
+		}
+		public ClassDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterClassDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitClassDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitClassDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
+		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_classDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(68);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
+				{
+				setState(67);
+				access_modifier();
+				}
+			}
+
+			setState(70);
+			match(T__0);
+			setState(71);
+			((ClassDeclarationContext)_localctx).className = match(ID);
+			setState(74);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__1) {
+				{
+				setState(72);
+				match(T__1);
+				setState(73);
+				((ClassDeclarationContext)_localctx).classParent = match(ID);
+				}
+			}
+
+			setState(76);
+			match(T__2);
+			setState(81);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 3904L) != 0)) {
+				{
+				setState(79);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+				case 1:
+					{
+					setState(77);
+					fieldDeclaration();
+					}
+					break;
+				case 2:
+					{
+					setState(78);
+					methodDeclaration();
+					}
+					break;
+				}
+				}
+				setState(83);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(84);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class EntryClassDeclarationContext extends ParserRuleContext {
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EntryClassDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_entryClassDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterEntryClassDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitEntryClassDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitEntryClassDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EntryClassDeclarationContext entryClassDeclaration() throws RecognitionException {
+		EntryClassDeclarationContext _localctx = new EntryClassDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_entryClassDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(86);
+			match(T__4);
+			}
+			setState(87);
+			classDeclaration();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FieldDeclarationContext extends ParserRuleContext {
+		public JapyTypeContext fieldType;
+		public Token fieldName;
+		public Token ii;
+		public JapyTypeContext japyType() {
+			return getRuleContext(JapyTypeContext.class,0);
+		}
+		public List<TerminalNode> ID() { return getTokens(japyParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyParser.ID, i);
+		}
+		public Access_modifierContext access_modifier() {
+			return getRuleContext(Access_modifierContext.class,0);
+		}
+		public FieldDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterFieldDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitFieldDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitFieldDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldDeclarationContext fieldDeclaration() throws RecognitionException {
+		FieldDeclarationContext _localctx = new FieldDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_fieldDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(90);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
+				{
+				setState(89);
+				access_modifier();
+				}
+			}
+
+			setState(92);
+			match(T__5);
+			setState(93);
+			((FieldDeclarationContext)_localctx).fieldType = japyType();
+			setState(94);
+			((FieldDeclarationContext)_localctx).fieldName = match(ID);
+			setState(99);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__6) {
+				{
+				{
+				setState(95);
+				match(T__6);
+				setState(96);
+				((FieldDeclarationContext)_localctx).ii = match(ID);
+				}
+				}
+				setState(101);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Access_modifierContext extends ParserRuleContext {
+		public Access_modifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_access_modifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterAccess_modifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitAccess_modifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitAccess_modifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Access_modifierContext access_modifier() throws RecognitionException {
+		Access_modifierContext _localctx = new Access_modifierContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_access_modifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(102);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class MethodDeclarationContext extends ParserRuleContext {
+		public Access_modifierContext methodAccessModifier;
+		public Token methodName;
+		public Token param1;
+		public JapyTypeContext typeP1;
+		public Token param2;
+		public JapyTypeContext typeP2;
+		public JapyTypeContext t;
+		public StatementContext s;
+		public List<TerminalNode> ID() { return getTokens(japyParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyParser.ID, i);
+		}
+		public List<JapyTypeContext> japyType() {
+			return getRuleContexts(JapyTypeContext.class);
+		}
+		public JapyTypeContext japyType(int i) {
+			return getRuleContext(JapyTypeContext.class,i);
+		}
+		public Access_modifierContext access_modifier() {
+			return getRuleContext(Access_modifierContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public MethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
+		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_methodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(105);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
+				{
+				setState(104);
+				((MethodDeclarationContext)_localctx).methodAccessModifier = access_modifier();
+				}
+			}
+
+			setState(107);
+			match(T__10);
+			setState(108);
+			((MethodDeclarationContext)_localctx).methodName = match(ID);
+			setState(109);
+			match(T__11);
+			setState(122);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ID) {
+				{
+				setState(110);
+				((MethodDeclarationContext)_localctx).param1 = match(ID);
+				setState(111);
+				match(T__12);
+				setState(112);
+				((MethodDeclarationContext)_localctx).typeP1 = japyType();
+				setState(119);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__6) {
+					{
+					{
+					setState(113);
+					match(T__6);
+					setState(114);
+					((MethodDeclarationContext)_localctx).param2 = match(ID);
+					setState(115);
+					match(T__12);
+					setState(116);
+					((MethodDeclarationContext)_localctx).typeP2 = japyType();
+					}
+					}
+					setState(121);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(124);
+			match(T__13);
+			setState(125);
+			match(T__14);
+			setState(126);
+			((MethodDeclarationContext)_localctx).t = japyType();
+			setState(127);
+			match(T__2);
+			setState(131);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846878658568L) != 0)) {
+				{
+				{
+				setState(128);
+				((MethodDeclarationContext)_localctx).s = statement();
+				}
+				}
+				setState(133);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(134);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ClosedStatementContext extends ParserRuleContext {
+		public StatementBlockContext s1;
+		public ClosedConditionalContext conditionalStat;
+		public StatementClosedLoopContext s3;
+		public StatementWriteContext s4;
+		public StatementAssignmentContext s5;
+		public StatementReturnContext s6;
+		public StatementVarDefContext s7;
+		public StatementContinueContext s8;
+		public StatementBreakContext s9;
+		public StatementIncContext incStat;
+		public StatementDecContext decStat;
+		public StatementBlockContext statementBlock() {
+			return getRuleContext(StatementBlockContext.class,0);
+		}
+		public ClosedConditionalContext closedConditional() {
+			return getRuleContext(ClosedConditionalContext.class,0);
+		}
+		public StatementClosedLoopContext statementClosedLoop() {
+			return getRuleContext(StatementClosedLoopContext.class,0);
+		}
+		public StatementWriteContext statementWrite() {
+			return getRuleContext(StatementWriteContext.class,0);
+		}
+		public StatementAssignmentContext statementAssignment() {
+			return getRuleContext(StatementAssignmentContext.class,0);
+		}
+		public StatementReturnContext statementReturn() {
+			return getRuleContext(StatementReturnContext.class,0);
+		}
+		public StatementVarDefContext statementVarDef() {
+			return getRuleContext(StatementVarDefContext.class,0);
+		}
+		public StatementContinueContext statementContinue() {
+			return getRuleContext(StatementContinueContext.class,0);
+		}
+		public StatementBreakContext statementBreak() {
+			return getRuleContext(StatementBreakContext.class,0);
+		}
+		public StatementIncContext statementInc() {
+			return getRuleContext(StatementIncContext.class,0);
+		}
+		public StatementDecContext statementDec() {
+			return getRuleContext(StatementDecContext.class,0);
+		}
+		public ClosedStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_closedStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterClosedStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitClosedStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitClosedStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClosedStatementContext closedStatement() throws RecognitionException {
+		ClosedStatementContext _localctx = new ClosedStatementContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_closedStatement);
+		try {
+			setState(147);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(136);
+				((ClosedStatementContext)_localctx).s1 = statementBlock();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(137);
+				((ClosedStatementContext)_localctx).conditionalStat = closedConditional();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(138);
+				((ClosedStatementContext)_localctx).s3 = statementClosedLoop();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(139);
+				((ClosedStatementContext)_localctx).s4 = statementWrite();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(140);
+				((ClosedStatementContext)_localctx).s5 = statementAssignment();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(141);
+				((ClosedStatementContext)_localctx).s6 = statementReturn();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(142);
+				((ClosedStatementContext)_localctx).s7 = statementVarDef();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(143);
+				((ClosedStatementContext)_localctx).s8 = statementContinue();
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(144);
+				((ClosedStatementContext)_localctx).s9 = statementBreak();
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(145);
+				((ClosedStatementContext)_localctx).incStat = statementInc();
+				}
+				break;
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(146);
+				((ClosedStatementContext)_localctx).decStat = statementDec();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ClosedConditionalContext extends ParserRuleContext {
+		public ExpressionContext ifExp;
+		public ClosedStatementContext ifStat;
+		public ExpressionContext elifExp;
+		public ClosedStatementContext elifStat;
+		public ClosedStatementContext elseStmt;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<ClosedStatementContext> closedStatement() {
+			return getRuleContexts(ClosedStatementContext.class);
+		}
+		public ClosedStatementContext closedStatement(int i) {
+			return getRuleContext(ClosedStatementContext.class,i);
+		}
+		public ClosedConditionalContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_closedConditional; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterClosedConditional(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitClosedConditional(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitClosedConditional(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClosedConditionalContext closedConditional() throws RecognitionException {
+		ClosedConditionalContext _localctx = new ClosedConditionalContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_closedConditional);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(149);
+			match(T__15);
+			setState(150);
+			match(T__11);
+			setState(151);
+			((ClosedConditionalContext)_localctx).ifExp = expression(0);
+			setState(152);
+			match(T__13);
+			setState(153);
+			((ClosedConditionalContext)_localctx).ifStat = closedStatement();
+			setState(162);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__16) {
+				{
+				{
+				setState(154);
+				match(T__16);
+				setState(155);
+				match(T__11);
+				setState(156);
+				((ClosedConditionalContext)_localctx).elifExp = expression(0);
+				setState(157);
+				match(T__13);
+				setState(158);
+				((ClosedConditionalContext)_localctx).elifStat = closedStatement();
+				}
+				}
+				setState(164);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(165);
+			match(T__17);
+			setState(166);
+			((ClosedConditionalContext)_localctx).elseStmt = closedStatement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class OpenConditionalContext extends ParserRuleContext {
+		public ExpressionContext ifExp;
+		public StatementContext ifStat;
+		public ClosedStatementContext secondIfStat;
+		public ExpressionContext elifExp;
+		public ClosedStatementContext elifStat;
+		public ExpressionContext lastElifExp;
+		public StatementContext lastElifStmt;
+		public ClosedStatementContext thirdIfStat;
+		public OpenStatementContext elseStmt;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public List<ClosedStatementContext> closedStatement() {
+			return getRuleContexts(ClosedStatementContext.class);
+		}
+		public ClosedStatementContext closedStatement(int i) {
+			return getRuleContext(ClosedStatementContext.class,i);
+		}
+		public OpenStatementContext openStatement() {
+			return getRuleContext(OpenStatementContext.class,0);
+		}
+		public OpenConditionalContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_openConditional; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterOpenConditional(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitOpenConditional(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitOpenConditional(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OpenConditionalContext openConditional() throws RecognitionException {
+		OpenConditionalContext _localctx = new OpenConditionalContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_openConditional);
+		int _la;
+		try {
+			int _alt;
+			setState(215);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(168);
+				match(T__15);
+				setState(169);
+				match(T__11);
+				setState(170);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(171);
+				match(T__13);
+				setState(172);
+				((OpenConditionalContext)_localctx).ifStat = statement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				{
+				setState(174);
+				match(T__15);
+				setState(175);
+				match(T__11);
+				setState(176);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(177);
+				match(T__13);
+				setState(178);
+				((OpenConditionalContext)_localctx).secondIfStat = closedStatement();
+				setState(187);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(179);
+						match(T__16);
+						setState(180);
+						match(T__11);
+						setState(181);
+						((OpenConditionalContext)_localctx).elifExp = expression(0);
+						setState(182);
+						match(T__13);
+						setState(183);
+						((OpenConditionalContext)_localctx).elifStat = closedStatement();
+						}
+						} 
+					}
+					setState(189);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+				}
+				setState(190);
+				match(T__16);
+				setState(191);
+				match(T__11);
+				setState(192);
+				((OpenConditionalContext)_localctx).lastElifExp = expression(0);
+				setState(193);
+				match(T__13);
+				setState(194);
+				((OpenConditionalContext)_localctx).lastElifStmt = statement();
+				}
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				{
+				setState(196);
+				match(T__15);
+				setState(197);
+				match(T__11);
+				setState(198);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(199);
+				match(T__13);
+				setState(200);
+				((OpenConditionalContext)_localctx).thirdIfStat = closedStatement();
+				setState(209);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__16) {
+					{
+					{
+					setState(201);
+					match(T__16);
+					setState(202);
+					match(T__11);
+					setState(203);
+					((OpenConditionalContext)_localctx).elifExp = expression(0);
+					setState(204);
+					match(T__13);
+					setState(205);
+					((OpenConditionalContext)_localctx).elifStat = closedStatement();
+					}
+					}
+					setState(211);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(212);
+				match(T__17);
+				setState(213);
+				((OpenConditionalContext)_localctx).elseStmt = openStatement();
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class OpenStatementContext extends ParserRuleContext {
+		public StatementOpenLoopContext s1;
+		public OpenConditionalContext conditionalStat;
+		public StatementOpenLoopContext statementOpenLoop() {
+			return getRuleContext(StatementOpenLoopContext.class,0);
+		}
+		public OpenConditionalContext openConditional() {
+			return getRuleContext(OpenConditionalContext.class,0);
+		}
+		public OpenStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_openStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterOpenStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitOpenStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitOpenStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OpenStatementContext openStatement() throws RecognitionException {
+		OpenStatementContext _localctx = new OpenStatementContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_openStatement);
+		try {
+			setState(219);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__23:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(217);
+				((OpenStatementContext)_localctx).s1 = statementOpenLoop();
+				}
+				break;
+			case T__15:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(218);
+				((OpenStatementContext)_localctx).conditionalStat = openConditional();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementContext extends ParserRuleContext {
+		public ClosedStatementContext s1;
+		public OpenStatementContext s2;
+		public ClosedStatementContext closedStatement() {
+			return getRuleContext(ClosedStatementContext.class,0);
+		}
+		public OpenStatementContext openStatement() {
+			return getRuleContext(OpenStatementContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_statement);
+		try {
+			setState(223);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(221);
+				((StatementContext)_localctx).s1 = closedStatement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(222);
+				((StatementContext)_localctx).s2 = openStatement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementVarDefContext extends ParserRuleContext {
+		public Token i1;
+		public ExpressionContext e1;
+		public Token i2;
+		public ExpressionContext e2;
+		public List<TerminalNode> ID() { return getTokens(japyParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyParser.ID, i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public StatementVarDefContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementVarDef; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementVarDef(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementVarDef(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementVarDef(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementVarDefContext statementVarDef() throws RecognitionException {
+		StatementVarDefContext _localctx = new StatementVarDefContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_statementVarDef);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(225);
+			match(T__18);
+			setState(226);
+			((StatementVarDefContext)_localctx).i1 = match(ID);
+			setState(227);
+			match(T__19);
+			setState(228);
+			((StatementVarDefContext)_localctx).e1 = expression(0);
+			setState(235);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__6) {
+				{
+				{
+				setState(229);
+				match(T__6);
+				setState(230);
+				((StatementVarDefContext)_localctx).i2 = match(ID);
+				setState(231);
+				match(T__19);
+				setState(232);
+				((StatementVarDefContext)_localctx).e2 = expression(0);
+				}
+				}
+				setState(237);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementBlockContext extends ParserRuleContext {
+		public StatementContext s;
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public StatementBlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementBlock; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementBlockContext statementBlock() throws RecognitionException {
+		StatementBlockContext _localctx = new StatementBlockContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_statementBlock);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(238);
+			match(T__2);
+			setState(242);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846878658568L) != 0)) {
+				{
+				{
+				setState(239);
+				((StatementBlockContext)_localctx).s = statement();
+				}
+				}
+				setState(244);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(245);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementContinueContext extends ParserRuleContext {
+		public Token myContinue;
+		public StatementContinueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementContinue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementContinue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementContinue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementContinue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementContinueContext statementContinue() throws RecognitionException {
+		StatementContinueContext _localctx = new StatementContinueContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_statementContinue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(247);
+			((StatementContinueContext)_localctx).myContinue = match(T__20);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementBreakContext extends ParserRuleContext {
+		public Token myBreak;
+		public StatementBreakContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementBreak; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementBreak(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementBreak(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementBreak(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementBreakContext statementBreak() throws RecognitionException {
+		StatementBreakContext _localctx = new StatementBreakContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_statementBreak);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(249);
+			((StatementBreakContext)_localctx).myBreak = match(T__21);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementReturnContext extends ParserRuleContext {
+		public Token myReturn;
+		public ExpressionContext e;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementReturnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementReturn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementReturn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementReturn(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementReturn(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementReturnContext statementReturn() throws RecognitionException {
+		StatementReturnContext _localctx = new StatementReturnContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_statementReturn);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(251);
+			((StatementReturnContext)_localctx).myReturn = match(T__22);
+			setState(252);
+			((StatementReturnContext)_localctx).e = expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementClosedLoopContext extends ParserRuleContext {
+		public ExpressionContext e;
+		public ClosedStatementContext s;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ClosedStatementContext closedStatement() {
+			return getRuleContext(ClosedStatementContext.class,0);
+		}
+		public StatementClosedLoopContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementClosedLoop; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementClosedLoop(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementClosedLoop(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementClosedLoop(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementClosedLoopContext statementClosedLoop() throws RecognitionException {
+		StatementClosedLoopContext _localctx = new StatementClosedLoopContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_statementClosedLoop);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(254);
+			match(T__23);
+			setState(255);
+			match(T__11);
+			setState(256);
+			((StatementClosedLoopContext)_localctx).e = expression(0);
+			setState(257);
+			match(T__13);
+			setState(258);
+			((StatementClosedLoopContext)_localctx).s = closedStatement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementOpenLoopContext extends ParserRuleContext {
+		public ExpressionContext e;
+		public OpenStatementContext s;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public OpenStatementContext openStatement() {
+			return getRuleContext(OpenStatementContext.class,0);
+		}
+		public StatementOpenLoopContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementOpenLoop; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementOpenLoop(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementOpenLoop(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementOpenLoop(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementOpenLoopContext statementOpenLoop() throws RecognitionException {
+		StatementOpenLoopContext _localctx = new StatementOpenLoopContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_statementOpenLoop);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(260);
+			match(T__23);
+			setState(261);
+			match(T__11);
+			setState(262);
+			((StatementOpenLoopContext)_localctx).e = expression(0);
+			setState(263);
+			match(T__13);
+			setState(264);
+			((StatementOpenLoopContext)_localctx).s = openStatement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementWriteContext extends ParserRuleContext {
+		public Token printLine;
+		public ExpressionContext e;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementWriteContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementWrite; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementWrite(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementWrite(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementWrite(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementWriteContext statementWrite() throws RecognitionException {
+		StatementWriteContext _localctx = new StatementWriteContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_statementWrite);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(266);
+			((StatementWriteContext)_localctx).printLine = match(T__24);
+			setState(267);
+			match(T__11);
+			setState(268);
+			((StatementWriteContext)_localctx).e = expression(0);
+			setState(269);
+			match(T__13);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementAssignmentContext extends ParserRuleContext {
+		public ExpressionContext left;
+		public Token assignOp;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public StatementAssignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementAssignment; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementAssignment(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementAssignment(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementAssignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementAssignmentContext statementAssignment() throws RecognitionException {
+		StatementAssignmentContext _localctx = new StatementAssignmentContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_statementAssignment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(271);
+			((StatementAssignmentContext)_localctx).left = expression(0);
+			setState(272);
+			((StatementAssignmentContext)_localctx).assignOp = match(T__19);
+			setState(273);
+			((StatementAssignmentContext)_localctx).right = expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementIncContext extends ParserRuleContext {
+		public ExpressionContext lvalExpr;
+		public Token incOp;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementIncContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementInc; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementInc(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementInc(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementInc(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementIncContext statementInc() throws RecognitionException {
+		StatementIncContext _localctx = new StatementIncContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_statementInc);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(275);
+			((StatementIncContext)_localctx).lvalExpr = expression(0);
+			setState(276);
+			((StatementIncContext)_localctx).incOp = match(T__25);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementDecContext extends ParserRuleContext {
+		public ExpressionContext lvalExpr;
+		public Token decOp;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementDecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementDec; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterStatementDec(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitStatementDec(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitStatementDec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementDecContext statementDec() throws RecognitionException {
+		StatementDecContext _localctx = new StatementDecContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_statementDec);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(278);
+			((StatementDecContext)_localctx).lvalExpr = expression(0);
+			setState(279);
+			((StatementDecContext)_localctx).decOp = match(T__26);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionAddContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token addOp;
+		public Token subOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionAddContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionAdd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionAdd(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionAdd(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionIndexContext extends ExpressionContext {
+		public ExpressionContext e;
+		public Token leftBrace;
+		public ExpressionContext e3;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionIndexContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionIndex(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionIndex(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionIndex(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionFieldAccessContext extends ExpressionContext {
+		public ExpressionContext e;
+		public Token dotOp;
+		public Token ii;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(japyParser.ID, 0); }
+		public ExpressionFieldAccessContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionFieldAccess(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionFieldAccess(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionFieldAccess(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionEqContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token eqOp;
+		public Token neqOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionEqContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionEq(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionEq(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionEq(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionUnaryContext extends ExpressionContext {
+		public Token notOp;
+		public Token negOp;
+		public ExpressionContext u;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionUnaryContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionUnary(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionUnary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionUnary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionAndContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token andOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionAndContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionAnd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionAnd(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionAnd(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionMultModContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token mulOp;
+		public Token divOp;
+		public Token modOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionMultModContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMultMod(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMultMod(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMultMod(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionCmpContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token ltOp;
+		public Token gtOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionCmpContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionCmp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionCmp(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionCmp(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionOrContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token orOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionOrContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionOr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionOr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionOr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionPrimaryContext extends ExpressionContext {
+		public ExpressionOtherContext o;
+		public ExpressionOtherContext expressionOther() {
+			return getRuleContext(ExpressionOtherContext.class,0);
+		}
+		public ExpressionPrimaryContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionPrimary(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionPrimary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionPrimary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionMethodCallContext extends ExpressionContext {
+		public ExpressionContext e;
+		public Token dotOp;
+		public Token i;
+		public ExpressionContext e1;
+		public ExpressionContext e2;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode ID() { return getToken(japyParser.ID, 0); }
+		public ExpressionMethodCallContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMethodCall(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMethodCall(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMethodCall(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 44;
+		enterRecursionRule(_localctx, 44, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(288);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__11:
+			case T__42:
+			case T__43:
+			case T__44:
+			case T__45:
+			case CONST_NUM:
+			case CONST_STR:
+			case ID:
+				{
+				_localctx = new ExpressionPrimaryContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(282);
+				((ExpressionPrimaryContext)_localctx).o = expressionOther();
+				}
+				break;
+			case T__30:
+			case T__31:
+				{
+				_localctx = new ExpressionUnaryContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(285);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case T__30:
+					{
+					setState(283);
+					((ExpressionUnaryContext)_localctx).notOp = match(T__30);
+					}
+					break;
+				case T__31:
+					{
+					setState(284);
+					((ExpressionUnaryContext)_localctx).negOp = match(T__31);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(287);
+				((ExpressionUnaryContext)_localctx).u = expression(7);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(346);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(344);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionMultModContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionMultModContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(290);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(294);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__32:
+							{
+							setState(291);
+							((ExpressionMultModContext)_localctx).mulOp = match(T__32);
+							}
+							break;
+						case T__33:
+							{
+							setState(292);
+							((ExpressionMultModContext)_localctx).divOp = match(T__33);
+							}
+							break;
+						case T__34:
+							{
+							setState(293);
+							((ExpressionMultModContext)_localctx).modOp = match(T__34);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(296);
+						((ExpressionMultModContext)_localctx).r = expression(7);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionAddContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionAddContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(297);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(300);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__35:
+							{
+							setState(298);
+							((ExpressionAddContext)_localctx).addOp = match(T__35);
+							}
+							break;
+						case T__31:
+							{
+							setState(299);
+							((ExpressionAddContext)_localctx).subOp = match(T__31);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(302);
+						((ExpressionAddContext)_localctx).r = expression(6);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionCmpContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionCmpContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(303);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(306);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__36:
+							{
+							setState(304);
+							((ExpressionCmpContext)_localctx).ltOp = match(T__36);
+							}
+							break;
+						case T__37:
+							{
+							setState(305);
+							((ExpressionCmpContext)_localctx).gtOp = match(T__37);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(308);
+						((ExpressionCmpContext)_localctx).r = expression(5);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionEqContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionEqContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(309);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(312);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__38:
+							{
+							setState(310);
+							((ExpressionEqContext)_localctx).eqOp = match(T__38);
+							}
+							break;
+						case T__39:
+							{
+							setState(311);
+							((ExpressionEqContext)_localctx).neqOp = match(T__39);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(314);
+						((ExpressionEqContext)_localctx).r = expression(4);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionAndContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionAndContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(315);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(316);
+						((ExpressionAndContext)_localctx).andOp = match(T__40);
+						setState(317);
+						((ExpressionAndContext)_localctx).r = expression(3);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExpressionOrContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionOrContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(318);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(319);
+						((ExpressionOrContext)_localctx).orOp = match(T__41);
+						setState(320);
+						((ExpressionOrContext)_localctx).r = expression(2);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExpressionMethodCallContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionMethodCallContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(321);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(322);
+						((ExpressionMethodCallContext)_localctx).dotOp = match(T__27);
+						setState(323);
+						((ExpressionMethodCallContext)_localctx).i = match(ID);
+						setState(324);
+						match(T__11);
+						setState(333);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846813057024L) != 0)) {
+							{
+							setState(325);
+							((ExpressionMethodCallContext)_localctx).e1 = expression(0);
+							setState(330);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+							while (_la==T__6) {
+								{
+								{
+								setState(326);
+								match(T__6);
+								setState(327);
+								((ExpressionMethodCallContext)_localctx).e2 = expression(0);
+								}
+								}
+								setState(332);
+								_errHandler.sync(this);
+								_la = _input.LA(1);
+							}
+							}
+						}
+
+						setState(335);
+						match(T__13);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExpressionFieldAccessContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionFieldAccessContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(336);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(337);
+						((ExpressionFieldAccessContext)_localctx).dotOp = match(T__27);
+						setState(338);
+						((ExpressionFieldAccessContext)_localctx).ii = match(ID);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ExpressionIndexContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionIndexContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(339);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(340);
+						((ExpressionIndexContext)_localctx).leftBrace = match(T__28);
+						setState(341);
+						((ExpressionIndexContext)_localctx).e3 = expression(0);
+						setState(342);
+						match(T__29);
+						}
+						break;
+					}
+					} 
+				}
+				setState(348);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionOtherContext extends ParserRuleContext {
+		public Token n;
+		public Token s;
+		public Token newModifier;
+		public SingleTypeContext st;
+		public Token leftBrace;
+		public ExpressionContext size;
+		public Token i;
+		public Token selfModifier;
+		public Token trueModifier;
+		public Token falseModifier;
+		public Token i1;
+		public Token i2;
+		public ExpressionContext e;
+		public Token leftPara;
+		public ExpressionContext ee;
+		public Token i3;
+		public ExpressionContext e3;
+		public ExpressionContext e4;
+		public TerminalNode CONST_NUM() { return getToken(japyParser.CONST_NUM, 0); }
+		public TerminalNode CONST_STR() { return getToken(japyParser.CONST_STR, 0); }
+		public SingleTypeContext singleType() {
+			return getRuleContext(SingleTypeContext.class,0);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode ID() { return getToken(japyParser.ID, 0); }
+		public ExpressionOtherContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expressionOther; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionOther(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionOther(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionOther(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionOtherContext expressionOther() throws RecognitionException {
+		ExpressionOtherContext _localctx = new ExpressionOtherContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_expressionOther);
+		int _la;
+		try {
+			setState(387);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(349);
+				((ExpressionOtherContext)_localctx).n = match(CONST_NUM);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(350);
+				((ExpressionOtherContext)_localctx).s = match(CONST_STR);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(351);
+				((ExpressionOtherContext)_localctx).newModifier = match(T__42);
+				setState(352);
+				((ExpressionOtherContext)_localctx).st = singleType();
+				setState(353);
+				((ExpressionOtherContext)_localctx).leftBrace = match(T__28);
+				setState(354);
+				((ExpressionOtherContext)_localctx).size = expression(0);
+				setState(355);
+				match(T__29);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(357);
+				((ExpressionOtherContext)_localctx).newModifier = match(T__42);
+				setState(358);
+				((ExpressionOtherContext)_localctx).i = match(ID);
+				setState(359);
+				match(T__11);
+				setState(360);
+				match(T__13);
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(361);
+				((ExpressionOtherContext)_localctx).selfModifier = match(T__43);
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(362);
+				((ExpressionOtherContext)_localctx).trueModifier = match(T__44);
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(363);
+				((ExpressionOtherContext)_localctx).falseModifier = match(T__45);
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(364);
+				((ExpressionOtherContext)_localctx).i1 = match(ID);
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(365);
+				((ExpressionOtherContext)_localctx).i2 = match(ID);
+				setState(366);
+				((ExpressionOtherContext)_localctx).leftBrace = match(T__28);
+				setState(367);
+				((ExpressionOtherContext)_localctx).e = expression(0);
+				setState(368);
+				match(T__29);
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(370);
+				((ExpressionOtherContext)_localctx).leftPara = match(T__11);
+				setState(371);
+				((ExpressionOtherContext)_localctx).ee = expression(0);
+				setState(372);
+				match(T__13);
+				}
+				break;
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(374);
+				((ExpressionOtherContext)_localctx).i3 = match(ID);
+				setState(375);
+				match(T__11);
+				setState(384);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846813057024L) != 0)) {
+					{
+					setState(376);
+					((ExpressionOtherContext)_localctx).e3 = expression(0);
+					setState(381);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__6) {
+						{
+						{
+						setState(377);
+						match(T__6);
+						setState(378);
+						((ExpressionOtherContext)_localctx).e4 = expression(0);
+						}
+						}
+						setState(383);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(386);
+				match(T__13);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class JapyTypeContext extends ParserRuleContext {
+		public SingleTypeContext st;
+		public SingleTypeContext singleType() {
+			return getRuleContext(SingleTypeContext.class,0);
+		}
+		public JapyTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_japyType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterJapyType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitJapyType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitJapyType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final JapyTypeContext japyType() throws RecognitionException {
+		JapyTypeContext _localctx = new JapyTypeContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_japyType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(389);
+			((JapyTypeContext)_localctx).st = singleType();
+			setState(392);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__28) {
+				{
+				setState(390);
+				match(T__28);
+				setState(391);
+				match(T__29);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class SingleTypeContext extends ParserRuleContext {
+		public Token i;
+		public TerminalNode ID() { return getToken(japyParser.ID, 0); }
+		public SingleTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_singleType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterSingleType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitSingleType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitSingleType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SingleTypeContext singleType() throws RecognitionException {
+		SingleTypeContext _localctx = new SingleTypeContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_singleType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(398);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__46:
+				{
+				setState(394);
+				match(T__46);
+				}
+				break;
+			case T__47:
+				{
+				setState(395);
+				match(T__47);
+				}
+				break;
+			case T__48:
+				{
+				setState(396);
+				match(T__48);
+				}
+				break;
+			case ID:
+				{
+				setState(397);
+				((SingleTypeContext)_localctx).i = match(ID);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 22:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 6);
+		case 1:
+			return precpred(_ctx, 5);
+		case 2:
+			return precpred(_ctx, 4);
+		case 3:
+			return precpred(_ctx, 3);
+		case 4:
+			return precpred(_ctx, 2);
+		case 5:
+			return precpred(_ctx, 1);
+		case 6:
+			return precpred(_ctx, 10);
+		case 7:
+			return precpred(_ctx, 9);
+		case 8:
+			return precpred(_ctx, 8);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u00018\u0191\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
+		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
+		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
+		"\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002\u000f\u0007\u000f"+
+		"\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002\u0012\u0007\u0012"+
+		"\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002\u0015\u0007\u0015"+
+		"\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002\u0018\u0007\u0018"+
+		"\u0002\u0019\u0007\u0019\u0001\u0000\u0005\u00006\b\u0000\n\u0000\f\u0000"+
+		"9\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000=\b\u0000\n\u0000\f\u0000"+
+		"@\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0003\u0001E\b\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001K\b\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0005\u0001P\b\u0001\n\u0001\f\u0001S\t"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0003\u0003\u0003[\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0005\u0003b\b\u0003\n\u0003\f\u0003e\t\u0003\u0001"+
+		"\u0004\u0001\u0004\u0001\u0005\u0003\u0005j\b\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0005\u0005v\b\u0005\n\u0005\f\u0005y\t"+
+		"\u0005\u0003\u0005{\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0005\u0005\u0082\b\u0005\n\u0005\f\u0005\u0085\t\u0005"+
+		"\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0001\u0006\u0003\u0006\u0094\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0005\u0007\u00a1\b\u0007\n\u0007\f\u0007\u00a4"+
+		"\t\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00ba\b\b\n\b\f\b\u00bd\t\b"+
+		"\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005"+
+		"\b\u00d0\b\b\n\b\f\b\u00d3\t\b\u0001\b\u0001\b\u0001\b\u0003\b\u00d8\b"+
+		"\b\u0001\t\u0001\t\u0003\t\u00dc\b\t\u0001\n\u0001\n\u0003\n\u00e0\b\n"+
+		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0005\u000b\u00ea\b\u000b\n\u000b\f\u000b\u00ed"+
+		"\t\u000b\u0001\f\u0001\f\u0005\f\u00f1\b\f\n\f\f\f\u00f4\t\f\u0001\f\u0001"+
+		"\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
+		"\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
+		"\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
+		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001"+
+		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0003\u0016\u011e\b\u0016\u0001\u0016\u0003\u0016\u0121"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0127"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u012d"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0133"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0139"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0005\u0016\u0149\b\u0016\n\u0016\f\u0016"+
+		"\u014c\t\u0016\u0003\u0016\u014e\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0005\u0016\u0159\b\u0016\n\u0016\f\u0016\u015c\t\u0016\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0005\u0017"+
+		"\u017c\b\u0017\n\u0017\f\u0017\u017f\t\u0017\u0003\u0017\u0181\b\u0017"+
+		"\u0001\u0017\u0003\u0017\u0184\b\u0017\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0003\u0018\u0189\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019"+
+		"\u0003\u0019\u018f\b\u0019\u0001\u0019\u0000\u0001,\u001a\u0000\u0002"+
+		"\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e"+
+		" \"$&(*,.02\u0000\u0001\u0001\u0000\b\n\u01b7\u00007\u0001\u0000\u0000"+
+		"\u0000\u0002D\u0001\u0000\u0000\u0000\u0004V\u0001\u0000\u0000\u0000\u0006"+
+		"Z\u0001\u0000\u0000\u0000\bf\u0001\u0000\u0000\u0000\ni\u0001\u0000\u0000"+
+		"\u0000\f\u0093\u0001\u0000\u0000\u0000\u000e\u0095\u0001\u0000\u0000\u0000"+
+		"\u0010\u00d7\u0001\u0000\u0000\u0000\u0012\u00db\u0001\u0000\u0000\u0000"+
+		"\u0014\u00df\u0001\u0000\u0000\u0000\u0016\u00e1\u0001\u0000\u0000\u0000"+
+		"\u0018\u00ee\u0001\u0000\u0000\u0000\u001a\u00f7\u0001\u0000\u0000\u0000"+
+		"\u001c\u00f9\u0001\u0000\u0000\u0000\u001e\u00fb\u0001\u0000\u0000\u0000"+
+		" \u00fe\u0001\u0000\u0000\u0000\"\u0104\u0001\u0000\u0000\u0000$\u010a"+
+		"\u0001\u0000\u0000\u0000&\u010f\u0001\u0000\u0000\u0000(\u0113\u0001\u0000"+
+		"\u0000\u0000*\u0116\u0001\u0000\u0000\u0000,\u0120\u0001\u0000\u0000\u0000"+
+		".\u0183\u0001\u0000\u0000\u00000\u0185\u0001\u0000\u0000\u00002\u018e"+
+		"\u0001\u0000\u0000\u000046\u0003\u0002\u0001\u000054\u0001\u0000\u0000"+
+		"\u000069\u0001\u0000\u0000\u000075\u0001\u0000\u0000\u000078\u0001\u0000"+
+		"\u0000\u00008:\u0001\u0000\u0000\u000097\u0001\u0000\u0000\u0000:>\u0003"+
+		"\u0004\u0002\u0000;=\u0003\u0002\u0001\u0000<;\u0001\u0000\u0000\u0000"+
+		"=@\u0001\u0000\u0000\u0000><\u0001\u0000\u0000\u0000>?\u0001\u0000\u0000"+
+		"\u0000?A\u0001\u0000\u0000\u0000@>\u0001\u0000\u0000\u0000AB\u0005\u0000"+
+		"\u0000\u0001B\u0001\u0001\u0000\u0000\u0000CE\u0003\b\u0004\u0000DC\u0001"+
+		"\u0000\u0000\u0000DE\u0001\u0000\u0000\u0000EF\u0001\u0000\u0000\u0000"+
+		"FG\u0005\u0001\u0000\u0000GJ\u00055\u0000\u0000HI\u0005\u0002\u0000\u0000"+
+		"IK\u00055\u0000\u0000JH\u0001\u0000\u0000\u0000JK\u0001\u0000\u0000\u0000"+
+		"KL\u0001\u0000\u0000\u0000LQ\u0005\u0003\u0000\u0000MP\u0003\u0006\u0003"+
+		"\u0000NP\u0003\n\u0005\u0000OM\u0001\u0000\u0000\u0000ON\u0001\u0000\u0000"+
+		"\u0000PS\u0001\u0000\u0000\u0000QO\u0001\u0000\u0000\u0000QR\u0001\u0000"+
+		"\u0000\u0000RT\u0001\u0000\u0000\u0000SQ\u0001\u0000\u0000\u0000TU\u0005"+
+		"\u0004\u0000\u0000U\u0003\u0001\u0000\u0000\u0000VW\u0005\u0005\u0000"+
+		"\u0000WX\u0003\u0002\u0001\u0000X\u0005\u0001\u0000\u0000\u0000Y[\u0003"+
+		"\b\u0004\u0000ZY\u0001\u0000\u0000\u0000Z[\u0001\u0000\u0000\u0000[\\"+
+		"\u0001\u0000\u0000\u0000\\]\u0005\u0006\u0000\u0000]^\u00030\u0018\u0000"+
+		"^c\u00055\u0000\u0000_`\u0005\u0007\u0000\u0000`b\u00055\u0000\u0000a"+
+		"_\u0001\u0000\u0000\u0000be\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000"+
+		"\u0000cd\u0001\u0000\u0000\u0000d\u0007\u0001\u0000\u0000\u0000ec\u0001"+
+		"\u0000\u0000\u0000fg\u0007\u0000\u0000\u0000g\t\u0001\u0000\u0000\u0000"+
+		"hj\u0003\b\u0004\u0000ih\u0001\u0000\u0000\u0000ij\u0001\u0000\u0000\u0000"+
+		"jk\u0001\u0000\u0000\u0000kl\u0005\u000b\u0000\u0000lm\u00055\u0000\u0000"+
+		"mz\u0005\f\u0000\u0000no\u00055\u0000\u0000op\u0005\r\u0000\u0000pw\u0003"+
+		"0\u0018\u0000qr\u0005\u0007\u0000\u0000rs\u00055\u0000\u0000st\u0005\r"+
+		"\u0000\u0000tv\u00030\u0018\u0000uq\u0001\u0000\u0000\u0000vy\u0001\u0000"+
+		"\u0000\u0000wu\u0001\u0000\u0000\u0000wx\u0001\u0000\u0000\u0000x{\u0001"+
+		"\u0000\u0000\u0000yw\u0001\u0000\u0000\u0000zn\u0001\u0000\u0000\u0000"+
+		"z{\u0001\u0000\u0000\u0000{|\u0001\u0000\u0000\u0000|}\u0005\u000e\u0000"+
+		"\u0000}~\u0005\u000f\u0000\u0000~\u007f\u00030\u0018\u0000\u007f\u0083"+
+		"\u0005\u0003\u0000\u0000\u0080\u0082\u0003\u0014\n\u0000\u0081\u0080\u0001"+
+		"\u0000\u0000\u0000\u0082\u0085\u0001\u0000\u0000\u0000\u0083\u0081\u0001"+
+		"\u0000\u0000\u0000\u0083\u0084\u0001\u0000\u0000\u0000\u0084\u0086\u0001"+
+		"\u0000\u0000\u0000\u0085\u0083\u0001\u0000\u0000\u0000\u0086\u0087\u0005"+
+		"\u0004\u0000\u0000\u0087\u000b\u0001\u0000\u0000\u0000\u0088\u0094\u0003"+
+		"\u0018\f\u0000\u0089\u0094\u0003\u000e\u0007\u0000\u008a\u0094\u0003 "+
+		"\u0010\u0000\u008b\u0094\u0003$\u0012\u0000\u008c\u0094\u0003&\u0013\u0000"+
+		"\u008d\u0094\u0003\u001e\u000f\u0000\u008e\u0094\u0003\u0016\u000b\u0000"+
+		"\u008f\u0094\u0003\u001a\r\u0000\u0090\u0094\u0003\u001c\u000e\u0000\u0091"+
+		"\u0094\u0003(\u0014\u0000\u0092\u0094\u0003*\u0015\u0000\u0093\u0088\u0001"+
+		"\u0000\u0000\u0000\u0093\u0089\u0001\u0000\u0000\u0000\u0093\u008a\u0001"+
+		"\u0000\u0000\u0000\u0093\u008b\u0001\u0000\u0000\u0000\u0093\u008c\u0001"+
+		"\u0000\u0000\u0000\u0093\u008d\u0001\u0000\u0000\u0000\u0093\u008e\u0001"+
+		"\u0000\u0000\u0000\u0093\u008f\u0001\u0000\u0000\u0000\u0093\u0090\u0001"+
+		"\u0000\u0000\u0000\u0093\u0091\u0001\u0000\u0000\u0000\u0093\u0092\u0001"+
+		"\u0000\u0000\u0000\u0094\r\u0001\u0000\u0000\u0000\u0095\u0096\u0005\u0010"+
+		"\u0000\u0000\u0096\u0097\u0005\f\u0000\u0000\u0097\u0098\u0003,\u0016"+
+		"\u0000\u0098\u0099\u0005\u000e\u0000\u0000\u0099\u00a2\u0003\f\u0006\u0000"+
+		"\u009a\u009b\u0005\u0011\u0000\u0000\u009b\u009c\u0005\f\u0000\u0000\u009c"+
+		"\u009d\u0003,\u0016\u0000\u009d\u009e\u0005\u000e\u0000\u0000\u009e\u009f"+
+		"\u0003\f\u0006\u0000\u009f\u00a1\u0001\u0000\u0000\u0000\u00a0\u009a\u0001"+
+		"\u0000\u0000\u0000\u00a1\u00a4\u0001\u0000\u0000\u0000\u00a2\u00a0\u0001"+
+		"\u0000\u0000\u0000\u00a2\u00a3\u0001\u0000\u0000\u0000\u00a3\u00a5\u0001"+
+		"\u0000\u0000\u0000\u00a4\u00a2\u0001\u0000\u0000\u0000\u00a5\u00a6\u0005"+
+		"\u0012\u0000\u0000\u00a6\u00a7\u0003\f\u0006\u0000\u00a7\u000f\u0001\u0000"+
+		"\u0000\u0000\u00a8\u00a9\u0005\u0010\u0000\u0000\u00a9\u00aa\u0005\f\u0000"+
+		"\u0000\u00aa\u00ab\u0003,\u0016\u0000\u00ab\u00ac\u0005\u000e\u0000\u0000"+
+		"\u00ac\u00ad\u0003\u0014\n\u0000\u00ad\u00d8\u0001\u0000\u0000\u0000\u00ae"+
+		"\u00af\u0005\u0010\u0000\u0000\u00af\u00b0\u0005\f\u0000\u0000\u00b0\u00b1"+
+		"\u0003,\u0016\u0000\u00b1\u00b2\u0005\u000e\u0000\u0000\u00b2\u00bb\u0003"+
+		"\f\u0006\u0000\u00b3\u00b4\u0005\u0011\u0000\u0000\u00b4\u00b5\u0005\f"+
+		"\u0000\u0000\u00b5\u00b6\u0003,\u0016\u0000\u00b6\u00b7\u0005\u000e\u0000"+
+		"\u0000\u00b7\u00b8\u0003\f\u0006\u0000\u00b8\u00ba\u0001\u0000\u0000\u0000"+
+		"\u00b9\u00b3\u0001\u0000\u0000\u0000\u00ba\u00bd\u0001\u0000\u0000\u0000"+
+		"\u00bb\u00b9\u0001\u0000\u0000\u0000\u00bb\u00bc\u0001\u0000\u0000\u0000"+
+		"\u00bc\u00be\u0001\u0000\u0000\u0000\u00bd\u00bb\u0001\u0000\u0000\u0000"+
+		"\u00be\u00bf\u0005\u0011\u0000\u0000\u00bf\u00c0\u0005\f\u0000\u0000\u00c0"+
+		"\u00c1\u0003,\u0016\u0000\u00c1\u00c2\u0005\u000e\u0000\u0000\u00c2\u00c3"+
+		"\u0003\u0014\n\u0000\u00c3\u00d8\u0001\u0000\u0000\u0000\u00c4\u00c5\u0005"+
+		"\u0010\u0000\u0000\u00c5\u00c6\u0005\f\u0000\u0000\u00c6\u00c7\u0003,"+
+		"\u0016\u0000\u00c7\u00c8\u0005\u000e\u0000\u0000\u00c8\u00d1\u0003\f\u0006"+
+		"\u0000\u00c9\u00ca\u0005\u0011\u0000\u0000\u00ca\u00cb\u0005\f\u0000\u0000"+
+		"\u00cb\u00cc\u0003,\u0016\u0000\u00cc\u00cd\u0005\u000e\u0000\u0000\u00cd"+
+		"\u00ce\u0003\f\u0006\u0000\u00ce\u00d0\u0001\u0000\u0000\u0000\u00cf\u00c9"+
+		"\u0001\u0000\u0000\u0000\u00d0\u00d3\u0001\u0000\u0000\u0000\u00d1\u00cf"+
+		"\u0001\u0000\u0000\u0000\u00d1\u00d2\u0001\u0000\u0000\u0000\u00d2\u00d4"+
+		"\u0001\u0000\u0000\u0000\u00d3\u00d1\u0001\u0000\u0000\u0000\u00d4\u00d5"+
+		"\u0005\u0012\u0000\u0000\u00d5\u00d6\u0003\u0012\t\u0000\u00d6\u00d8\u0001"+
+		"\u0000\u0000\u0000\u00d7\u00a8\u0001\u0000\u0000\u0000\u00d7\u00ae\u0001"+
+		"\u0000\u0000\u0000\u00d7\u00c4\u0001\u0000\u0000\u0000\u00d8\u0011\u0001"+
+		"\u0000\u0000\u0000\u00d9\u00dc\u0003\"\u0011\u0000\u00da\u00dc\u0003\u0010"+
+		"\b\u0000\u00db\u00d9\u0001\u0000\u0000\u0000\u00db\u00da\u0001\u0000\u0000"+
+		"\u0000\u00dc\u0013\u0001\u0000\u0000\u0000\u00dd\u00e0\u0003\f\u0006\u0000"+
+		"\u00de\u00e0\u0003\u0012\t\u0000\u00df\u00dd\u0001\u0000\u0000\u0000\u00df"+
+		"\u00de\u0001\u0000\u0000\u0000\u00e0\u0015\u0001\u0000\u0000\u0000\u00e1"+
+		"\u00e2\u0005\u0013\u0000\u0000\u00e2\u00e3\u00055\u0000\u0000\u00e3\u00e4"+
+		"\u0005\u0014\u0000\u0000\u00e4\u00eb\u0003,\u0016\u0000\u00e5\u00e6\u0005"+
+		"\u0007\u0000\u0000\u00e6\u00e7\u00055\u0000\u0000\u00e7\u00e8\u0005\u0014"+
+		"\u0000\u0000\u00e8\u00ea\u0003,\u0016\u0000\u00e9\u00e5\u0001\u0000\u0000"+
+		"\u0000\u00ea\u00ed\u0001\u0000\u0000\u0000\u00eb\u00e9\u0001\u0000\u0000"+
+		"\u0000\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec\u0017\u0001\u0000\u0000"+
+		"\u0000\u00ed\u00eb\u0001\u0000\u0000\u0000\u00ee\u00f2\u0005\u0003\u0000"+
+		"\u0000\u00ef\u00f1\u0003\u0014\n\u0000\u00f0\u00ef\u0001\u0000\u0000\u0000"+
+		"\u00f1\u00f4\u0001\u0000\u0000\u0000\u00f2\u00f0\u0001\u0000\u0000\u0000"+
+		"\u00f2\u00f3\u0001\u0000\u0000\u0000\u00f3\u00f5\u0001\u0000\u0000\u0000"+
+		"\u00f4\u00f2\u0001\u0000\u0000\u0000\u00f5\u00f6\u0005\u0004\u0000\u0000"+
+		"\u00f6\u0019\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005\u0015\u0000\u0000"+
+		"\u00f8\u001b\u0001\u0000\u0000\u0000\u00f9\u00fa\u0005\u0016\u0000\u0000"+
+		"\u00fa\u001d\u0001\u0000\u0000\u0000\u00fb\u00fc\u0005\u0017\u0000\u0000"+
+		"\u00fc\u00fd\u0003,\u0016\u0000\u00fd\u001f\u0001\u0000\u0000\u0000\u00fe"+
+		"\u00ff\u0005\u0018\u0000\u0000\u00ff\u0100\u0005\f\u0000\u0000\u0100\u0101"+
+		"\u0003,\u0016\u0000\u0101\u0102\u0005\u000e\u0000\u0000\u0102\u0103\u0003"+
+		"\f\u0006\u0000\u0103!\u0001\u0000\u0000\u0000\u0104\u0105\u0005\u0018"+
+		"\u0000\u0000\u0105\u0106\u0005\f\u0000\u0000\u0106\u0107\u0003,\u0016"+
+		"\u0000\u0107\u0108\u0005\u000e\u0000\u0000\u0108\u0109\u0003\u0012\t\u0000"+
+		"\u0109#\u0001\u0000\u0000\u0000\u010a\u010b\u0005\u0019\u0000\u0000\u010b"+
+		"\u010c\u0005\f\u0000\u0000\u010c\u010d\u0003,\u0016\u0000\u010d\u010e"+
+		"\u0005\u000e\u0000\u0000\u010e%\u0001\u0000\u0000\u0000\u010f\u0110\u0003"+
+		",\u0016\u0000\u0110\u0111\u0005\u0014\u0000\u0000\u0111\u0112\u0003,\u0016"+
+		"\u0000\u0112\'\u0001\u0000\u0000\u0000\u0113\u0114\u0003,\u0016\u0000"+
+		"\u0114\u0115\u0005\u001a\u0000\u0000\u0115)\u0001\u0000\u0000\u0000\u0116"+
+		"\u0117\u0003,\u0016\u0000\u0117\u0118\u0005\u001b\u0000\u0000\u0118+\u0001"+
+		"\u0000\u0000\u0000\u0119\u011a\u0006\u0016\uffff\uffff\u0000\u011a\u0121"+
+		"\u0003.\u0017\u0000\u011b\u011e\u0005\u001f\u0000\u0000\u011c\u011e\u0005"+
+		" \u0000\u0000\u011d\u011b\u0001\u0000\u0000\u0000\u011d\u011c\u0001\u0000"+
+		"\u0000\u0000\u011e\u011f\u0001\u0000\u0000\u0000\u011f\u0121\u0003,\u0016"+
+		"\u0007\u0120\u0119\u0001\u0000\u0000\u0000\u0120\u011d\u0001\u0000\u0000"+
+		"\u0000\u0121\u015a\u0001\u0000\u0000\u0000\u0122\u0126\n\u0006\u0000\u0000"+
+		"\u0123\u0127\u0005!\u0000\u0000\u0124\u0127\u0005\"\u0000\u0000\u0125"+
+		"\u0127\u0005#\u0000\u0000\u0126\u0123\u0001\u0000\u0000\u0000\u0126\u0124"+
+		"\u0001\u0000\u0000\u0000\u0126\u0125\u0001\u0000\u0000\u0000\u0127\u0128"+
+		"\u0001\u0000\u0000\u0000\u0128\u0159\u0003,\u0016\u0007\u0129\u012c\n"+
+		"\u0005\u0000\u0000\u012a\u012d\u0005$\u0000\u0000\u012b\u012d\u0005 \u0000"+
+		"\u0000\u012c\u012a\u0001\u0000\u0000\u0000\u012c\u012b\u0001\u0000\u0000"+
+		"\u0000\u012d\u012e\u0001\u0000\u0000\u0000\u012e\u0159\u0003,\u0016\u0006"+
+		"\u012f\u0132\n\u0004\u0000\u0000\u0130\u0133\u0005%\u0000\u0000\u0131"+
+		"\u0133\u0005&\u0000\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0132\u0131"+
+		"\u0001\u0000\u0000\u0000\u0133\u0134\u0001\u0000\u0000\u0000\u0134\u0159"+
+		"\u0003,\u0016\u0005\u0135\u0138\n\u0003\u0000\u0000\u0136\u0139\u0005"+
+		"\'\u0000\u0000\u0137\u0139\u0005(\u0000\u0000\u0138\u0136\u0001\u0000"+
+		"\u0000\u0000\u0138\u0137\u0001\u0000\u0000\u0000\u0139\u013a\u0001\u0000"+
+		"\u0000\u0000\u013a\u0159\u0003,\u0016\u0004\u013b\u013c\n\u0002\u0000"+
+		"\u0000\u013c\u013d\u0005)\u0000\u0000\u013d\u0159\u0003,\u0016\u0003\u013e"+
+		"\u013f\n\u0001\u0000\u0000\u013f\u0140\u0005*\u0000\u0000\u0140\u0159"+
+		"\u0003,\u0016\u0002\u0141\u0142\n\n\u0000\u0000\u0142\u0143\u0005\u001c"+
+		"\u0000\u0000\u0143\u0144\u00055\u0000\u0000\u0144\u014d\u0005\f\u0000"+
+		"\u0000\u0145\u014a\u0003,\u0016\u0000\u0146\u0147\u0005\u0007\u0000\u0000"+
+		"\u0147\u0149\u0003,\u0016\u0000\u0148\u0146\u0001\u0000\u0000\u0000\u0149"+
+		"\u014c\u0001\u0000\u0000\u0000\u014a\u0148\u0001\u0000\u0000\u0000\u014a"+
+		"\u014b\u0001\u0000\u0000\u0000\u014b\u014e\u0001\u0000\u0000\u0000\u014c"+
+		"\u014a\u0001\u0000\u0000\u0000\u014d\u0145\u0001\u0000\u0000\u0000\u014d"+
+		"\u014e\u0001\u0000\u0000\u0000\u014e\u014f\u0001\u0000\u0000\u0000\u014f"+
+		"\u0159\u0005\u000e\u0000\u0000\u0150\u0151\n\t\u0000\u0000\u0151\u0152"+
+		"\u0005\u001c\u0000\u0000\u0152\u0159\u00055\u0000\u0000\u0153\u0154\n"+
+		"\b\u0000\u0000\u0154\u0155\u0005\u001d\u0000\u0000\u0155\u0156\u0003,"+
+		"\u0016\u0000\u0156\u0157\u0005\u001e\u0000\u0000\u0157\u0159\u0001\u0000"+
+		"\u0000\u0000\u0158\u0122\u0001\u0000\u0000\u0000\u0158\u0129\u0001\u0000"+
+		"\u0000\u0000\u0158\u012f\u0001\u0000\u0000\u0000\u0158\u0135\u0001\u0000"+
+		"\u0000\u0000\u0158\u013b\u0001\u0000\u0000\u0000\u0158\u013e\u0001\u0000"+
+		"\u0000\u0000\u0158\u0141\u0001\u0000\u0000\u0000\u0158\u0150\u0001\u0000"+
+		"\u0000\u0000\u0158\u0153\u0001\u0000\u0000\u0000\u0159\u015c\u0001\u0000"+
+		"\u0000\u0000\u015a\u0158\u0001\u0000\u0000\u0000\u015a\u015b\u0001\u0000"+
+		"\u0000\u0000\u015b-\u0001\u0000\u0000\u0000\u015c\u015a\u0001\u0000\u0000"+
+		"\u0000\u015d\u0184\u00052\u0000\u0000\u015e\u0184\u00053\u0000\u0000\u015f"+
+		"\u0160\u0005+\u0000\u0000\u0160\u0161\u00032\u0019\u0000\u0161\u0162\u0005"+
+		"\u001d\u0000\u0000\u0162\u0163\u0003,\u0016\u0000\u0163\u0164\u0005\u001e"+
+		"\u0000\u0000\u0164\u0184\u0001\u0000\u0000\u0000\u0165\u0166\u0005+\u0000"+
+		"\u0000\u0166\u0167\u00055\u0000\u0000\u0167\u0168\u0005\f\u0000\u0000"+
+		"\u0168\u0184\u0005\u000e\u0000\u0000\u0169\u0184\u0005,\u0000\u0000\u016a"+
+		"\u0184\u0005-\u0000\u0000\u016b\u0184\u0005.\u0000\u0000\u016c\u0184\u0005"+
+		"5\u0000\u0000\u016d\u016e\u00055\u0000\u0000\u016e\u016f\u0005\u001d\u0000"+
+		"\u0000\u016f\u0170\u0003,\u0016\u0000\u0170\u0171\u0005\u001e\u0000\u0000"+
+		"\u0171\u0184\u0001\u0000\u0000\u0000\u0172\u0173\u0005\f\u0000\u0000\u0173"+
+		"\u0174\u0003,\u0016\u0000\u0174\u0175\u0005\u000e\u0000\u0000\u0175\u0184"+
+		"\u0001\u0000\u0000\u0000\u0176\u0177\u00055\u0000\u0000\u0177\u0180\u0005"+
+		"\f\u0000\u0000\u0178\u017d\u0003,\u0016\u0000\u0179\u017a\u0005\u0007"+
+		"\u0000\u0000\u017a\u017c\u0003,\u0016\u0000\u017b\u0179\u0001\u0000\u0000"+
+		"\u0000\u017c\u017f\u0001\u0000\u0000\u0000\u017d\u017b\u0001\u0000\u0000"+
+		"\u0000\u017d\u017e\u0001\u0000\u0000\u0000\u017e\u0181\u0001\u0000\u0000"+
+		"\u0000\u017f\u017d\u0001\u0000\u0000\u0000\u0180\u0178\u0001\u0000\u0000"+
+		"\u0000\u0180\u0181\u0001\u0000\u0000\u0000\u0181\u0182\u0001\u0000\u0000"+
+		"\u0000\u0182\u0184\u0005\u000e\u0000\u0000\u0183\u015d\u0001\u0000\u0000"+
+		"\u0000\u0183\u015e\u0001\u0000\u0000\u0000\u0183\u015f\u0001\u0000\u0000"+
+		"\u0000\u0183\u0165\u0001\u0000\u0000\u0000\u0183\u0169\u0001\u0000\u0000"+
+		"\u0000\u0183\u016a\u0001\u0000\u0000\u0000\u0183\u016b\u0001\u0000\u0000"+
+		"\u0000\u0183\u016c\u0001\u0000\u0000\u0000\u0183\u016d\u0001\u0000\u0000"+
+		"\u0000\u0183\u0172\u0001\u0000\u0000\u0000\u0183\u0176\u0001\u0000\u0000"+
+		"\u0000\u0184/\u0001\u0000\u0000\u0000\u0185\u0188\u00032\u0019\u0000\u0186"+
+		"\u0187\u0005\u001d\u0000\u0000\u0187\u0189\u0005\u001e\u0000\u0000\u0188"+
+		"\u0186\u0001\u0000\u0000\u0000\u0188\u0189\u0001\u0000\u0000\u0000\u0189"+
+		"1\u0001\u0000\u0000\u0000\u018a\u018f\u0005/\u0000\u0000\u018b\u018f\u0005"+
+		"0\u0000\u0000\u018c\u018f\u00051\u0000\u0000\u018d\u018f\u00055\u0000"+
+		"\u0000\u018e\u018a\u0001\u0000\u0000\u0000\u018e\u018b\u0001\u0000\u0000"+
+		"\u0000\u018e\u018c\u0001\u0000\u0000\u0000\u018e\u018d\u0001\u0000\u0000"+
+		"\u0000\u018f3\u0001\u0000\u0000\u0000$7>DJOQZciwz\u0083\u0093\u00a2\u00bb"+
+		"\u00d1\u00d7\u00db\u00df\u00eb\u00f2\u011d\u0120\u0126\u012c\u0132\u0138"+
+		"\u014a\u014d\u0158\u015a\u017d\u0180\u0183\u0188\u018e";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -119,79 +119,28 @@ statementDec:
     lvalExpr=expression decOp='--'
 ;
 expression:
-	e = expressionOr ;
+	o = expressionOther # expressionPrimary
 
-expressionOr:
-	a = expressionAnd ot = expressionOrTemp
-	;
-
-expressionOrTemp:
-	orOp='||' a = expressionAnd
-	ot = expressionOrTemp
-	|;
-
-expressionAnd:
-	e = expressionEq at = expressionAndTemp;
+	| e = expression dotOp='.' i = ID '(' ( e1 = expression (',' e2 = expression)*)? ')' # expressionMethodCall
 
-expressionAndTemp:
-	andOp='&&' e = expressionEq
-	at = expressionAndTemp
-	|;
+	| e = expression dotOp='.' ii = ID # expressionFieldAccess
 
-expressionEq:
-	c = expressionCmp et = expressionEqTemp
-	;
+	| e = expression leftBrace='[' e3 = expression ']' # expressionIndex
 
-expressionEqTemp :
-	( eqOp='==' | neqOp='<>')
-	c=expressionCmp
-	et=expressionEqTemp
-	|;
+	| (notOp='!' | negOp='-') u = expression # expressionUnary
 
-expressionCmp:
-	a = expressionAdd ct = expressionCmpTemp;
+	| l = expression (mulOp='*' | divOp='/' | modOp='%') r = expression # expressionMultMod
 
-expressionCmpTemp:
-	( ltOp='<' | gtOp='>')
-	a = expressionAdd
-	ct = expressionCmpTemp
-	|;
+	| l = expression (addOp='+' | subOp='-') r = expression # expressionAdd
 
-expressionAdd:
-	m = expressionMultMod at = expressionAddTemp
-	;
+	| l = expression (ltOp='<' | gtOp='>') r = expression # expressionCmp
 
-expressionAddTemp:
-	(addOp='+' | subOp='-')
-	m = expressionMultMod
-	at = expressionAddTemp
-	|;
+	| l = expression (eqOp='==' | neqOp='<>') r = expression # expressionEq
 
-expressionMultMod:
-	u = expressionUnary mt = expressionMultModTemp
-    ;
+	| l = expression andOp='&&' r = expression # expressionAnd
 
-expressionMultModTemp :
-	(mulOp='*' | divOp='/' | modOp='%')
-	u = expressionUnary
-	mt = expressionMultModTemp
-	|;
-
-expressionUnary:
-	(notOp='!' | negOp='-')
-	u = expressionUnary
-	| m = expressionMethods ;
-
-expressionMethods:
-	o = expressionOther mt = expressionMethodsTemp
-;
-
-expressionMethodsTemp:
-	(dotOp='.' i = ID '(' ( e1 = expression  (',' e2 = expression )*)? ')'
-	| dotOp='.' ii = ID
-    | leftBrace='[' e3 = expression ']'
-    ) mt = expressionMethodsTemp
-	|;
+	| l = expression orOp='||' r = expression # expressionOr
+	;
 
 expressionOther:
 	n = CONST_NUM
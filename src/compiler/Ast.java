@@ -0,0 +1,411 @@
+package compiler;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Compact syntax tree stored as parallel int arrays. Node ids are dense and assigned in
+ * pre-order, so analyses can keep per-node results in plain arrays indexed by node id.
+ *
+ * Layout of the non-obvious kinds:
+ * CLASS    children: INHERITS?, FIELD*, METHOD*      name: class name
+ * FIELD    children: TYPE                            name: field name (one node per name)
+ * METHOD   children: PARAM*, TYPE (return), BLOCK    name: method name
+ * VAR_DEF  children: VAR+, each VAR has one initialiser expression child
+ * IF       children: cond, body, (cond, body)* for every elif, then the else body if any
+ * CALL     children: arguments                       name: called function
+ * METHOD_CALL children: receiver, arguments          name: method
+ * NEW_ARRAY children: TYPE, size expression
+ * NAME, NEW_OBJECT, FIELD_ACCESS, TYPE carry their text in name, as a NamePool id.
+ * NUM and STR carry theirs in a literal table of their own Ast, so that literal text, which
+ * rarely repeats, is dropped with the tree instead of staying in a long-lived pool.
+ */
+public class Ast {
+    public static final int PROGRAM = 0;
+    public static final int CLASS = 1;
+    public static final int INHERITS = 2;
+    public static final int FIELD = 3;
+    public static final int METHOD = 4;
+    public static final int PARAM = 5;
+    public static final int TYPE = 6;
+    public static final int BLOCK = 7;
+    public static final int VAR_DEF = 8;
+    public static final int VAR = 9;
+    public static final int IF = 10;
+    public static final int WHILE = 11;
+    public static final int RETURN = 12;
+    public static final int BREAK = 13;
+    public static final int CONTINUE = 14;
+    public static final int WRITE = 15;
+    public static final int ASSIGN = 16;
+    public static final int INC = 17;
+    public static final int DEC = 18;
+    public static final int OR = 19;
+    public static final int AND = 20;
+    public static final int EQ = 21;
+    public static final int NE = 22;
+    public static final int LT = 23;
+    public static final int GT = 24;
+    public static final int ADD = 25;
+    public static final int SUB = 26;
+    public static final int MUL = 27;
+    public static final int DIV = 28;
+    public static final int MOD = 29;
+    public static final int NOT = 30;
+    public static final int NEG = 31;
+    public static final int CALL = 32;
+    public static final int METHOD_CALL = 33;
+    public static final int FIELD_ACCESS = 34;
+    public static final int INDEX = 35;
+    public static final int NEW_ARRAY = 36;
+    public static final int NEW_OBJECT = 37;
+    public static final int NUM = 38;
+    public static final int STR = 39;
+    public static final int TRUE = 40;
+    public static final int FALSE = 41;
+    public static final int THIS = 42;
+    public static final int NAME = 43;
+
+    private static final String[] KIND_NAMES = {
+            "PROGRAM", "CLASS", "INHERITS", "FIELD", "METHOD", "PARAM", "TYPE", "BLOCK", "VAR_DEF", "VAR",
+            "IF", "WHILE", "RETURN", "BREAK", "CONTINUE", "WRITE", "ASSIGN", "INC", "DEC",
+            "OR", "AND", "EQ", "NE", "LT", "GT", "ADD", "SUB", "MUL", "DIV", "MOD", "NOT", "NEG",
+            "CALL", "METHOD_CALL", "FIELD_ACCESS", "INDEX", "NEW_ARRAY", "NEW_OBJECT",
+            "NUM", "STR", "TRUE", "FALSE", "THIS", "NAME"
+    };
+
+    public static final int NONE = -1;
+
+    public static final int PUBLIC = 1;
+    public static final int PRIVATE = 2;
+    public static final int PROTECTED = 4;
+    public static final int ENTRY = 8;
+    public static final int ARRAY = 16;
+
+    private final NamePool names;
+    private int[] kind;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] token;
+    private int[] name;
+    private int[] flags;
+    private int[] line;
+    private int[] column;
+    private int[] lastChild;
+    private int size;
+    private String[] literals = new String[16];
+    private int literalCount;
+    // token index - firstToken -> node, built on first use
+    private int[] nodeByToken;
+    private int firstToken;
+
+    public Ast(NamePool names, int expectedNodes) {
+        this.names = names;
+        int capacity = Math.max(expectedNodes, 16);
+        kind = new int[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        token = new int[capacity];
+        name = new int[capacity];
+        flags = new int[capacity];
+        line = new int[capacity];
+        column = new int[capacity];
+        lastChild = new int[capacity];
+    }
+
+    int add(int parent, int nodeKind, int tokenIndex, int nameId, int nodeLine, int nodeColumn) {
+        if (size == kind.length) {
+            grow();
+        }
+        int node = size++;
+        kind[node] = nodeKind;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        lastChild[node] = NONE;
+        token[node] = tokenIndex;
+        name[node] = nameId;
+        flags[node] = 0;
+        line[node] = nodeLine;
+        column[node] = nodeColumn;
+        if (parent != NONE) {
+            if (lastChild[parent] == NONE) {
+                firstChild[parent] = node;
+            } else {
+                nextSibling[lastChild[parent]] = node;
+            }
+            lastChild[parent] = node;
+        }
+        return node;
+    }
+
+    void setFlags(int node, int nodeFlags) {
+        flags[node] = nodeFlags;
+    }
+
+    void setName(int node, int nameId) {
+        name[node] = nameId;
+    }
+
+    /**
+     * Gives the NUM or STR {@code node} its text, kept in this Ast rather than the NamePool.
+     */
+    void setLiteral(int node, String text) {
+        if (literalCount == literals.length) {
+            literals = Arrays.copyOf(literals, literalCount * 2);
+        }
+        literals[literalCount] = text;
+        name[node] = literalCount++;
+    }
+
+    /**
+     * Removes {@code node} from the children of {@code parent}; {@code previous} is the child
+     * before it, or NONE when it is the first. The node keeps its id and the arrays keep its
+     * subtree, which walks from the root no longer reach; scans over a range of ids still do
+     * until {@link #compact} drops it.
+     */
+    void unlink(int parent, int previous, int node) {
+        if (previous == NONE) {
+            firstChild[parent] = nextSibling[node];
+        } else {
+            nextSibling[previous] = nextSibling[node];
+        }
+        if (lastChild != null && lastChild[parent] == node) {
+            lastChild[parent] = previous;
+        }
+        nextSibling[node] = NONE;
+    }
+
+    /**
+     * Drops the build-time bookkeeping and shrinks the arrays to the node count.
+     */
+    void trim() {
+        kind = Arrays.copyOf(kind, size);
+        firstChild = Arrays.copyOf(firstChild, size);
+        nextSibling = Arrays.copyOf(nextSibling, size);
+        token = Arrays.copyOf(token, size);
+        name = Arrays.copyOf(name, size);
+        flags = Arrays.copyOf(flags, size);
+        line = Arrays.copyOf(line, size);
+        column = Arrays.copyOf(column, size);
+        literals = Arrays.copyOf(literals, literalCount);
+        lastChild = null;
+    }
+
+    /**
+     * Drops the nodes no longer reachable from the root and numbers the rest densely, keeping
+     * their order, so that the ids stay in pre-order and scans over a range of ids see only
+     * linked nodes. Ids taken before the call are no longer valid. Returns the number of nodes
+     * dropped.
+     */
+    int compact() {
+        // children have larger ids than their parent, so one pass in id order finds every
+        // reachable node; unlinking drops whole subtrees, so the kept ones stay in pre-order
+        int[] renumbered = new int[size];
+        Arrays.fill(renumbered, NONE);
+        renumbered[root()] = 0;
+        int count = 0;
+        for (int node = 0; node < size; node++) {
+            if (renumbered[node] == NONE) {
+                continue;
+            }
+            renumbered[node] = count++;
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                renumbered[child] = 0;
+            }
+        }
+        int dropped = size - count;
+        if (dropped == 0) {
+            return 0;
+        }
+        for (int node = 0; node < size; node++) {
+            int id = renumbered[node];
+            if (id == NONE) {
+                continue;
+            }
+            kind[id] = kind[node];
+            firstChild[id] = firstChild[node] == NONE ? NONE : renumbered[firstChild[node]];
+            nextSibling[id] = nextSibling[node] == NONE ? NONE : renumbered[nextSibling[node]];
+            token[id] = token[node];
+            name[id] = name[node];
+            flags[id] = flags[node];
+            line[id] = line[node];
+            column[id] = column[node];
+            if (lastChild != null) {
+                lastChild[id] = lastChild[node] == NONE ? NONE : renumbered[lastChild[node]];
+            }
+        }
+        size = count;
+        nodeByToken = null;
+        if (lastChild == null) {
+            trim();
+        }
+        return dropped;
+    }
+
+    private void grow() {
+        int capacity = kind.length * 2;
+        kind = Arrays.copyOf(kind, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        token = Arrays.copyOf(token, capacity);
+        name = Arrays.copyOf(name, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        line = Arrays.copyOf(line, capacity);
+        column = Arrays.copyOf(column, capacity);
+        lastChild = Arrays.copyOf(lastChild, capacity);
+    }
+
+    public NamePool getNames() {
+        return names;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int root() {
+        return 0;
+    }
+
+    public int kind(int node) {
+        return kind[node];
+    }
+
+    public int firstChild(int node) {
+        return firstChild[node];
+    }
+
+    public int nextSibling(int node) {
+        return nextSibling[node];
+    }
+
+    public int token(int node) {
+        return token[node];
+    }
+
+    /**
+     * The NamePool id of the node's name, or NONE. For NUM and STR it is the index of the
+     * literal in this Ast instead, so use {@link #nameText} for their text.
+     */
+    public int name(int node) {
+        return name[node];
+    }
+
+    public String nameText(int node) {
+        if (name[node] == NONE) {
+            return null;
+        }
+        return isLiteral(kind[node]) ? literals[name[node]] : names.name(name[node]);
+    }
+
+    private static boolean isLiteral(int nodeKind) {
+        return nodeKind == NUM || nodeKind == STR;
+    }
+
+    public int flags(int node) {
+        return flags[node];
+    }
+
+    public boolean hasFlag(int node, int flag) {
+        return (flags[node] & flag) != 0;
+    }
+
+    public int line(int node) {
+        return line[node];
+    }
+
+    public int column(int node) {
+        return column[node];
+    }
+
+    /**
+     * The node lowered from the token with index {@code tokenIndex}, or NONE. Every expression
+     * node has a token of its own (its operator, name, literal or keyword, see
+     * {@link AstLowering#expressionToken}), so this maps parse-tree expressions to nodes. Where
+     * several nodes share a token, such as the types of a field list, the first one is returned.
+     * The index is built on the first call, which is not thread-safe.
+     */
+    public int nodeAtToken(int tokenIndex) {
+        if (nodeByToken == null) {
+            indexTokens();
+        }
+        int slot = tokenIndex - firstToken;
+        return slot < 0 || slot >= nodeByToken.length ? NONE : nodeByToken[slot];
+    }
+
+    private void indexTokens() {
+        int first = Integer.MAX_VALUE;
+        int last = -1;
+        for (int node = 0; node < size; node++) {
+            if (token[node] != NONE) {
+                first = Math.min(first, token[node]);
+                last = Math.max(last, token[node]);
+            }
+        }
+        int[] index = new int[Math.max(0, last - first + 1)];
+        Arrays.fill(index, NONE);
+        // a backwards walk leaves the first node of every token in place
+        for (int node = size - 1; node >= 0; node--) {
+            if (token[node] != NONE) {
+                index[token[node] - first] = node;
+            }
+        }
+        firstToken = last < 0 ? 0 : first;
+        nodeByToken = index;
+    }
+
+    public int childCount(int node) {
+        int count = 0;
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            count++;
+        }
+        return count;
+    }
+
+    public int child(int node, int index) {
+        int child = firstChild[node];
+        for (int i = 0; i < index && child != NONE; i++) {
+            child = nextSibling[child];
+        }
+        return child;
+    }
+
+    /**
+     * Returns the first child of {@code node} with the given kind, or NONE.
+     */
+    public int childOfKind(int node, int childKind) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (kind[child] == childKind) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    public static String kindName(int kind) {
+        return KIND_NAMES[kind];
+    }
+
+    public void dump(PrintStream out) {
+        dump(out, root(), 0);
+    }
+
+    private void dump(PrintStream out, int node, int depth) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append("    ");
+        }
+        sb.append(KIND_NAMES[kind[node]]);
+        if (name[node] != NONE) {
+            sb.append(' ').append(nameText(node));
+        }
+        if (kind[node] == TYPE && (flags[node] & ARRAY) != 0) {
+            sb.append("[]");
+        }
+        sb.append(" [").append(line[node]).append(':').append(column[node]).append(']');
+        out.println(sb);
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            dump(out, child, depth + 1);
+        }
+    }
+}
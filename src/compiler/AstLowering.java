@@ -0,0 +1,400 @@
+package compiler;
+
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lowers a japy parse tree into an {@link Ast}. Statement wrappers, parentheses and
+ * the open/closed statement split disappear; once lowering is done the parse tree and
+ * its tokens are no longer needed.
+ */
+public class AstLowering {
+    private final Ast ast;
+    private final NamePool names;
+
+    private AstLowering(NamePool names, int expectedNodes) {
+        this.names = names;
+        this.ast = new Ast(names, expectedNodes);
+    }
+
+    public static Ast lower(japyParser.ProgramContext program, NamePool names) {
+        int tokens = program.getStop() != null ? program.getStop().getTokenIndex() + 1 : 16;
+        AstLowering lowering = new AstLowering(names, tokens);
+        lowering.lowerProgram(program);
+        lowering.ast.trim();
+        return lowering.ast;
+    }
+
+    /**
+     * Lowers a single class under a program node of its own, for classes that are checked as
+     * soon as they are parsed, see {@link StreamingChecker}.
+     */
+    public static Ast lower(japyParser.ClassDeclarationContext classDeclaration, NamePool names) {
+        int tokens = classDeclaration.getStop() != null
+                ? classDeclaration.getStop().getTokenIndex() - classDeclaration.getStart().getTokenIndex() + 1
+                : 16;
+        AstLowering lowering = new AstLowering(names, tokens + 1);
+        int program = lowering.node(Ast.NONE, Ast.PROGRAM, classDeclaration, classDeclaration.getStart(), null);
+        int flags = classDeclaration.getParent() instanceof japyParser.EntryClassDeclarationContext ? Ast.ENTRY : 0;
+        lowering.lowerClass(program, classDeclaration, flags);
+        lowering.ast.trim();
+        return lowering.ast;
+    }
+
+    /**
+     * The token the node of {@code expression} is lowered from: its operator, method, field or
+     * variable name, literal or keyword. Parentheses are looked through. Returns null for an
+     * expression that lowers to no node.
+     */
+    public static Token expressionToken(japyParser.ExpressionContext expression) {
+        while (expression instanceof japyParser.ExpressionPrimaryContext
+                && ((japyParser.ExpressionPrimaryContext) expression).o != null
+                && ((japyParser.ExpressionPrimaryContext) expression).o.leftPara != null) {
+            expression = ((japyParser.ExpressionPrimaryContext) expression).o.ee;
+        }
+        if (expression instanceof japyParser.ExpressionPrimaryContext) {
+            japyParser.ExpressionOtherContext ctx = ((japyParser.ExpressionPrimaryContext) expression).o;
+            if (ctx == null) {
+                return null;
+            }
+            if (ctx.n != null) {
+                return ctx.n;
+            } else if (ctx.s != null) {
+                return ctx.s;
+            } else if (ctx.newModifier != null) {
+                return ctx.st != null ? ctx.newModifier : ctx.i;
+            } else if (ctx.selfModifier != null) {
+                return ctx.selfModifier;
+            } else if (ctx.trueModifier != null) {
+                return ctx.trueModifier;
+            } else if (ctx.falseModifier != null) {
+                return ctx.falseModifier;
+            } else if (ctx.i1 != null) {
+                return ctx.i1;
+            } else if (ctx.i2 != null) {
+                return ctx.leftBrace;
+            } else {
+                return ctx.i3;
+            }
+        } else if (expression instanceof japyParser.ExpressionMethodCallContext) {
+            return ((japyParser.ExpressionMethodCallContext) expression).i;
+        } else if (expression instanceof japyParser.ExpressionFieldAccessContext) {
+            return ((japyParser.ExpressionFieldAccessContext) expression).ii;
+        } else if (expression instanceof japyParser.ExpressionIndexContext) {
+            return ((japyParser.ExpressionIndexContext) expression).leftBrace;
+        } else if (expression instanceof japyParser.ExpressionUnaryContext) {
+            japyParser.ExpressionUnaryContext ctx = (japyParser.ExpressionUnaryContext) expression;
+            return ctx.notOp != null ? ctx.notOp : ctx.negOp;
+        } else if (expression instanceof japyParser.ExpressionMultModContext) {
+            japyParser.ExpressionMultModContext ctx = (japyParser.ExpressionMultModContext) expression;
+            return ctx.mulOp != null ? ctx.mulOp : ctx.divOp != null ? ctx.divOp : ctx.modOp;
+        } else if (expression instanceof japyParser.ExpressionAddContext) {
+            japyParser.ExpressionAddContext ctx = (japyParser.ExpressionAddContext) expression;
+            return ctx.addOp != null ? ctx.addOp : ctx.subOp;
+        } else if (expression instanceof japyParser.ExpressionCmpContext) {
+            japyParser.ExpressionCmpContext ctx = (japyParser.ExpressionCmpContext) expression;
+            return ctx.ltOp != null ? ctx.ltOp : ctx.gtOp;
+        } else if (expression instanceof japyParser.ExpressionEqContext) {
+            japyParser.ExpressionEqContext ctx = (japyParser.ExpressionEqContext) expression;
+            return ctx.eqOp != null ? ctx.eqOp : ctx.neqOp;
+        } else if (expression instanceof japyParser.ExpressionAndContext) {
+            return ((japyParser.ExpressionAndContext) expression).andOp;
+        } else if (expression instanceof japyParser.ExpressionOrContext) {
+            return ((japyParser.ExpressionOrContext) expression).orOp;
+        }
+        return null;
+    }
+
+    private void lowerProgram(japyParser.ProgramContext ctx) {
+        int program = node(Ast.NONE, Ast.PROGRAM, ctx, ctx.getStart(), null);
+        for (ParseTree child : children(ctx)) {
+            if (child instanceof japyParser.ClassDeclarationContext) {
+                lowerClass(program, (japyParser.ClassDeclarationContext) child, 0);
+            } else if (child instanceof japyParser.EntryClassDeclarationContext) {
+                lowerClass(program, ((japyParser.EntryClassDeclarationContext) child).classDeclaration(), Ast.ENTRY);
+            }
+        }
+    }
+
+    private void lowerClass(int parent, japyParser.ClassDeclarationContext ctx, int flags) {
+        if (ctx == null || ctx.className == null) {
+            return;
+        }
+        int node = node(parent, Ast.CLASS, ctx, ctx.className, ctx.className);
+        ast.setFlags(node, flags | accessFlags(ctx.access_modifier()));
+        if (ctx.classParent != null) {
+            node(node, Ast.INHERITS, ctx.classParent, ctx.classParent, ctx.classParent);
+        }
+        for (ParseTree child : children(ctx)) {
+            if (child instanceof japyParser.FieldDeclarationContext) {
+                lowerField(node, (japyParser.FieldDeclarationContext) child);
+            } else if (child instanceof japyParser.MethodDeclarationContext) {
+                lowerMethod(node, (japyParser.MethodDeclarationContext) child);
+            }
+        }
+    }
+
+    private void lowerField(int parent, japyParser.FieldDeclarationContext ctx) {
+        int flags = accessFlags(ctx.access_modifier());
+        for (TerminalNode id : ctx.ID()) {
+            int field = node(parent, Ast.FIELD, ctx, id.getSymbol(), id.getSymbol());
+            ast.setFlags(field, flags);
+            lowerType(field, ctx.fieldType);
+        }
+    }
+
+    private void lowerMethod(int parent, japyParser.MethodDeclarationContext ctx) {
+        if (ctx.methodName == null) {
+            return;
+        }
+        int method = node(parent, Ast.METHOD, ctx, ctx.methodName, ctx.methodName);
+        ast.setFlags(method, accessFlags(ctx.methodAccessModifier));
+        List<TerminalNode> ids = ctx.ID();
+        List<japyParser.JapyTypeContext> types = ctx.japyType();
+        for (int i = 1; i < ids.size(); i++) {
+            Token param = ids.get(i).getSymbol();
+            int node = node(method, Ast.PARAM, param, param, param);
+            if (i - 1 < types.size()) {
+                lowerType(node, types.get(i - 1));
+            }
+        }
+        lowerType(method, ctx.t);
+        int body = node(method, Ast.BLOCK, ctx, ctx.getStart(), null);
+        for (japyParser.StatementContext statement : ctx.statement()) {
+            lowerStatement(body, statement);
+        }
+    }
+
+    private void lowerType(int parent, japyParser.JapyTypeContext ctx) {
+        if (ctx == null || ctx.st == null) {
+            return;
+        }
+        int type = node(parent, Ast.TYPE, ctx, ctx.getStart(), null);
+        setName(type, ctx.st.getText());
+        if (ctx.getChildCount() > 1) {
+            ast.setFlags(type, Ast.ARRAY);
+        }
+    }
+
+    private void lowerStatement(int parent, ParseTree tree) {
+        if (tree instanceof japyParser.StatementContext
+                || tree instanceof japyParser.ClosedStatementContext
+                || tree instanceof japyParser.OpenStatementContext) {
+            if (((ParserRuleContext) tree).getChildCount() > 0) {
+                lowerStatement(parent, tree.getChild(0));
+            }
+        } else if (tree instanceof japyParser.StatementBlockContext) {
+            japyParser.StatementBlockContext ctx = (japyParser.StatementBlockContext) tree;
+            int block = node(parent, Ast.BLOCK, ctx, ctx.getStart(), null);
+            for (japyParser.StatementContext statement : ctx.statement()) {
+                lowerStatement(block, statement);
+            }
+        } else if (tree instanceof japyParser.ClosedConditionalContext
+                || tree instanceof japyParser.OpenConditionalContext) {
+            ParserRuleContext ctx = (ParserRuleContext) tree;
+            int node = node(parent, Ast.IF, ctx, ctx.getStart(), null);
+            for (ParseTree child : children(ctx)) {
+                if (child instanceof japyParser.ExpressionContext) {
+                    lowerExpression(node, (japyParser.ExpressionContext) child);
+                } else if (child instanceof ParserRuleContext) {
+                    lowerStatement(node, child);
+                }
+            }
+        } else if (tree instanceof japyParser.StatementClosedLoopContext) {
+            japyParser.StatementClosedLoopContext ctx = (japyParser.StatementClosedLoopContext) tree;
+            int node = node(parent, Ast.WHILE, ctx, ctx.getStart(), null);
+            lowerExpression(node, ctx.e);
+            lowerStatement(node, ctx.s);
+        } else if (tree instanceof japyParser.StatementOpenLoopContext) {
+            japyParser.StatementOpenLoopContext ctx = (japyParser.StatementOpenLoopContext) tree;
+            int node = node(parent, Ast.WHILE, ctx, ctx.getStart(), null);
+            lowerExpression(node, ctx.e);
+            lowerStatement(node, ctx.s);
+        } else if (tree instanceof japyParser.StatementVarDefContext) {
+            japyParser.StatementVarDefContext ctx = (japyParser.StatementVarDefContext) tree;
+            int node = node(parent, Ast.VAR_DEF, ctx, ctx.getStart(), null);
+            List<TerminalNode> ids = ctx.ID();
+            List<japyParser.ExpressionContext> values = ctx.expression();
+            for (int i = 0; i < ids.size(); i++) {
+                Token id = ids.get(i).getSymbol();
+                int var = node(node, Ast.VAR, id, id, id);
+                if (i < values.size()) {
+                    lowerExpression(var, values.get(i));
+                }
+            }
+        } else if (tree instanceof japyParser.StatementReturnContext) {
+            japyParser.StatementReturnContext ctx = (japyParser.StatementReturnContext) tree;
+            int node = node(parent, Ast.RETURN, ctx, ctx.myReturn, null);
+            lowerExpression(node, ctx.e);
+        } else if (tree instanceof japyParser.StatementBreakContext) {
+            japyParser.StatementBreakContext ctx = (japyParser.StatementBreakContext) tree;
+            node(parent, Ast.BREAK, ctx, ctx.myBreak, null);
+        } else if (tree instanceof japyParser.StatementContinueContext) {
+            japyParser.StatementContinueContext ctx = (japyParser.StatementContinueContext) tree;
+            node(parent, Ast.CONTINUE, ctx, ctx.myContinue, null);
+        } else if (tree instanceof japyParser.StatementWriteContext) {
+            japyParser.StatementWriteContext ctx = (japyParser.StatementWriteContext) tree;
+            int node = node(parent, Ast.WRITE, ctx, ctx.printLine, null);
+            lowerExpression(node, ctx.e);
+        } else if (tree instanceof japyParser.StatementAssignmentContext) {
+            japyParser.StatementAssignmentContext ctx = (japyParser.StatementAssignmentContext) tree;
+            int node = node(parent, Ast.ASSIGN, ctx, ctx.assignOp, null);
+            lowerExpression(node, ctx.left);
+            lowerExpression(node, ctx.right);
+        } else if (tree instanceof japyParser.StatementIncContext) {
+            japyParser.StatementIncContext ctx = (japyParser.StatementIncContext) tree;
+            int node = node(parent, Ast.INC, ctx, ctx.incOp, null);
+            lowerExpression(node, ctx.lvalExpr);
+        } else if (tree instanceof japyParser.StatementDecContext) {
+            japyParser.StatementDecContext ctx = (japyParser.StatementDecContext) tree;
+            int node = node(parent, Ast.DEC, ctx, ctx.decOp, null);
+            lowerExpression(node, ctx.lvalExpr);
+        }
+    }
+
+    private void lowerExpression(int parent, japyParser.ExpressionContext tree) {
+        if (tree == null) {
+            return;
+        }
+        if (tree instanceof japyParser.ExpressionPrimaryContext) {
+            lowerOther(parent, ((japyParser.ExpressionPrimaryContext) tree).o);
+        } else if (tree instanceof japyParser.ExpressionMethodCallContext) {
+            japyParser.ExpressionMethodCallContext ctx = (japyParser.ExpressionMethodCallContext) tree;
+            int node = node(parent, Ast.METHOD_CALL, ctx, ctx.i, ctx.i);
+            List<japyParser.ExpressionContext> operands = ctx.expression();
+            for (japyParser.ExpressionContext operand : operands) {
+                lowerExpression(node, operand);
+            }
+        } else if (tree instanceof japyParser.ExpressionFieldAccessContext) {
+            japyParser.ExpressionFieldAccessContext ctx = (japyParser.ExpressionFieldAccessContext) tree;
+            int node = node(parent, Ast.FIELD_ACCESS, ctx, ctx.ii, ctx.ii);
+            lowerExpression(node, ctx.e);
+        } else if (tree instanceof japyParser.ExpressionIndexContext) {
+            japyParser.ExpressionIndexContext ctx = (japyParser.ExpressionIndexContext) tree;
+            int node = node(parent, Ast.INDEX, ctx, ctx.leftBrace, null);
+            lowerExpression(node, ctx.e);
+            lowerExpression(node, ctx.e3);
+        } else if (tree instanceof japyParser.ExpressionUnaryContext) {
+            japyParser.ExpressionUnaryContext ctx = (japyParser.ExpressionUnaryContext) tree;
+            int node = ctx.notOp != null
+                    ? node(parent, Ast.NOT, ctx, ctx.notOp, null)
+                    : node(parent, Ast.NEG, ctx, ctx.negOp, null);
+            lowerExpression(node, ctx.u);
+        } else if (tree instanceof japyParser.ExpressionMultModContext) {
+            japyParser.ExpressionMultModContext ctx = (japyParser.ExpressionMultModContext) tree;
+            int kind = ctx.mulOp != null ? Ast.MUL : ctx.divOp != null ? Ast.DIV : Ast.MOD;
+            Token op = ctx.mulOp != null ? ctx.mulOp : ctx.divOp != null ? ctx.divOp : ctx.modOp;
+            binary(parent, kind, ctx, op, ctx.l, ctx.r);
+        } else if (tree instanceof japyParser.ExpressionAddContext) {
+            japyParser.ExpressionAddContext ctx = (japyParser.ExpressionAddContext) tree;
+            boolean add = ctx.addOp != null;
+            binary(parent, add ? Ast.ADD : Ast.SUB, ctx, add ? ctx.addOp : ctx.subOp, ctx.l, ctx.r);
+        } else if (tree instanceof japyParser.ExpressionCmpContext) {
+            japyParser.ExpressionCmpContext ctx = (japyParser.ExpressionCmpContext) tree;
+            boolean lt = ctx.ltOp != null;
+            binary(parent, lt ? Ast.LT : Ast.GT, ctx, lt ? ctx.ltOp : ctx.gtOp, ctx.l, ctx.r);
+        } else if (tree instanceof japyParser.ExpressionEqContext) {
+            japyParser.ExpressionEqContext ctx = (japyParser.ExpressionEqContext) tree;
+            boolean eq = ctx.eqOp != null;
+            binary(parent, eq ? Ast.EQ : Ast.NE, ctx, eq ? ctx.eqOp : ctx.neqOp, ctx.l, ctx.r);
+        } else if (tree instanceof japyParser.ExpressionAndContext) {
+            japyParser.ExpressionAndContext ctx = (japyParser.ExpressionAndContext) tree;
+            binary(parent, Ast.AND, ctx, ctx.andOp, ctx.l, ctx.r);
+        } else if (tree instanceof japyParser.ExpressionOrContext) {
+            japyParser.ExpressionOrContext ctx = (japyParser.ExpressionOrContext) tree;
+            binary(parent, Ast.OR, ctx, ctx.orOp, ctx.l, ctx.r);
+        }
+    }
+
+    private void binary(int parent, int kind, ParserRuleContext ctx, Token op,
+                        japyParser.ExpressionContext left, japyParser.ExpressionContext right) {
+        int node = node(parent, kind, ctx, op, null);
+        lowerExpression(node, left);
+        lowerExpression(node, right);
+    }
+
+    private void lowerOther(int parent, japyParser.ExpressionOtherContext ctx) {
+        if (ctx == null) {
+            return;
+        }
+        if (ctx.n != null) {
+            literal(parent, Ast.NUM, ctx, ctx.n);
+        } else if (ctx.s != null) {
+            literal(parent, Ast.STR, ctx, ctx.s);
+        } else if (ctx.newModifier != null && ctx.st != null) {
+            int node = node(parent, Ast.NEW_ARRAY, ctx, ctx.newModifier, null);
+            int type = node(node, Ast.TYPE, ctx.st, ctx.st.getStart(), null);
+            setName(type, ctx.st.getText());
+            lowerExpression(node, ctx.size);
+        } else if (ctx.newModifier != null) {
+            node(parent, Ast.NEW_OBJECT, ctx, ctx.i, ctx.i);
+        } else if (ctx.selfModifier != null) {
+            node(parent, Ast.THIS, ctx, ctx.selfModifier, null);
+        } else if (ctx.trueModifier != null) {
+            node(parent, Ast.TRUE, ctx, ctx.trueModifier, null);
+        } else if (ctx.falseModifier != null) {
+            node(parent, Ast.FALSE, ctx, ctx.falseModifier, null);
+        } else if (ctx.i1 != null) {
+            node(parent, Ast.NAME, ctx, ctx.i1, ctx.i1);
+        } else if (ctx.i2 != null) {
+            int node = node(parent, Ast.INDEX, ctx, ctx.leftBrace, null);
+            node(node, Ast.NAME, ctx, ctx.i2, ctx.i2);
+            lowerExpression(node, ctx.e);
+        } else if (ctx.leftPara != null) {
+            lowerExpression(parent, ctx.ee);
+        } else if (ctx.i3 != null) {
+            int node = node(parent, Ast.CALL, ctx, ctx.i3, ctx.i3);
+            for (japyParser.ExpressionContext argument : ctx.expression()) {
+                lowerExpression(node, argument);
+            }
+        }
+    }
+
+    private int node(int parent, int kind, ParserRuleContext ctx, Token token, Token name) {
+        Token start = ctx.getStart();
+        return node(parent, kind, start, token, name);
+    }
+
+    private int node(int parent, int kind, Token position, Token token, Token name) {
+        int tokenIndex = token != null ? token.getTokenIndex() : Ast.NONE;
+        int nameId = name != null ? names.intern(name.getText()) : Ast.NONE;
+        return ast.add(parent, kind, tokenIndex, nameId, position.getLine(), position.getCharPositionInLine());
+    }
+
+    // literal text is kept by the Ast, not interned, so that a long-lived pool such as
+    // NamePool.global() only grows with the identifiers a program uses
+    private void literal(int parent, int kind, ParserRuleContext ctx, Token token) {
+        int node = node(parent, kind, ctx, token, null);
+        ast.setLiteral(node, token.getText());
+    }
+
+    private static int accessFlags(japyParser.Access_modifierContext ctx) {
+        if (ctx == null) {
+            return 0;
+        }
+        switch (ctx.getText()) {
+            case "public":
+                return Ast.PUBLIC;
+            case "private":
+                return Ast.PRIVATE;
+            case "protected":
+                return Ast.PROTECTED;
+            default:
+                return 0;
+        }
+    }
+
+    private void setName(int node, String text) {
+        ast.setName(node, names.intern(text));
+    }
+
+    private static List<ParseTree> children(ParserRuleContext ctx) {
+        return ctx.children != null ? ctx.children : Collections.<ParseTree>emptyList();
+    }
+}
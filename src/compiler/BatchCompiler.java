@@ -0,0 +1,621 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyListener;
+import gen.japyParser;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the lex, parse and semantic check pipeline over many source files on a
+ * work-stealing pool. Every worker thread owns its own lexer and parser, and the
+ * per-file diagnostics are returned in input order no matter which file finished first.
+ *
+ * In whole-program mode the files are compiled in two phases. The first parses every file and
+ * collects its declarations; the declarations are merged into one {@link ProgramIndex}. The
+ * second walks the passes over every file with calls checked against that index, so methods
+ * declared later or in another file are known. Both phases run on the pool; the parse trees are
+ * kept in memory between them. Classes of files that are not compiled can be added to the index
+ * from their {@link SymbolInterface} files.
+ *
+ * The semantic errors of all files go to one {@link Diagnostics} collector, see
+ * {@link #getDiagnostics}, which keeps the first errors in file order up to the maximum. Once
+ * it is full, files after the one of the last kept error stop being checked or are skipped, and
+ * whatever such a file printed before is dropped, so the output does not depend on which files
+ * the workers happened to reach first.
+ *
+ * Given a {@link ParseCache}, as the compile daemon does, files compiled one by one are parsed
+ * incrementally: the tree of a file's last compile is edited where the text changed.
+ */
+public class BatchCompiler {
+    static final List<String> PASSES = Arrays.asList("printer", "table", "semantic");
+
+    private final int parallelism;
+    private final TwoStageParser programParser;
+    private final boolean streaming;
+    private final boolean packedLexer;
+    private final boolean dumpAst;
+    private final boolean dumpCfg;
+    private final boolean dumpConstants;
+    private final boolean dumpBounds;
+    private final List<String> passes;
+    private final boolean wholeProgram;
+    private final Path sourceRoot;
+    private final Path emitInterfaces;
+    private final List<Path> interfaces;
+    private final String dumpFormat;
+    private final Path dumpDir;
+    private final int maxErrors;
+    private final ParseCache parses;
+    private Diagnostics diagnostics;
+    private long declarationNanos;
+    private long checkNanos;
+    private final AtomicLong graphNanos = new AtomicLong();
+    private final AtomicLong graphs = new AtomicLong();
+    private final AtomicLong graphBlocks = new AtomicLong();
+    private final ThreadLocal<Frontend> frontends = ThreadLocal.withInitial(Frontend::new);
+
+    public BatchCompiler(CompileOptions options) {
+        this(options, null, Paths.get(""));
+    }
+
+    // parses is null unless trees are kept from one compile to the next; output and interface
+    // paths are resolved against sourceRoot, and output files are named by the path of their
+    // source relative to it
+    public BatchCompiler(CompileOptions options, ParseCache parses, Path sourceRoot) {
+        this.parses = parses;
+        this.sourceRoot = sourceRoot.toAbsolutePath().normalize();
+        this.parallelism = options.threads;
+        this.programParser = new TwoStageParser(options.twoStage);
+        this.streaming = options.streaming;
+        this.packedLexer = options.packedLexer;
+        this.dumpAst = options.dumpAst;
+        this.dumpCfg = options.dumpCfg;
+        this.dumpConstants = options.dumpConstants;
+        this.dumpBounds = options.dumpBounds;
+        this.passes = options.passes;
+        // both phases work on parse trees, so the streaming and dump modes compile file by file
+        this.wholeProgram = options.wholeProgram && !options.streaming && !options.dumpAst && !options.dumpCfg && !options.dumpConstants && !options.dumpBounds;
+        this.emitInterfaces = options.emitInterfaces == null ? null : this.sourceRoot.resolve(options.emitInterfaces);
+        this.dumpFormat = options.dumpFormat;
+        this.dumpDir = options.dumpDir == null ? null : this.sourceRoot.resolve(options.dumpDir);
+        this.maxErrors = options.maxErrors;
+        this.interfaces = new ArrayList<>();
+        for (String path : options.interfaces) {
+            interfaces.add(this.sourceRoot.resolve(path));
+        }
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public TwoStageParser getProgramParser() {
+        return programParser;
+    }
+
+    public boolean isWholeProgram() {
+        return wholeProgram;
+    }
+
+    /**
+     * The semantic errors of the last compile.
+     */
+    public Diagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * Wall time of the last whole-program compile spent parsing and collecting declarations.
+     */
+    public long getDeclarationNanos() {
+        return declarationNanos;
+    }
+
+    /**
+     * Wall time of the last whole-program compile spent checking files against the index.
+     */
+    public long getCheckNanos() {
+        return checkNanos;
+    }
+
+    public boolean isDumpingCfg() {
+        return dumpCfg;
+    }
+
+    /**
+     * Thread time of the last compile spent building control-flow graphs, see --dump-cfg.
+     */
+    public long getGraphNanos() {
+        return graphNanos.get();
+    }
+
+    public long getGraphCount() {
+        return graphs.get();
+    }
+
+    public long getGraphBlockCount() {
+        return graphBlocks.get();
+    }
+
+    public List<Result> compile(List<Path> files) throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        diagnostics = new Diagnostics(maxErrors);
+        graphNanos.set(0);
+        graphs.set(0);
+        graphBlocks.set(0);
+        try {
+            if (wholeProgram) {
+                return compileProgram(pool, files);
+            }
+            List<Callable<Result>> tasks = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                int index = i;
+                tasks.add(() -> compileFile(file, index));
+            }
+            return dropPastLimit(invokeAll(pool, tasks));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<Result> compileProgram(ForkJoinPool pool, List<Path> files) throws InterruptedException {
+        long start = System.nanoTime();
+        List<Callable<Declarations>> declare = new ArrayList<>(files.size());
+        for (Path file : files) {
+            declare.add(() -> declareFile(file));
+        }
+        List<Declarations> declarations = invokeAll(pool, declare);
+        List<Scope> fileScopes = new ArrayList<>(declarations.size());
+        for (Declarations declared : declarations) {
+            fileScopes.add(declared.scopes.getGlobalScope());
+        }
+        ProgramIndex program = ProgramIndex.build(fileScopes, openInterfaces());
+        long declared = System.nanoTime();
+
+        List<Callable<Result>> check = new ArrayList<>(declarations.size());
+        for (int i = 0; i < declarations.size(); i++) {
+            Declarations file = declarations.get(i);
+            int index = i;
+            check.add(() -> checkFile(file, program, index));
+        }
+        List<Result> results = dropPastLimit(invokeAll(pool, check));
+        declarationNanos = declared - start;
+        checkNanos = System.nanoTime() - declared;
+        return results;
+    }
+
+    // empties the results of the files whose errors could not be kept, as if they were skipped
+    private List<Result> dropPastLimit(List<Result> results) {
+        for (int i = 0; i < results.size(); i++) {
+            if (diagnostics.isPastLimit(i)) {
+                results.set(i, new Result(results.get(i).file, "", false));
+            }
+        }
+        return results;
+    }
+
+    // the classes of the --interfaces files and directories, or null when none are given; only
+    // the headers are read here
+    private InterfaceClasses openInterfaces() {
+        if (interfaces.isEmpty()) {
+            return null;
+        }
+        List<Path> found = new ArrayList<>();
+        for (Path path : interfaces) {
+            try {
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> list = Files.walk(path)) {
+                        list.filter(file -> file.getFileName().toString().endsWith(SymbolInterface.EXTENSION))
+                                .sorted()
+                                .forEach(found::add);
+                    }
+                } else {
+                    found.add(path);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot read symbol interfaces from " + path, e);
+            }
+        }
+        try {
+            return InterfaceClasses.open(found);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read symbol interfaces", e);
+        }
+    }
+
+    // writes the interface of a declared file unless the one on disk was made from the same source
+    private void emitInterface(Path file, Scope fileScope) throws IOException {
+        Path target = emitInterfaces.resolve(outputName(file) + SymbolInterface.EXTENSION);
+        byte[] hash = SymbolInterface.hash(file);
+        if (Files.exists(target)) {
+            try {
+                if (SymbolInterface.open(target).isUpToDate(hash)) {
+                    return;
+                }
+            } catch (IOException e) {
+                // unreadable or from another format version: write it again
+            }
+        }
+        Files.createDirectories(target.getParent());
+        SymbolInterface.write(target, fileScope, hash);
+    }
+
+    // the path of file relative to the source root, or for a file outside it its absolute path
+    // without the root, so that sources with the same name in different directories get outputs
+    // of their own
+    private String outputName(Path file) {
+        Path absolute = sourceRoot.resolve(file).normalize();
+        Path relative = absolute.startsWith(sourceRoot) ? sourceRoot.relativize(absolute) : absolute.getRoot().relativize(absolute);
+        return relative.toString();
+    }
+
+    // where the table pass of file writes, or null for the log
+    private Path dumpFile(Path file) {
+        return dumpDir == null ? null : dumpDir.resolve(outputName(file) + SymbolDump.extension(dumpFormat));
+    }
+
+    private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) throws InterruptedException {
+        List<Future<T>> futures = pool.invokeAll(tasks);
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private Declarations declareFile(Path file) {
+        Declarations declarations = new Declarations(file);
+        try {
+            CharStream stream = MappedCharStream.fromPath(file);
+            StreamErrorListener errors = new StreamErrorListener(declarations.log);
+            declarations.tree = frontends.get().parse(stream, errors, programParser, packedLexer);
+            declarations.syntaxErrors = errors.getErrorCount();
+            declarations.scopes.declare(declarations.tree);
+            if (emitInterfaces != null) {
+                emitInterface(file, declarations.scopes.getGlobalScope());
+            }
+        } catch (IOException e) {
+            declarations.log.println("error: cannot read " + file + ": " + e.getMessage());
+            declarations.tree = null;
+        } catch (RuntimeException | OutOfMemoryError | StackOverflowError e) {
+            declarations.log.println("error: internal compiler error in " + file + ": " + e);
+            declarations.tree = null;
+        }
+        return declarations;
+    }
+
+    private Result checkFile(Declarations declarations, ProgramIndex program, int index) {
+        PrintStream log = declarations.log;
+        boolean failed = declarations.tree == null;
+        if (!failed && !diagnostics.isPastLimit(index)) {
+            PassSet passSet = new PassSet(passes, log, program, index, diagnostics, dumpFormat, dumpFile(declarations.file));
+            try {
+                ParseTreeWalker.DEFAULT.walk(passSet.listener, declarations.tree);
+            } catch (Diagnostics.LimitReached e) {
+                // the rest of the file is not checked
+            } catch (RuntimeException | OutOfMemoryError | StackOverflowError e) {
+                log.println("error: internal compiler error in " + declarations.file + ": " + e);
+                failed = true;
+            } finally {
+                passSet.flushTo(log);
+            }
+        }
+        log.flush();
+        failed |= declarations.syntaxErrors > 0 || diagnostics.hasErrors(index);
+        return new Result(declarations.file, declarations.buffer.toString(), failed);
+    }
+
+    private Result compileFile(Path file, int index) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream log = new PrintStream(buffer);
+        boolean failed = false;
+        int syntaxErrors = 0;
+        if (diagnostics.isPastLimit(index)) {
+            return new Result(file, "", false);
+        }
+        try {
+            if (streaming) {
+                try (InputStream input = Files.newInputStream(file)) {
+                    PassSet passSet = new PassSet(passes, log, null, index, diagnostics, dumpFormat, dumpFile(file));
+                    StreamErrorListener errors = new StreamErrorListener(log);
+                    try {
+                        new StreamingChecker(errors).check(input, file.toString(), passSet.listener);
+                    } finally {
+                        passSet.flushTo(log);
+                        syntaxErrors = errors.getErrorCount();
+                    }
+                }
+            } else if (parses != null) {
+                ParseCache.Entry entry = parses.entry(file);
+                // the next compile of the file edits this tree, so it waits until we are done
+                synchronized (entry) {
+                    StreamErrorListener errors = new StreamErrorListener(log);
+                    japyParser.ProgramContext tree = entry.parse(file, errors, programParser, packedLexer);
+                    syntaxErrors = errors.getErrorCount();
+                    process(tree, file, index, log);
+                }
+            } else {
+                CharStream stream = MappedCharStream.fromPath(file);
+                StreamErrorListener errors = new StreamErrorListener(log);
+                japyParser.ProgramContext tree = frontends.get().parse(stream, errors, programParser, packedLexer);
+                syntaxErrors = errors.getErrorCount();
+                process(tree, file, index, log);
+            }
+        } catch (IOException e) {
+            log.println("error: cannot read " + file + ": " + e.getMessage());
+            failed = true;
+        } catch (Diagnostics.LimitReached e) {
+            // the rest of the file is not checked
+        } catch (RuntimeException | OutOfMemoryError | StackOverflowError e) {
+            // a file too large or deep for an analysis fails on its own instead of ending the batch
+            log.println("error: internal compiler error in " + file + ": " + e);
+            failed = true;
+        }
+        log.flush();
+        failed |= syntaxErrors > 0 || diagnostics.hasErrors(index);
+        return new Result(file, buffer.toString(), failed);
+    }
+
+    // dumps the parsed file or walks the passes over it
+    private void process(japyParser.ProgramContext tree, Path file, int index, PrintStream log) {
+        if (dumpAst) {
+            lowerLive(tree).dump(log);
+        } else if (dumpCfg) {
+            dumpGraphs(lowerLive(tree), log);
+        } else if (dumpConstants) {
+            ConstantValues.fold(AstLowering.lower(tree, NamePool.global())).dump(log);
+        } else if (dumpBounds) {
+            dumpBounds(tree, log);
+        } else {
+            PassSet passSet = new PassSet(passes, log, null, index, diagnostics, dumpFormat, dumpFile(file));
+            try {
+                ParseTreeWalker.DEFAULT.walk(passSet.listener, tree);
+            } finally {
+                passSet.flushTo(log);
+            }
+        }
+    }
+
+    // the Ast later stages see: lowered, with the statements that can never run pruned
+    private static Ast lowerLive(japyParser.ProgramContext tree) {
+        Ast ast = AstLowering.lower(tree, NamePool.global());
+        Reachability.prune(ast);
+        return ast;
+    }
+
+    // types the file's expressions against its own classes and dumps its array accesses
+    private void dumpBounds(japyParser.ProgramContext tree, PrintStream log) {
+        ScopeBuilder declarations = new ScopeBuilder();
+        declarations.declare(tree);
+        ClassHierarchy hierarchy = declarations.getHierarchy();
+        Ast ast = AstLowering.lower(tree, NamePool.global());
+        ArrayBounds.analyze(ast, ExpressionTypes.infer(ast, hierarchy, new MethodResolver(hierarchy))).dump(log);
+    }
+
+    // builds the graph of every method, timing the builds alone, and dumps them to log
+    private void dumpGraphs(Ast ast, PrintStream log) {
+        ControlFlowGraph.Builder builder = new ControlFlowGraph.Builder(ast);
+        List<ControlFlowGraph> built = new ArrayList<>();
+        long blocks = 0;
+        long start = System.nanoTime();
+        for (int node = 0; node < ast.size(); node++) {
+            if (ast.kind(node) == Ast.METHOD) {
+                ControlFlowGraph graph = builder.build(node);
+                blocks += graph.blockCount();
+                built.add(graph);
+            }
+        }
+        graphNanos.addAndGet(System.nanoTime() - start);
+        graphs.addAndGet(built.size());
+        graphBlocks.addAndGet(blocks);
+        for (ControlFlowGraph graph : built) {
+            graph.dump(log);
+        }
+    }
+
+    public static List<Path> collectSources(List<String> arguments) throws IOException {
+        return collectSources(arguments, Paths.get(""));
+    }
+
+    public static List<Path> collectSources(List<String> arguments, Path base) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith("@")) {
+                for (String line : Files.readAllLines(base.resolve(argument.substring(1)))) {
+                    if (!line.trim().isEmpty()) {
+                        files.add(base.resolve(line.trim()));
+                    }
+                }
+                continue;
+            }
+            Path path = base.resolve(argument);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    files.addAll(walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList()));
+                }
+            } else {
+                files.add(path);
+            }
+        }
+        return files;
+    }
+
+    private static class Frontend {
+        private final japyLexer lexer = new japyLexer(null);
+        private final japyParser parser = new japyParser(null);
+
+        japyParser.ProgramContext parse(CharStream stream, StreamErrorListener errorListener, TwoStageParser programParser, boolean packedLexer) {
+            if (packedLexer) {
+                PackedTokens tokens = new PackedLexer(stream, errorListener).tokenize();
+                parser.setTokenStream(new PackedTokenStream(tokens));
+            } else {
+                lexer.setInputStream(stream);
+                lexer.removeErrorListeners();
+                lexer.addErrorListener(errorListener);
+                parser.setTokenStream(new CommonTokenStream(lexer));
+            }
+            parser.removeErrorListeners();
+            parser.addErrorListener(errorListener);
+            parser.setBuildParseTree(true);
+            return programParser.parseProgram(parser);
+        }
+    }
+
+    /**
+     * The listener passes run over one file. Several passes share one {@link ScopeBuilder} and
+     * are walked together through a {@link ListenerMultiplexer}. The first pass writes straight
+     * to the log and every later one to its own buffer, and the buffers are appended in pass
+     * order, so the output is the same as walking the passes one by one. The table pass writes
+     * in the chosen dump format, to its own file when one is given. The semantic pass reports
+     * its errors to the shared collector.
+     * A pass that throws ends the walk for all of them; what was written so far is still flushed.
+     */
+    private static class PassSet {
+        final japyListener listener;
+        private final List<ByteArrayOutputStream> buffers = new ArrayList<>();
+        private final String dumpFormat;
+        private final Path dumpFile;
+        private final Diagnostics diagnostics;
+        private FileChannel dumpChannel;
+
+        // index numbers the file among those compiled; program is null unless the file is checked
+        // as file number index of a whole program; dumpFile is null when the table goes to the
+        // log like the other passes
+        PassSet(List<String> names, PrintStream log, ProgramIndex program, int index, Diagnostics diagnostics,
+                String dumpFormat, Path dumpFile) {
+            this.dumpFormat = dumpFormat;
+            this.dumpFile = dumpFile;
+            this.diagnostics = diagnostics;
+            if (names.size() == 1) {
+                listener = create(names.get(0), null, log, program, index);
+                return;
+            }
+            ScopeBuilder scopes = new ScopeBuilder();
+            japyListener[] listeners = new japyListener[names.size() + 1];
+            listeners[0] = scopes;
+            listeners[1] = create(names.get(0), scopes, log, program, index);
+            for (int i = 1; i < names.size(); i++) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                buffers.add(buffer);
+                listeners[i + 1] = create(names.get(i), scopes, new PrintStream(buffer), program, index);
+            }
+            listener = new ListenerMultiplexer(listeners);
+        }
+
+        // scopes is null when the pass builds its own
+        private japyListener create(String name, ScopeBuilder scopes, PrintStream out, ProgramIndex program, int index) {
+            switch (name) {
+                case "printer":
+                    return new ProgramPrinter(out);
+                case "table":
+                    SymbolDump dump = dumpFile == null ? SymbolDump.create(dumpFormat, out) : SymbolDump.create(dumpFormat, openDump());
+                    return scopes == null ? new SymbolTable(dump) : new SymbolTable(scopes, dump);
+                case "semantic":
+                    SemanticError semantic = scopes == null ? new SemanticError(out, out) : new SemanticError(scopes, out, out);
+                    semantic.setDiagnostics(diagnostics, index);
+                    if (program != null) {
+                        semantic.setProgramIndex(program, index);
+                    }
+                    return semantic;
+                default:
+                    throw new IllegalArgumentException("unknown pass " + name);
+            }
+        }
+
+        private FileChannel openDump() {
+            try {
+                Files.createDirectories(dumpFile.getParent());
+                dumpChannel = FileChannel.open(dumpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                return dumpChannel;
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot write " + dumpFile, e);
+            }
+        }
+
+        void flushTo(PrintStream log) {
+            try {
+                for (ByteArrayOutputStream buffer : buffers) {
+                    buffer.writeTo(log);
+                }
+                if (dumpChannel != null) {
+                    dumpChannel.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // a parsed file and its declarations, kept from the first to the second whole-program phase
+    private static class Declarations {
+        final Path file;
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final PrintStream log = new PrintStream(buffer);
+        final ScopeBuilder scopes = new ScopeBuilder();
+        japyParser.ProgramContext tree;
+        int syntaxErrors;
+
+        Declarations(Path file) {
+            this.file = file;
+        }
+    }
+
+    public static class Result {
+        private final Path file;
+        private final String output;
+        private final boolean failed;
+
+        Result(Path file, String output, boolean failed) {
+            this.file = file;
+            this.output = output;
+            this.failed = failed;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public String getOutput() {
+            return output;
+        }
+
+        /**
+         * Whether the file could not be read or checked, or has syntax or semantic errors.
+         */
+        public boolean isFailed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timing harness for the checks whose speed-ups are claimed in the history, so the numbers can
+ * be reproduced rather than taken from a commit message. Each round prints the time and the
+ * bytes allocated by this thread for every path; the first rounds include JIT warm-up.
+ *
+ * Usage: Benchmark calls [rounds] [calls per round]
+ *        Benchmark passes file [rounds]
+ *
+ * calls times one three-argument call checked three ways: the old check, which rendered the
+ * callee with toString() and took it apart with regular expressions (kept below, condensed), the
+ * MethodSignature comparison that replaced it, and the MethodResolver lookup the semantic pass
+ * uses now. passes parses the file once and times the printer, table and semantic passes walked
+ * one after the other against the same passes walked once through a {@link ListenerMultiplexer}.
+ */
+public class Benchmark {
+    private static final PrintStream NULL = new PrintStream(OutputStream.nullOutputStream());
+
+    private static final String CALL_PROGRAM =
+            "MAIN class Main begin\n" +
+            "    func calculateSum(x: double, y: double, z: string) returns double begin\n" +
+            "        return x\n" +
+            "    end\n" +
+            "    func main() returns int begin\n" +
+            "        var a = calculateSum(2.5, 3.0, \"s\")\n" +
+            "        return 0\n" +
+            "    end\n" +
+            "end\n";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 1 && args[0].equals("calls")) {
+            calls(args.length > 1 ? Integer.parseInt(args[1]) : 5, args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000);
+        } else if (args.length >= 2 && args[0].equals("passes")) {
+            passes(args[1], args.length > 2 ? Integer.parseInt(args[2]) : 6);
+        } else {
+            System.err.println("usage: Benchmark calls [rounds] [calls per round] | Benchmark passes file [rounds]");
+            System.exit(2);
+        }
+    }
+
+    private static void calls(int rounds, int calls) {
+        japyParser.ProgramContext program = parse(CharStreams.fromString(CALL_PROGRAM));
+        ScopeBuilder declarations = new ScopeBuilder();
+        declarations.declare(program);
+        ClassHierarchy hierarchy = declarations.getHierarchy();
+        int classNameId = NamePool.global().find("Main");
+        int methodNameId = NamePool.global().find("calculateSum");
+        SymbolTable.SymbolInfo method = hierarchy.findMethods(classNameId, methodNameId)[0];
+        MethodResolver resolver = new MethodResolver(hierarchy);
+
+        japyParser.ExpressionContext expression = parseExpression("calculateSum(2.5, 3.0, \"s\")");
+        japyParser.ExpressionOtherContext call = ((japyParser.ExpressionPrimaryContext) expression).o;
+        int[] argumentTypes = new int[4];
+        int accepted = 0;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            long startBytes = allocatedBytes();
+            for (int i = 0; i < calls; i++) {
+                accepted += oldCheck(method, expression) ? 1 : 0;
+            }
+            long old = System.nanoTime();
+            long oldBytes = allocatedBytes();
+            for (int i = 0; i < calls; i++) {
+                accepted += signatureCheck(method.signature, call, argumentTypes, hierarchy) ? 1 : 0;
+            }
+            long signature = System.nanoTime();
+            long signatureBytes = allocatedBytes();
+            for (int i = 0; i < calls; i++) {
+                int arity = argumentTypes(call, argumentTypes);
+                accepted += resolver.resolve(classNameId, methodNameId, argumentTypes, arity).status == MethodResolver.RESOLVED ? 1 : 0;
+            }
+            long resolved = System.nanoTime();
+            long resolvedBytes = allocatedBytes();
+            System.out.printf("round %d: old %7.1f ns/call %6.0f B/call | signature %6.1f ns/call %5.1f B/call | resolver %6.1f ns/call %5.1f B/call%n",
+                    round + 1, (old - start) / (double) calls, (oldBytes - startBytes) / (double) calls,
+                    (signature - old) / (double) calls, (signatureBytes - oldBytes) / (double) calls,
+                    (resolved - signature) / (double) calls, (resolvedBytes - signatureBytes) / (double) calls);
+        }
+        // keeps the checks from being optimised away
+        System.out.println("accepted " + accepted + " calls");
+    }
+
+    private static void passes(String file, int rounds) throws IOException {
+        ParseTree tree = parse(CharStreams.fromFileName(file));
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            long startBytes = allocatedBytes();
+            ParseTreeWalker.DEFAULT.walk(new ProgramPrinter(NULL), tree);
+            ParseTreeWalker.DEFAULT.walk(new SymbolTable(NULL), tree);
+            ParseTreeWalker.DEFAULT.walk(new SemanticError(NULL, NULL), tree);
+            long separate = System.nanoTime();
+            long separateBytes = allocatedBytes();
+            ScopeBuilder scopes = new ScopeBuilder();
+            ParseTreeWalker.DEFAULT.walk(new ListenerMultiplexer(scopes, new ProgramPrinter(NULL),
+                    new SymbolTable(scopes, NULL), new SemanticError(scopes, NULL, NULL)), tree);
+            long multiplexed = System.nanoTime();
+            long multiplexedBytes = allocatedBytes();
+            System.out.printf("round %d: separate walks %8.1f ms %8.1f MB | one multiplexed walk %8.1f ms %8.1f MB%n",
+                    round + 1, (separate - start) / 1e6, (separateBytes - startBytes) / 1e6,
+                    (multiplexed - separate) / 1e6, (multiplexedBytes - separateBytes) / 1e6);
+        }
+    }
+
+    private static japyParser.ProgramContext parse(org.antlr.v4.runtime.CharStream stream) {
+        japyParser parser = new japyParser(new CommonTokenStream(new japyLexer(stream)));
+        parser.removeErrorListeners();
+        return parser.program();
+    }
+
+    private static japyParser.ExpressionContext parseExpression(String text) {
+        japyParser parser = new japyParser(new CommonTokenStream(new japyLexer(CharStreams.fromString(text))));
+        parser.removeErrorListeners();
+        return parser.expression();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    // the descriptors of the literal arguments of call, as the semantic pass read them when the
+    // signature check was introduced; other arguments are UNKNOWN
+    private static int argumentTypes(japyParser.ExpressionOtherContext call, int[] types) {
+        int arity = 0;
+        for (int i = 0; i < call.getChildCount(); i++) {
+            if (call.getChild(i) instanceof japyParser.ExpressionContext) {
+                japyParser.ExpressionContext argument = (japyParser.ExpressionContext) call.getChild(i);
+                int type = MethodSignature.UNKNOWN;
+                if (argument instanceof japyParser.ExpressionPrimaryContext) {
+                    japyParser.ExpressionOtherContext value = ((japyParser.ExpressionPrimaryContext) argument).o;
+                    if (value.s != null) {
+                        type = MethodSignature.STRING;
+                    } else if (value.n != null) {
+                        type = value.n.getText().indexOf('.') >= 0 ? MethodSignature.DOUBLE : MethodSignature.INT;
+                    }
+                }
+                types[arity++] = type;
+            }
+        }
+        return arity;
+    }
+
+    private static boolean signatureCheck(MethodSignature signature, japyParser.ExpressionOtherContext call, int[] types,
+                                          ClassHierarchy hierarchy) {
+        int arity = argumentTypes(call, types);
+        if (arity != signature.arity()) {
+            return false;
+        }
+        for (int i = 0; i < arity; i++) {
+            if (!signature.accepts(i, types[i], hierarchy)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the call check of SemanticError before MethodSignature and its helpers, condensed but doing
+    // the same string work; the symbol lookup by name is left out
+    private static boolean oldCheck(SymbolTable.SymbolInfo method, japyParser.ExpressionContext expression) {
+        String[] formal = formalParams(method.toString());
+        String[] actual = actualParams(expression.getText());
+        if (formal.length != actual.length) {
+            return false;
+        }
+        for (int i = 0; i < formal.length; i++) {
+            if (!formal[i].contains(rightType(actual[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] formalParams(String methodString) {
+        int startIndex = methodString.indexOf("parameters:[");
+        int endIndex = methodString.indexOf("]]", startIndex);
+        if (startIndex == -1 || endIndex == -1) {
+            return new String[0];
+        }
+        String parametersSection = methodString.substring(startIndex + "parameters: [".length(), endIndex + "]]".length());
+        String[] parameterDefinitions = parametersSection.replaceAll("\\s+", "").replaceAll("\\[\\[", "[").replaceAll("]]", "]").split("],\\[");
+        List<String> paramList = new ArrayList<>();
+        for (String paramDef : parameterDefinitions) {
+            for (String param : paramDef.substring(1, paramDef.length() - 1).split("\\),\\(")) {
+                param = param.replaceAll("[()]", "").trim();
+                if (param.contains("type")) {
+                    paramList.add(param.substring(param.indexOf(':') + 1).trim());
+                }
+            }
+        }
+        return paramList.toArray(new String[0]);
+    }
+
+    private static String rightType(String value) {
+        if (value.contains("\"")) {
+            return "string";
+        } else if (value.contains(".")) {
+            return "double";
+        } else if (value.contains("True") || value.contains("False")) {
+            return "bool";
+        }
+        return "int";
+    }
+
+    private static String[] actualParams(String exprText) {
+        exprText = exprText.trim();
+        int start = exprText.indexOf('(');
+        int end = exprText.indexOf(')');
+        if (start == -1 || end == -1) {
+            return new String[0];
+        }
+        List<String> params = new ArrayList<>();
+        for (String param : exprText.substring(start + 1, end).trim().split(",")) {
+            params.add(param.trim());
+        }
+        return params.toArray(new String[0]);
+    }
+}
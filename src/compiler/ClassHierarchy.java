@@ -0,0 +1,485 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The resolved inheritance tree of the classes of one program, built once every class has been
+ * declared. Parents are resolved by name; a class whose parent is undefined, or which is part of
+ * an inheritance cycle, is recorded as a problem and treated as a root.
+ *
+ * Classes are numbered in a pre-order walk of the inheritance forest, so the subclasses of a class
+ * are exactly the classes numbered between it and the last class of its subtree. That makes
+ * {@link #isSubtypeOf} two int comparisons however deep the chain is. Every class keeps tables of
+ * only the fields and methods it declares itself; a member lookup walks up the parent chain, so the
+ * tables take space linear in the number of members however deep the hierarchy is.
+ *
+ * A hierarchy may also be given the {@link InterfaceClasses} of classes compiled elsewhere. A
+ * parent that is not among the classes built from source is looked up there, and so is a class
+ * asked for by name; such classes are decoded on first use. Lookups that leave the source classes
+ * continue along the parents of the interface classes, which are only looked up among the
+ * interfaces.
+ *
+ * A streamed program is checked class by class, against a hierarchy of the classes seen so far
+ * (see {@link #buildSoFar}). A class or parent missing from it may still come later, so
+ * {@link #mayBeSubtypeOf} takes it as unknown rather than unrelated.
+ */
+public class ClassHierarchy {
+    private static final int NONE = -1;
+
+    // indexed by pre-order number
+    private final SymbolTable.SymbolInfo[] classes;
+    private final int[] parent;
+    private final int[] last;
+    private final int[] depth;
+    // for a source class without a source parent: the name id of its parent among the
+    // interfaces, or NONE
+    private final int[] externalParent;
+    private final InterfaceClasses library;
+    // the members each class declares itself, null when it declares none of that kind
+    private final List<IntMap<SymbolTable.SymbolInfo>> fields;
+    private final List<IntMap<SymbolTable.SymbolInfo[]>> methods;
+    // class name id -> pre-order number
+    private final IntMap<Integer> numbers;
+    private final List<SymbolTable.SymbolInfo> undefinedParents = new ArrayList<>();
+    private final List<SymbolTable.SymbolInfo> cyclic = new ArrayList<>();
+    // whether classes not in the hierarchy may still be declared
+    private boolean partial;
+
+    private ClassHierarchy(int size, InterfaceClasses library) {
+        classes = new SymbolTable.SymbolInfo[size];
+        parent = new int[size];
+        last = new int[size];
+        depth = new int[size];
+        externalParent = new int[size];
+        Arrays.fill(externalParent, NONE);
+        this.library = library;
+        fields = new ArrayList<>(size);
+        methods = new ArrayList<>(size);
+        numbers = new IntMap<>(size);
+    }
+
+    /**
+     * Builds the hierarchy of the classes defined in {@code globalScope}. Of several classes with
+     * the same name only the first one is used, like the symbol passes do.
+     */
+    public static ClassHierarchy build(Scope globalScope) {
+        List<Scope> classScopes = new ArrayList<>();
+        for (Scope scope : globalScope.getChildren()) {
+            if (scope.getKind() == Scope.CLASS && !scope.getOwner().redefined) {
+                classScopes.add(scope);
+            }
+        }
+        return build(classScopes, null);
+    }
+
+    /**
+     * Builds the hierarchy of the given class scopes, which may come from several files. A class
+     * whose name was already used by an earlier scope in the list is left out. Parents that are
+     * not among the scopes are looked up in {@code library}, which may be null.
+     */
+    public static ClassHierarchy build(List<Scope> candidates, InterfaceClasses library) {
+        // class name id -> declaration order index
+        List<Scope> classScopes = new ArrayList<>(candidates.size());
+        IntMap<Integer> declared = new IntMap<>(candidates.size());
+        for (Scope scope : candidates) {
+            if (declared.get(scope.getOwner().nameId) == null) {
+                declared.put(scope.getOwner().nameId, classScopes.size());
+                classScopes.add(scope);
+            }
+        }
+        int size = classScopes.size();
+        ClassHierarchy hierarchy = new ClassHierarchy(size, library);
+
+        int[] declaredParent = new int[size];
+        int[] external = new int[size];
+        Arrays.fill(external, NONE);
+        for (int i = 0; i < size; i++) {
+            SymbolTable.SymbolInfo classInfo = classScopes.get(i).getOwner();
+            declaredParent[i] = NONE;
+            if (classInfo.parentNameId >= 0) {
+                Integer parentIndex = declared.get(classInfo.parentNameId);
+                if (parentIndex != null) {
+                    declaredParent[i] = parentIndex;
+                } else if (library != null && library.get(classInfo.parentNameId) != null) {
+                    external[i] = classInfo.parentNameId;
+                } else {
+                    hierarchy.undefinedParents.add(classInfo);
+                }
+            }
+        }
+        hierarchy.breakCycles(classScopes, declaredParent);
+
+        // children as first-child / next-sibling lists, kept in declaration order
+        int[] firstChild = new int[size];
+        int[] nextSibling = new int[size];
+        Arrays.fill(firstChild, NONE);
+        Arrays.fill(nextSibling, NONE);
+        for (int i = size - 1; i >= 0; i--) {
+            if (declaredParent[i] != NONE) {
+                nextSibling[i] = firstChild[declaredParent[i]];
+                firstChild[declaredParent[i]] = i;
+            }
+        }
+
+        // iterative pre-order walk, inheritance chains can be deeper than the Java stack
+        int[] number = new int[size];
+        int[] stack = new int[size];
+        int next = 0;
+        for (int root = 0; root < size; root++) {
+            if (declaredParent[root] != NONE) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int node = stack[--top];
+                int n = next++;
+                number[node] = n;
+                hierarchy.externalParent[n] = external[node];
+                hierarchy.enter(n, classScopes.get(node), declaredParent[node] == NONE ? NONE : number[declaredParent[node]]);
+                // push children in reverse so that they are numbered in declaration order
+                int count = 0;
+                for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                    stack[top + count++] = child;
+                }
+                reverse(stack, top, top + count);
+                top += count;
+            }
+        }
+        // a subtree ends where the next class that is not below it starts
+        for (int n = size - 1; n >= 0; n--) {
+            hierarchy.last[n] = Math.max(hierarchy.last[n], n);
+            if (hierarchy.parent[n] != NONE) {
+                hierarchy.last[hierarchy.parent[n]] = Math.max(hierarchy.last[hierarchy.parent[n]], hierarchy.last[n]);
+            }
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Builds the hierarchy of the classes of a program streamed so far, like
+     * {@link #build(List, InterfaceClasses)} without interfaces. Classes that are not among
+     * them may still be declared later in the program.
+     */
+    public static ClassHierarchy buildSoFar(List<Scope> classScopes) {
+        ClassHierarchy hierarchy = build(classScopes, null);
+        hierarchy.partial = true;
+        return hierarchy;
+    }
+
+    // records every class on a parent cycle and cuts the cycle by making its classes roots
+    private void breakCycles(List<Scope> classScopes, int[] declaredParent) {
+        final byte unvisited = 0;
+        final byte onPath = 1;
+        final byte done = 2;
+        byte[] state = new byte[declaredParent.length];
+        for (int start = 0; start < declaredParent.length; start++) {
+            int node = start;
+            while (node != NONE && state[node] == unvisited) {
+                state[node] = onPath;
+                node = declaredParent[node];
+            }
+            int cycle = node != NONE && state[node] == onPath ? node : NONE;
+            for (node = start; node != NONE && state[node] == onPath; node = declaredParent[node]) {
+                state[node] = done;
+            }
+            if (cycle != NONE) {
+                int member = cycle;
+                do {
+                    cyclic.add(classScopes.get(member).getOwner());
+                    int up = declaredParent[member];
+                    declaredParent[member] = NONE;
+                    member = up;
+                } while (member != cycle);
+            }
+        }
+    }
+
+    private void enter(int n, Scope classScope, int parentNumber) {
+        SymbolTable.SymbolInfo classInfo = classScope.getOwner();
+        classes[n] = classInfo;
+        parent[n] = parentNumber;
+        depth[n] = parentNumber == NONE ? 0 : depth[parentNumber] + 1;
+        numbers.put(classInfo.nameId, n);
+
+        IntMap<SymbolTable.SymbolInfo> fieldTable = null;
+        IntMap<SymbolTable.SymbolInfo[]> methodTable = null;
+        for (SymbolTable.SymbolInfo member : classScope.getSymbols()) {
+            if (member.redefined) {
+                continue;
+            }
+            if (member.kind.equals("field")) {
+                if (fieldTable == null) {
+                    fieldTable = new IntMap<>(8);
+                }
+                fieldTable.put(member.nameId, member);
+            } else if (member.kind.equals("method")) {
+                if (methodTable == null) {
+                    methodTable = new IntMap<>(8);
+                }
+                methodTable.put(member.nameId, override(methodTable.get(member.nameId), member));
+            }
+        }
+        fields.add(fieldTable);
+        methods.add(methodTable);
+    }
+
+    // the overloads of a name with the one of the same signature replaced by method, or with
+    // method added when none has it
+    static SymbolTable.SymbolInfo[] override(SymbolTable.SymbolInfo[] inherited, SymbolTable.SymbolInfo method) {
+        if (inherited == null) {
+            return new SymbolTable.SymbolInfo[]{method};
+        }
+        for (int i = 0; i < inherited.length; i++) {
+            if (inherited[i].signature.sameParameterTypes(method.signature)) {
+                SymbolTable.SymbolInfo[] overridden = inherited.clone();
+                overridden[i] = method;
+                return overridden;
+            }
+        }
+        SymbolTable.SymbolInfo[] extended = Arrays.copyOf(inherited, inherited.length + 1);
+        extended[inherited.length] = method;
+        return extended;
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int swap = array[i];
+            array[i] = array[j];
+            array[j] = swap;
+        }
+    }
+
+    private int number(int classNameId) {
+        Integer n = classNameId < 0 ? null : numbers.get(classNameId);
+        return n == null ? NONE : n;
+    }
+
+    // the interface class with that name id when it is not a source class, or null
+    private InterfaceClasses.Loaded external(int classNameId) {
+        return library == null || number(classNameId) != NONE ? null : library.get(classNameId);
+    }
+
+    // the name id of the interface class the chain of source class n continues with, or NONE
+    private int externalAncestor(int n) {
+        while (parent[n] != NONE) {
+            n = parent[n];
+        }
+        return externalParent[n];
+    }
+
+    /**
+     * Number of classes the hierarchy can resolve: those built from source and, counted per
+     * file, those of its interfaces.
+     */
+    public int size() {
+        return classes.length + (library == null ? 0 : library.getClassCount());
+    }
+
+    public boolean contains(int classNameId) {
+        return number(classNameId) != NONE || external(classNameId) != null;
+    }
+
+    public SymbolTable.SymbolInfo getClass(int classNameId) {
+        int n = number(classNameId);
+        if (n != NONE) {
+            return classes[n];
+        }
+        InterfaceClasses.Loaded loaded = external(classNameId);
+        return loaded == null ? null : loaded.info;
+    }
+
+    /**
+     * The resolved parent class, or null for roots and unknown classes.
+     */
+    public SymbolTable.SymbolInfo getParent(int classNameId) {
+        int n = number(classNameId);
+        if (n != NONE) {
+            return parent[n] != NONE ? classes[parent[n]] : getClass(externalParent[n]);
+        }
+        InterfaceClasses.Loaded loaded = external(classNameId);
+        return loaded == null ? null : getClass(loaded.info.parentNameId);
+    }
+
+    /**
+     * Number of resolved ancestors of the class, -1 for unknown classes.
+     */
+    public int getDepth(int classNameId) {
+        int n = number(classNameId);
+        int external = n == NONE ? classNameId : externalAncestor(n);
+        int count = n == NONE ? -1 : depth[n];
+        for (int steps = 0; external(external) != null && steps <= size(); steps++) {
+            count++;
+            external = external(external).info.parentNameId;
+        }
+        return count;
+    }
+
+    /**
+     * Whether the class is {@code superNameId} or inherits from it, directly or not.
+     */
+    public boolean isSubtypeOf(int classNameId, int superNameId) {
+        int sub = number(classNameId);
+        int sup = number(superNameId);
+        if (sub != NONE && sup != NONE) {
+            return sup <= sub && sub <= last[sup];
+        }
+        if (sup != NONE || external(superNameId) == null) {
+            // interface classes only inherit from interface classes
+            return false;
+        }
+        int external = sub == NONE ? classNameId : externalAncestor(sub);
+        for (int steps = 0; external(external) != null && steps <= size(); steps++) {
+            if (external == superNameId) {
+                return true;
+            }
+            external = external(external).info.parentNameId;
+        }
+        return false;
+    }
+
+    /**
+     * Whether a value of the class may be used where a {@code superNameId} is expected: it is a
+     * subtype, or that cannot be told because a class along its chain of parents is not known,
+     * or, in a hierarchy of the classes seen so far, the class itself is not known yet.
+     */
+    public boolean mayBeSubtypeOf(int classNameId, int superNameId) {
+        if (isSubtypeOf(classNameId, superNameId)) {
+            return true;
+        }
+        if (!contains(classNameId)) {
+            return partial && isClassName(classNameId);
+        }
+        return !isAncestryKnown(classNameId);
+    }
+
+    /**
+     * Whether the class and every class it inherits from are known.
+     */
+    public boolean isAncestryKnown(int classNameId) {
+        SymbolTable.SymbolInfo classInfo = getClass(classNameId);
+        for (int steps = 0; classInfo != null && steps <= size(); steps++) {
+            if (classInfo.parentNameId < 0) {
+                return true;
+            }
+            classInfo = getParent(classInfo.nameId);
+        }
+        return false;
+    }
+
+    // whether a type descriptor may name a class: it is not a built-in or array type
+    private static boolean isClassName(int type) {
+        if (type < 0 || type == MethodSignature.INT || type == MethodSignature.DOUBLE
+                || type == MethodSignature.BOOL || type == MethodSignature.STRING) {
+            return false;
+        }
+        return !NamePool.global().name(type).endsWith("[]");
+    }
+
+    /**
+     * The field visible under that name in the class, declared there or inherited.
+     */
+    public SymbolTable.SymbolInfo findField(int classNameId, int fieldNameId) {
+        if (fieldNameId < 0) {
+            return null;
+        }
+        int n = number(classNameId);
+        int external = n == NONE ? classNameId : NONE;
+        for (; n != NONE; n = parent[n]) {
+            SymbolTable.SymbolInfo field = fields.get(n) == null ? null : fields.get(n).get(fieldNameId);
+            if (field != null) {
+                return field;
+            }
+            external = externalParent[n];
+        }
+        for (int steps = 0; external(external) != null && steps <= size(); steps++) {
+            InterfaceClasses.Loaded loaded = external(external);
+            SymbolTable.SymbolInfo field = loaded.fields.get(fieldNameId);
+            if (field != null) {
+                return field;
+            }
+            external = loaded.info.parentNameId;
+        }
+        return null;
+    }
+
+    /**
+     * All methods of that name visible in the class, one per parameter list, the most derived
+     * definition of each. Returns an empty array when there are none.
+     */
+    public SymbolTable.SymbolInfo[] findMethods(int classNameId, int methodNameId) {
+        if (methodNameId < 0) {
+            return new SymbolTable.SymbolInfo[0];
+        }
+        // the overloads declared by each class on the chain that declares the name, most derived
+        // first; only the first is kept apart from the list, which is rarely needed
+        SymbolTable.SymbolInfo[] found = null;
+        List<SymbolTable.SymbolInfo[]> inherited = null;
+        int n = number(classNameId);
+        int external = n == NONE ? classNameId : NONE;
+        for (int steps = 0; n != NONE || (external(external) != null && steps <= size()); steps++) {
+            SymbolTable.SymbolInfo[] own;
+            if (n != NONE) {
+                own = methods.get(n) == null ? null : methods.get(n).get(methodNameId);
+                external = externalParent[n];
+                n = parent[n];
+            } else {
+                InterfaceClasses.Loaded loaded = external(external);
+                own = loaded.methods.get(methodNameId);
+                external = loaded.info.parentNameId;
+            }
+            if (own == null) {
+                continue;
+            }
+            if (found == null) {
+                found = own;
+            } else {
+                if (inherited == null) {
+                    inherited = new ArrayList<>(4);
+                }
+                inherited.add(own);
+            }
+        }
+        if (found == null) {
+            return new SymbolTable.SymbolInfo[0];
+        }
+        if (inherited == null) {
+            return found;
+        }
+        // apply the definitions from the root down, as a class overrides what it inherits
+        SymbolTable.SymbolInfo[] derived = found;
+        found = inherited.get(inherited.size() - 1);
+        for (int i = inherited.size() - 2; i >= -1; i--) {
+            for (SymbolTable.SymbolInfo method : i >= 0 ? inherited.get(i) : derived) {
+                found = override(found, method);
+            }
+        }
+        return found;
+    }
+
+    public SymbolTable.SymbolInfo findMethod(int classNameId, int methodNameId, MethodSignature signature) {
+        for (SymbolTable.SymbolInfo method : findMethods(classNameId, methodNameId)) {
+            if (method.signature.sameParameterTypes(signature)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Classes whose parent is not a defined class, in declaration order.
+     */
+    public List<SymbolTable.SymbolInfo> getUndefinedParents() {
+        return Collections.unmodifiableList(undefinedParents);
+    }
+
+    /**
+     * Classes that take part in an inheritance cycle.
+     */
+    public List<SymbolTable.SymbolInfo> getCyclicClasses() {
+        return Collections.unmodifiableList(cyclic);
+    }
+}
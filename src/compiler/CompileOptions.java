@@ -0,0 +1,114 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line switches of the batch driver.
+ */
+public class CompileOptions {
+    int threads = Runtime.getRuntime().availableProcessors();
+    boolean twoStage = true;
+    boolean streaming = false;
+    boolean packedLexer = false;
+    // print the Ast of every file, its dead statements pruned, instead of running the passes
+    boolean dumpAst = false;
+    // dump the control-flow graph of every method, dead statements pruned, instead of running the
+    // passes, and time building them
+    boolean dumpCfg = false;
+    // print the constant expressions of every method, folded, instead of running the passes
+    boolean dumpConstants = false;
+    // print whether every array access is provably in range instead of running the passes
+    boolean dumpBounds = false;
+    boolean wholeProgram = false;
+    // directory that --whole-program writes a symbol-interface file per source to, or null
+    String emitInterfaces;
+    // directories or files of symbol interfaces whose classes --whole-program checks against
+    List<String> interfaces = new ArrayList<>();
+    // format of the table pass, one of SymbolDump.FORMATS
+    String dumpFormat = "text";
+    // directory the table pass writes a dump file per source to, or null to write it to the log
+    String dumpDir;
+    // format the semantic errors are written in at the end, one of Diagnostics.FORMATS
+    String diagnosticsFormat = "text";
+    // number of errors after which checking stops
+    int maxErrors = Diagnostics.UNLIMITED;
+    // listener passes walked over every file, in output order
+    List<String> passes = Arrays.asList("semantic");
+    List<String> sources = new ArrayList<>();
+
+    public static CompileOptions parse(String[] args) {
+        CompileOptions options = new CompileOptions();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-j":
+                case "--threads":
+                    options.threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--ll":
+                    options.twoStage = false;
+                    break;
+                case "--stream":
+                    options.streaming = true;
+                    break;
+                case "--packed-lexer":
+                    options.packedLexer = true;
+                    break;
+                case "--dump-ast":
+                    options.dumpAst = true;
+                    break;
+                case "--dump-cfg":
+                    options.dumpCfg = true;
+                    break;
+                case "--dump-constants":
+                    options.dumpConstants = true;
+                    break;
+                case "--dump-bounds":
+                    options.dumpBounds = true;
+                    break;
+                case "--whole-program":
+                    options.wholeProgram = true;
+                    break;
+                case "--emit-interfaces":
+                    options.emitInterfaces = args[++i];
+                    break;
+                case "--interfaces":
+                    options.interfaces.add(args[++i]);
+                    break;
+                case "--dump-format":
+                    options.dumpFormat = args[++i];
+                    if (!SymbolDump.FORMATS.contains(options.dumpFormat)) {
+                        throw new IllegalArgumentException("unknown dump format " + options.dumpFormat + ", expected one of " + SymbolDump.FORMATS);
+                    }
+                    break;
+                case "--dump-dir":
+                    options.dumpDir = args[++i];
+                    break;
+                case "--diagnostics":
+                    options.diagnosticsFormat = args[++i];
+                    if (!Diagnostics.FORMATS.contains(options.diagnosticsFormat)) {
+                        throw new IllegalArgumentException("unknown diagnostics format " + options.diagnosticsFormat + ", expected one of " + Diagnostics.FORMATS);
+                    }
+                    break;
+                case "--max-errors":
+                    options.maxErrors = Integer.parseInt(args[++i]);
+                    if (options.maxErrors < 1) {
+                        throw new IllegalArgumentException("--max-errors must be positive");
+                    }
+                    break;
+                case "--passes":
+                    options.passes = Arrays.asList(args[++i].split(","));
+                    for (String pass : options.passes) {
+                        if (!BatchCompiler.PASSES.contains(pass)) {
+                            throw new IllegalArgumentException("unknown pass " + pass + ", expected one of " + BatchCompiler.PASSES);
+                        }
+                    }
+                    break;
+                default:
+                    options.sources.add(args[i]);
+            }
+        }
+        return options;
+    }
+}
@@ -11,9 +11,25 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 
 public class Compiler {
-    public static void main(String[] args) throws IOException {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--daemon")) {
+            Path socket = args.length > 1 ? Paths.get(args[1]) : DaemonProtocol.defaultSocket();
+            new CompileDaemon(socket).serve();
+            return;
+        }
+        if (args.length > 0) {
+            int status = runBatch(CompileOptions.parse(args), Paths.get(""), System.out, System.err);
+            if (status != 0) {
+                System.exit(status);
+            }
+            return;
+        }
         String inputFile = "./sample/test3.txt";
         CharStream stream = CharStreams.fromFileName(inputFile);
         japyLexer lexer = new japyLexer(stream);
@@ -28,4 +44,60 @@ public class Compiler {
 
         walker.walk(listener,tree);
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs a batch compile and returns the process exit code: 0 when every file compiled without
+     * a syntax or semantic error, 1 otherwise. Relative source paths are resolved against {@code workingDirectory}.
+     */
+    static int runBatch(CompileOptions options, Path workingDirectory, PrintStream out, PrintStream err)
+            throws IOException, InterruptedException {
+        return runBatch(options, null, workingDirectory, out, err);
+    }
+
+    /**
+     * Runs a batch compile that parses files incrementally against the trees kept in
+     * {@code parses}, see {@link BatchCompiler}.
+     */
+    static int runBatch(CompileOptions options, ParseCache parses, Path workingDirectory, PrintStream out, PrintStream err)
+            throws IOException, InterruptedException {
+        List<Path> files = BatchCompiler.collectSources(options.sources, workingDirectory);
+        BatchCompiler batch = new BatchCompiler(options, parses, workingDirectory);
+        long start = System.nanoTime();
+        List<BatchCompiler.Result> results = batch.compile(files);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int failed = 0;
+        for (BatchCompiler.Result result : results) {
+            out.print(result.getOutput());
+            out.flush();
+            if (result.isFailed()) {
+                failed++;
+            }
+        }
+        Diagnostics diagnostics = batch.getDiagnostics();
+        diagnostics.write(options.diagnosticsFormat, out);
+        out.flush();
+        if (diagnostics.isFull()) {
+            err.printf("stopped after %d errors%n", diagnostics.getMaxErrors());
+        }
+        err.printf("compiled %d files (%d failed) in %.3f s, %.1f files/s on %d threads%n",
+                results.size(), failed, seconds, results.size() / Math.max(seconds, 1e-9), batch.getParallelism());
+        if (batch.isWholeProgram()) {
+            err.printf("collected declarations in %.3f s, checked files in %.3f s%n",
+                    batch.getDeclarationNanos() / 1e9, batch.getCheckNanos() / 1e9);
+        }
+        if (batch.isDumpingCfg()) {
+            double graphSeconds = batch.getGraphNanos() / 1e9;
+            err.printf("built %d control-flow graphs with %d blocks in %.3f s, %.0f graphs/s, %.0f blocks/s%n",
+                    batch.getGraphCount(), batch.getGraphBlockCount(), graphSeconds,
+                    batch.getGraphCount() / Math.max(graphSeconds, 1e-9), batch.getGraphBlockCount() / Math.max(graphSeconds, 1e-9));
+        }
+        TwoStageParser programParser = batch.getProgramParser();
+        if (!batch.isStreaming() && programParser.isTwoStage()) {
+            err.printf("SLL parse fell back to full LL for %d of %d parses%n",
+                    programParser.getFallbacks(), programParser.getParses());
+        }
+        err.flush();
+        return failed == 0 ? 0 : 1;
+    }
+}
@@ -0,0 +1,419 @@
+package compiler;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * The compile-time values of the expressions of an {@link Ast}, kept in arrays indexed by node id
+ * like {@link ExpressionTypes}. A constant has the type {@link MethodSignature#INT}, DOUBLE, BOOL
+ * or STRING; every other node is UNKNOWN.
+ *
+ * Values are folded bottom-up in one walk over each method. Literals are constants; arithmetic,
+ * comparisons, {@code !}, {@code &&}, {@code ||} and string concatenation of constants are
+ * evaluated as Java would, ints in 32 bits; and a name takes the value of its local variable
+ * when the variable's initialiser is constant, the variable is never assigned, incremented or
+ * decremented, and its definition has run wherever the name is reached (see
+ * {@link DefiniteAssignment}). Nothing that could fail or depend on the target is folded: integer
+ * division by zero, string comparison, and concatenation with a double are left to run time.
+ * {@code false && x} and {@code true || x} fold whatever x is, since x is never evaluated.
+ */
+public class ConstantValues {
+    private static final int NONE = Ast.NONE;
+    // value of a variable that is assigned somewhere in its method
+    private static final int ASSIGNED = -2;
+
+    private final Ast ast;
+    private final int[] types;
+    // ints and bools (1 or 0) as longs, doubles as their raw bits
+    private final long[] values;
+    private final IntMap<String> strings = new IntMap<>(8);
+    private final ControlFlowGraph.Builder graphs;
+    // the method being folded: its variables, the node holding each one's constant value, NONE or
+    // ASSIGNED, and the names reached before their variable's definition
+    private LocalVariables variables;
+    private int[] variableValues = new int[16];
+    private int[] beforeDefinition;
+
+    private ConstantValues(Ast ast) {
+        this.ast = ast;
+        this.types = new int[ast.size()];
+        this.values = new long[ast.size()];
+        this.graphs = new ControlFlowGraph.Builder(ast);
+        Arrays.fill(types, MethodSignature.UNKNOWN);
+    }
+
+    public static ConstantValues fold(Ast ast) {
+        ConstantValues constants = new ConstantValues(ast);
+        if (ast.size() > 0) {
+            constants.program(ast.root());
+        }
+        return constants;
+    }
+
+    public Ast getAst() {
+        return ast;
+    }
+
+    public boolean isConstant(int node) {
+        return type(node) != MethodSignature.UNKNOWN;
+    }
+
+    /**
+     * The type descriptor of the value of {@code node}, MethodSignature.UNKNOWN when it is not a
+     * constant.
+     */
+    public int type(int node) {
+        return node == NONE ? MethodSignature.UNKNOWN : types[node];
+    }
+
+    public int intValue(int node) {
+        return (int) values[node];
+    }
+
+    public double doubleValue(int node) {
+        return Double.longBitsToDouble(values[node]);
+    }
+
+    public boolean boolValue(int node) {
+        return values[node] != 0;
+    }
+
+    public String stringValue(int node) {
+        return strings.get(node);
+    }
+
+    /**
+     * The value of {@code node} as japy source, strings quoted, or null when it is not a constant.
+     */
+    public String valueText(int node) {
+        int type = type(node);
+        if (type == MethodSignature.INT) {
+            return Integer.toString(intValue(node));
+        } else if (type == MethodSignature.DOUBLE) {
+            return Double.toString(doubleValue(node));
+        } else if (type == MethodSignature.BOOL) {
+            return Boolean.toString(boolValue(node));
+        } else if (type == MethodSignature.STRING) {
+            return '"' + stringValue(node) + '"';
+        }
+        return null;
+    }
+
+    /**
+     * Prints every folded expression that is not a literal and not part of a larger folded one.
+     */
+    public void dump(PrintStream out) {
+        StringBuilder sb = new StringBuilder();
+        dump(sb, ast.root());
+        out.print(sb);
+    }
+
+    private void dump(StringBuilder sb, int node) {
+        if (isConstant(node)) {
+            if (!isLiteral(ast.kind(node))) {
+                sb.append(Ast.kindName(ast.kind(node))).append(" [").append(ast.line(node)).append(':')
+                        .append(ast.column(node)).append("] = ").append(valueText(node)).append(System.lineSeparator());
+            }
+            return;
+        }
+        for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+            dump(sb, child);
+        }
+    }
+
+    private void program(int program) {
+        for (int node = ast.firstChild(program); node != NONE; node = ast.nextSibling(node)) {
+            if (ast.kind(node) != Ast.CLASS) {
+                continue;
+            }
+            for (int member = ast.firstChild(node); member != NONE; member = ast.nextSibling(member)) {
+                if (ast.kind(member) == Ast.METHOD) {
+                    method(member);
+                }
+            }
+        }
+    }
+
+    private void method(int method) {
+        variables = LocalVariables.bind(ast, method);
+        int count = variables.count();
+        if (variableValues.length < count) {
+            variableValues = new int[Math.max(count, variableValues.length * 2)];
+        }
+        Arrays.fill(variableValues, 0, count, NONE);
+        beforeDefinition = variables.isOrdered()
+                ? new int[0]
+                : DefiniteAssignment.usesBeforeDefinition(graphs.build(method), variables);
+        assigned(ast.childOfKind(method, Ast.BLOCK));
+        statement(ast.childOfKind(method, Ast.BLOCK));
+    }
+
+    private void assigned(int node) {
+        int kind = ast.kind(node);
+        if (kind == Ast.ASSIGN || kind == Ast.INC || kind == Ast.DEC) {
+            int target = ast.firstChild(node);
+            if (target != NONE && ast.kind(target) == Ast.NAME && variables.variable(target) != NONE) {
+                variableValues[variables.variable(target)] = ASSIGNED;
+            }
+            return;
+        }
+        if (isExpression(kind)) {
+            return;
+        }
+        for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+            assigned(child);
+        }
+    }
+
+    private void statement(int node) {
+        if (node == NONE) {
+            return;
+        }
+        if (ast.kind(node) == Ast.VAR_DEF) {
+            for (int var = ast.firstChild(node); var != NONE; var = ast.nextSibling(var)) {
+                int value = ast.firstChild(var);
+                expression(value);
+                int variable = variables.variable(var);
+                if (variableValues[variable] == NONE && isConstant(value)) {
+                    variableValues[variable] = value;
+                }
+            }
+            return;
+        }
+        for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+            if (isExpression(ast.kind(child))) {
+                expression(child);
+            } else {
+                statement(child);
+            }
+        }
+    }
+
+    private void expression(int node) {
+        if (node == NONE) {
+            // an operand missing after a syntax error
+            return;
+        }
+        for (int child = ast.firstChild(node); child != NONE; child = ast.nextSibling(child)) {
+            expression(child);
+        }
+        evaluate(node);
+    }
+
+    private void evaluate(int node) {
+        int left = ast.firstChild(node);
+        int right = left == NONE ? NONE : ast.nextSibling(left);
+        switch (ast.kind(node)) {
+            case Ast.NUM:
+                number(node, ast.nameText(node));
+                break;
+            case Ast.STR: {
+                String text = ast.nameText(node);
+                setString(node, text.substring(1, text.length() - 1));
+                break;
+            }
+            case Ast.TRUE:
+                setBool(node, true);
+                break;
+            case Ast.FALSE:
+                setBool(node, false);
+                break;
+            case Ast.NAME: {
+                int variable = variables.variable(node);
+                if (variable != NONE && variableValues[variable] >= 0
+                        && Arrays.binarySearch(beforeDefinition, node) < 0) {
+                    copy(node, variableValues[variable]);
+                }
+                break;
+            }
+            case Ast.NOT:
+                if (type(left) == MethodSignature.BOOL) {
+                    setBool(node, !boolValue(left));
+                }
+                break;
+            case Ast.NEG:
+                if (type(left) == MethodSignature.INT) {
+                    set(node, MethodSignature.INT, -intValue(left));
+                } else if (type(left) == MethodSignature.DOUBLE) {
+                    setDouble(node, -doubleValue(left));
+                }
+                break;
+            case Ast.AND:
+                if (type(left) == MethodSignature.BOOL && (!boolValue(left) || type(right) == MethodSignature.BOOL)) {
+                    copy(node, boolValue(left) ? right : left);
+                }
+                break;
+            case Ast.OR:
+                if (type(left) == MethodSignature.BOOL && (boolValue(left) || type(right) == MethodSignature.BOOL)) {
+                    copy(node, boolValue(left) ? left : right);
+                }
+                break;
+            case Ast.EQ:
+            case Ast.NE:
+                if (type(left) == MethodSignature.BOOL && type(right) == MethodSignature.BOOL) {
+                    setBool(node, (boolValue(left) == boolValue(right)) == (ast.kind(node) == Ast.EQ));
+                } else {
+                    arithmetic(node, left, right);
+                }
+                break;
+            case Ast.ADD:
+                if (type(left) == MethodSignature.STRING || type(right) == MethodSignature.STRING) {
+                    if (isConcatenable(left) && isConcatenable(right)) {
+                        setString(node, text(left) + text(right));
+                    }
+                } else {
+                    arithmetic(node, left, right);
+                }
+                break;
+            case Ast.LT:
+            case Ast.GT:
+            case Ast.SUB:
+            case Ast.MUL:
+            case Ast.DIV:
+            case Ast.MOD:
+                arithmetic(node, left, right);
+                break;
+            default:
+        }
+    }
+
+    // folds a numeric operator; ints stay ints, and an int meeting a double becomes one
+    private void arithmetic(int node, int left, int right) {
+        int leftType = type(left);
+        int rightType = type(right);
+        if (!isNumeric(leftType) || !isNumeric(rightType)) {
+            return;
+        }
+        int kind = ast.kind(node);
+        if (leftType == MethodSignature.INT && rightType == MethodSignature.INT) {
+            int a = intValue(left);
+            int b = intValue(right);
+            switch (kind) {
+                case Ast.EQ:
+                    setBool(node, a == b);
+                    break;
+                case Ast.NE:
+                    setBool(node, a != b);
+                    break;
+                case Ast.LT:
+                    setBool(node, a < b);
+                    break;
+                case Ast.GT:
+                    setBool(node, a > b);
+                    break;
+                case Ast.ADD:
+                    set(node, MethodSignature.INT, a + b);
+                    break;
+                case Ast.SUB:
+                    set(node, MethodSignature.INT, a - b);
+                    break;
+                case Ast.MUL:
+                    set(node, MethodSignature.INT, a * b);
+                    break;
+                case Ast.DIV:
+                    if (b != 0) {
+                        set(node, MethodSignature.INT, a / b);
+                    }
+                    break;
+                case Ast.MOD:
+                    if (b != 0) {
+                        set(node, MethodSignature.INT, a % b);
+                    }
+                    break;
+                default:
+            }
+            return;
+        }
+        double a = leftType == MethodSignature.INT ? intValue(left) : doubleValue(left);
+        double b = rightType == MethodSignature.INT ? intValue(right) : doubleValue(right);
+        switch (kind) {
+            case Ast.EQ:
+                setBool(node, a == b);
+                break;
+            case Ast.NE:
+                setBool(node, a != b);
+                break;
+            case Ast.LT:
+                setBool(node, a < b);
+                break;
+            case Ast.GT:
+                setBool(node, a > b);
+                break;
+            case Ast.ADD:
+                setDouble(node, a + b);
+                break;
+            case Ast.SUB:
+                setDouble(node, a - b);
+                break;
+            case Ast.MUL:
+                setDouble(node, a * b);
+                break;
+            case Ast.DIV:
+                setDouble(node, a / b);
+                break;
+            case Ast.MOD:
+                setDouble(node, a % b);
+                break;
+            default:
+        }
+    }
+
+    private void number(int node, String text) {
+        try {
+            if (text.indexOf('.') >= 0) {
+                setDouble(node, Double.parseDouble(text));
+            } else {
+                set(node, MethodSignature.INT, Integer.parseInt(text));
+            }
+        } catch (NumberFormatException e) {
+            // an int literal too large for 32 bits is left to be reported elsewhere
+        }
+    }
+
+    private boolean isConcatenable(int node) {
+        int type = type(node);
+        return type == MethodSignature.STRING || type == MethodSignature.INT || type == MethodSignature.BOOL;
+    }
+
+    private String text(int node) {
+        return type(node) == MethodSignature.STRING ? stringValue(node) : valueText(node);
+    }
+
+    private void set(int node, int type, long value) {
+        types[node] = type;
+        values[node] = value;
+    }
+
+    private void setBool(int node, boolean value) {
+        set(node, MethodSignature.BOOL, value ? 1 : 0);
+    }
+
+    private void setDouble(int node, double value) {
+        set(node, MethodSignature.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    private void setString(int node, String value) {
+        types[node] = MethodSignature.STRING;
+        strings.put(node, value);
+    }
+
+    private void copy(int node, int from) {
+        if (types[from] == MethodSignature.STRING) {
+            setString(node, stringValue(from));
+        } else {
+            set(node, types[from], values[from]);
+        }
+    }
+
+    private static boolean isNumeric(int type) {
+        return type == MethodSignature.INT || type == MethodSignature.DOUBLE;
+    }
+
+    private static boolean isLiteral(int kind) {
+        return kind == Ast.NUM || kind == Ast.STR || kind == Ast.TRUE || kind == Ast.FALSE;
+    }
+
+    private static boolean isExpression(int kind) {
+        return kind >= Ast.OR;
+    }
+}
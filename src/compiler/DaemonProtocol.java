@@ -0,0 +1,148 @@
+package compiler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Wire format shared by {@link CompileDaemon} and {@link CompileClient}.
+ *
+ * A request is the client's working directory followed by its command line arguments,
+ * each written as a length-prefixed UTF-8 string after an argument count. The reply is a
+ * sequence of frames: one tag byte, an int length and the payload. OUT and ERR frames carry
+ * text for the client's stdout and stderr; the closing EXIT frame carries the exit status.
+ *
+ * Lengths read from the socket are checked before anything is allocated for them: a request
+ * may have at most {@link #MAX_ARGUMENTS} arguments of at most {@link #MAX_STRING_BYTES}
+ * bytes each, and no length may be negative. A request that breaks these limits is answered
+ * with an ERR frame and exit status 2.
+ */
+public final class DaemonProtocol {
+    public static final int OUT = 1;
+    public static final int ERR = 2;
+    public static final int EXIT = 3;
+
+    public static final int MAX_ARGUMENTS = 1 << 16;
+    public static final int MAX_STRING_BYTES = 1 << 20;
+
+    /** Request argument that asks the daemon to shut down. */
+    public static final String STOP = "--stop";
+
+    private DaemonProtocol() {
+    }
+
+    /**
+     * The socket daemon and client use when none is given. It lives here rather than in
+     * {@link CompileDaemon} so that the client never loads the parser classes.
+     */
+    public static Path defaultSocket() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "japyc-" + System.getProperty("user.name") + ".sock");
+    }
+
+    public static void writeRequest(DataOutputStream out, String workingDirectory, String[] args) throws IOException {
+        out.writeInt(args.length);
+        writeString(out, workingDirectory);
+        for (String arg : args) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a request; element 0 of the result is the working directory.
+     */
+    public static String[] readRequest(DataInputStream in) throws IOException {
+        String[] request = new String[checkLength(in.readInt(), MAX_ARGUMENTS, "argument count") + 1];
+        for (int i = 0; i < request.length; i++) {
+            request[i] = readString(in);
+        }
+        return request;
+    }
+
+    public static void writeFrame(DataOutputStream out, int tag, byte[] payload, int length) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(length);
+        out.write(payload, 0, length);
+    }
+
+    public static void writeExit(DataOutputStream out, int status) throws IOException {
+        out.writeByte(EXIT);
+        out.writeInt(4);
+        out.writeInt(status);
+        out.flush();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[checkLength(in.readInt(), MAX_STRING_BYTES, "argument length")];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns {@code length} when it lies within [0, max], and throws ProtocolException otherwise.
+     */
+    public static int checkLength(int length, int max, String what) throws ProtocolException {
+        if (length < 0 || length > max) {
+            throw new ProtocolException(what + " " + length + " is not within [0, " + max + "]");
+        }
+        return length;
+    }
+
+    /**
+     * A message on the socket that does not follow the wire format.
+     */
+    public static class ProtocolException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public ProtocolException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Collects written bytes and sends them as a single frame of the given tag on every flush.
+     */
+    public static class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final int tag;
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+        public FrameOutputStream(DataOutputStream out, int tag) {
+            this.out = out;
+            this.tag = tag;
+        }
+
+        @Override
+        public void write(int b) {
+            pending.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            pending.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (pending.size() == 0) {
+                return;
+            }
+            synchronized (out) {
+                writeFrame(out, tag, pending.toByteArray(), pending.size());
+                out.flush();
+            }
+            pending.reset();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package compiler;
+
+import java.util.Arrays;
+
+/**
+ * Finds the names read or assigned where the variable they refer to may not have been defined
+ * yet: on some path from the start of the method to the name, the variable's definition did not
+ * run. A
+ * forward {@link Dataflow} problem whose sets hold the variables defined on every path, met by
+ * intersection; a variable is defined by its {@code var} statement, once its initialiser has run.
+ */
+public class DefiniteAssignment {
+    private final Ast ast;
+    private final LocalVariables variables;
+    private int[] found = new int[8];
+    private int count;
+
+    private DefiniteAssignment(Ast ast, LocalVariables variables) {
+        this.ast = ast;
+        this.variables = variables;
+    }
+
+    /**
+     * The NAME nodes of {@code cfg}'s method used before their variable is defined, in source
+     * order. Names in unreachable code are not reported.
+     */
+    public static int[] usesBeforeDefinition(ControlFlowGraph cfg, LocalVariables variables) {
+        if (variables.isOrdered()) {
+            return new int[0];
+        }
+        return new DefiniteAssignment(cfg.getAst(), variables).check(cfg);
+    }
+
+    private int[] check(ControlFlowGraph cfg) {
+        int bits = variables.count();
+        int words = Dataflow.words(bits);
+        long[] gen = new long[cfg.blockCount() * words];
+        for (int block = 0; block < cfg.blockCount(); block++) {
+            for (int i = cfg.statementStart(block); i < cfg.statementEnd(block); i++) {
+                int statement = cfg.statement(i);
+                if (ast.kind(statement) == Ast.VAR_DEF) {
+                    for (int var = ast.firstChild(statement); var != Ast.NONE; var = ast.nextSibling(var)) {
+                        int variable = variables.variable(var);
+                        gen[block * words + (variable >>> 6)] |= 1L << variable;
+                    }
+                }
+            }
+        }
+        Dataflow flow = Dataflow.solve(cfg, bits, true, true, gen, null);
+
+        long[] defined = new long[words];
+        for (int block = 0; block < cfg.blockCount(); block++) {
+            if (block != ControlFlowGraph.ENTRY && cfg.predecessorCount(block) == 0) {
+                continue;
+            }
+            flow.copyIn(block, defined);
+            for (int i = cfg.statementStart(block); i < cfg.statementEnd(block); i++) {
+                int statement = cfg.statement(i);
+                if (ast.kind(statement) == Ast.VAR_DEF) {
+                    for (int var = ast.firstChild(statement); var != Ast.NONE; var = ast.nextSibling(var)) {
+                        uses(ast.firstChild(var), defined);
+                        int variable = variables.variable(var);
+                        defined[variable >>> 6] |= 1L << variable;
+                    }
+                } else {
+                    uses(statement, defined);
+                }
+            }
+            uses(cfg.branch(block), defined);
+        }
+        int[] result = Arrays.copyOf(found, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void uses(int node, long[] defined) {
+        if (node == Ast.NONE) {
+            return;
+        }
+        if (ast.kind(node) == Ast.NAME) {
+            int variable = variables.variable(node);
+            if (variable != Ast.NONE && (defined[variable >>> 6] & (1L << variable)) == 0) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = node;
+            }
+            return;
+        }
+        for (int child = ast.firstChild(node); child != Ast.NONE; child = ast.nextSibling(child)) {
+            uses(child, defined);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package compiler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The errors found in a compile, collected instead of printed as they are found. Each one has a
+ * code, the file it was found in and a source span. An error reported twice is kept once.
+ *
+ * At most {@code maxErrors} errors are kept: the first ones in file and position order, not the
+ * first ones to arrive, so that which errors are kept does not depend on how the files were
+ * scheduled. Once the collector is full, an error that sorts after all kept ones can never be
+ * kept, so a file numbered after the file of the last kept error need not be checked:
+ * {@link #isPastLimit} tells, and {@link #check} throws {@link LimitReached} to end its analysis.
+ *
+ * Errors are written in one go at the end, in text or JSON lines form, ordered by file number
+ * and position, so the output does not depend on the order the files were checked in. Reports
+ * may come from several threads at once; writing must wait until they are done.
+ */
+public class Diagnostics {
+    public static final List<String> FORMATS = Arrays.asList("text", "jsonl");
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    public static final int CLASS_REDEFINED = 0;
+    public static final int METHOD_REDEFINED = 1;
+    public static final int FIELD_REDEFINED = 2;
+    public static final int UNDEFINED_PARENT = 3;
+    public static final int CYCLIC_INHERITANCE = 4;
+    public static final int RETURN_TYPE = 5;
+    // no longer reported, call arity is ARGUMENT_COUNT; kept so that the codes after it keep their numbers
+    public static final int PARAMETER_COUNT = 6;
+    public static final int ARGUMENT_COUNT = 7;
+    public static final int ARGUMENT_TYPE = 8;
+    public static final int AMBIGUOUS_CALL = 9;
+    public static final int INDEX_NOT_INTEGER = 10;
+    public static final int INDEX_OUT_OF_RANGE = 11;
+    public static final int UNDEFINED_VARIABLE = 12;
+    public static final int USE_BEFORE_DEFINITION = 13;
+    public static final int MISSING_RETURN = 14;
+    public static final int UNREACHABLE_CODE = 15;
+
+    // printed prefix of each code; codes without a number of their own share "Error"
+    private static final String[] LABELS = {
+            "Error102", "Error102", "Error104", "Error105", "Error106", "Error210",
+            "Error", "Error", "Error", "Error", "Error", "Error", "Error", "Error", "Error", "Error",
+    };
+    private static final String[] NAMES = {
+            "class-redefined", "method-redefined", "field-redefined", "undefined-parent", "cyclic-inheritance",
+            "return-type", "parameter-count", "argument-count", "argument-type", "ambiguous-call",
+            "index-not-integer", "index-out-of-range", "undefined-variable", "use-before-definition",
+            "missing-return", "unreachable-code",
+    };
+
+    private final int maxErrors;
+    // the errors kept, guarded by itself
+    private final TreeSet<Diagnostic> kept = new TreeSet<>();
+    // the file of the last error kept once maxErrors are kept, until then Integer.MAX_VALUE
+    private volatile int lastFile = Integer.MAX_VALUE;
+    // numbers of the files that reported an error, kept or not
+    private final Set<Integer> filesWithErrors = ConcurrentHashMap.newKeySet();
+
+    public Diagnostics() {
+        this(UNLIMITED);
+    }
+
+    public Diagnostics(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("max errors must be positive: " + maxErrors);
+        }
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * One error. Lines count from 1 and columns from 0; the span ends where its last token ends.
+     */
+    public static final class Diagnostic implements Comparable<Diagnostic> {
+        public final int code;
+        // number of the file in the compile, for ordering, and its name; -1 and null until reported
+        public final int file;
+        public final String fileName;
+        public final int line;
+        public final int column;
+        public final int endLine;
+        public final int endColumn;
+        public final String message;
+
+        public Diagnostic(int code, int line, int column, int endLine, int endColumn, String message) {
+            this(code, -1, null, line, column, endLine, endColumn, message);
+        }
+
+        private Diagnostic(int code, int file, String fileName, int line, int column, int endLine, int endColumn, String message) {
+            this.code = code;
+            this.file = file;
+            this.fileName = fileName;
+            this.line = line;
+            this.column = column;
+            this.endLine = endLine;
+            this.endColumn = endColumn;
+            this.message = message;
+        }
+
+        /**
+         * This error as found in file number {@code file} named {@code fileName}.
+         */
+        public Diagnostic in(int file, String fileName) {
+            return new Diagnostic(code, file, fileName, line, column, endLine, endColumn, message);
+        }
+
+        public String getLabel() {
+            return LABELS[code];
+        }
+
+        public String getName() {
+            return NAMES[code];
+        }
+
+        @Override
+        public int compareTo(Diagnostic other) {
+            if (file != other.file) {
+                return Integer.compare(file, other.file);
+            }
+            if (line != other.line) {
+                return Integer.compare(line, other.line);
+            }
+            if (column != other.column) {
+                return Integer.compare(column, other.column);
+            }
+            if (code != other.code) {
+                return Integer.compare(code, other.code);
+            }
+            if (endLine != other.endLine) {
+                return Integer.compare(endLine, other.endLine);
+            }
+            if (endColumn != other.endColumn) {
+                return Integer.compare(endColumn, other.endColumn);
+            }
+            return message.compareTo(other.message);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Diagnostic)) {
+                return false;
+            }
+            Diagnostic other = (Diagnostic) o;
+            return code == other.code && file == other.file && line == other.line && column == other.column
+                    && endLine == other.endLine && endColumn == other.endColumn && message.equals(other.message);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = code;
+            h = h * 31 + file;
+            h = h * 31 + line;
+            h = h * 31 + column;
+            return h * 31 + message.hashCode();
+        }
+
+        /**
+         * The error as the checker has always printed it, without the file name.
+         */
+        @Override
+        public String toString() {
+            return LABELS[code] + ": in line [" + line + ":" + column + "], " + message;
+        }
+    }
+
+    /**
+     * Thrown by {@link #check} to end an analysis once the collector is full.
+     */
+    public static final class LimitReached extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        LimitReached(int maxErrors) {
+            super("stopped after " + maxErrors + " errors", null, false, false);
+        }
+    }
+
+    /**
+     * Keeps {@code diagnostic} unless it was reported before or {@code maxErrors} errors that sort
+     * before it are kept, in which case the last of those is dropped, and returns whether it was
+     * kept. The diagnostic should carry its file, see {@link Diagnostic#in}.
+     */
+    public boolean report(Diagnostic diagnostic) {
+        filesWithErrors.add(diagnostic.file);
+        synchronized (kept) {
+            if (kept.size() == maxErrors && diagnostic.compareTo(kept.last()) >= 0) {
+                return false;
+            }
+            if (!kept.add(diagnostic)) {
+                return false;
+            }
+            if (kept.size() > maxErrors) {
+                kept.pollLast();
+            }
+            if (kept.size() == maxErrors) {
+                lastFile = kept.last().file;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Throws LimitReached when no further error of file number {@code file} can be kept.
+     */
+    public void check(int file) {
+        if (isPastLimit(file)) {
+            throw new LimitReached(maxErrors);
+        }
+    }
+
+    /**
+     * Whether the collector is full and every error of file number {@code file} would sort after
+     * the errors kept, so that checking the file cannot change them.
+     */
+    public boolean isPastLimit(int file) {
+        return file > lastFile;
+    }
+
+    public boolean isFull() {
+        return lastFile != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Whether file number {@code file} reported an error, including one that was not kept.
+     */
+    public boolean hasErrors(int file) {
+        return filesWithErrors.contains(file);
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public int size() {
+        synchronized (kept) {
+            return kept.size();
+        }
+    }
+
+    /**
+     * The errors kept, in file and position order.
+     */
+    public Diagnostic[] sorted() {
+        synchronized (kept) {
+            return kept.toArray(new Diagnostic[0]);
+        }
+    }
+
+    /**
+     * Writes the errors kept, in file and position order, in {@code format}, one of
+     * {@link #FORMATS}. The output is built first and appended with a single call.
+     */
+    public void write(String format, Appendable out) {
+        StringBuilder text = new StringBuilder(size() * 96);
+        for (Diagnostic diagnostic : sorted()) {
+            if (format.equals("jsonl")) {
+                json(text, diagnostic);
+            } else {
+                if (diagnostic.fileName != null) {
+                    text.append(diagnostic.fileName).append(": ");
+                }
+                text.append(diagnostic).append(System.lineSeparator());
+            }
+        }
+        try {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void json(StringBuilder text, Diagnostic diagnostic) {
+        text.append("{\"file\":");
+        string(text, diagnostic.fileName);
+        text.append(",\"code\":");
+        string(text, diagnostic.getLabel());
+        text.append(",\"name\":");
+        string(text, diagnostic.getName());
+        text.append(",\"line\":").append(diagnostic.line)
+                .append(",\"column\":").append(diagnostic.column)
+                .append(",\"endLine\":").append(diagnostic.endLine)
+                .append(",\"endColumn\":").append(diagnostic.endColumn)
+                .append(",\"message\":");
+        string(text, diagnostic.message);
+        text.append("}").append(System.lineSeparator());
+    }
+
+    private static void string(StringBuilder text, String value) {
+        if (value == null) {
+            text.append("null");
+            return;
+        }
+        text.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                text.append('\\').append(c);
+            } else if (c < 0x20) {
+                text.append(String.format("\\u%04x", (int) c));
+            } else {
+                text.append(c);
+            }
+        }
+        text.append('"');
+    }
+}
@@ -0,0 +1,110 @@
+package compiler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The classes of a set of {@link SymbolInterface} files, decoded one class at a time when a
+ * lookup first needs it. Opening the files reads only their headers; a class is found by the
+ * binary search of {@link SymbolInterface#findClass} and decoded with
+ * {@link SymbolInterface#readClass}, so a program that uses a handful of classes from a large
+ * library decodes a handful of records. When several files define a class, the first file given
+ * wins.
+ *
+ * Lookups may come from several threads; a class is decoded at most once.
+ */
+public class InterfaceClasses {
+    private final List<SymbolInterface> interfaces;
+    private final int classCount;
+    // class name id -> decoded class, or MISSING for names looked up and not found
+    private final IntMap<Loaded> loaded = new IntMap<>(64);
+    private static final Loaded MISSING = new Loaded(null);
+
+    /**
+     * A decoded class: its symbol and tables of the fields and methods it declares itself.
+     */
+    public static final class Loaded {
+        public final SymbolTable.SymbolInfo info;
+        final IntMap<SymbolTable.SymbolInfo> fields = new IntMap<>(8);
+        final IntMap<SymbolTable.SymbolInfo[]> methods = new IntMap<>(8);
+
+        private Loaded(SymbolTable.SymbolInfo info) {
+            this.info = info;
+        }
+    }
+
+    private InterfaceClasses(List<SymbolInterface> interfaces) {
+        this.interfaces = interfaces;
+        int count = 0;
+        for (SymbolInterface symbols : interfaces) {
+            count += symbols.getClassCount();
+        }
+        this.classCount = count;
+    }
+
+    public static InterfaceClasses open(List<Path> files) throws IOException {
+        List<SymbolInterface> interfaces = new ArrayList<>(files.size());
+        for (Path file : files) {
+            interfaces.add(SymbolInterface.open(file));
+        }
+        return new InterfaceClasses(interfaces);
+    }
+
+    /**
+     * Number of classes in all files, counting a class defined in several files once per file.
+     */
+    public int getClassCount() {
+        return classCount;
+    }
+
+    /**
+     * Whether a file defines the class, found without decoding it.
+     */
+    public boolean contains(String name) {
+        for (SymbolInterface symbols : interfaces) {
+            if (symbols.findClass(name) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The class with that name id, decoded on the first call, or null when no file defines it.
+     */
+    public Loaded get(int classNameId) {
+        if (classNameId < 0) {
+            return null;
+        }
+        synchronized (loaded) {
+            Loaded found = loaded.get(classNameId);
+            if (found == null) {
+                found = read(NamePool.global().name(classNameId));
+                loaded.put(classNameId, found);
+            }
+            return found == MISSING ? null : found;
+        }
+    }
+
+    private Loaded read(String name) {
+        for (SymbolInterface symbols : interfaces) {
+            int index = symbols.findClass(name);
+            if (index < 0) {
+                continue;
+            }
+            List<SymbolTable.SymbolInfo> decoded = symbols.readClass(index);
+            Loaded found = new Loaded(decoded.get(0));
+            for (SymbolTable.SymbolInfo member : decoded.subList(1, decoded.size())) {
+                if (member.kind.equals("field")) {
+                    found.fields.put(member.nameId, member);
+                } else {
+                    found.methods.put(member.nameId, ClassHierarchy.override(found.methods.get(member.nameId), member));
+                }
+            }
+            return found;
+        }
+        return MISSING;
+    }
+}
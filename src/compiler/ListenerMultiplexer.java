@@ -0,0 +1,553 @@
+package compiler;
+
+import gen.japyListener;
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Forwards every listener event to several passes, so that one walk of the parse tree serves
+ * all of them. Enter events and terminals reach the passes in the given order, exit events in
+ * the reverse order: a pass listed first sees a node before and leaves it after every later
+ * pass, which is how a shared {@link ScopeBuilder} keeps the current scope valid for the rest.
+ */
+public class ListenerMultiplexer implements japyListener {
+    private final japyListener[] passes;
+
+    public ListenerMultiplexer(japyListener... passes) {
+        this.passes = passes.clone();
+    }
+
+    @Override
+    public void enterProgram(japyParser.ProgramContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterProgram(ctx);
+        }
+    }
+
+    @Override
+    public void exitProgram(japyParser.ProgramContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitProgram(ctx);
+        }
+    }
+
+    @Override
+    public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterClassDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitClassDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void enterEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterEntryClassDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void exitEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitEntryClassDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterFieldDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void exitFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitFieldDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void enterAccess_modifier(japyParser.Access_modifierContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterAccess_modifier(ctx);
+        }
+    }
+
+    @Override
+    public void exitAccess_modifier(japyParser.Access_modifierContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitAccess_modifier(ctx);
+        }
+    }
+
+    @Override
+    public void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterMethodDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitMethodDeclaration(ctx);
+        }
+    }
+
+    @Override
+    public void enterClosedStatement(japyParser.ClosedStatementContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterClosedStatement(ctx);
+        }
+    }
+
+    @Override
+    public void exitClosedStatement(japyParser.ClosedStatementContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitClosedStatement(ctx);
+        }
+    }
+
+    @Override
+    public void enterClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterClosedConditional(ctx);
+        }
+    }
+
+    @Override
+    public void exitClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitClosedConditional(ctx);
+        }
+    }
+
+    @Override
+    public void enterOpenConditional(japyParser.OpenConditionalContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterOpenConditional(ctx);
+        }
+    }
+
+    @Override
+    public void exitOpenConditional(japyParser.OpenConditionalContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitOpenConditional(ctx);
+        }
+    }
+
+    @Override
+    public void enterOpenStatement(japyParser.OpenStatementContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterOpenStatement(ctx);
+        }
+    }
+
+    @Override
+    public void exitOpenStatement(japyParser.OpenStatementContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitOpenStatement(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatement(japyParser.StatementContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatement(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatement(japyParser.StatementContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatement(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementVarDef(japyParser.StatementVarDefContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementVarDef(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementVarDef(japyParser.StatementVarDefContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementVarDef(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementBlock(japyParser.StatementBlockContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementBlock(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementBlock(japyParser.StatementBlockContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementBlock(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementContinue(japyParser.StatementContinueContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementContinue(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementContinue(japyParser.StatementContinueContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementContinue(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementBreak(japyParser.StatementBreakContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementBreak(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementBreak(japyParser.StatementBreakContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementBreak(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementReturn(japyParser.StatementReturnContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementReturn(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementReturn(japyParser.StatementReturnContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementReturn(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementClosedLoop(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementClosedLoop(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementOpenLoop(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementOpenLoop(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementWrite(japyParser.StatementWriteContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementWrite(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementWrite(japyParser.StatementWriteContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementWrite(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementAssignment(japyParser.StatementAssignmentContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementAssignment(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementAssignment(japyParser.StatementAssignmentContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementAssignment(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementInc(japyParser.StatementIncContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementInc(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementInc(japyParser.StatementIncContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementInc(ctx);
+        }
+    }
+
+    @Override
+    public void enterStatementDec(japyParser.StatementDecContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterStatementDec(ctx);
+        }
+    }
+
+    @Override
+    public void exitStatementDec(japyParser.StatementDecContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitStatementDec(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionAdd(japyParser.ExpressionAddContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionAdd(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionAdd(japyParser.ExpressionAddContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionAdd(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionIndex(japyParser.ExpressionIndexContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionIndex(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionIndex(japyParser.ExpressionIndexContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionIndex(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionFieldAccess(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionFieldAccess(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionEq(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionEq(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionUnary(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionUnary(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionAnd(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionAnd(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionMultMod(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionMultMod(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionCmp(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionCmp(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionOr(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionOr(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionPrimary(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionPrimary(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionMethodCall(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionMethodCall(ctx);
+        }
+    }
+
+    @Override
+    public void enterExpressionOther(japyParser.ExpressionOtherContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterExpressionOther(ctx);
+        }
+    }
+
+    @Override
+    public void exitExpressionOther(japyParser.ExpressionOtherContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitExpressionOther(ctx);
+        }
+    }
+
+    @Override
+    public void enterJapyType(japyParser.JapyTypeContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterJapyType(ctx);
+        }
+    }
+
+    @Override
+    public void exitJapyType(japyParser.JapyTypeContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitJapyType(ctx);
+        }
+    }
+
+    @Override
+    public void enterSingleType(japyParser.SingleTypeContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterSingleType(ctx);
+        }
+    }
+
+    @Override
+    public void exitSingleType(japyParser.SingleTypeContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitSingleType(ctx);
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        for (japyListener pass : passes) {
+            pass.visitTerminal(node);
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        for (japyListener pass : passes) {
+            pass.visitErrorNode(node);
+        }
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        for (japyListener pass : passes) {
+            pass.enterEveryRule(ctx);
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        for (int i = passes.length - 1; i >= 0; i--) {
+            passes[i].exitEveryRule(ctx);
+        }
+    }
+}
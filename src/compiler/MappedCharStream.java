@@ -0,0 +1,146 @@
+package compiler;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A CharStream that reads a source file straight out of a memory mapping. ASCII and
+ * Latin-1 files map one byte to one code point, so the lexer indexes the mapped bytes
+ * directly; anything else (UTF-8 with multi-byte sequences) is decoded the usual way.
+ */
+public class MappedCharStream implements CharStream {
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final MappedByteBuffer buffer;
+    private final int size;
+    private final String name;
+    private int p = 0;
+
+    private MappedCharStream(MappedByteBuffer buffer, String name) {
+        this.buffer = buffer;
+        this.size = buffer.limit();
+        this.name = name;
+    }
+
+    public static CharStream fromPath(Path path) throws IOException {
+        return fromPath(path, StandardCharsets.UTF_8);
+    }
+
+    public static CharStream fromPath(Path path, Charset charset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("cannot map " + path + ": file is larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            boolean singleByte = charset.equals(StandardCharsets.ISO_8859_1)
+                    || ((charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)) && isAscii(buffer));
+            if (singleByte) {
+                return new MappedCharStream(buffer, path.toString());
+            }
+            channel.position(0);
+            return CharStreams.fromChannel(channel, charset, 4096, CodingErrorAction.REPLACE, path.toString(), length);
+        }
+    }
+
+    private static boolean isAscii(MappedByteBuffer buffer) {
+        int limit = buffer.limit();
+        int i = 0;
+        buffer.order(ByteOrder.nativeOrder());
+        for (; i + 8 <= limit; i += 8) {
+            if ((buffer.getLong(i) & HIGH_BITS) != 0) {
+                return false;
+            }
+        }
+        for (; i < limit; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void consume() {
+        if (size - p == 0) {
+            assert LA(1) == IntStream.EOF;
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        p++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i == 0) {
+            return 0;
+        }
+        int index = i > 0 ? p + i - 1 : p + i;
+        if (index < 0 || index >= size) {
+            return IntStream.EOF;
+        }
+        return buffer.get(index) & 0xFF;
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        p = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        if (name == null || name.isEmpty()) {
+            return UNKNOWN_SOURCE_NAME;
+        }
+        return name;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if (length <= 0) {
+            return "";
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get(start + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
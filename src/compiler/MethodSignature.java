@@ -0,0 +1,90 @@
+package compiler;
+
+import java.util.List;
+
+/**
+ * The parameter list of a method, reduced to an arity and one type descriptor per parameter.
+ * A descriptor is the {@link NamePool} id of the type's source text ("int", "double[]",
+ * a class name), so comparing two signatures or checking an argument against a parameter
+ * is a plain int comparison and allocates nothing.
+ */
+public final class MethodSignature {
+    /** Descriptor of an argument whose type is not known; it is accepted by every parameter. */
+    public static final int UNKNOWN = -1;
+
+    public static final int INT = NamePool.global().intern("int");
+    public static final int DOUBLE = NamePool.global().intern("double");
+    public static final int BOOL = NamePool.global().intern("bool");
+    public static final int STRING = NamePool.global().intern("string");
+
+    private static final MethodSignature EMPTY = new MethodSignature(new int[0]);
+
+    private final int[] parameterTypes;
+
+    private MethodSignature(int[] parameterTypes) {
+        this.parameterTypes = parameterTypes;
+    }
+
+    static MethodSignature of(List<SymbolTable.ParameterInfo> parameters) {
+        if (parameters.isEmpty()) {
+            return EMPTY;
+        }
+        int[] types = new int[parameters.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = descriptor(parameters.get(i).type);
+        }
+        return new MethodSignature(types);
+    }
+
+    public static int descriptor(String typeName) {
+        return NamePool.global().intern(typeName);
+    }
+
+    public int arity() {
+        return parameterTypes.length;
+    }
+
+    public int parameterType(int index) {
+        return parameterTypes[index];
+    }
+
+    /**
+     * Whether an argument with descriptor {@code argumentType} may be passed as parameter
+     * {@code index}: its type is unknown, the parameter's, or may be a subclass of it in
+     * {@code hierarchy}.
+     */
+    public boolean accepts(int index, int argumentType, ClassHierarchy hierarchy) {
+        return assignable(argumentType, parameterTypes[index], hierarchy);
+    }
+
+    /**
+     * Whether a value with descriptor {@code type} may be used where {@code target} is expected.
+     */
+    public static boolean assignable(int type, int target, ClassHierarchy hierarchy) {
+        return type == UNKNOWN || type == target || hierarchy.mayBeSubtypeOf(type, target);
+    }
+
+    public boolean sameParameterTypes(MethodSignature other) {
+        if (other.parameterTypes.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (other.parameterTypes[i] != parameterTypes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(NamePool.global().name(parameterTypes[i]));
+        }
+        return sb.append(')').toString();
+    }
+}
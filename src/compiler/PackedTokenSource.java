@@ -0,0 +1,65 @@
+package compiler;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Replays {@link PackedTokens} as a TokenSource, for consumers that want a plain token
+ * source such as CommonTokenStream. Token objects are created one per nextToken() call.
+ * The batch compiler's parser reads the arrays through {@link PackedTokenStream} instead.
+ */
+public class PackedTokenSource implements TokenSource {
+    private final PackedTokens tokens;
+    private final Pair<TokenSource, CharStream> source;
+    private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+    private int next = 0;
+
+    public PackedTokenSource(PackedTokens tokens) {
+        this.tokens = tokens;
+        this.source = new Pair<TokenSource, CharStream>(this, tokens.getSource());
+    }
+
+    @Override
+    public Token nextToken() {
+        int index = Math.min(next, tokens.size() - 1);
+        if (next < tokens.size()) {
+            next++;
+        }
+        return factory.create(source, tokens.type(index), null, Token.DEFAULT_CHANNEL,
+                tokens.start(index), tokens.stop(index), tokens.line(index), tokens.column(index));
+    }
+
+    @Override
+    public int getLine() {
+        return tokens.line(Math.min(next, tokens.size() - 1));
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return tokens.column(Math.min(next, tokens.size() - 1));
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return tokens.getSource();
+    }
+
+    @Override
+    public String getSourceName() {
+        return tokens.getSource().getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return factory;
+    }
+}
@@ -0,0 +1,136 @@
+package compiler;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * A TokenStream over {@link PackedTokens} for japyParser. Lookahead by type, which is what
+ * adaptive prediction asks for, reads the type column of the packed array directly; a Token
+ * object is only created when the parser takes one with LT or get, and is then kept so that
+ * the same index always yields the same token.
+ */
+public class PackedTokenStream implements TokenStream {
+    private final PackedTokens tokens;
+    private final PackedTokenSource tokenSource;
+    private final Pair<TokenSource, CharStream> source;
+    private final Token[] created;
+    private int p = 0;
+
+    public PackedTokenStream(PackedTokens tokens) {
+        this.tokens = tokens;
+        this.tokenSource = new PackedTokenSource(tokens);
+        this.source = new Pair<TokenSource, CharStream>(tokenSource, tokens.getSource());
+        this.created = new Token[tokens.size()];
+    }
+
+    @Override
+    public int LA(int i) {
+        int index = lookahead(i);
+        return index < 0 ? Token.INVALID_TYPE : tokens.type(index);
+    }
+
+    @Override
+    public Token LT(int k) {
+        int index = lookahead(k);
+        return index < 0 ? null : get(index);
+    }
+
+    // the index of the k-th token ahead, 1 being the current one, or of the one -k behind; the
+    // EOF token repeats past the end
+    private int lookahead(int k) {
+        if (k == 0) {
+            return -1;
+        }
+        int index = k > 0 ? p + k - 1 : p + k;
+        return Math.min(index, tokens.size() - 1);
+    }
+
+    @Override
+    public Token get(int index) {
+        Token token = created[index];
+        if (token == null) {
+            token = tokenSource.getTokenFactory().create(source, tokens.type(index), null, Token.DEFAULT_CHANNEL,
+                    tokens.start(index), tokens.stop(index), tokens.line(index), tokens.column(index));
+            ((WritableToken) token).setTokenIndex(index);
+            created[index] = token;
+        }
+        return token;
+    }
+
+    @Override
+    public TokenSource getTokenSource() {
+        return tokenSource;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.max(interval.a, 0);
+        int stop = Math.min(interval.b, tokens.size() - 1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = start; i <= stop && tokens.type(i) != Token.EOF; i++) {
+            sb.append(tokens.text(i));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String getText() {
+        return getText(Interval.of(0, tokens.size() - 1));
+    }
+
+    @Override
+    public String getText(RuleContext ctx) {
+        return getText(ctx.getSourceInterval());
+    }
+
+    @Override
+    public String getText(Token start, Token stop) {
+        if (start == null || stop == null) {
+            return "";
+        }
+        return getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+    }
+
+    @Override
+    public void consume() {
+        if (tokens.type(p) == Token.EOF) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        p++;
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        p = Math.max(0, Math.min(index, tokens.size() - 1));
+    }
+
+    @Override
+    public int size() {
+        return tokens.size();
+    }
+
+    @Override
+    public String getSourceName() {
+        return tokenSource.getSourceName();
+    }
+}
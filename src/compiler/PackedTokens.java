@@ -0,0 +1,100 @@
+package compiler;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.Arrays;
+
+/**
+ * Tokens of one source file packed into a single int array, five ints per token:
+ * type, start offset, stop offset, line and column. The last token is always EOF.
+ * Lexing creates no Token objects. {@link PackedTokenStream} feeds the parser from the
+ * array: lookahead reads the types in place, and a Token is created for each token the
+ * parser consumes, since the parse tree holds one per terminal.
+ */
+public class PackedTokens {
+    public static final int TYPE = 0;
+    public static final int START = 1;
+    public static final int STOP = 2;
+    public static final int LINE = 3;
+    public static final int COLUMN = 4;
+    public static final int STRIDE = 5;
+
+    private final CharStream source;
+    private int[] data;
+    private int count;
+    // the whole source when each of its chars is one code point, so that string offsets are
+    // stream offsets; null until first needed, or when it has supplementary characters
+    private String buffer;
+    private boolean buffered;
+
+    PackedTokens(CharStream source, int expectedTokens) {
+        this.source = source;
+        this.data = new int[Math.max(expectedTokens, 16) * STRIDE];
+    }
+
+    void add(int type, int start, int stop, int line, int column) {
+        int offset = count * STRIDE;
+        if (offset + STRIDE > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[offset + TYPE] = type;
+        data[offset + START] = start;
+        data[offset + STOP] = stop;
+        data[offset + LINE] = line;
+        data[offset + COLUMN] = column;
+        count++;
+    }
+
+    public CharStream getSource() {
+        return source;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * The raw array; only the first {@code size() * STRIDE} entries are valid.
+     */
+    public int[] getData() {
+        return data;
+    }
+
+    public int type(int token) {
+        return data[token * STRIDE + TYPE];
+    }
+
+    public int start(int token) {
+        return data[token * STRIDE + START];
+    }
+
+    public int stop(int token) {
+        return data[token * STRIDE + STOP];
+    }
+
+    public int line(int token) {
+        return data[token * STRIDE + LINE];
+    }
+
+    public int column(int token) {
+        return data[token * STRIDE + COLUMN];
+    }
+
+    public String text(int token) {
+        String buffer = buffer();
+        if (buffer != null) {
+            return buffer.substring(start(token), stop(token) + 1);
+        }
+        return source.getText(Interval.of(start(token), stop(token)));
+    }
+
+    private String buffer() {
+        if (!buffered) {
+            String all = source.size() == 0 ? "" : source.getText(Interval.of(0, source.size() - 1));
+            buffer = all.length() == source.size() ? all : null;
+            buffered = true;
+        }
+        return buffer;
+    }
+}
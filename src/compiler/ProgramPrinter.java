@@ -6,14 +6,23 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
+import java.io.PrintStream;
 import java.util.List;
 import java.util.ArrayList;
-import java.lang.System;
 
 public class ProgramPrinter implements japyListener {
 
+    private final PrintStream out;
     private int indentationLevel = 0;
 
+    public ProgramPrinter() {
+        this(System.out);
+    }
+
+    public ProgramPrinter(PrintStream out) {
+        this.out = out;
+    }
+
     @Override
     public void enterProgram(japyParser.ProgramContext ctx) { }
 
@@ -30,7 +39,7 @@ public class ProgramPrinter implements japyListener {
                 + (!accessModifier.isEmpty() ? accessModifier : "")
                 + (!inherits.isEmpty() ? ", " + inherits : "")
                 + ">";
-        System.out.println(classDeclaration);
+        out.println(classDeclaration);
         indentationLevel++;
     }
 
@@ -38,7 +47,7 @@ public class ProgramPrinter implements japyListener {
     public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
         indentationLevel--;
         printIndentation();
-        System.out.println("</class>");
+        out.println("</class>");
     }
 
     @Override
@@ -61,7 +70,7 @@ public class ProgramPrinter implements japyListener {
                 output.append(", ");
             }
         }
-        System.out.println(output + ": (" + accessModifier + "field, " + fieldType + ")");
+        out.println(output + ": (" + accessModifier + "field, " + fieldType + ")");
         indentationLevel++;
     }
     @Override
@@ -89,7 +98,7 @@ public class ProgramPrinter implements japyListener {
             parameters.add("(" + paramId + ", " + paramType + ")");
         }
 
-        System.out.println("<function '" + methodName + "', " + accessModifier + "parameters: " + parameters + ">");
+        out.println("<function '" + methodName + "', " + accessModifier + "parameters: " + parameters + ">");
         indentationLevel++;
     }
 
@@ -99,7 +108,7 @@ public class ProgramPrinter implements japyListener {
         printIndentation();
         String returnType = ctx.t.getText();
         String returnvpar = ctx.s.getText();
-        System.out.println("</function return ("+ returnvpar.substring(6) + "," + returnType + ")>");
+        out.println("</function return ("+ returnvpar.substring(6) + "," + returnType + ")>");
     }
 
     @Override
@@ -113,18 +122,18 @@ public class ProgramPrinter implements japyListener {
         if (ctx.ifExp != null) {
             printIndentation();
             String condition = ctx.ifExp.getText();
-            System.out.println("<if condition: <" + condition + ">>");
+            out.println("<if condition: <" + condition + ">>");
             indentationLevel++;
         }
         if (ctx.elifExp != null) {
             printIndentation();
             String condition = ctx.elifExp.getText();
-            System.out.println("<elif condition: <" + condition + ">>");
+            out.println("<elif condition: <" + condition + ">>");
             indentationLevel++;
         }
         if (ctx.elseStmt != null) {
             printIndentation();
-            System.out.println("<else>");
+            out.println("<else>");
             indentationLevel++;
         }
     }
@@ -134,17 +143,17 @@ public class ProgramPrinter implements japyListener {
         if (ctx.ifExp != null) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</if>");
+            out.println("</if>");
         }
         if (ctx.elifExp != null) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</elif>");
+            out.println("</elif>");
         }
         if (ctx.elseStmt != null) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</else>");
+            out.println("</else>");
         }
     }
 
@@ -153,18 +162,18 @@ public class ProgramPrinter implements japyListener {
         if (ctx.ifExp != null) {
             printIndentation();
             String condition = ctx.ifExp.getText();
-            System.out.println("<if condition: <" + condition + ">>");
+            out.println("<if condition: <" + condition + ">>");
             indentationLevel++;
         }
         if (ctx.elifExp != null) {
             printIndentation();
             String condition = ctx.elifExp.getText();
-            System.out.println("<elif condition: <" + condition + ">>");
+            out.println("<elif condition: <" + condition + ">>");
             indentationLevel++;
         }
         if (ctx.elseStmt != null) {
             printIndentation();
-            System.out.println("<else>");
+            out.println("<else>");
             indentationLevel++;
         }
     }
@@ -174,17 +183,17 @@ public class ProgramPrinter implements japyListener {
         if (ctx.ifExp != null) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</if>");
+            out.println("</if>");
         }
         if (ctx.elifExp != null) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</elif>");
+            out.println("</elif>");
         }
         if (ctx.elseStmt != null) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</else>");
+            out.println("</else>");
         }
     }
 
@@ -211,11 +220,11 @@ public class ProgramPrinter implements japyListener {
 
             if (expr.startsWith("new")) {
                 printIndentation();
-                System.out.println(expr + " -> (" + id + ", var)");
+                out.println(expr + " -> (" + id + ", var)");
                 indentationLevel++;
             } else {
                 printIndentation();
-                System.out.println(expr + " -> " + id);
+                out.println(expr + " -> " + id);
                 indentationLevel++;
             }
         }
@@ -243,7 +252,7 @@ public class ProgramPrinter implements japyListener {
         printIndentation();
         ParserRuleContext parent = ctx.getParent();
         int lineNumber = parent.stop.getLine() + 1;
-        System.out.println("goto " + lineNumber + ";");
+        out.println("goto " + lineNumber + ";");
         indentationLevel++;
     }
 
@@ -265,12 +274,12 @@ public class ProgramPrinter implements japyListener {
             String init = ctx.getChild(2).getText();
             String condition = ctx.getChild(4).getText();
             String step = ctx.getChild(6).getText();
-            System.out.println("<for init: <" + init + ">, condition: <" + condition + ">, step: <" + step + ">>");
+            out.println("<for init: <" + init + ">, condition: <" + condition + ">, step: <" + step + ">>");
             indentationLevel++;
         } else if (ctx.getChild(0).getText().equals("while")) {
             printIndentation();
             String condition = ctx.getChild(2).getText();
-            System.out.println("<while condition: <" + condition + ">>");
+            out.println("<while condition: <" + condition + ">>");
             indentationLevel++;
         }
     }
@@ -280,12 +289,12 @@ public class ProgramPrinter implements japyListener {
         if (ctx.getChild(0).getText().equals("for")) {
             indentationLevel--;
             printIndentation();
-            System.out.println("...");
-            System.out.println("</for>");
+            out.println("...");
+            out.println("</for>");
         } else if (ctx.getChild(0).getText().equals("while")) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</while>");
+            out.println("</while>");
         }
     }
 
@@ -296,12 +305,12 @@ public class ProgramPrinter implements japyListener {
             String init = ctx.getChild(2).getText();
             String condition = ctx.getChild(4).getText();
             String step = ctx.getChild(6).getText();
-            System.out.println("<for init: <" + init + ">, condition: <" + condition + ">, step: <" + step + ">>");
+            out.println("<for init: <" + init + ">, condition: <" + condition + ">, step: <" + step + ">>");
             indentationLevel++;
         } else if (ctx.getChild(0).getText().equals("while")) {
             printIndentation();
             String condition = ctx.getChild(2).getText();
-            System.out.println("<while condition: <" + condition + ">>");
+            out.println("<while condition: <" + condition + ">>");
             indentationLevel++;
         }
     }
@@ -311,12 +320,12 @@ public class ProgramPrinter implements japyListener {
         if (ctx.getChild(0).getText().equals("for")) {
             indentationLevel--;
             printIndentation();
-            System.out.println("...");
-            System.out.println("</for>");
+            out.println("...");
+            out.println("</for>");
         } else if (ctx.getChild(0).getText().equals("while")) {
             indentationLevel--;
             printIndentation();
-            System.out.println("</while>");
+            out.println("</while>");
         }
     }
 
@@ -331,7 +340,7 @@ public class ProgramPrinter implements japyListener {
         printIndentation();
         String left = ctx.left.getText();
         String right = ctx.right.getText();
-        System.out.println(right + " -> " + left);
+        out.println(right + " -> " + left);
         indentationLevel++;
     }
 
@@ -344,7 +353,7 @@ public class ProgramPrinter implements japyListener {
     public void enterStatementInc(japyParser.StatementIncContext ctx) {
         printIndentation();
         String var = ctx.lvalExpr.getText();
-        System.out.println("1 + " + var + " -> " + var);
+        out.println("1 + " + var + " -> " + var);
         indentationLevel++;
     }
 
@@ -357,7 +366,7 @@ public class ProgramPrinter implements japyListener {
     public void enterStatementDec(japyParser.StatementDecContext ctx) {
         printIndentation();
         String var = ctx.lvalExpr.getText();
-        System.out.println("1 - " + var + " -> " + var);
+        out.println("1 - " + var + " -> " + var);
         indentationLevel++;
     }
 
@@ -367,58 +376,40 @@ public class ProgramPrinter implements japyListener {
     }
 
     @Override
-    public void enterExpression(japyParser.ExpressionContext ctx) { }
-
-    @Override
-    public void exitExpression(japyParser.ExpressionContext ctx) { }
-
-    @Override
-    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) { }
-
-    @Override
-    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) { }
-
-    @Override
-    public void enterExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) { }
-
-    @Override
-    public void exitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) { }
-
-    @Override
-    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) { }
+    public void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) { }
 
     @Override
-    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) { }
+    public void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) { }
 
     @Override
-    public void enterExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) { }
+    public void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) { }
 
     @Override
-    public void exitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) { }
+    public void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) { }
 
     @Override
-    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) { }
+    public void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) { }
 
     @Override
-    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) { }
+    public void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) { }
 
     @Override
-    public void enterExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) { }
+    public void enterExpressionIndex(japyParser.ExpressionIndexContext ctx) { }
 
     @Override
-    public void exitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) { }
+    public void exitExpressionIndex(japyParser.ExpressionIndexContext ctx) { }
 
     @Override
-    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
+    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
 
     @Override
-    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
+    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
 
     @Override
-    public void enterExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) { }
+    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) { }
 
     @Override
-    public void exitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) { }
+    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) { }
 
     @Override
     public void enterExpressionAdd(japyParser.ExpressionAddContext ctx) { }
@@ -427,40 +418,28 @@ public class ProgramPrinter implements japyListener {
     public void exitExpressionAdd(japyParser.ExpressionAddContext ctx) { }
 
     @Override
-    public void enterExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) { }
-
-    @Override
-    public void exitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) { }
-
-    @Override
-    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) { }
-
-    @Override
-    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) { }
-
-    @Override
-    public void enterExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) { }
+    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
 
     @Override
-    public void exitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) { }
+    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
 
     @Override
-    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
+    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) { }
 
     @Override
-    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
+    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) { }
 
     @Override
-    public void enterExpressionMethods(japyParser.ExpressionMethodsContext ctx) { }
+    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) { }
 
     @Override
-    public void exitExpressionMethods(japyParser.ExpressionMethodsContext ctx) { }
+    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) { }
 
     @Override
-    public void enterExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) { }
+    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) { }
 
     @Override
-    public void exitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) { }
+    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) { }
 
     @Override
     public void enterExpressionOther(japyParser.ExpressionOtherContext ctx) { }
@@ -494,7 +473,7 @@ public class ProgramPrinter implements japyListener {
 
     private void printIndentation() {
         for (int i = 0; i < indentationLevel; i++) {
-            System.out.print("    ");
+            out.print("    ");
         }
     }
 }
@@ -0,0 +1,171 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One lexical scope of the symbol passes. Scopes form a tree through their parent links and
+ * lookups walk outward from the current scope. Symbols are keyed by their {@link NamePool} id;
+ * symbols of different kinds that share a name are chained through {@code SymbolInfo.next}, so
+ * defining or finding a symbol neither builds a key string nor boxes a key.
+ */
+public class Scope {
+    public static final int GLOBAL = 0;
+    public static final int CLASS = 1;
+    public static final int METHOD = 2;
+    public static final int IF = 3;
+    public static final int ELSE = 4;
+    public static final int WHILE = 5;
+
+    private static final String[] KIND_NAMES = {"global", "class", "method", "if", "else", "while"};
+    // expected number of symbols per scope kind; block scopes rarely hold more than a few
+    private static final int[] EXPECTED_SIZE = {16, 16, 8, 2, 2, 2};
+
+    private final Scope parent;
+    private final int kind;
+    private final SymbolTable.SymbolInfo owner;
+    private final int startLine;
+    private final int stopLine;
+    private List<Scope> children;
+    private IntMap<SymbolTable.SymbolInfo> symbols;
+    // the same symbols in definition order
+    private List<SymbolTable.SymbolInfo> definitions;
+
+    private Scope(Scope parent, int kind, SymbolTable.SymbolInfo owner, int startLine, int stopLine) {
+        this.parent = parent;
+        this.kind = kind;
+        this.owner = owner;
+        this.startLine = startLine;
+        this.stopLine = stopLine;
+    }
+
+    public static Scope global() {
+        return new Scope(null, GLOBAL, null, 0, 0);
+    }
+
+    /**
+     * Creates a child scope. {@code owner} is the class or method symbol that declares the
+     * scope, or null for block scopes. Children are kept in creation order, so a pre-order
+     * walk of the tree visits scopes in source order.
+     */
+    public Scope open(int kind, SymbolTable.SymbolInfo owner, int startLine, int stopLine) {
+        Scope scope = new Scope(this, kind, owner, startLine, stopLine);
+        if (owner != null) {
+            owner.scope = scope;
+        }
+        if (children == null) {
+            children = new ArrayList<>(4);
+        }
+        children.add(scope);
+        return scope;
+    }
+
+    public void define(SymbolTable.SymbolInfo symbol) {
+        if (symbols == null) {
+            symbols = new IntMap<>(EXPECTED_SIZE[kind]);
+            definitions = new ArrayList<>(EXPECTED_SIZE[kind]);
+        }
+        symbol.next = symbols.put(symbol.nameId, symbol);
+        definitions.add(symbol);
+    }
+
+    /**
+     * Returns the most recent symbol of the given kind and name defined directly in this scope.
+     */
+    public SymbolTable.SymbolInfo findLocal(String symbolKind, int nameId) {
+        if (symbols == null || nameId < 0) {
+            return null;
+        }
+        for (SymbolTable.SymbolInfo symbol = symbols.get(nameId); symbol != null; symbol = symbol.next) {
+            if (symbol.kind.equals(symbolKind)) {
+                return symbol;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks the symbol up in this scope and then in every enclosing scope.
+     */
+    public SymbolTable.SymbolInfo lookup(String symbolKind, int nameId) {
+        for (Scope scope = this; scope != null; scope = scope.parent) {
+            SymbolTable.SymbolInfo symbol = scope.findLocal(symbolKind, nameId);
+            if (symbol != null) {
+                return symbol;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * All symbols of this scope, the most recently defined first within each name.
+     */
+    public List<SymbolTable.SymbolInfo> getSymbols() {
+        if (symbols == null) {
+            return Collections.emptyList();
+        }
+        List<SymbolTable.SymbolInfo> all = new ArrayList<>(symbols.size());
+        symbols.forEachValue(head -> {
+            for (SymbolTable.SymbolInfo symbol = head; symbol != null; symbol = symbol.next) {
+                all.add(symbol);
+            }
+        });
+        return all;
+    }
+
+    /**
+     * All symbols of this scope in the order they were defined, redefinitions included.
+     */
+    public List<SymbolTable.SymbolInfo> getDefinitions() {
+        return definitions == null ? Collections.<SymbolTable.SymbolInfo>emptyList() : Collections.unmodifiableList(definitions);
+    }
+
+    public boolean isEmpty() {
+        return symbols == null;
+    }
+
+    public Scope getParent() {
+        return parent;
+    }
+
+    public List<Scope> getChildren() {
+        return children == null ? Collections.<Scope>emptyList() : children;
+    }
+
+    public int getKind() {
+        return kind;
+    }
+
+    public String getKindName() {
+        return KIND_NAMES[kind];
+    }
+
+    public SymbolTable.SymbolInfo getOwner() {
+        return owner;
+    }
+
+    public String getName() {
+        return owner != null ? owner.getName() : null;
+    }
+
+    public int getStartLine() {
+        return startLine;
+    }
+
+    public int getStopLine() {
+        return stopLine;
+    }
+
+    /**
+     * Appends this scope and its descendants to {@code out} in pre-order.
+     */
+    public void collect(List<Scope> out) {
+        out.add(this);
+        if (children != null) {
+            for (Scope child : children) {
+                child.collect(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package compiler;
+
+import gen.japyBaseListener;
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the {@link Scope} tree and its symbols while the parse tree is walked. Passes that
+ * need scopes read them from a shared builder instead of building their own: when several
+ * passes run through a {@link ListenerMultiplexer}, the builder is registered first, so on
+ * enter events the current scope and symbol are already in place, and on exit events the
+ * scope is only closed after every pass has seen it.
+ *
+ * Redefinitions (a class name used twice, a field name used twice in one class, a method with
+ * the same name and parameter types) are defined anyway and marked as redefined.
+ */
+public class ScopeBuilder extends japyBaseListener {
+    private final Scope globalScope = Scope.global();
+    private Scope currentScope = globalScope;
+    private SymbolTable.SymbolInfo lastDefined;
+    private final List<SymbolTable.SymbolInfo> lastFields = new ArrayList<>();
+    private ClassHierarchy hierarchy;
+
+    public Scope getGlobalScope() {
+        return globalScope;
+    }
+
+    public Scope getCurrentScope() {
+        return currentScope;
+    }
+
+    /**
+     * The hierarchy of the classes defined so far, built on the first call. Call it only once
+     * every class declaration has been walked, for example from {@code exitProgram}.
+     */
+    public ClassHierarchy getHierarchy() {
+        if (hierarchy == null) {
+            hierarchy = ClassHierarchy.build(globalScope);
+        }
+        return hierarchy;
+    }
+
+    /**
+     * The class, field, method or variable symbol defined most recently.
+     */
+    public SymbolTable.SymbolInfo getLastDefined() {
+        return lastDefined;
+    }
+
+    /**
+     * The fields of the field declaration entered most recently, one per name it declares.
+     */
+    public List<SymbolTable.SymbolInfo> getLastFields() {
+        return lastFields;
+    }
+
+    /**
+     * Defines the classes of {@code program} with their fields and methods without walking the
+     * method bodies. This is all a whole-program index needs from a file.
+     */
+    public void declare(japyParser.ProgramContext program) {
+        for (ParseTree child : program.children) {
+            if (child instanceof japyParser.EntryClassDeclarationContext) {
+                child = ((japyParser.EntryClassDeclarationContext) child).classDeclaration();
+            }
+            if (child instanceof japyParser.ClassDeclarationContext) {
+                declare((japyParser.ClassDeclarationContext) child);
+            }
+        }
+    }
+
+    /**
+     * Defines one class with its fields and methods, like {@link #declare(japyParser.ProgramContext)}.
+     */
+    public void declare(japyParser.ClassDeclarationContext classDeclaration) {
+        enterClassDeclaration(classDeclaration);
+        for (ParseTree member : classDeclaration.children) {
+            if (member instanceof japyParser.FieldDeclarationContext) {
+                enterFieldDeclaration((japyParser.FieldDeclarationContext) member);
+            } else if (member instanceof japyParser.MethodDeclarationContext) {
+                enterMethodDeclaration((japyParser.MethodDeclarationContext) member);
+                exitMethodDeclaration((japyParser.MethodDeclarationContext) member);
+            }
+        }
+        exitClassDeclaration(classDeclaration);
+    }
+
+    @Override
+    public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        String className = ctx.className.getText();
+        SymbolTable.SymbolInfo classInfo = new SymbolTable.SymbolInfo("class", className);
+        classInfo.accessModifier = (ctx.access_modifier() != null) ? ctx.access_modifier().getText() : "default";
+        if (ctx.classParent != null) {
+            String parentName = ctx.classParent.getText();
+            classInfo.inherits = "class_" + parentName;
+            classInfo.parentNameId = NamePool.global().intern(parentName);
+        }
+        locate(classInfo, ctx);
+        classInfo.redefined = globalScope.findLocal("class", classInfo.nameId) != null;
+        globalScope.define(classInfo);
+        lastDefined = classInfo;
+        currentScope = currentScope.open(Scope.CLASS, classInfo, ctx.getStart().getLine(), ctx.getStop().getLine());
+    }
+
+    @Override
+    public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        currentScope = currentScope.getParent();
+    }
+
+    @Override
+    public void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+        // field int x, y declares one field per name, the first located at the declaration
+        lastFields.clear();
+        String accessModifier = (ctx.access_modifier() != null) ? ctx.access_modifier().getText() : "default";
+        for (TerminalNode id : ctx.ID()) {
+            SymbolTable.SymbolInfo fieldInfo = new SymbolTable.SymbolInfo("field", id.getText(), ctx.fieldType.getText());
+            fieldInfo.accessModifier = accessModifier;
+            if (lastFields.isEmpty()) {
+                locate(fieldInfo, ctx);
+            } else {
+                fieldInfo.line = id.getSymbol().getLine();
+                fieldInfo.column = id.getSymbol().getCharPositionInLine();
+            }
+            fieldInfo.redefined = currentScope.findLocal("field", fieldInfo.nameId) != null;
+            currentScope.define(fieldInfo);
+            lastFields.add(fieldInfo);
+            lastDefined = fieldInfo;
+        }
+    }
+
+    @Override
+    public void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        SymbolTable.SymbolInfo methodInfo = new SymbolTable.SymbolInfo("method", ctx.methodName.getText(), ctx.t.getText());
+        methodInfo.accessModifier = (ctx.methodAccessModifier != null) ? ctx.methodAccessModifier.getText() : "default";
+        methodInfo.parameters = new ArrayList<>();
+        if (ctx.param1 != null) {
+            List<TerminalNode> paramNames = ctx.ID();
+            List<japyParser.JapyTypeContext> paramTypes = ctx.japyType();
+            for (int i = 1; i < paramNames.size(); i++) {
+                methodInfo.parameters.add(new SymbolTable.ParameterInfo(i, paramNames.get(i).getText(), paramTypes.get(i - 1).getText()));
+            }
+        }
+        methodInfo.signature = MethodSignature.of(methodInfo.parameters);
+        locate(methodInfo, ctx);
+        methodInfo.redefined = findMethod(currentScope, methodInfo) != null;
+        currentScope.define(methodInfo);
+        lastDefined = methodInfo;
+        currentScope = currentScope.open(Scope.METHOD, methodInfo, ctx.getStart().getLine(), ctx.getStop().getLine());
+    }
+
+    @Override
+    public void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        currentScope = currentScope.getParent();
+    }
+
+    @Override
+    public void enterClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        int startLine = ctx.getStart().getLine();
+        int stopLine = ctx.getStop().getLine();
+        currentScope = currentScope.open(Scope.IF, null, startLine, stopLine);
+
+        SymbolTable.SymbolInfo ifInfo = new SymbolTable.SymbolInfo("if", "if_condition");
+        ifInfo.firstAppearance = startLine;
+        currentScope.define(ifInfo);
+
+        // the else scope is nested in the if scope and stays open for the whole statement
+        if (ctx.elseStmt != null) {
+            currentScope = currentScope.open(Scope.ELSE, null, startLine, stopLine);
+        }
+    }
+
+    @Override
+    public void exitClosedConditional(japyParser.ClosedConditionalContext ctx) {
+        if (ctx.elseStmt != null) {
+            currentScope = currentScope.getParent();
+        }
+        currentScope = currentScope.getParent();
+    }
+
+    @Override
+    public void enterStatementVarDef(japyParser.StatementVarDefContext ctx) {
+        for (TerminalNode varNode : ctx.ID()) {
+            SymbolTable.SymbolInfo varInfo = new SymbolTable.SymbolInfo("variable", varNode.getText());
+            varInfo.firstAppearance = ctx.getStart().getLine();
+            currentScope.define(varInfo);
+            lastDefined = varInfo;
+        }
+    }
+
+    @Override
+    public void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        currentScope = currentScope.open(Scope.WHILE, null, ctx.getStart().getLine(), ctx.getStop().getLine());
+
+        SymbolTable.SymbolInfo loopInfo = new SymbolTable.SymbolInfo("while", "while_loop");
+        loopInfo.firstAppearance = ctx.getStart().getLine();
+        currentScope.define(loopInfo);
+    }
+
+    @Override
+    public void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
+        currentScope = currentScope.getParent();
+    }
+
+    private static void locate(SymbolTable.SymbolInfo symbol, ParserRuleContext ctx) {
+        symbol.line = ctx.getStart().getLine();
+        symbol.column = ctx.getStart().getCharPositionInLine();
+    }
+
+    // a method with the same name and parameter types, defined directly in scope
+    private static SymbolTable.SymbolInfo findMethod(Scope scope, SymbolTable.SymbolInfo method) {
+        for (SymbolTable.SymbolInfo symbol = scope.findLocal("method", method.nameId); symbol != null; symbol = symbol.next) {
+            if (symbol.kind.equals("method") && symbol.signature.sameParameterTypes(method.signature)) {
+                return symbol;
+            }
+        }
+        return null;
+    }
+}
@@ -3,116 +3,289 @@ package compiler;
 import gen.japyListener;
 import gen.japyParser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
+import java.io.PrintStream;
 import java.util.*;
 
 public class SemanticError implements japyListener {
-    private Hashtable<String, SymbolTable.SymbolInfo> SemanticError;
-    private Stack<String> currentScope;
-    private Hashtable<String, Hashtable<String, SymbolTable.SymbolInfo>> allScopes;
+    private Map<String, SymbolTable.SymbolInfo> SemanticError;
+    private final ScopeBuilder scopes;
+    // classes of the whole program when checking one of several files, see setProgramIndex
+    private ProgramIndex program;
+    private int file;
+    // errors found, written to err at the end of the program unless a shared collector is set
+    private Diagnostics diagnostics = new Diagnostics();
+    private boolean ownsDiagnostics = true;
+    private int diagnosticsFile;
+    // classes calls are resolved against: the program's, or this file's declared up front
+    private ClassHierarchy hierarchy;
+    private MethodResolver resolver;
+    // the program, or the current class when streamed, lowered from typed on first use, and the
+    // types of its expressions
+    private Ast ast;
+    private ExpressionTypes types;
+    private ConstantValues constants;
+    private ParserRuleContext typed;
+    // set when classes are walked as the parser reduces them, see StreamingChecker
+    private boolean streamed;
+    private int[] argumentTypes = new int[8];
+    // a pass that is walked on its own drives its private builder itself
+    private final boolean ownsScopes;
     private String inputFile;
-    private List<String> scopeOrder;
+    private final PrintStream out;
+    private final PrintStream err;
 
     public SemanticError() {
-        this.SemanticError = new Hashtable<>();
-        this.currentScope = new Stack<>();
-        this.allScopes = new Hashtable<>();
-        this.currentScope.push("global");
-        this.allScopes.put("global", new Hashtable<>());
-        this.scopeOrder = new ArrayList<>();
-        this.scopeOrder.add("global");
+        this(System.out, System.err);
+    }
+
+    public SemanticError(PrintStream out, PrintStream err) {
+        this(new ScopeBuilder(), true, out, err);
+    }
+
+    /**
+     * Creates a pass that reads scopes from a builder walked alongside it, see {@link ListenerMultiplexer}.
+     */
+    public SemanticError(ScopeBuilder scopes, PrintStream out, PrintStream err) {
+        this(scopes, false, out, err);
+    }
+
+    private SemanticError(ScopeBuilder scopes, boolean ownsScopes, PrintStream out, PrintStream err) {
+        this.scopes = scopes;
+        this.ownsScopes = ownsScopes;
+        this.out = out;
+        this.err = err;
+        this.SemanticError = new HashMap<>();
+    }
+
+    /**
+     * Checks this file as file number {@code file} of {@code program}: calls resolve against the
+     * classes of every file, and class-level errors come from the index instead of this file alone.
+     */
+    public void setProgramIndex(ProgramIndex program, int file) {
+        this.program = program;
+        this.file = file;
+    }
+
+    /**
+     * Reports errors to {@code diagnostics} as those of file number {@code file} instead of
+     * printing them; the owner of the collector writes them. The walk ends with
+     * {@link Diagnostics.LimitReached} once no further error of the file can be kept.
+     */
+    public void setDiagnostics(Diagnostics diagnostics, int file) {
+        this.diagnostics = diagnostics;
+        this.ownsDiagnostics = false;
+        this.diagnosticsFile = file;
+    }
+
+    static Diagnostics.Diagnostic classRedefinedError(SymbolTable.SymbolInfo classInfo) {
+        return symbolError(Diagnostics.CLASS_REDEFINED, classInfo, "class [" + classInfo.getName() + "] has been defined already.");
+    }
+
+    static Diagnostics.Diagnostic undefinedParentError(SymbolTable.SymbolInfo classInfo) {
+        return symbolError(Diagnostics.UNDEFINED_PARENT, classInfo, "class [" + classInfo.getName() + "] inherits from undefined class [" + NamePool.global().name(classInfo.parentNameId) + "]");
+    }
+
+    static Diagnostics.Diagnostic cyclicClassError(SymbolTable.SymbolInfo classInfo) {
+        return symbolError(Diagnostics.CYCLIC_INHERITANCE, classInfo, "class [" + classInfo.getName() + "] inherits from itself");
+    }
+
+    // an error spanning the name of a declaration
+    private static Diagnostics.Diagnostic symbolError(int code, SymbolTable.SymbolInfo symbol, String message) {
+        return new Diagnostics.Diagnostic(code, symbol.line, symbol.column, symbol.line, symbol.column + symbol.getName().length(), message);
+    }
+
+    // an error spanning ctx, reported at the position of its first token
+    private static Diagnostics.Diagnostic error(int code, ParserRuleContext ctx, String message) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop() != null && ctx.getStop().getTokenIndex() >= start.getTokenIndex() ? ctx.getStop() : start;
+        int endColumn = stop.getCharPositionInLine() + (stop.getText() == null ? 0 : stop.getText().length());
+        return new Diagnostics.Diagnostic(code, start.getLine(), start.getCharPositionInLine(), stop.getLine(), endColumn, message);
+    }
+
+    private void report(Diagnostics.Diagnostic diagnostic) {
+        // a private collector keeps the old output, without file names
+        diagnostics.report(diagnostic.in(diagnosticsFile, ownsDiagnostics ? null : inputFile));
+        diagnostics.check(diagnosticsFile);
     }
 
     @Override
     public void enterProgram(japyParser.ProgramContext ctx) {
         inputFile = ctx.getStart().getInputStream().getSourceName();
+        if (ownsDiagnostics) {
+            diagnostics = new Diagnostics();
+        }
+        ast = null;
+        types = null;
+        constants = null;
+        typed = ctx;
+        if (program != null) {
+            hierarchy = program.getHierarchy();
+            resolver = new MethodResolver(hierarchy);
+        } else if (ctx.children != null) {
+            // a call may refer to a method declared further down or inherited from a later class
+            ScopeBuilder declarations = new ScopeBuilder();
+            declarations.declare(ctx);
+            hierarchy = declarations.getHierarchy();
+            resolver = new MethodResolver(hierarchy);
+        } else {
+            // the program is streamed and its classes arrive one by one, see enterClassDeclaration
+            streamed = true;
+        }
     }
 
     @Override
     public void exitProgram(japyParser.ProgramContext ctx) {
-        System.out.printf("------------------ program:\"%s\" ------------------%n", inputFile);
-        List<String> orderedScopes = new ArrayList<>(Arrays.asList("global"));
-
-        for (String scope : scopeOrder) {
-            if (!scope.equals("global")) {
-                orderedScopes.add(scope);
+        if (!streamed) {
+            checkVariables();
+            checkArrays();
+            checkReturns();
+        }
+        if (program != null) {
+            for (Diagnostics.Diagnostic error : program.getErrors(file)) {
+                report(error);
+            }
+        } else {
+            ClassHierarchy classes = streamed ? scopes.getHierarchy() : hierarchy;
+            for (SymbolTable.SymbolInfo classInfo : classes.getUndefinedParents()) {
+                report(undefinedParentError(classInfo));
+            }
+            for (SymbolTable.SymbolInfo classInfo : classes.getCyclicClasses()) {
+                report(cyclicClassError(classInfo));
             }
         }
+        if (ownsDiagnostics) {
+            diagnostics.write("text", err);
+        }
+        out.printf("------------------ program:\"%s\" ------------------%n", inputFile);
+        List<Scope> orderedScopes = new ArrayList<>();
+        scopes.getGlobalScope().collect(orderedScopes);
+
+        for (Scope scope : orderedScopes) {
+            String scopeName = scopeName(scope);
+            if (scopeName.equals("class_global")) {
+                continue;
+            }
+            out.printf("-------------------- %s --------------------%n", scopeName);
+            Map<String, SymbolTable.SymbolInfo> scopeTable = sortedSymbols(scope);
 
-        for (String scope : orderedScopes) {
-            System.out.printf("-------------------- %s --------------------%n", scope);
-            Hashtable<String, SymbolTable.SymbolInfo> scopeTable = allScopes.getOrDefault(scope, new Hashtable<>());
-
-            List<String> sortedKeys = new ArrayList<>(scopeTable.keySet());
-            sortedKeys.sort(Comparator.naturalOrder());
-
-            if (scope.startsWith("if") || scope.startsWith("while")) {
-                System.out.println("                    !NO KEY FOUND!");
-                for (String key : sortedKeys) {
-                    SymbolTable.SymbolInfo info = scopeTable.get(key);
+            if (scope.getKind() == Scope.IF || scope.getKind() == Scope.WHILE) {
+                out.println("                    !NO KEY FOUND!");
+                for (Map.Entry<String, SymbolTable.SymbolInfo> entry : scopeTable.entrySet()) {
+                    SymbolTable.SymbolInfo info = entry.getValue();
                     if (info.kind.equals("variable")) {
-                        System.out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", key, info.name, info.firstAppearance);
+                        out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", entry.getKey(), info.getName(), info.firstAppearance);
                     }
                 }
             } else {
-                for (String key : sortedKeys) {
-                    if (scope.startsWith("else")) {
-                        SymbolTable.SymbolInfo info = scopeTable.get(key);
-                        System.out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", key, info.name, info.firstAppearance);
+                for (Map.Entry<String, SymbolTable.SymbolInfo> entry : scopeTable.entrySet()) {
+                    if (scope.getKind() == Scope.ELSE) {
+                        SymbolTable.SymbolInfo info = entry.getValue();
+                        out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", entry.getKey(), info.getName(), info.firstAppearance);
                     } else {
-                        SymbolTable.SymbolInfo info = scopeTable.get(key);
-                        System.out.printf("key = %s, value = %s%n", key, info);
+                        out.printf("key = %s, value = %s%n", entry.getKey(), entry.getValue());
                     }
                 }
 
                 if (scopeTable.isEmpty()) {
-                    System.out.println("                    !NO KEY FOUND!");
+                    out.println("                    !NO KEY FOUND!");
                 }
             }
 
-            System.out.println("------------------------------------------------------");
+            out.println("------------------------------------------------------");
         }
     }
 
 
-    @Override
-    public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
-        String className = ctx.className.getText();
-        String accessModifier = (ctx.access_modifier() != null) ? ctx.access_modifier().getText() : "default";
-        String inherits = (ctx.classParent != null) ? ctx.classParent.getText() : "";
-        String key = "class_" + className;
-
-        SymbolTable.SymbolInfo classInfo = new SymbolTable.SymbolInfo("class", className);
-        classInfo.accessModifier = accessModifier;
-        if (!inherits.isEmpty()) {
-            classInfo.inherits = "class_" + inherits;
-        }
-
-        Hashtable<String, SymbolTable.SymbolInfo> globalScope = allScopes.get("global");
-        if (globalScope.containsKey(key)) {
-            int line = ctx.getStart().getLine();
-            int column = ctx.getStart().getCharPositionInLine();
-            System.out.println("Error102: in line [" + line + ":" + column + "], class [" + className + "] has been defined already.");
-            String newKey = key + "_" + line + "_" + column;
-            globalScope.put(newKey, classInfo);
-        } else {
-            globalScope.put(key, classInfo);
+    // the printed names follow the old string keys, but are only built for the dump
+    private static String scopeName(Scope scope) {
+        switch (scope.getKind()) {
+            case Scope.GLOBAL:
+                return "global";
+            case Scope.CLASS:
+            case Scope.METHOD:
+                return symbolKey(scope.getOwner());
+            default:
+                return scope.getKindName() + "_" + scope.getStartLine() + "_" + scope.getStopLine();
         }
+    }
 
-        currentScope.push(key);
-        allScopes.put(key, new Hashtable<>());
+    private static Map<String, SymbolTable.SymbolInfo> sortedSymbols(Scope scope) {
+        Map<String, SymbolTable.SymbolInfo> sorted = new TreeMap<>();
+        for (SymbolTable.SymbolInfo symbol : scope.getSymbols()) {
+            sorted.putIfAbsent(symbolKey(symbol), symbol);
+        }
+        return sorted;
+    }
+
+    private static String symbolKey(SymbolTable.SymbolInfo symbol) {
+        String key;
+        switch (symbol.kind) {
+            case "class":
+                key = "class_" + symbol.getName();
+                break;
+            case "method":
+                key = "method_" + symbol.getName() + symbol.signature;
+                break;
+            case "field":
+                key = "field_" + symbol.getName();
+                break;
+            case "variable":
+                key = "var_" + symbol.getName();
+                break;
+            default:
+                key = symbol.getName();
+        }
+        return symbol.redefined ? key + "_" + symbol.line + "_" + symbol.column : key;
+    }
 
-        if (!key.equals("class_global")) {
-            scopeOrder.add(key);
+    @Override
+    public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
+        if (ownsScopes) {
+            scopes.enterClassDeclaration(ctx);
+        }
+        SymbolTable.SymbolInfo classInfo = scopes.getLastDefined();
+        if (classInfo.redefined) {
+            report(classRedefinedError(classInfo));
+        }
+        if (streamed) {
+            // the classes streamed before are complete in the shared scopes, this one only has its
+            // header there yet; later classes are not parsed, see ClassHierarchy.buildSoFar
+            List<Scope> classScopes = new ArrayList<>();
+            for (Scope scope : scopes.getGlobalScope().getChildren()) {
+                if (scope.getKind() == Scope.CLASS && !scope.getOwner().redefined && scope.getOwner() != classInfo) {
+                    classScopes.add(scope);
+                }
+            }
+            if (!classInfo.redefined) {
+                ScopeBuilder declarations = new ScopeBuilder();
+                declarations.declare(ctx);
+                classScopes.addAll(declarations.getGlobalScope().getChildren());
+            }
+            hierarchy = ClassHierarchy.buildSoFar(classScopes);
+            resolver = new MethodResolver(hierarchy);
+            ast = null;
+            types = null;
+            constants = null;
+            typed = ctx;
         }
     }
 
 
     @Override
     public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
-        currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitClassDeclaration(ctx);
+        }
+        if (streamed) {
+            checkVariables();
+            checkArrays();
+            checkReturns();
+        }
     }
 
     @Override
@@ -126,23 +299,13 @@ public class SemanticError implements japyListener {
 
     @Override
     public void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
-        String fieldName = ctx.fieldName.getText();
-        String fieldType = ctx.fieldType.getText();
-        String accessModifier = (ctx.access_modifier() != null) ? ctx.access_modifier().getText() : "default";
-        String key = "field_" + fieldName;
-
-        SymbolTable.SymbolInfo fieldInfo = new SymbolTable.SymbolInfo("field", fieldName, fieldType);
-        fieldInfo.accessModifier = accessModifier;
-
-        Hashtable<String, SymbolTable.SymbolInfo> currentScopeTable = allScopes.get(currentScope.peek());
-        if (currentScopeTable.containsKey(key)) {
-            int line = ctx.getStart().getLine();
-            int column = ctx.getStart().getCharPositionInLine();
-            System.out.println("Error104: in line [" + line + ":" + column + "], field [" + fieldName + "] has been defined already.");
-            String newKey = key + "_" + line + "_" + column;
-            currentScopeTable.put(newKey, fieldInfo);
-        } else {
-            currentScopeTable.put(key, fieldInfo);
+        if (ownsScopes) {
+            scopes.enterFieldDeclaration(ctx);
+        }
+        for (SymbolTable.SymbolInfo fieldInfo : scopes.getLastFields()) {
+            if (fieldInfo.redefined) {
+                report(symbolError(Diagnostics.FIELD_REDEFINED, fieldInfo, "field [" + fieldInfo.getName() + "] has been defined already."));
+            }
         }
     }
 
@@ -160,83 +323,20 @@ public class SemanticError implements japyListener {
 
     @Override
     public void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
-        String methodName = ctx.methodName.getText();
-        String returnType = ctx.t.getText();
-        String accessModifier = (ctx.methodAccessModifier != null) ? ctx.methodAccessModifier.getText() : "default";
-
-        StringBuilder methodSignature = new StringBuilder(methodName);
-        methodSignature.append("(");
-        if (ctx.param1 != null) {
-            List<TerminalNode> paramNames = ctx.ID();
-            List<japyParser.JapyTypeContext> paramTypes = ctx.japyType();
-            for (int i = 1; i < paramNames.size(); i++) {
-                String paramType = paramTypes.get(i - 1).getText();
-                methodSignature.append(paramType);
-                if (i < paramNames.size() - 1) {
-                    methodSignature.append(",");
-                }
-            }
-        }
-        methodSignature.append(")");
-        String key = "method_" + methodSignature.toString();
-
-        SymbolTable.SymbolInfo methodInfo = new SymbolTable.SymbolInfo("method", methodName, returnType);
-        methodInfo.accessModifier = accessModifier;
-        methodInfo.parameters = new ArrayList<>();
-
-        if (ctx.param1 != null) {
-            List<TerminalNode> paramNames = ctx.ID();
-            List<japyParser.JapyTypeContext> paramTypes = ctx.japyType();
-
-            for (int i = 1; i < paramNames.size(); i++) {
-                String paramName = paramNames.get(i).getText();
-                String paramType = paramTypes.get(i - 1).getText();
-                methodInfo.parameters.add(new SymbolTable.ParameterInfo(i, paramName, paramType));
-            }
+        if (ownsScopes) {
+            scopes.enterMethodDeclaration(ctx);
         }
-
-        String currentScopeName = currentScope.peek();
-        if (allScopes.get(currentScopeName).containsKey(key)) {
-            int line = ctx.getStart().getLine();
-            int column = ctx.getStart().getCharPositionInLine();
-            System.out.println("Error102: in line [" + line + ":" + column + "], method [" + methodName + "] has been defined already.");
-            String newKey = key + "_" + line + "_" + column;
-            allScopes.get(currentScopeName).put(newKey, methodInfo);
-        } else {
-            String expectedReturnType = "MethodReturnType";
-            if (!returnType.equals(expectedReturnType)) {
-                int line = ctx.getStart().getLine();
-                int column = ctx.getStart().getCharPositionInLine();
-                System.out.println("Error210: in line [" + line + ":" + column + "], ReturnType of this method must be [" + returnType + "]");
-            }
-            List<String> paramNames = new ArrayList<>();
-            if (ctx.param1 != null) {
-                paramNames.add(ctx.param1.getText());
-            }
-            if (ctx.param2 != null) {
-                paramNames.add(ctx.param2.getText());
-            }
-
-            int formalParamCount = paramNames.size();
-            int actualParamCount = ctx.ID().size() - 1;
-            if (actualParamCount != formalParamCount) {
-                int line = ctx.getStart().getLine();
-                int column = ctx.getStart().getCharPositionInLine();
-                System.out.println("Error: Line " + line + ":" + column + ", Number of parameters in method call does not match with formal parameter count in method definition.");
-            }
-
-            allScopes.get(currentScopeName).put(key, methodInfo);
-            currentScope.push(key);
-            allScopes.put(key, new Hashtable<>());
-
-            scopeOrder.add(key);
+        SymbolTable.SymbolInfo methodInfo = scopes.getLastDefined();
+        if (methodInfo.redefined) {
+            report(error(Diagnostics.METHOD_REDEFINED, ctx, "method [" + methodInfo.getName() + "] has been defined already."));
         }
     }
 
-
     @Override
     public void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
-        currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitMethodDeclaration(ctx);
+        }
     }
 
     @Override
@@ -249,33 +349,16 @@ public class SemanticError implements japyListener {
 
     @Override
     public void enterClosedConditional(japyParser.ClosedConditionalContext ctx) {
-        String ifScopeName = "if_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-        currentScope.push(ifScopeName);
-        allScopes.put(ifScopeName, new Hashtable<>());
-        scopeOrder.add(ifScopeName);
-
-        SymbolTable.SymbolInfo ifInfo = new SymbolTable.SymbolInfo("if", ifScopeName);
-        ifInfo.firstAppearance = ctx.getStart().getLine();
-        allScopes.get(ifScopeName).put("if_condition", ifInfo);
-
-        if (ctx.elseStmt != null) {
-            String elseScopeName = "else_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-            currentScope.push(elseScopeName);
-            allScopes.put(elseScopeName, new Hashtable<>());
-            scopeOrder.add(elseScopeName);
-
-            SymbolTable.SymbolInfo elseInfo = new SymbolTable.SymbolInfo("else", elseScopeName);
-            elseInfo.firstAppearance = ctx.elseStmt.getStart().getLine();
-//            allScopes.get(elseScopeName).put("else_condition", elseInfo);
+        if (ownsScopes) {
+            scopes.enterClosedConditional(ctx);
         }
     }
 
     @Override
     public void exitClosedConditional(japyParser.ClosedConditionalContext ctx) {
-        if (ctx.elseStmt != null) {
-            currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitClosedConditional(ctx);
         }
-        currentScope.pop();
     }
 
     @Override
@@ -304,118 +387,217 @@ public class SemanticError implements japyListener {
 
     @Override
     public void enterStatementVarDef(japyParser.StatementVarDefContext ctx) {
-        for (TerminalNode varNode : ctx.ID()) {
-            String varName = varNode.getText();
-            SymbolTable.SymbolInfo varInfo = new SymbolTable.SymbolInfo("variable", varName);
-            varInfo.firstAppearance = ctx.getStart().getLine();
-            String currentScopeName = currentScope.peek();
-            allScopes.get(currentScopeName).put("var_" + varName, varInfo);
-        }
-        if (ctx.expression() != null && ctx.expression().size() > 0) {
-            for (japyParser.ExpressionContext exp : ctx.expression()) {
-                if (exp != null) {
-                    String exprText = exp.getText();
-                    if (exprText.contains("(")) {
-                        String methodName = exprText.substring(0, exprText.indexOf('(')).trim();
-                        String currentScopeName = currentScope.peek();
-                        SymbolTable.SymbolInfo methodSymbol = allScopes.get(currentScopeName).put("function_" + methodName);
-
-                        if (methodSymbol != null) {
-                            String value = methodSymbol.toString();
-
-                            String[] formalParams = get_formalParams(value);
-                            String[] actualParams = get_actualParams(exprText);
-                            int formalParamsLength = formalParams.length;
-                            int actualParamsLength = actualParams.length;
-                            if (formalParamsLength != actualParamsLength) {
-                                int error_line = ctx.getStart().getLine();
-                                int error_col = ctx.getStart().getCharPositionInLine();
-                                String error = "Error: in line [" + error_line + ":" + error_col + "], Incorrect number of arguments for method [" + methodName + "]";
-                                System.err.println(error);
-                                return;
-                            }
-
-
-                            for (int i = 0; i < formalParams.length; i++) {
-                                if (!formalParams[i].contains(getRightType(actualParams[i]))) {
-                                    int error_line = exp.getStart().getLine();
-                                    int error_col = exp.getStart().getCharPositionInLine();
-                                    String error = "Error: in line [" + error_line + ":" + error_col + "], Type mismatch for argument " + (i + 1) + " of method [" + methodName + "]";
-                                    System.err.println(error);
-                                    return;
-                                }
-                            }
-                        }
-                    }
+        if (ownsScopes) {
+            scopes.enterStatementVarDef(ctx);
+        }
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            ParseTree child = ctx.getChild(i);
+            if (child instanceof japyParser.ExpressionContext && !checkCall(ctx, (japyParser.ExpressionContext) child)) {
+                return;
+            }
+        }
+    }
+
+    // checks a call of a method of the enclosing class, or of a method on a receiver whose class
+    // is evident, against the overloads it may refer to; returns false when an error was reported
+    private boolean checkCall(japyParser.StatementVarDefContext statement, japyParser.ExpressionContext expression) {
+        ParserRuleContext call;
+        ParseTree receiver = null;
+        Token name;
+        int classNameId;
+        if (expression instanceof japyParser.ExpressionPrimaryContext && ((japyParser.ExpressionPrimaryContext) expression).o.i3 != null) {
+            call = ((japyParser.ExpressionPrimaryContext) expression).o;
+            name = ((japyParser.ExpressionPrimaryContext) expression).o.i3;
+            classNameId = enclosingClass().nameId;
+        } else if (expression instanceof japyParser.ExpressionMethodCallContext) {
+            japyParser.ExpressionMethodCallContext methodCall = (japyParser.ExpressionMethodCallContext) expression;
+            call = methodCall;
+            receiver = methodCall.e;
+            name = methodCall.i;
+            classNameId = staticType(methodCall.e);
+            if (!hierarchy.contains(classNameId)) {
+                return true;
+            }
+        } else {
+            return true;
+        }
+
+        int arity = 0;
+        for (int i = 0; i < call.getChildCount(); i++) {
+            ParseTree child = call.getChild(i);
+            if (child instanceof japyParser.ExpressionContext && child != receiver) {
+                if (arity == argumentTypes.length) {
+                    argumentTypes = Arrays.copyOf(argumentTypes, arity * 2);
                 }
+                argumentTypes[arity++] = staticType((japyParser.ExpressionContext) child);
             }
         }
+        MethodResolver.Resolution resolution = resolver.resolve(classNameId, NamePool.global().find(name.getText()), argumentTypes, arity);
+
+        switch (resolution.status) {
+            case MethodResolver.WRONG_ARITY:
+                report(error(Diagnostics.ARGUMENT_COUNT, statement, "Incorrect number of arguments for method [" + resolution.method.getName() + "]"));
+                return false;
+            case MethodResolver.MISMATCH:
+                report(error(Diagnostics.ARGUMENT_TYPE, call, "Type mismatch for argument " + (resolution.argument + 1) + " of method [" + resolution.method.getName() + "]"));
+                return false;
+            case MethodResolver.AMBIGUOUS:
+                report(error(Diagnostics.AMBIGUOUS_CALL, call, "Ambiguous call of method [" + resolution.method.getName() + "]"));
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    // type descriptor of an expression, read from the types of the whole program or class, which
+    // are inferred once on first use; MethodSignature.UNKNOWN when the type cannot be told
+    private int staticType(japyParser.ExpressionContext expression) {
+        Token token = AstLowering.expressionToken(expression);
+        if (token == null) {
+            return MethodSignature.UNKNOWN;
+        }
+        return types().type(ast.nodeAtToken(token.getTokenIndex()));
     }
-    private String[] get_formalParams(String methodString) {
-        int startIndex = methodString.indexOf("parameters:[");
-        int endIndex = methodString.indexOf("]]", startIndex);
 
-        if (startIndex == -1 || endIndex == -1) {
-            return new String[0];
+    private ExpressionTypes types() {
+        if (types == null) {
+            types = ExpressionTypes.infer(ast(), hierarchy, resolver);
         }
-        String parametersSection = methodString.substring(startIndex + "parameters: [".length(), endIndex + "]]".length());
+        return types;
+    }
 
-        String[] parameterDefinitions = parametersSection.replaceAll("\\s+", "")
-                .replaceAll("\\[\\[", "[")
-                .replaceAll("]]", "]")
-                .split("],\\[");
+    private ConstantValues constants() {
+        if (constants == null) {
+            constants = ConstantValues.fold(ast());
+        }
+        return constants;
+    }
 
-        List<String[]> parametersList = new ArrayList<>();
-        for (String paramDef : parameterDefinitions) {
-            String[] params = paramDef.substring(1, paramDef.length() - 1).split("\\),\\(");
+    private Ast ast() {
+        if (ast == null) {
+            ast = typed instanceof japyParser.ProgramContext
+                    ? AstLowering.lower((japyParser.ProgramContext) typed, NamePool.global())
+                    : AstLowering.lower((japyParser.ClassDeclarationContext) typed, NamePool.global());
+        }
+        return ast;
+    }
 
-            for (int i = 0; i < params.length; i++) {
-                params[i] = params[i].replaceAll("[()]", "").trim();
+    // reports names in method bodies that refer to nothing, and local variables used where their
+    // var statement may not have run yet
+    private void checkVariables() {
+        Ast ast = ast();
+        ControlFlowGraph.Builder graphs = new ControlFlowGraph.Builder(ast);
+        for (int node = ast.firstChild(ast.root()); node != Ast.NONE; node = ast.nextSibling(node)) {
+            if (ast.kind(node) != Ast.CLASS) {
+                continue;
             }
-            parametersList.add(params);
-        }
-        List<String> paramList = new ArrayList<>();
-        for (String[] params : parametersList) {
-            for (String param : params) {
-                if (param.contains("type")) {
-                    String type = param.substring(param.indexOf(':') + 1).trim();
-                    paramList.add(type);
+            int classNameId = ast.name(node);
+            // a name may be a field inherited from a class that is not known
+            boolean fieldsKnown = hierarchy.isAncestryKnown(classNameId);
+            for (int method = ast.firstChild(node); method != Ast.NONE; method = ast.nextSibling(method)) {
+                if (ast.kind(method) != Ast.METHOD) {
+                    continue;
+                }
+                LocalVariables variables = LocalVariables.bind(ast, method);
+                for (int name : variables.freeNames()) {
+                    if (fieldsKnown && hierarchy.findField(classNameId, ast.name(name)) == null) {
+                        report(nodeError(Diagnostics.UNDEFINED_VARIABLE, name, "variable [" + ast.nameText(name) + "] is not defined"));
+                    }
+                }
+                if (!variables.isOrdered()) {
+                    for (int name : DefiniteAssignment.usesBeforeDefinition(graphs.build(method), variables)) {
+                        report(nodeError(Diagnostics.USE_BEFORE_DEFINITION, name, "variable [" + ast.nameText(name) + "] is used before its definition"));
+                    }
                 }
             }
         }
-        return paramList.toArray(new String[0]);
-    }
-    private String getRightType(String returnValue) {
-        String type = "";
-        if (returnValue != null) {
-            if (returnValue.contains("\""))
-                return "string";
-            else if (returnValue.contains("."))
-                return "double";
-            else if (returnValue.contains("True") || returnValue.contains("False")) {
-                return "bool";
+    }
+
+    // reports array indexes that are not ints, and those that are out of range on every run
+    private void checkArrays() {
+        Ast ast = ast();
+        if (!ArrayBounds.hasAccesses(ast)) {
+            return;
+        }
+        ExpressionTypes types = types();
+        for (int node = 0; node < ast.size(); node++) {
+            if (ast.kind(node) == Ast.INDEX) {
+                int index = ast.child(node, 1);
+                if (index != Ast.NONE && types.type(index) != MethodSignature.UNKNOWN && types.type(index) != MethodSignature.INT) {
+                    report(nodeError(Diagnostics.INDEX_NOT_INTEGER, node, "array index of type [" + types.typeName(index) + "] must be an integer"));
+                }
             }
-            else
-                return "int";
         }
-        return type;
+        for (int node : ArrayBounds.analyze(ast, types).outOfRange()) {
+            // names and literals carry their text
+            String index = ast.nameText(ast.child(node, 1));
+            report(nodeError(Diagnostics.INDEX_OUT_OF_RANGE, node, index == null ? "array index is out of range" : "array index [" + index + "] is out of range"));
+        }
     }
-    private String[] get_actualParams(String exprText) {
-        exprText = exprText.trim();
-        int methodStartIndex = exprText.indexOf('(');
-        int methodEndIndex = exprText.indexOf(')');
 
-        if (methodStartIndex == -1 || methodEndIndex == -1) {
-            return new String[0];
+    // reports returns of a value the method's return type cannot hold, methods that may end
+    // without returning a value, and statements that never run
+    private void checkReturns() {
+        Ast ast = ast();
+        ControlFlowGraph.Builder graphs = new ControlFlowGraph.Builder(ast);
+        for (int node = ast.firstChild(ast.root()); node != Ast.NONE; node = ast.nextSibling(node)) {
+            if (ast.kind(node) != Ast.CLASS) {
+                continue;
+            }
+            for (int method = ast.firstChild(node); method != Ast.NONE; method = ast.nextSibling(method)) {
+                if (ast.kind(method) != Ast.METHOD) {
+                    continue;
+                }
+                ControlFlowGraph cfg = graphs.build(method);
+                int returnType = Ast.NONE;
+                for (int i = 0; i < cfg.statementCount(); i++) {
+                    int statement = cfg.statement(i);
+                    if (ast.kind(statement) != Ast.RETURN || ast.firstChild(statement) == Ast.NONE) {
+                        continue;
+                    }
+                    if (returnType == Ast.NONE) {
+                        returnType = ast.childOfKind(method, Ast.TYPE);
+                    }
+                    int type = types().type(ast.firstChild(statement));
+                    if (returnType != Ast.NONE && !returnable(type, returnType)) {
+                        report(nodeError(Diagnostics.RETURN_TYPE, statement, "ReturnType of this method must be [" + typeText(returnType) + "]"));
+                    }
+                }
+                Reachability reachability = Reachability.analyze(cfg, constants());
+                if (!reachability.returnsOnEveryPath()) {
+                    report(nodeError(Diagnostics.MISSING_RETURN, method, "method [" + ast.nameText(method) + "] does not return a value on every path"));
+                }
+                for (int statement : reachability.deadStatements()) {
+                    report(nodeError(Diagnostics.UNREACHABLE_CODE, statement, "statement is unreachable"));
+                }
+            }
         }
+    }
+
+    // whether a value of type may be returned from a method declared to return typeNode; unknown
+    // types pass, like arguments do
+    private boolean returnable(int type, int typeNode) {
+        int declared = MethodSignature.descriptor(typeText(typeNode));
+        return MethodSignature.assignable(type, declared, hierarchy);
+    }
+
+    private String typeText(int typeNode) {
+        String text = ast.nameText(typeNode);
+        return ast.hasFlag(typeNode, Ast.ARRAY) ? text + "[]" : text;
+    }
 
-        String paramsText = exprText.substring(methodStartIndex + 1, methodEndIndex).trim();
-        List<String> paramList = new ArrayList<>();
-        String[] params = paramsText.split(",");
-        for (String param : params) {
-            paramList.add(param.trim());
+    private Diagnostics.Diagnostic nodeError(int code, int node, String message) {
+        String text = ast.nameText(node);
+        int length = text == null ? 0 : text.length();
+        return new Diagnostics.Diagnostic(code, ast.line(node), ast.column(node), ast.line(node), ast.column(node) + length, message);
+    }
+
+    private SymbolTable.SymbolInfo enclosingClass() {
+        Scope scope = scopes.getCurrentScope();
+        while (scope.getKind() != Scope.CLASS) {
+            scope = scope.getParent();
         }
-        return paramList.toArray(new String[0]);
+        return scope.getOwner();
     }
 
     @Override
@@ -457,19 +639,16 @@ public class SemanticError implements japyListener {
 
     @Override
     public void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
-        String loopScopeName = "while_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-        currentScope.push(loopScopeName);
-        allScopes.put(loopScopeName, new Hashtable<>());
-        scopeOrder.add(loopScopeName);
-
-        SymbolTable.SymbolInfo loopInfo = new SymbolTable.SymbolInfo("while", loopScopeName);
-        loopInfo.firstAppearance = ctx.getStart().getLine();
-        allScopes.get(loopScopeName).put("while_loop", loopInfo);
+        if (ownsScopes) {
+            scopes.enterStatementClosedLoop(ctx);
+        }
     }
 
     @Override
     public void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
-        currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitStatementClosedLoop(ctx);
+        }
     }
 
 
@@ -493,35 +672,6 @@ public class SemanticError implements japyListener {
 
     @Override
     public void enterStatementAssignment(japyParser.StatementAssignmentContext ctx) {
-        String value = null;
-        int startLengthIndex = value.indexOf("length: ");
-        int endLengthIndex = value.indexOf(")", startLengthIndex);
-        String indexExpression = ctx.right.expressionOr().expressionAnd().expressionEq().expressionCmp().expressionAdd().expressionMultMod().expressionUnary().expressionMethods().expressionMethodsTemp().e3.getText();
-        int array_length = Integer.parseInt(value.substring(startLengthIndex, endLengthIndex));
-        if (ctx.right.expressionOr().expressionAnd().expressionEq().expressionCmp().expressionAdd().expressionMultMod().expressionUnary().expressionMethods().expressionOther().ID() != null) {
-            if (!isInteger(indexExpression)) {
-                int line = ctx.getStart().getLine();
-                int charPositionInLine = ctx.getStart().getCharPositionInLine();
-                String error = "Error: in line [" + line + ":" + charPositionInLine + "], array index [" + indexExpression + "] must be an integer";
-                System.out.println(error);
-            }
-        }
-        if (array_length <= Integer.parseInt(indexExpression)) {
-            value = SemanticError.toString();
-            startLengthIndex += "length: ".length();
-            int line = ctx.getStart().getLine();
-            int charPositionInLine = ctx.getStart().getCharPositionInLine();
-            String error = "Error: in line [" + line + ":" + charPositionInLine + "], array index [" + indexExpression + "] is out of range";
-            System.err.println(error);
-        }
-    }
-    private boolean isInteger(String str) {
-        try {
-            Integer.parseInt(str);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
     }
 
     @Override
@@ -549,92 +699,62 @@ public class SemanticError implements japyListener {
     }
 
     @Override
-    public void enterExpression(japyParser.ExpressionContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpression(japyParser.ExpressionContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) {
+    public void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {
+    public void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) {
+    public void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) {
+    public void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {
+    public void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {
+    public void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) {
+    public void enterExpressionIndex(japyParser.ExpressionIndexContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) {
+    public void exitExpressionIndex(japyParser.ExpressionIndexContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) {
+    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) {
+    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
 
     }
 
@@ -649,62 +769,42 @@ public class SemanticError implements japyListener {
     }
 
     @Override
-    public void enterExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) {
+    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) {
+    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethods(japyParser.ExpressionMethodsContext ctx) {
+    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMethods(japyParser.ExpressionMethodsContext ctx) {
+    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) {
+    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) {
+    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {
 
     }
 
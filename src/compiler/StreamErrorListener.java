@@ -0,0 +1,31 @@
+package compiler;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import java.io.PrintStream;
+
+/**
+ * Reports syntax errors in the same format as ANTLR's console listener,
+ * but to a caller supplied stream instead of System.err, and counts them.
+ */
+public class StreamErrorListener extends BaseErrorListener {
+    private final PrintStream out;
+    private int errorCount;
+
+    public StreamErrorListener(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+        out.println("line " + line + ":" + charPositionInLine + " " + msg);
+        errorCount++;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+}
@@ -0,0 +1,108 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyListener;
+import gen.japyParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.io.InputStream;
+
+/**
+ * Parses and checks a program without keeping the whole parse tree. Characters and
+ * tokens are read through unbuffered streams, every classDeclaration is handed to the
+ * listener as soon as the parser reduces it and is then cut out of the tree, so peak
+ * heap follows the largest class instead of the whole file.
+ */
+public class StreamingChecker {
+    private final ANTLRErrorListener errorListener;
+
+    public StreamingChecker(ANTLRErrorListener errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    public void check(InputStream input, String sourceName, japyListener listener) {
+        UnbufferedCharStream chars = new UnbufferedCharStream(input);
+        chars.name = sourceName;
+
+        japyLexer lexer = new japyLexer(chars);
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+
+        japyParser parser = new japyParser(new UnbufferedTokenStream<CommonToken>(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        parser.setBuildParseTree(true);
+        ClassReducer reducer = new ClassReducer(listener);
+        parser.addParseListener(reducer);
+        parser.program();
+        if (reducer.failure != null) {
+            throw reducer.failure;
+        }
+    }
+
+    private static class ClassReducer implements ParseTreeListener {
+        private final japyListener listener;
+        private RuntimeException failure;
+
+        ClassReducer(japyListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void enterEveryRule(ParserRuleContext ctx) {
+            if (ctx instanceof japyParser.ProgramContext) {
+                listener.enterProgram((japyParser.ProgramContext) ctx);
+            } else if (ctx instanceof japyParser.ClassDeclarationContext && ctx.getParent() instanceof japyParser.ProgramContext) {
+                japyParser.ProgramContext program = (japyParser.ProgramContext) ctx.getParent();
+                program.c1 = null;
+                program.c3 = null;
+            }
+        }
+
+        @Override
+        public void exitEveryRule(ParserRuleContext ctx) {
+            if (ctx instanceof japyParser.ClassDeclarationContext) {
+                ParserRuleContext parent = ctx.getParent();
+                if (failure == null) {
+                    try {
+                        walkClass((japyParser.ClassDeclarationContext) ctx, parent);
+                    } catch (RuntimeException e) {
+                        // a throwing listener must not unwind through the parser's rule exits
+                        failure = e;
+                    }
+                }
+                parent.removeLastChild();
+            } else if (ctx instanceof japyParser.ProgramContext && failure == null) {
+                listener.exitProgram((japyParser.ProgramContext) ctx);
+            }
+        }
+
+        private void walkClass(japyParser.ClassDeclarationContext ctx, ParserRuleContext parent) {
+            if (parent instanceof japyParser.EntryClassDeclarationContext) {
+                listener.enterEntryClassDeclaration((japyParser.EntryClassDeclarationContext) parent);
+                ParseTreeWalker.DEFAULT.walk(listener, ctx);
+                listener.exitEntryClassDeclaration((japyParser.EntryClassDeclarationContext) parent);
+            } else {
+                ParseTreeWalker.DEFAULT.walk(listener, ctx);
+            }
+        }
+
+        @Override
+        public void visitTerminal(TerminalNode node) {
+        }
+
+        @Override
+        public void visitErrorNode(ErrorNode node) {
+        }
+    }
+}
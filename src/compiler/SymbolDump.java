@@ -0,0 +1,509 @@
+package compiler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the scopes and symbols of one program in one of several formats:
+ * <ul>
+ * <li>{@code text}, the table the symbol pass has always printed, symbols sorted by key;</li>
+ * <li>{@code jsonl}, one JSON object per line: the program, then every scope in pre-order, each
+ * followed by its symbols in definition order;</li>
+ * <li>{@code binary}, the same records as the JSON Lines format in a compact encoding, see
+ * {@link Binary}.</li>
+ * </ul>
+ * Output is encoded straight into one large buffer that is handed to the channel when it fills
+ * up and at the end of every program, so the channel sees a few big writes and no formatter runs
+ * per symbol. Only the text format sorts, once per scope; the others keep definition order.
+ */
+public abstract class SymbolDump {
+    public static final List<String> FORMATS = Arrays.asList("text", "jsonl", "binary");
+
+    static final int BUFFER_SIZE = 1 << 16;
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    SymbolDump(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public static SymbolDump create(String format, WritableByteChannel channel) {
+        switch (format) {
+            case "text":
+                return new Text(channel);
+            case "jsonl":
+                return new JsonLines(channel);
+            case "binary":
+                return new Binary(channel);
+            default:
+                throw new IllegalArgumentException("unknown dump format " + format + ", expected one of " + FORMATS);
+        }
+    }
+
+    public static SymbolDump create(String format, OutputStream out) {
+        return create(format, Channels.newChannel(out));
+    }
+
+    /**
+     * File name extension of dumps in {@code format}, see {@link #create}.
+     */
+    public static String extension(String format) {
+        return format.equals("binary") ? ".symbols.bin" : ".symbols." + format;
+    }
+
+    /**
+     * Writes the scope tree under {@code globalScope} and flushes it to the channel.
+     */
+    public void write(String inputFile, Scope globalScope) {
+        List<Scope> orderedScopes = new ArrayList<>();
+        globalScope.collect(orderedScopes);
+        beginProgram(inputFile);
+        for (Scope scope : orderedScopes) {
+            writeScope(scope);
+        }
+        endProgram();
+        flush();
+    }
+
+    abstract void beginProgram(String inputFile);
+
+    abstract void writeScope(Scope scope);
+
+    void endProgram() {
+    }
+
+    // the printed names follow the old string keys, but are only built for the dump
+    static String scopeName(Scope scope) {
+        if (scope.getKind() == Scope.GLOBAL) {
+            return "global";
+        }
+        String prefix = scope.getName() != null ? scope.getKindName() + "_" + scope.getName() : scope.getKindName();
+        return prefix + "_" + scope.getStartLine() + "_" + scope.getStopLine();
+    }
+
+    static String symbolKey(SymbolTable.SymbolInfo symbol) {
+        switch (symbol.kind) {
+            case "class":
+            case "method":
+                return scopeName(symbol.scope);
+            case "field":
+                return "field_" + symbol.getName();
+            case "variable":
+                return "var_" + symbol.getName();
+            default:
+                return symbol.getName();
+        }
+    }
+
+    // name of the class a class symbol inherits from, or null
+    static String parentName(SymbolTable.SymbolInfo symbol) {
+        return symbol.parentNameId < 0 ? null : NamePool.global().name(symbol.parentNameId);
+    }
+
+    final void put(int b) {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) b);
+    }
+
+    final void put(byte[] bytes) {
+        for (int offset = 0; offset < bytes.length; ) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Appends {@code text} as UTF-8. Almost every name is ASCII and is copied char by char.
+     */
+    final void text(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                put(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            put(c);
+        }
+    }
+
+    final void decimal(int value) {
+        if (value < 0) {
+            put('-');
+            if (value == Integer.MIN_VALUE) {
+                text("2147483648");
+                return;
+            }
+            value = -value;
+        }
+        if (value >= 10) {
+            decimal(value / 10);
+        }
+        put('0' + value % 10);
+    }
+
+    final void newLine() {
+        text(NEW_LINE);
+    }
+
+    final void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * The table of the symbol pass: a header line per scope and one line per symbol, sorted by
+     * key. When several symbols of a scope share a key, the one defined last is printed.
+     */
+    static class Text extends SymbolDump {
+        private static final String NO_KEY = "                    !NO KEY FOUND!";
+        private static final String RULE = "------------------------------------------------------";
+        private static final Comparator<Keyed> BY_KEY = Comparator.comparing(keyed -> keyed.key);
+
+        Text(WritableByteChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        void beginProgram(String inputFile) {
+            text("------------------ program:\"");
+            text(String.valueOf(inputFile));
+            text("\" ------------------");
+            newLine();
+        }
+
+        @Override
+        void writeScope(Scope scope) {
+            text("-------------------- ");
+            text(scopeName(scope));
+            text(" --------------------");
+            newLine();
+            Keyed[] entries = sortedSymbols(scope);
+
+            if (scope.getKind() == Scope.IF || scope.getKind() == Scope.WHILE) {
+                text(NO_KEY);
+                newLine();
+                for (Keyed entry : entries) {
+                    if (entry.symbol.kind.equals("variable")) {
+                        firstAppearance(entry);
+                    }
+                }
+            } else {
+                for (Keyed entry : entries) {
+                    if (scope.getKind() == Scope.ELSE) {
+                        firstAppearance(entry);
+                    } else {
+                        text("key = ");
+                        text(entry.key);
+                        text(", value = ");
+                        text(entry.symbol.toString());
+                        newLine();
+                    }
+                }
+                if (entries.length == 0) {
+                    text(NO_KEY);
+                    newLine();
+                }
+            }
+            text(RULE);
+            newLine();
+        }
+
+        private void firstAppearance(Keyed entry) {
+            text("key = ");
+            text(entry.key);
+            text(", value = (name: ");
+            text(entry.symbol.getName());
+            text(") (first_appearance: ");
+            decimal(entry.symbol.firstAppearance);
+            text(")");
+            newLine();
+        }
+
+        // one entry per key, sorted by key, the last definition of each key
+        private static Keyed[] sortedSymbols(Scope scope) {
+            List<SymbolTable.SymbolInfo> definitions = scope.getDefinitions();
+            Keyed[] entries = new Keyed[definitions.size()];
+            for (int i = 0; i < entries.length; i++) {
+                // latest first, the sort is stable
+                SymbolTable.SymbolInfo symbol = definitions.get(entries.length - 1 - i);
+                entries[i] = new Keyed(symbolKey(symbol), symbol);
+            }
+            Arrays.sort(entries, BY_KEY);
+            int unique = 0;
+            for (int i = 0; i < entries.length; i++) {
+                if (unique == 0 || !entries[unique - 1].key.equals(entries[i].key)) {
+                    entries[unique++] = entries[i];
+                }
+            }
+            return unique == entries.length ? entries : Arrays.copyOf(entries, unique);
+        }
+
+        private static class Keyed {
+            final String key;
+            final SymbolTable.SymbolInfo symbol;
+
+            Keyed(String key, SymbolTable.SymbolInfo symbol) {
+                this.key = key;
+                this.symbol = symbol;
+            }
+        }
+    }
+
+    /**
+     * One JSON object per line. Scope lines carry the scope's name, kind, parent and lines;
+     * symbol lines carry the symbol's key, kind and name, and whichever of type, access
+     * modifier, parent class, parameters, position and first appearance the symbol has.
+     */
+    static class JsonLines extends SymbolDump {
+        private final Map<Scope, String> names = new HashMap<>();
+
+        JsonLines(WritableByteChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        void beginProgram(String inputFile) {
+            text("{\"program\":");
+            string(inputFile);
+            put('}');
+            newLine();
+        }
+
+        @Override
+        void writeScope(Scope scope) {
+            String name = scopeName(scope);
+            names.put(scope, name);
+            text("{\"scope\":");
+            string(name);
+            text(",\"kind\":");
+            string(scope.getKindName());
+            if (scope.getParent() != null) {
+                text(",\"parent\":");
+                string(names.get(scope.getParent()));
+                text(",\"start\":");
+                decimal(scope.getStartLine());
+                text(",\"stop\":");
+                decimal(scope.getStopLine());
+            }
+            put('}');
+            newLine();
+            for (SymbolTable.SymbolInfo symbol : scope.getDefinitions()) {
+                writeSymbol(symbol);
+            }
+        }
+
+        private void writeSymbol(SymbolTable.SymbolInfo symbol) {
+            text("{\"symbol\":");
+            string(symbolKey(symbol));
+            text(",\"kind\":");
+            string(symbol.kind);
+            text(",\"name\":");
+            string(symbol.getName());
+            if (symbol.type != null) {
+                text(",\"type\":");
+                string(symbol.type);
+            }
+            if (symbol.accessModifier != null) {
+                text(",\"access\":");
+                string(symbol.accessModifier);
+            }
+            if (symbol.parentNameId >= 0) {
+                text(",\"inherits\":");
+                string(parentName(symbol));
+            }
+            if (symbol.parameters != null) {
+                text(",\"parameters\":[");
+                for (int i = 0; i < symbol.parameters.size(); i++) {
+                    SymbolTable.ParameterInfo parameter = symbol.parameters.get(i);
+                    text(i == 0 ? "{\"name\":" : ",{\"name\":");
+                    string(parameter.getName());
+                    text(",\"type\":");
+                    string(parameter.type);
+                    put('}');
+                }
+                put(']');
+            }
+            if (symbol.kind.equals("class") || symbol.kind.equals("field") || symbol.kind.equals("method")) {
+                text(",\"line\":");
+                decimal(symbol.line);
+                text(",\"column\":");
+                decimal(symbol.column);
+            } else {
+                text(",\"first_appearance\":");
+                decimal(symbol.firstAppearance);
+            }
+            if (symbol.redefined) {
+                text(",\"redefined\":true");
+            }
+            put('}');
+            newLine();
+        }
+
+        private void string(String value) {
+            if (value == null) {
+                text("null");
+                return;
+            }
+            put('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    put('\\');
+                    put(c);
+                } else if (c < 0x20) {
+                    text(String.format("\\u%04x", (int) c));
+                } else if (c < 0x80) {
+                    put(c);
+                } else {
+                    int end = i + 1;
+                    while (end < value.length() && value.charAt(end) >= 0x80) {
+                        end++;
+                    }
+                    put(value.substring(i, end).getBytes(StandardCharsets.UTF_8));
+                    i = end - 1;
+                }
+            }
+            put('"');
+        }
+    }
+
+    /**
+     * The records of the JSON Lines format, packed. Numbers are unsigned LEB128 varints, with
+     * one added to values that may be -1. A string is a varint reference: 0 for none, the
+     * number of a string seen before in this program, or the next unused number, in which case
+     * the varint length and the UTF-8 bytes follow. A dump is:
+     * <pre>
+     * magic "JPYD" (4 bytes), version (varint)
+     * per program:  PROGRAM, file (string)
+     *   per scope:  SCOPE, kind, parent scope number + 1, start line, stop line, name (string)
+     *   per symbol: SYMBOL, kind (string), name, type, access, parent class (strings),
+     *               line, column, first appearance, redefined (0 or 1),
+     *               parameter count + 1 (0 when the symbol has no parameter list),
+     *               parameter name and type (strings) for each parameter
+     *               END
+     * </pre>
+     * Scopes are numbered from 0 in the order they are written within the program.
+     */
+    static class Binary extends SymbolDump {
+        public static final int MAGIC = 0x4A505944; // "JPYD"
+        public static final int VERSION = 1;
+        static final int END = 0;
+        static final int PROGRAM = 1;
+        static final int SCOPE = 2;
+        static final int SYMBOL = 3;
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<Scope, Integer> numbers = new HashMap<>();
+        private boolean started;
+
+        Binary(WritableByteChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        void beginProgram(String inputFile) {
+            if (!started) {
+                put(MAGIC >>> 24);
+                put(MAGIC >>> 16);
+                put(MAGIC >>> 8);
+                put(MAGIC);
+                varint(VERSION);
+                started = true;
+            }
+            strings.clear();
+            numbers.clear();
+            varint(PROGRAM);
+            string(inputFile);
+        }
+
+        @Override
+        void writeScope(Scope scope) {
+            numbers.put(scope, numbers.size());
+            varint(SCOPE);
+            varint(scope.getKind());
+            varint(scope.getParent() == null ? 0 : numbers.get(scope.getParent()) + 1);
+            varint(scope.getStartLine());
+            varint(scope.getStopLine());
+            string(scope.getName());
+            for (SymbolTable.SymbolInfo symbol : scope.getDefinitions()) {
+                varint(SYMBOL);
+                string(symbol.kind);
+                string(symbol.getName());
+                string(symbol.type);
+                string(symbol.accessModifier);
+                string(parentName(symbol));
+                varint(symbol.line);
+                varint(symbol.column);
+                varint(symbol.firstAppearance);
+                varint(symbol.redefined ? 1 : 0);
+                if (symbol.parameters == null) {
+                    varint(0);
+                } else {
+                    varint(symbol.parameters.size() + 1);
+                    for (SymbolTable.ParameterInfo parameter : symbol.parameters) {
+                        string(parameter.getName());
+                        string(parameter.type);
+                    }
+                }
+            }
+        }
+
+        @Override
+        void endProgram() {
+            varint(END);
+        }
+
+        private void varint(int value) {
+            while ((value & ~0x7F) != 0) {
+                put((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            put(value);
+        }
+
+        private void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            Integer number = strings.get(value);
+            if (number != null) {
+                varint(number);
+                return;
+            }
+            number = strings.size() + 1;
+            strings.put(value, number);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(number);
+            varint(bytes.length);
+            put(bytes);
+        }
+    }
+}
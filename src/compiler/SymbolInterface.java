@@ -0,0 +1,364 @@
+package compiler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A memory-mapped symbol-interface file: the classes of one source file with their fields and
+ * method signatures, so that dependents can learn them without parsing the source.
+ *
+ * The file starts with a fixed header (magic, format version, SHA-256 of the source, record
+ * counts and section offsets), followed by fixed-size class, member and parameter records and a
+ * string table. Records refer to strings by offset, and classes are sorted by the bytes of their
+ * name, so a class is found by binary search and a record is decoded only when it is asked for.
+ * All numbers are big-endian.
+ */
+public class SymbolInterface {
+    public static final int MAGIC = 0x4A505949; // "JPYI"
+    public static final int VERSION = 1;
+    public static final String EXTENSION = ".japyi";
+
+    private static final int HASH_SIZE = 32;
+    private static final int HEADER_SIZE = 4 + 2 + 2 + HASH_SIZE + 3 * 4 + 4 * 4;
+    // name, parent, access, first member, member count, line, column
+    private static final int CLASS_SIZE = 7 * 4;
+    // kind, name, type, access, first parameter, parameter count, line, column
+    private static final int MEMBER_SIZE = 8 * 4;
+    // name, type
+    private static final int PARAMETER_SIZE = 2 * 4;
+    private static final int NONE = -1;
+    private static final int FIELD = 0;
+    private static final int METHOD = 1;
+
+    private final ByteBuffer buffer;
+    private final int classCount;
+    private final int classes;
+    private final int members;
+    private final int parameters;
+    private final int strings;
+
+    private SymbolInterface(ByteBuffer buffer, Path path) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not a symbol-interface file");
+        }
+        int version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IOException(path + " has format version " + version + ", expected " + VERSION);
+        }
+        int offset = 8 + HASH_SIZE;
+        classCount = buffer.getInt(offset);
+        offset += 3 * 4;
+        classes = buffer.getInt(offset);
+        members = buffer.getInt(offset + 4);
+        parameters = buffer.getInt(offset + 8);
+        strings = buffer.getInt(offset + 12);
+    }
+
+    /**
+     * Maps an interface file and checks its header. Nothing past the header is read.
+     */
+    public static SymbolInterface open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SymbolInterface(buffer, path);
+        }
+    }
+
+    /**
+     * SHA-256 of the bytes of {@code source}.
+     */
+    public static byte[] hash(Path source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Writes the classes declared in {@code fileScope}, the global scope of one source file, to
+     * {@code path}. Classes that redefine an earlier class of the file are left out, as are
+     * redefined fields and methods. The file is replaced atomically.
+     */
+    public static void write(Path path, Scope fileScope, byte[] sourceHash) throws IOException {
+        List<SymbolTable.SymbolInfo> classInfos = new ArrayList<>();
+        List<Scope> classScopes = new ArrayList<>();
+        for (Scope scope : fileScope.getChildren()) {
+            if (scope.getKind() == Scope.CLASS && !scope.getOwner().redefined) {
+                classScopes.add(scope);
+            }
+        }
+        classScopes.sort(Comparator.comparing(scope -> scope.getName().getBytes(StandardCharsets.UTF_8), Arrays::compareUnsigned));
+
+        StringTable table = new StringTable();
+        ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream memberBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream parameterBytes = new ByteArrayOutputStream();
+        DataOutputStream classOut = new DataOutputStream(classBytes);
+        DataOutputStream memberOut = new DataOutputStream(memberBytes);
+        DataOutputStream parameterOut = new DataOutputStream(parameterBytes);
+        int memberCount = 0;
+        int parameterCount = 0;
+        for (Scope scope : classScopes) {
+            SymbolTable.SymbolInfo classInfo = scope.getOwner();
+            List<SymbolTable.SymbolInfo> classMembers = new ArrayList<>();
+            for (SymbolTable.SymbolInfo member : scope.getSymbols()) {
+                if (!member.redefined && (member.kind.equals("field") || member.kind.equals("method"))) {
+                    classMembers.add(member);
+                }
+            }
+            classMembers.sort(Comparator.<SymbolTable.SymbolInfo>comparingInt(member -> member.line).thenComparingInt(member -> member.column));
+
+            classOut.writeInt(table.add(classInfo.getName()));
+            classOut.writeInt(classInfo.parentNameId < 0 ? NONE : table.add(NamePool.global().name(classInfo.parentNameId)));
+            classOut.writeInt(table.add(classInfo.accessModifier));
+            classOut.writeInt(memberCount);
+            classOut.writeInt(classMembers.size());
+            classOut.writeInt(classInfo.line);
+            classOut.writeInt(classInfo.column);
+            for (SymbolTable.SymbolInfo member : classMembers) {
+                boolean method = member.kind.equals("method");
+                memberOut.writeInt(method ? METHOD : FIELD);
+                memberOut.writeInt(table.add(member.getName()));
+                memberOut.writeInt(table.add(member.type));
+                memberOut.writeInt(table.add(member.accessModifier));
+                memberOut.writeInt(parameterCount);
+                memberOut.writeInt(method ? member.parameters.size() : 0);
+                memberOut.writeInt(member.line);
+                memberOut.writeInt(member.column);
+                if (method) {
+                    for (SymbolTable.ParameterInfo parameter : member.parameters) {
+                        parameterOut.writeInt(table.add(parameter.getName()));
+                        parameterOut.writeInt(table.add(parameter.type));
+                    }
+                    parameterCount += member.parameters.size();
+                }
+            }
+            memberCount += classMembers.size();
+        }
+
+        int classesOffset = HEADER_SIZE;
+        int membersOffset = classesOffset + classBytes.size();
+        int parametersOffset = membersOffset + memberBytes.size();
+        int stringsOffset = parametersOffset + parameterBytes.size();
+        ByteArrayOutputStream file = new ByteArrayOutputStream(stringsOffset + table.bytes.size());
+        DataOutputStream out = new DataOutputStream(file);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(0);
+        out.write(sourceHash, 0, HASH_SIZE);
+        out.writeInt(classScopes.size());
+        out.writeInt(memberCount);
+        out.writeInt(parameterCount);
+        out.writeInt(classesOffset);
+        out.writeInt(membersOffset);
+        out.writeInt(parametersOffset);
+        out.writeInt(stringsOffset);
+        classBytes.writeTo(out);
+        memberBytes.writeTo(out);
+        parameterBytes.writeTo(out);
+        table.bytes.writeTo(out);
+        out.flush();
+
+        // a file of its own, so that writers of the same interface never share one
+        Path temporary = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, file.toByteArray());
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public byte[] getSourceHash() {
+        byte[] hash = new byte[HASH_SIZE];
+        for (int i = 0; i < HASH_SIZE; i++) {
+            hash[i] = buffer.get(8 + i);
+        }
+        return hash;
+    }
+
+    /**
+     * Whether the interface was written from a source with exactly these bytes.
+     */
+    public boolean isUpToDate(byte[] sourceHash) {
+        for (int i = 0; i < HASH_SIZE; i++) {
+            if (buffer.get(8 + i) != sourceHash[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getClassCount() {
+        return classCount;
+    }
+
+    /**
+     * Index of the class with that name, or -1. Compares the encoded name against the string
+     * table in place, without decoding any other entry.
+     */
+    public int findClass(String name) {
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = classCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = compare(classField(middle, 0), key);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return NONE;
+    }
+
+    public String getClassName(int classIndex) {
+        return string(classField(classIndex, 0));
+    }
+
+    /**
+     * Name of the parent class, or null when the class inherits from none.
+     */
+    public String getParentName(int classIndex) {
+        return string(classField(classIndex, 1));
+    }
+
+    public int getMemberCount(int classIndex) {
+        return classField(classIndex, 4);
+    }
+
+    /**
+     * Decodes one class with its members into symbols: the class symbol, followed by its fields
+     * and methods in declaration order.
+     */
+    public List<SymbolTable.SymbolInfo> readClass(int classIndex) {
+        SymbolTable.SymbolInfo classInfo = new SymbolTable.SymbolInfo("class", getClassName(classIndex));
+        String parent = getParentName(classIndex);
+        if (parent != null) {
+            classInfo.inherits = "class_" + parent;
+            classInfo.parentNameId = NamePool.global().intern(parent);
+        }
+        classInfo.accessModifier = string(classField(classIndex, 2));
+        classInfo.line = classField(classIndex, 5);
+        classInfo.column = classField(classIndex, 6);
+
+        int first = classField(classIndex, 3);
+        int count = classField(classIndex, 4);
+        List<SymbolTable.SymbolInfo> symbols = new ArrayList<>(count + 1);
+        symbols.add(classInfo);
+        for (int member = first; member < first + count; member++) {
+            symbols.add(readMember(member));
+        }
+        return symbols;
+    }
+
+    private SymbolTable.SymbolInfo readMember(int member) {
+        int kind = memberField(member, 0);
+        SymbolTable.SymbolInfo info = new SymbolTable.SymbolInfo(kind == METHOD ? "method" : "field",
+                string(memberField(member, 1)), string(memberField(member, 2)));
+        info.accessModifier = string(memberField(member, 3));
+        info.line = memberField(member, 6);
+        info.column = memberField(member, 7);
+        if (kind == METHOD) {
+            int first = memberField(member, 4);
+            int count = memberField(member, 5);
+            info.parameters = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int record = parameters + (first + i) * PARAMETER_SIZE;
+                info.parameters.add(new SymbolTable.ParameterInfo(i + 1, string(buffer.getInt(record)), string(buffer.getInt(record + 4))));
+            }
+            info.signature = MethodSignature.of(info.parameters);
+        }
+        return info;
+    }
+
+    private int classField(int classIndex, int field) {
+        if (classIndex < 0 || classIndex >= classCount) {
+            throw new IndexOutOfBoundsException("class " + classIndex + " of " + classCount);
+        }
+        return buffer.getInt(classes + classIndex * CLASS_SIZE + field * 4);
+    }
+
+    private int memberField(int member, int field) {
+        return buffer.getInt(members + member * MEMBER_SIZE + field * 4);
+    }
+
+    // strings are an unsigned short length followed by UTF-8 bytes
+    private String string(int reference) {
+        if (reference == NONE) {
+            return null;
+        }
+        int offset = strings + reference;
+        int length = buffer.getShort(offset) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + 2 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int compare(int reference, byte[] key) {
+        int offset = strings + reference;
+        int length = buffer.getShort(offset) & 0xFFFF;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int order = Integer.compare(buffer.get(offset + 2 + i) & 0xFF, key[i] & 0xFF);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private static class StringTable {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        int add(String value) throws IOException {
+            if (value == null) {
+                return NONE;
+            }
+            Integer offset = offsets.get(value);
+            if (offset != null) {
+                return offset;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > 0xFFFF) {
+                throw new IOException("name longer than 65535 bytes: " + value.substring(0, 32) + "...");
+            }
+            offset = bytes.size();
+            out.writeShort(encoded.length);
+            out.write(encoded);
+            offsets.put(value, offset);
+            return offset;
+        }
+    }
+}
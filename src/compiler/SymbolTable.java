@@ -6,27 +6,46 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
-import java.util.ArrayList;
-import java.util.Hashtable;
+import java.io.PrintStream;
 import java.util.List;
-import java.util.Stack;
-import java.util.*;
 
 public class SymbolTable implements japyListener {
-    private Hashtable<String, SymbolInfo> symbolTable;
-    private Stack<String> currentScope;
-    private Hashtable<String, Hashtable<String, SymbolInfo>> allScopes;
+    private final ScopeBuilder scopes;
+    // a pass that is walked on its own drives its private builder itself
+    private final boolean ownsScopes;
+    private final SymbolDump dump;
     private String inputFile;
-    private List<String> scopeOrder;
 
     public SymbolTable() {
-        this.symbolTable = new Hashtable<>();
-        this.currentScope = new Stack<>();
-        this.allScopes = new Hashtable<>();
-        this.currentScope.push("global");
-        this.allScopes.put("global", new Hashtable<>());
-        this.scopeOrder = new ArrayList<>();
-        this.scopeOrder.add("global");
+        this(System.out);
+    }
+
+    public SymbolTable(PrintStream out) {
+        this(SymbolDump.create("text", out));
+    }
+
+    /**
+     * Creates a pass that writes its table through {@code dump}, in the dump's format.
+     */
+    public SymbolTable(SymbolDump dump) {
+        this(new ScopeBuilder(), true, dump);
+    }
+
+    /**
+     * Creates a pass that reads scopes from a builder walked alongside it, see {@link ListenerMultiplexer}.
+     */
+    public SymbolTable(ScopeBuilder scopes, PrintStream out) {
+        this(scopes, SymbolDump.create("text", out));
+    }
+
+    public SymbolTable(ScopeBuilder scopes, SymbolDump dump) {
+        this(scopes, false, dump);
+    }
+
+    private SymbolTable(ScopeBuilder scopes, boolean ownsScopes, SymbolDump dump) {
+        this.scopes = scopes;
+        this.ownsScopes = ownsScopes;
+        this.dump = dump;
     }
 
     @Override
@@ -36,77 +55,21 @@ public class SymbolTable implements japyListener {
 
     @Override
     public void exitProgram(japyParser.ProgramContext ctx) {
-        System.out.printf("------------------ program:\"%s\" ------------------%n", inputFile);
-        List<String> orderedScopes = new ArrayList<>(Arrays.asList("global"));
-
-        for (String scope : scopeOrder) {
-            if (!scope.equals("global")) {
-                orderedScopes.add(scope);
-            }
-        }
-
-        for (String scope : orderedScopes) {
-            System.out.printf("-------------------- %s --------------------%n", scope);
-            Hashtable<String, SymbolInfo> scopeTable = allScopes.getOrDefault(scope, new Hashtable<>());
-
-            List<String> sortedKeys = new ArrayList<>(scopeTable.keySet());
-            sortedKeys.sort(Comparator.naturalOrder());
-
-            if (scope.startsWith("if") || scope.startsWith("while")) {
-                System.out.println("                    !NO KEY FOUND!");
-                for (String key : sortedKeys) {
-                    SymbolInfo info = scopeTable.get(key);
-                    if (info.kind.equals("variable")) {
-                        System.out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", key, info.name, info.firstAppearance);
-                    }
-                }
-            } else {
-                for (String key : sortedKeys) {
-                    if (scope.startsWith("else")){
-                        SymbolInfo info = scopeTable.get(key);
-                        System.out.printf("key = %s, value = (name: %s) (first_appearance: %d)%n", key, info.name, info.firstAppearance);
-                    }
-                    else  {
-                        SymbolInfo info = scopeTable.get(key);
-                        System.out.printf("key = %s, value = %s%n", key, info);
-                    }
-                }
-
-                if (scopeTable.isEmpty()) {
-                    System.out.println("                    !NO KEY FOUND!");
-                }
-            }
-
-            System.out.println("------------------------------------------------------");
-        }
+        dump.write(inputFile, scopes.getGlobalScope());
     }
 
-
     @Override
     public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
-        String className = ctx.className.getText();
-        String accessModifier = (ctx.access_modifier() != null) ? ctx.access_modifier().getText() : "default";
-        String inherits = (ctx.classParent != null) ? ctx.classParent.getText() : "";
-        String key = "class_" + className + "_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-
-        SymbolInfo classInfo = new SymbolInfo("class", className);
-        classInfo.accessModifier = accessModifier;
-        if (!inherits.isEmpty()) {
-            classInfo.inherits = "class_" + inherits;
-        }
-
-        allScopes.get("global").put(key, classInfo);
-        currentScope.push(key);
-        allScopes.put(key, new Hashtable<>());
-
-        if (!key.equals("class_global")) {
-            scopeOrder.add(key);
+        if (ownsScopes) {
+            scopes.enterClassDeclaration(ctx);
         }
     }
 
     @Override
     public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
-        currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitClassDeclaration(ctx);
+        }
     }
 
     @Override
@@ -119,15 +82,9 @@ public class SymbolTable implements japyListener {
 
     @Override
     public void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
-        String fieldName = ctx.fieldName.getText();
-        String fieldType = ctx.fieldType.getText();
-        String accessModifier = (ctx.access_modifier() != null) ? ctx.access_modifier().getText() : "default";
-        String key = "field_" + fieldName;
-
-        SymbolInfo fieldInfo = new SymbolInfo("field", fieldName, fieldType);
-        fieldInfo.accessModifier = accessModifier;
-
-        allScopes.get(currentScope.peek()).put(key, fieldInfo);
+        if (ownsScopes) {
+            scopes.enterFieldDeclaration(ctx);
+        }
     }
 
     @Override
@@ -144,36 +101,16 @@ public class SymbolTable implements japyListener {
 
     @Override
     public void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
-        String methodName = ctx.methodName.getText();
-        String returnType = ctx.t.getText();
-        String accessModifier = (ctx.methodAccessModifier != null) ? ctx.methodAccessModifier.getText() : "default";
-        String key = "method_" + methodName + "_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-
-        SymbolInfo methodInfo = new SymbolInfo("method", methodName, returnType);
-        methodInfo.accessModifier = accessModifier;
-        methodInfo.parameters = new ArrayList<>();
-
-        if (ctx.param1 != null) {
-            List<TerminalNode> paramNames = ctx.ID();
-            List<japyParser.JapyTypeContext> paramTypes = ctx.japyType();
-
-            for (int i = 1; i < paramNames.size(); i++) {
-                String paramName = paramNames.get(i).getText();
-                String paramType = paramTypes.get(i - 1).getText();
-                methodInfo.parameters.add(new ParameterInfo(i, paramName, paramType));
-            }
+        if (ownsScopes) {
+            scopes.enterMethodDeclaration(ctx);
         }
-
-        allScopes.get(currentScope.peek()).put(key, methodInfo);
-        currentScope.push(key);
-        allScopes.put(key, new Hashtable<>());
-
-        scopeOrder.add(key);
     }
 
     @Override
     public void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
-        currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitMethodDeclaration(ctx);
+        }
     }
 
     @Override
@@ -186,33 +123,16 @@ public class SymbolTable implements japyListener {
 
     @Override
     public void enterClosedConditional(japyParser.ClosedConditionalContext ctx) {
-        String ifScopeName = "if_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-        currentScope.push(ifScopeName);
-        allScopes.put(ifScopeName, new Hashtable<>());
-        scopeOrder.add(ifScopeName);
-
-        SymbolInfo ifInfo = new SymbolInfo("if", ifScopeName);
-        ifInfo.firstAppearance = ctx.getStart().getLine();
-        allScopes.get(ifScopeName).put("if_condition", ifInfo);
-
-        if (ctx.elseStmt != null) {
-            String elseScopeName = "else_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-            currentScope.push(elseScopeName);
-            allScopes.put(elseScopeName, new Hashtable<>());
-            scopeOrder.add(elseScopeName);
-
-            SymbolInfo elseInfo = new SymbolInfo("else", elseScopeName);
-            elseInfo.firstAppearance = ctx.elseStmt.getStart().getLine();
-//            allScopes.get(elseScopeName).put("else_condition", elseInfo);
+        if (ownsScopes) {
+            scopes.enterClosedConditional(ctx);
         }
     }
 
     @Override
     public void exitClosedConditional(japyParser.ClosedConditionalContext ctx) {
-        if (ctx.elseStmt != null) {
-            currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitClosedConditional(ctx);
         }
-        currentScope.pop();
     }
 
 
@@ -243,12 +163,8 @@ public class SymbolTable implements japyListener {
 
     @Override
     public void enterStatementVarDef(japyParser.StatementVarDefContext ctx) {
-        for (TerminalNode varNode : ctx.ID()) {
-            String varName = varNode.getText();
-            SymbolInfo varInfo = new SymbolInfo("variable", varName);
-            varInfo.firstAppearance = ctx.getStart().getLine();
-            String currentScopeName = currentScope.peek();
-            allScopes.get(currentScopeName).put("var_" + varName, varInfo);
+        if (ownsScopes) {
+            scopes.enterStatementVarDef(ctx);
         }
     }
 
@@ -292,19 +208,16 @@ public class SymbolTable implements japyListener {
 
     @Override
     public void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
-        String loopScopeName = "while_" + ctx.getStart().getLine() + "_" + ctx.getStop().getLine();
-        currentScope.push(loopScopeName);
-        allScopes.put(loopScopeName, new Hashtable<>());
-        scopeOrder.add(loopScopeName);
-
-        SymbolInfo loopInfo = new SymbolInfo("while", loopScopeName);
-        loopInfo.firstAppearance = ctx.getStart().getLine();
-        allScopes.get(loopScopeName).put("while_loop", loopInfo);
+        if (ownsScopes) {
+            scopes.enterStatementClosedLoop(ctx);
+        }
     }
 
     @Override
     public void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
-        currentScope.pop();
+        if (ownsScopes) {
+            scopes.exitStatementClosedLoop(ctx);
+        }
     }
 
 
@@ -357,92 +270,62 @@ public class SymbolTable implements japyListener {
     }
 
     @Override
-    public void enterExpression(japyParser.ExpressionContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpression(japyParser.ExpressionContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) {
+    public void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) {
+    public void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {
+    public void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {
+    public void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) {
+    public void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) {
+    public void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {
+    public void enterExpressionIndex(japyParser.ExpressionIndexContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {
+    public void exitExpressionIndex(japyParser.ExpressionIndexContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {
+    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) {
+    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) {
+    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
 
     }
 
@@ -457,62 +340,42 @@ public class SymbolTable implements japyListener {
     }
 
     @Override
-    public void enterExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) {
+    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) {
+    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {
+    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethods(japyParser.ExpressionMethodsContext ctx) {
+    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMethods(japyParser.ExpressionMethodsContext ctx) {
+    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) {
+    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) {
+    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {
 
     }
 
@@ -562,16 +425,30 @@ public class SymbolTable implements japyListener {
 
     static class SymbolInfo {
         String kind;
-        String name;
+        // NamePool.global() id of the symbol's name
+        final int nameId;
         String type;
         String accessModifier;
         String inherits;
+        // NamePool.global() id of the parent class, -1 for classes without one
+        int parentNameId = -1;
         List<ParameterInfo> parameters;
+        // set for methods: arity and parameter type descriptors
+        MethodSignature signature;
         int firstAppearance;
+        // scope declared by a class or method symbol
+        Scope scope;
+        // next symbol with the same name in the same scope
+        SymbolInfo next;
+        // set when the symbol redefines an existing one
+        boolean redefined;
+        // where a class, field or method is declared
+        int line;
+        int column;
 
         SymbolInfo(String kind, String name) {
             this.kind = kind;
-            this.name = name;
+            this.nameId = NamePool.global().intern(name);
         }
 
         SymbolInfo(String kind, String name, String type) {
@@ -579,11 +456,15 @@ public class SymbolTable implements japyListener {
             this.type = type;
         }
 
+        String getName() {
+            return NamePool.global().name(nameId);
+        }
+
         @Override
         public String toString() {
             StringBuilder sb = new StringBuilder();
             sb.append("{kind='").append(kind).append('\'');
-            sb.append(", name='").append(name).append('\'');
+            sb.append(", name='").append(getName()).append('\'');
             if (type != null) {
                 sb.append(", type='").append(type).append('\'');
             }
@@ -605,18 +486,22 @@ public class SymbolTable implements japyListener {
 
     static class ParameterInfo {
         int index;
-        String name;
+        final int nameId;
         String type;
 
         ParameterInfo(int index, String name, String type) {
             this.index = index;
-            this.name = name;
+            this.nameId = NamePool.global().intern(name);
             this.type = type;
         }
 
+        String getName() {
+            return NamePool.global().name(nameId);
+        }
+
         @Override
         public String toString() {
-            return "{index=" + index + ", name='" + name + '\'' + ", type='" + type + '\'' + '}';
+            return "{index=" + index + ", name='" + getName() + '\'' + ", type='" + type + '\'' + '}';
         }
     }
 }
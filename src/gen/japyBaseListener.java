@@ -280,61 +280,37 @@ public class japyBaseListener implements japyListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpression(japyParser.ExpressionContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpression(japyParser.ExpressionContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionOr(japyParser.ExpressionOrContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionOr(japyParser.ExpressionOrContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) { }
+	@Override public void enterExpressionAdd(japyParser.ExpressionAddContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) { }
+	@Override public void exitExpressionAdd(japyParser.ExpressionAddContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) { }
+	@Override public void enterExpressionIndex(japyParser.ExpressionIndexContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) { }
+	@Override public void exitExpressionIndex(japyParser.ExpressionIndexContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) { }
+	@Override public void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) { }
+	@Override public void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -352,61 +328,25 @@ public class japyBaseListener implements japyListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionAdd(japyParser.ExpressionAddContext ctx) { }
+	@Override public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAdd(japyParser.ExpressionAddContext ctx) { }
+	@Override public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) { }
+	@Override public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) { }
+	@Override public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -424,49 +364,49 @@ public class japyBaseListener implements japyListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) { }
+	@Override public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) { }
+	@Override public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
+	@Override public void enterExpressionOr(japyParser.ExpressionOrContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) { }
+	@Override public void exitExpressionOr(japyParser.ExpressionOrContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionMethods(japyParser.ExpressionMethodsContext ctx) { }
+	@Override public void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionMethods(japyParser.ExpressionMethodsContext ctx) { }
+	@Override public void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) { }
+	@Override public void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) { }
+	@Override public void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
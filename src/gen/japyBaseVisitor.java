@@ -171,35 +171,21 @@ public class japyBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements j
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpression(japyParser.ExpressionContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionOr(japyParser.ExpressionOrContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionAdd(japyParser.ExpressionAddContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionAnd(japyParser.ExpressionAndContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionIndex(japyParser.ExpressionIndexContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -213,35 +199,14 @@ public class japyBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements j
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionCmp(japyParser.ExpressionCmpContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionAdd(japyParser.ExpressionAddContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionUnary(japyParser.ExpressionUnaryContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionAnd(japyParser.ExpressionAndContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -255,28 +220,28 @@ public class japyBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements j
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionCmp(japyParser.ExpressionCmpContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionUnary(japyParser.ExpressionUnaryContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionOr(japyParser.ExpressionOrContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionMethods(japyParser.ExpressionMethodsContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -51,9 +51,9 @@ public class japyLexer extends Lexer {
 			null, "'class'", "'inherits'", "'begin'", "'end'", "'MAIN'", "'field'", 
 			"','", "'public'", "'private'", "'protected'", "'func'", "'('", "':'", 
 			"')'", "'returns'", "'if'", "'elif'", "'else'", "'var'", "'='", "'continue'", 
-			"'break'", "'return'", "'while'", "'sout'", "'++'", "'--'", "'||'", "'&&'", 
-			"'=='", "'<>'", "'<'", "'>'", "'+'", "'-'", "'*'", "'/'", "'%'", "'!'", 
-			"'.'", "'['", "']'", "'new'", "'this'", "'true'", "'false'", "'double'", 
+			"'break'", "'return'", "'while'", "'sout'", "'++'", "'--'", "'.'", "'['", 
+			"']'", "'!'", "'-'", "'*'", "'/'", "'%'", "'+'", "'<'", "'>'", "'=='", 
+			"'<>'", "'&&'", "'||'", "'new'", "'this'", "'true'", "'false'", "'double'", 
 			"'bool'", "'string'"
 		};
 	}
@@ -164,213 +164,212 @@ public class japyLexer extends Lexer {
 		"\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
 		"\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
 		"\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001"+
-		"\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0001"+
-		"\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001"+
-		"\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001!\u0001"+
-		"!\u0001\"\u0001\"\u0001#\u0001#\u0001$\u0001$\u0001%\u0001%\u0001&\u0001"+
-		"&\u0001\'\u0001\'\u0001(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001*\u0001"+
-		"*\u0001+\u0001+\u0001+\u0001+\u0001+\u0001,\u0001,\u0001,\u0001,\u0001"+
-		",\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001.\u0001.\u0001.\u0001"+
-		".\u0001.\u0001.\u0001.\u0001/\u0001/\u0001/\u0001/\u0001/\u00010\u0001"+
-		"0\u00010\u00010\u00010\u00010\u00010\u00011\u00011\u00051\u0149\b1\n1"+
-		"\f1\u014c\t1\u00011\u00011\u00011\u00051\u0151\b1\n1\f1\u0154\t1\u0001"+
-		"1\u00011\u00041\u0158\b1\u000b1\f1\u0159\u00031\u015c\b1\u00012\u0001"+
-		"2\u00052\u0160\b2\n2\f2\u0163\t2\u00012\u00012\u00013\u00033\u0168\b3"+
-		"\u00013\u00013\u00013\u00013\u00014\u00014\u00054\u0170\b4\n4\f4\u0173"+
-		"\t4\u00015\u00015\u00015\u00015\u00055\u0179\b5\n5\f5\u017c\t5\u00015"+
-		"\u00015\u00016\u00016\u00016\u00016\u00016\u00056\u0185\b6\n6\f6\u0188"+
-		"\t6\u00016\u00016\u00016\u00016\u00016\u00016\u00017\u00017\u00017\u0001"+
-		"7\u0001\u0186\u00008\u0001\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t"+
-		"\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u000b\u0017\f"+
-		"\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011#\u0012%\u0013\'\u0014"+
-		")\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b7\u001c9\u001d;\u001e"+
-		"=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e3g4i5k6m7o8\u0001\u0000"+
-		"\b\u0001\u000019\u0001\u000009\u0001\u000000\u0003\u0000\n\n\r\r\"\"\u0003"+
-		"\u0000AZ__az\u0004\u000009AZ__az\u0002\u0000\n\n\r\r\u0002\u0000\t\t "+
-		" \u019c\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000"+
-		"\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000"+
-		"\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000"+
-		"\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000"+
-		"\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000"+
-		"\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000\u0000"+
-		"\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000\u0000"+
-		"\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000"+
-		"!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001"+
-		"\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000"+
-		"\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000"+
-		"\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003"+
-		"\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000"+
-		"\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000"+
-		"\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A"+
-		"\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000"+
-		"\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000"+
-		"\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O"+
-		"\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000"+
-		"\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000"+
-		"\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000]"+
-		"\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001\u0000"+
-		"\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000\u0000"+
-		"\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000k"+
-		"\u0001\u0000\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001\u0000"+
-		"\u0000\u0000\u0001q\u0001\u0000\u0000\u0000\u0003w\u0001\u0000\u0000\u0000"+
-		"\u0005\u0080\u0001\u0000\u0000\u0000\u0007\u0086\u0001\u0000\u0000\u0000"+
-		"\t\u008a\u0001\u0000\u0000\u0000\u000b\u008f\u0001\u0000\u0000\u0000\r"+
-		"\u0095\u0001\u0000\u0000\u0000\u000f\u0097\u0001\u0000\u0000\u0000\u0011"+
-		"\u009e\u0001\u0000\u0000\u0000\u0013\u00a6\u0001\u0000\u0000\u0000\u0015"+
-		"\u00b0\u0001\u0000\u0000\u0000\u0017\u00b5\u0001\u0000\u0000\u0000\u0019"+
-		"\u00b7\u0001\u0000\u0000\u0000\u001b\u00b9\u0001\u0000\u0000\u0000\u001d"+
-		"\u00bb\u0001\u0000\u0000\u0000\u001f\u00c3\u0001\u0000\u0000\u0000!\u00c6"+
-		"\u0001\u0000\u0000\u0000#\u00cb\u0001\u0000\u0000\u0000%\u00d0\u0001\u0000"+
-		"\u0000\u0000\'\u00d4\u0001\u0000\u0000\u0000)\u00d6\u0001\u0000\u0000"+
-		"\u0000+\u00df\u0001\u0000\u0000\u0000-\u00e5\u0001\u0000\u0000\u0000/"+
-		"\u00ec\u0001\u0000\u0000\u00001\u00f2\u0001\u0000\u0000\u00003\u00f7\u0001"+
-		"\u0000\u0000\u00005\u00fa\u0001\u0000\u0000\u00007\u00fd\u0001\u0000\u0000"+
-		"\u00009\u0100\u0001\u0000\u0000\u0000;\u0103\u0001\u0000\u0000\u0000="+
-		"\u0106\u0001\u0000\u0000\u0000?\u0109\u0001\u0000\u0000\u0000A\u010b\u0001"+
-		"\u0000\u0000\u0000C\u010d\u0001\u0000\u0000\u0000E\u010f\u0001\u0000\u0000"+
-		"\u0000G\u0111\u0001\u0000\u0000\u0000I\u0113\u0001\u0000\u0000\u0000K"+
-		"\u0115\u0001\u0000\u0000\u0000M\u0117\u0001\u0000\u0000\u0000O\u0119\u0001"+
-		"\u0000\u0000\u0000Q\u011b\u0001\u0000\u0000\u0000S\u011d\u0001\u0000\u0000"+
-		"\u0000U\u011f\u0001\u0000\u0000\u0000W\u0123\u0001\u0000\u0000\u0000Y"+
-		"\u0128\u0001\u0000\u0000\u0000[\u012d\u0001\u0000\u0000\u0000]\u0133\u0001"+
-		"\u0000\u0000\u0000_\u013a\u0001\u0000\u0000\u0000a\u013f\u0001\u0000\u0000"+
-		"\u0000c\u015b\u0001\u0000\u0000\u0000e\u015d\u0001\u0000\u0000\u0000g"+
-		"\u0167\u0001\u0000\u0000\u0000i\u016d\u0001\u0000\u0000\u0000k\u0174\u0001"+
-		"\u0000\u0000\u0000m\u017f\u0001\u0000\u0000\u0000o\u018f\u0001\u0000\u0000"+
-		"\u0000qr\u0005c\u0000\u0000rs\u0005l\u0000\u0000st\u0005a\u0000\u0000"+
-		"tu\u0005s\u0000\u0000uv\u0005s\u0000\u0000v\u0002\u0001\u0000\u0000\u0000"+
-		"wx\u0005i\u0000\u0000xy\u0005n\u0000\u0000yz\u0005h\u0000\u0000z{\u0005"+
-		"e\u0000\u0000{|\u0005r\u0000\u0000|}\u0005i\u0000\u0000}~\u0005t\u0000"+
-		"\u0000~\u007f\u0005s\u0000\u0000\u007f\u0004\u0001\u0000\u0000\u0000\u0080"+
-		"\u0081\u0005b\u0000\u0000\u0081\u0082\u0005e\u0000\u0000\u0082\u0083\u0005"+
-		"g\u0000\u0000\u0083\u0084\u0005i\u0000\u0000\u0084\u0085\u0005n\u0000"+
-		"\u0000\u0085\u0006\u0001\u0000\u0000\u0000\u0086\u0087\u0005e\u0000\u0000"+
-		"\u0087\u0088\u0005n\u0000\u0000\u0088\u0089\u0005d\u0000\u0000\u0089\b"+
-		"\u0001\u0000\u0000\u0000\u008a\u008b\u0005M\u0000\u0000\u008b\u008c\u0005"+
-		"A\u0000\u0000\u008c\u008d\u0005I\u0000\u0000\u008d\u008e\u0005N\u0000"+
-		"\u0000\u008e\n\u0001\u0000\u0000\u0000\u008f\u0090\u0005f\u0000\u0000"+
-		"\u0090\u0091\u0005i\u0000\u0000\u0091\u0092\u0005e\u0000\u0000\u0092\u0093"+
-		"\u0005l\u0000\u0000\u0093\u0094\u0005d\u0000\u0000\u0094\f\u0001\u0000"+
-		"\u0000\u0000\u0095\u0096\u0005,\u0000\u0000\u0096\u000e\u0001\u0000\u0000"+
-		"\u0000\u0097\u0098\u0005p\u0000\u0000\u0098\u0099\u0005u\u0000\u0000\u0099"+
-		"\u009a\u0005b\u0000\u0000\u009a\u009b\u0005l\u0000\u0000\u009b\u009c\u0005"+
-		"i\u0000\u0000\u009c\u009d\u0005c\u0000\u0000\u009d\u0010\u0001\u0000\u0000"+
-		"\u0000\u009e\u009f\u0005p\u0000\u0000\u009f\u00a0\u0005r\u0000\u0000\u00a0"+
-		"\u00a1\u0005i\u0000\u0000\u00a1\u00a2\u0005v\u0000\u0000\u00a2\u00a3\u0005"+
-		"a\u0000\u0000\u00a3\u00a4\u0005t\u0000\u0000\u00a4\u00a5\u0005e\u0000"+
-		"\u0000\u00a5\u0012\u0001\u0000\u0000\u0000\u00a6\u00a7\u0005p\u0000\u0000"+
-		"\u00a7\u00a8\u0005r\u0000\u0000\u00a8\u00a9\u0005o\u0000\u0000\u00a9\u00aa"+
-		"\u0005t\u0000\u0000\u00aa\u00ab\u0005e\u0000\u0000\u00ab\u00ac\u0005c"+
-		"\u0000\u0000\u00ac\u00ad\u0005t\u0000\u0000\u00ad\u00ae\u0005e\u0000\u0000"+
-		"\u00ae\u00af\u0005d\u0000\u0000\u00af\u0014\u0001\u0000\u0000\u0000\u00b0"+
-		"\u00b1\u0005f\u0000\u0000\u00b1\u00b2\u0005u\u0000\u0000\u00b2\u00b3\u0005"+
-		"n\u0000\u0000\u00b3\u00b4\u0005c\u0000\u0000\u00b4\u0016\u0001\u0000\u0000"+
-		"\u0000\u00b5\u00b6\u0005(\u0000\u0000\u00b6\u0018\u0001\u0000\u0000\u0000"+
-		"\u00b7\u00b8\u0005:\u0000\u0000\u00b8\u001a\u0001\u0000\u0000\u0000\u00b9"+
-		"\u00ba\u0005)\u0000\u0000\u00ba\u001c\u0001\u0000\u0000\u0000\u00bb\u00bc"+
-		"\u0005r\u0000\u0000\u00bc\u00bd\u0005e\u0000\u0000\u00bd\u00be\u0005t"+
-		"\u0000\u0000\u00be\u00bf\u0005u\u0000\u0000\u00bf\u00c0\u0005r\u0000\u0000"+
-		"\u00c0\u00c1\u0005n\u0000\u0000\u00c1\u00c2\u0005s\u0000\u0000\u00c2\u001e"+
-		"\u0001\u0000\u0000\u0000\u00c3\u00c4\u0005i\u0000\u0000\u00c4\u00c5\u0005"+
-		"f\u0000\u0000\u00c5 \u0001\u0000\u0000\u0000\u00c6\u00c7\u0005e\u0000"+
-		"\u0000\u00c7\u00c8\u0005l\u0000\u0000\u00c8\u00c9\u0005i\u0000\u0000\u00c9"+
-		"\u00ca\u0005f\u0000\u0000\u00ca\"\u0001\u0000\u0000\u0000\u00cb\u00cc"+
-		"\u0005e\u0000\u0000\u00cc\u00cd\u0005l\u0000\u0000\u00cd\u00ce\u0005s"+
-		"\u0000\u0000\u00ce\u00cf\u0005e\u0000\u0000\u00cf$\u0001\u0000\u0000\u0000"+
-		"\u00d0\u00d1\u0005v\u0000\u0000\u00d1\u00d2\u0005a\u0000\u0000\u00d2\u00d3"+
-		"\u0005r\u0000\u0000\u00d3&\u0001\u0000\u0000\u0000\u00d4\u00d5\u0005="+
-		"\u0000\u0000\u00d5(\u0001\u0000\u0000\u0000\u00d6\u00d7\u0005c\u0000\u0000"+
-		"\u00d7\u00d8\u0005o\u0000\u0000\u00d8\u00d9\u0005n\u0000\u0000\u00d9\u00da"+
-		"\u0005t\u0000\u0000\u00da\u00db\u0005i\u0000\u0000\u00db\u00dc\u0005n"+
-		"\u0000\u0000\u00dc\u00dd\u0005u\u0000\u0000\u00dd\u00de\u0005e\u0000\u0000"+
-		"\u00de*\u0001\u0000\u0000\u0000\u00df\u00e0\u0005b\u0000\u0000\u00e0\u00e1"+
-		"\u0005r\u0000\u0000\u00e1\u00e2\u0005e\u0000\u0000\u00e2\u00e3\u0005a"+
-		"\u0000\u0000\u00e3\u00e4\u0005k\u0000\u0000\u00e4,\u0001\u0000\u0000\u0000"+
-		"\u00e5\u00e6\u0005r\u0000\u0000\u00e6\u00e7\u0005e\u0000\u0000\u00e7\u00e8"+
-		"\u0005t\u0000\u0000\u00e8\u00e9\u0005u\u0000\u0000\u00e9\u00ea\u0005r"+
-		"\u0000\u0000\u00ea\u00eb\u0005n\u0000\u0000\u00eb.\u0001\u0000\u0000\u0000"+
-		"\u00ec\u00ed\u0005w\u0000\u0000\u00ed\u00ee\u0005h\u0000\u0000\u00ee\u00ef"+
-		"\u0005i\u0000\u0000\u00ef\u00f0\u0005l\u0000\u0000\u00f0\u00f1\u0005e"+
-		"\u0000\u0000\u00f10\u0001\u0000\u0000\u0000\u00f2\u00f3\u0005s\u0000\u0000"+
-		"\u00f3\u00f4\u0005o\u0000\u0000\u00f4\u00f5\u0005u\u0000\u0000\u00f5\u00f6"+
-		"\u0005t\u0000\u0000\u00f62\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005+"+
-		"\u0000\u0000\u00f8\u00f9\u0005+\u0000\u0000\u00f94\u0001\u0000\u0000\u0000"+
-		"\u00fa\u00fb\u0005-\u0000\u0000\u00fb\u00fc\u0005-\u0000\u0000\u00fc6"+
-		"\u0001\u0000\u0000\u0000\u00fd\u00fe\u0005|\u0000\u0000\u00fe\u00ff\u0005"+
-		"|\u0000\u0000\u00ff8\u0001\u0000\u0000\u0000\u0100\u0101\u0005&\u0000"+
-		"\u0000\u0101\u0102\u0005&\u0000\u0000\u0102:\u0001\u0000\u0000\u0000\u0103"+
-		"\u0104\u0005=\u0000\u0000\u0104\u0105\u0005=\u0000\u0000\u0105<\u0001"+
-		"\u0000\u0000\u0000\u0106\u0107\u0005<\u0000\u0000\u0107\u0108\u0005>\u0000"+
-		"\u0000\u0108>\u0001\u0000\u0000\u0000\u0109\u010a\u0005<\u0000\u0000\u010a"+
-		"@\u0001\u0000\u0000\u0000\u010b\u010c\u0005>\u0000\u0000\u010cB\u0001"+
-		"\u0000\u0000\u0000\u010d\u010e\u0005+\u0000\u0000\u010eD\u0001\u0000\u0000"+
-		"\u0000\u010f\u0110\u0005-\u0000\u0000\u0110F\u0001\u0000\u0000\u0000\u0111"+
-		"\u0112\u0005*\u0000\u0000\u0112H\u0001\u0000\u0000\u0000\u0113\u0114\u0005"+
-		"/\u0000\u0000\u0114J\u0001\u0000\u0000\u0000\u0115\u0116\u0005%\u0000"+
-		"\u0000\u0116L\u0001\u0000\u0000\u0000\u0117\u0118\u0005!\u0000\u0000\u0118"+
-		"N\u0001\u0000\u0000\u0000\u0119\u011a\u0005.\u0000\u0000\u011aP\u0001"+
-		"\u0000\u0000\u0000\u011b\u011c\u0005[\u0000\u0000\u011cR\u0001\u0000\u0000"+
-		"\u0000\u011d\u011e\u0005]\u0000\u0000\u011eT\u0001\u0000\u0000\u0000\u011f"+
-		"\u0120\u0005n\u0000\u0000\u0120\u0121\u0005e\u0000\u0000\u0121\u0122\u0005"+
-		"w\u0000\u0000\u0122V\u0001\u0000\u0000\u0000\u0123\u0124\u0005t\u0000"+
-		"\u0000\u0124\u0125\u0005h\u0000\u0000\u0125\u0126\u0005i\u0000\u0000\u0126"+
-		"\u0127\u0005s\u0000\u0000\u0127X\u0001\u0000\u0000\u0000\u0128\u0129\u0005"+
-		"t\u0000\u0000\u0129\u012a\u0005r\u0000\u0000\u012a\u012b\u0005u\u0000"+
-		"\u0000\u012b\u012c\u0005e\u0000\u0000\u012cZ\u0001\u0000\u0000\u0000\u012d"+
-		"\u012e\u0005f\u0000\u0000\u012e\u012f\u0005a\u0000\u0000\u012f\u0130\u0005"+
-		"l\u0000\u0000\u0130\u0131\u0005s\u0000\u0000\u0131\u0132\u0005e\u0000"+
-		"\u0000\u0132\\\u0001\u0000\u0000\u0000\u0133\u0134\u0005d\u0000\u0000"+
-		"\u0134\u0135\u0005o\u0000\u0000\u0135\u0136\u0005u\u0000\u0000\u0136\u0137"+
-		"\u0005b\u0000\u0000\u0137\u0138\u0005l\u0000\u0000\u0138\u0139\u0005e"+
-		"\u0000\u0000\u0139^\u0001\u0000\u0000\u0000\u013a\u013b\u0005b\u0000\u0000"+
-		"\u013b\u013c\u0005o\u0000\u0000\u013c\u013d\u0005o\u0000\u0000\u013d\u013e"+
-		"\u0005l\u0000\u0000\u013e`\u0001\u0000\u0000\u0000\u013f\u0140\u0005s"+
-		"\u0000\u0000\u0140\u0141\u0005t\u0000\u0000\u0141\u0142\u0005r\u0000\u0000"+
-		"\u0142\u0143\u0005i\u0000\u0000\u0143\u0144\u0005n\u0000\u0000\u0144\u0145"+
-		"\u0005g\u0000\u0000\u0145b\u0001\u0000\u0000\u0000\u0146\u014a\u0007\u0000"+
-		"\u0000\u0000\u0147\u0149\u0007\u0001\u0000\u0000\u0148\u0147\u0001\u0000"+
-		"\u0000\u0000\u0149\u014c\u0001\u0000\u0000\u0000\u014a\u0148\u0001\u0000"+
-		"\u0000\u0000\u014a\u014b\u0001\u0000\u0000\u0000\u014b\u015c\u0001\u0000"+
-		"\u0000\u0000\u014c\u014a\u0001\u0000\u0000\u0000\u014d\u015c\u0007\u0002"+
-		"\u0000\u0000\u014e\u0152\u0007\u0000\u0000\u0000\u014f\u0151\u0007\u0001"+
-		"\u0000\u0000\u0150\u014f\u0001\u0000\u0000\u0000\u0151\u0154\u0001\u0000"+
-		"\u0000\u0000\u0152\u0150\u0001\u0000\u0000\u0000\u0152\u0153\u0001\u0000"+
-		"\u0000\u0000\u0153\u0155\u0001\u0000\u0000\u0000\u0154\u0152\u0001\u0000"+
-		"\u0000\u0000\u0155\u0157\u0005.\u0000\u0000\u0156\u0158\u0007\u0001\u0000"+
-		"\u0000\u0157\u0156\u0001\u0000\u0000\u0000\u0158\u0159\u0001\u0000\u0000"+
-		"\u0000\u0159\u0157\u0001\u0000\u0000\u0000\u0159\u015a\u0001\u0000\u0000"+
-		"\u0000\u015a\u015c\u0001\u0000\u0000\u0000\u015b\u0146\u0001\u0000\u0000"+
-		"\u0000\u015b\u014d\u0001\u0000\u0000\u0000\u015b\u014e\u0001\u0000\u0000"+
-		"\u0000\u015cd\u0001\u0000\u0000\u0000\u015d\u0161\u0005\"\u0000\u0000"+
-		"\u015e\u0160\b\u0003\u0000\u0000\u015f\u015e\u0001\u0000\u0000\u0000\u0160"+
-		"\u0163\u0001\u0000\u0000\u0000\u0161\u015f\u0001\u0000\u0000\u0000\u0161"+
-		"\u0162\u0001\u0000\u0000\u0000\u0162\u0164\u0001\u0000\u0000\u0000\u0163"+
-		"\u0161\u0001\u0000\u0000\u0000\u0164\u0165\u0005\"\u0000\u0000\u0165f"+
-		"\u0001\u0000\u0000\u0000\u0166\u0168\u0005\r\u0000\u0000\u0167\u0166\u0001"+
-		"\u0000\u0000\u0000\u0167\u0168\u0001\u0000\u0000\u0000\u0168\u0169\u0001"+
-		"\u0000\u0000\u0000\u0169\u016a\u0005\n\u0000\u0000\u016a\u016b\u0001\u0000"+
-		"\u0000\u0000\u016b\u016c\u00063\u0000\u0000\u016ch\u0001\u0000\u0000\u0000"+
-		"\u016d\u0171\u0007\u0004\u0000\u0000\u016e\u0170\u0007\u0005\u0000\u0000"+
-		"\u016f\u016e\u0001\u0000\u0000\u0000\u0170\u0173\u0001\u0000\u0000\u0000"+
-		"\u0171\u016f\u0001\u0000\u0000\u0000\u0171\u0172\u0001\u0000\u0000\u0000"+
-		"\u0172j\u0001\u0000\u0000\u0000\u0173\u0171\u0001\u0000\u0000\u0000\u0174"+
-		"\u0175\u0005#\u0000\u0000\u0175\u0176\u0005#\u0000\u0000\u0176\u017a\u0001"+
-		"\u0000\u0000\u0000\u0177\u0179\b\u0006\u0000\u0000\u0178\u0177\u0001\u0000"+
-		"\u0000\u0000\u0179\u017c\u0001\u0000\u0000\u0000\u017a\u0178\u0001\u0000"+
-		"\u0000\u0000\u017a\u017b\u0001\u0000\u0000\u0000\u017b\u017d\u0001\u0000"+
-		"\u0000\u0000\u017c\u017a\u0001\u0000\u0000\u0000\u017d\u017e\u00065\u0000"+
-		"\u0000\u017el\u0001\u0000\u0000\u0000\u017f\u0180\u0005#\u0000\u0000\u0180"+
-		"\u0181\u0005#\u0000\u0000\u0181\u0182\u0005#\u0000\u0000\u0182\u0186\u0001"+
-		"\u0000\u0000\u0000\u0183\u0185\t\u0000\u0000\u0000\u0184\u0183\u0001\u0000"+
-		"\u0000\u0000\u0185\u0188\u0001\u0000\u0000\u0000\u0186\u0187\u0001\u0000"+
-		"\u0000\u0000\u0186\u0184\u0001\u0000\u0000\u0000\u0187\u0189\u0001\u0000"+
-		"\u0000\u0000\u0188\u0186\u0001\u0000\u0000\u0000\u0189\u018a\u0005#\u0000"+
-		"\u0000\u018a\u018b\u0005#\u0000\u0000\u018b\u018c\u0005#\u0000\u0000\u018c"+
-		"\u018d\u0001\u0000\u0000\u0000\u018d\u018e\u00066\u0000\u0000\u018en\u0001"+
-		"\u0000\u0000\u0000\u018f\u0190\u0007\u0007\u0000\u0000\u0190\u0191\u0001"+
-		"\u0000\u0000\u0000\u0191\u0192\u00067\u0000\u0000\u0192p\u0001\u0000\u0000"+
-		"\u0000\n\u0000\u014a\u0152\u0159\u015b\u0161\u0167\u0171\u017a\u0186\u0001"+
-		"\u0006\u0000\u0000";
+		"\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001"+
+		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001"+
+		" \u0001 \u0001!\u0001!\u0001\"\u0001\"\u0001#\u0001#\u0001$\u0001$\u0001"+
+		"%\u0001%\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001(\u0001(\u0001"+
+		"(\u0001)\u0001)\u0001)\u0001*\u0001*\u0001*\u0001*\u0001+\u0001+\u0001"+
+		"+\u0001+\u0001+\u0001,\u0001,\u0001,\u0001,\u0001,\u0001-\u0001-\u0001"+
+		"-\u0001-\u0001-\u0001-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001.\u0001"+
+		".\u0001/\u0001/\u0001/\u0001/\u0001/\u00010\u00010\u00010\u00010\u0001"+
+		"0\u00010\u00010\u00011\u00011\u00051\u0149\b1\n1\f1\u014c\t1\u00011\u0001"+
+		"1\u00011\u00051\u0151\b1\n1\f1\u0154\t1\u00011\u00011\u00041\u0158\b1"+
+		"\u000b1\f1\u0159\u00031\u015c\b1\u00012\u00012\u00052\u0160\b2\n2\f2\u0163"+
+		"\t2\u00012\u00012\u00013\u00033\u0168\b3\u00013\u00013\u00013\u00013\u0001"+
+		"4\u00014\u00054\u0170\b4\n4\f4\u0173\t4\u00015\u00015\u00015\u00015\u0005"+
+		"5\u0179\b5\n5\f5\u017c\t5\u00015\u00015\u00016\u00016\u00016\u00016\u0001"+
+		"6\u00056\u0185\b6\n6\f6\u0188\t6\u00016\u00016\u00016\u00016\u00016\u0001"+
+		"6\u00017\u00017\u00017\u00017\u0001\u0186\u00008\u0001\u0001\u0003\u0002"+
+		"\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013"+
+		"\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011"+
+		"#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b"+
+		"7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e"+
+		"3g4i5k6m7o8\u0001\u0000\b\u0001\u000019\u0001\u000009\u0001\u000000\u0003"+
+		"\u0000\n\n\r\r\"\"\u0003\u0000AZ__az\u0004\u000009AZ__az\u0002\u0000\n"+
+		"\n\r\r\u0002\u0000\t\t  \u019c\u0000\u0001\u0001\u0000\u0000\u0000\u0000"+
+		"\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000"+
+		"\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b"+
+		"\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001"+
+		"\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001"+
+		"\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001"+
+		"\u0000\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001"+
+		"\u0000\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001"+
+		"\u0000\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000"+
+		"\u0000\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000"+
+		"\u0000)\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-"+
+		"\u0001\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000"+
+		"\u0000\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000"+
+		"\u00007\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;"+
+		"\u0001\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000"+
+		"\u0000\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000"+
+		"\u0000E\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I"+
+		"\u0001\u0000\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000"+
+		"\u0000\u0000\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000"+
+		"\u0000S\u0001\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W"+
+		"\u0001\u0000\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000"+
+		"\u0000\u0000\u0000]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000"+
+		"\u0000a\u0001\u0000\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e"+
+		"\u0001\u0000\u0000\u0000\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000"+
+		"\u0000\u0000\u0000k\u0001\u0000\u0000\u0000\u0000m\u0001\u0000\u0000\u0000"+
+		"\u0000o\u0001\u0000\u0000\u0000\u0001q\u0001\u0000\u0000\u0000\u0003w"+
+		"\u0001\u0000\u0000\u0000\u0005\u0080\u0001\u0000\u0000\u0000\u0007\u0086"+
+		"\u0001\u0000\u0000\u0000\t\u008a\u0001\u0000\u0000\u0000\u000b\u008f\u0001"+
+		"\u0000\u0000\u0000\r\u0095\u0001\u0000\u0000\u0000\u000f\u0097\u0001\u0000"+
+		"\u0000\u0000\u0011\u009e\u0001\u0000\u0000\u0000\u0013\u00a6\u0001\u0000"+
+		"\u0000\u0000\u0015\u00b0\u0001\u0000\u0000\u0000\u0017\u00b5\u0001\u0000"+
+		"\u0000\u0000\u0019\u00b7\u0001\u0000\u0000\u0000\u001b\u00b9\u0001\u0000"+
+		"\u0000\u0000\u001d\u00bb\u0001\u0000\u0000\u0000\u001f\u00c3\u0001\u0000"+
+		"\u0000\u0000!\u00c6\u0001\u0000\u0000\u0000#\u00cb\u0001\u0000\u0000\u0000"+
+		"%\u00d0\u0001\u0000\u0000\u0000\'\u00d4\u0001\u0000\u0000\u0000)\u00d6"+
+		"\u0001\u0000\u0000\u0000+\u00df\u0001\u0000\u0000\u0000-\u00e5\u0001\u0000"+
+		"\u0000\u0000/\u00ec\u0001\u0000\u0000\u00001\u00f2\u0001\u0000\u0000\u0000"+
+		"3\u00f7\u0001\u0000\u0000\u00005\u00fa\u0001\u0000\u0000\u00007\u00fd"+
+		"\u0001\u0000\u0000\u00009\u00ff\u0001\u0000\u0000\u0000;\u0101\u0001\u0000"+
+		"\u0000\u0000=\u0103\u0001\u0000\u0000\u0000?\u0105\u0001\u0000\u0000\u0000"+
+		"A\u0107\u0001\u0000\u0000\u0000C\u0109\u0001\u0000\u0000\u0000E\u010b"+
+		"\u0001\u0000\u0000\u0000G\u010d\u0001\u0000\u0000\u0000I\u010f\u0001\u0000"+
+		"\u0000\u0000K\u0111\u0001\u0000\u0000\u0000M\u0113\u0001\u0000\u0000\u0000"+
+		"O\u0116\u0001\u0000\u0000\u0000Q\u0119\u0001\u0000\u0000\u0000S\u011c"+
+		"\u0001\u0000\u0000\u0000U\u011f\u0001\u0000\u0000\u0000W\u0123\u0001\u0000"+
+		"\u0000\u0000Y\u0128\u0001\u0000\u0000\u0000[\u012d\u0001\u0000\u0000\u0000"+
+		"]\u0133\u0001\u0000\u0000\u0000_\u013a\u0001\u0000\u0000\u0000a\u013f"+
+		"\u0001\u0000\u0000\u0000c\u015b\u0001\u0000\u0000\u0000e\u015d\u0001\u0000"+
+		"\u0000\u0000g\u0167\u0001\u0000\u0000\u0000i\u016d\u0001\u0000\u0000\u0000"+
+		"k\u0174\u0001\u0000\u0000\u0000m\u017f\u0001\u0000\u0000\u0000o\u018f"+
+		"\u0001\u0000\u0000\u0000qr\u0005c\u0000\u0000rs\u0005l\u0000\u0000st\u0005"+
+		"a\u0000\u0000tu\u0005s\u0000\u0000uv\u0005s\u0000\u0000v\u0002\u0001\u0000"+
+		"\u0000\u0000wx\u0005i\u0000\u0000xy\u0005n\u0000\u0000yz\u0005h\u0000"+
+		"\u0000z{\u0005e\u0000\u0000{|\u0005r\u0000\u0000|}\u0005i\u0000\u0000"+
+		"}~\u0005t\u0000\u0000~\u007f\u0005s\u0000\u0000\u007f\u0004\u0001\u0000"+
+		"\u0000\u0000\u0080\u0081\u0005b\u0000\u0000\u0081\u0082\u0005e\u0000\u0000"+
+		"\u0082\u0083\u0005g\u0000\u0000\u0083\u0084\u0005i\u0000\u0000\u0084\u0085"+
+		"\u0005n\u0000\u0000\u0085\u0006\u0001\u0000\u0000\u0000\u0086\u0087\u0005"+
+		"e\u0000\u0000\u0087\u0088\u0005n\u0000\u0000\u0088\u0089\u0005d\u0000"+
+		"\u0000\u0089\b\u0001\u0000\u0000\u0000\u008a\u008b\u0005M\u0000\u0000"+
+		"\u008b\u008c\u0005A\u0000\u0000\u008c\u008d\u0005I\u0000\u0000\u008d\u008e"+
+		"\u0005N\u0000\u0000\u008e\n\u0001\u0000\u0000\u0000\u008f\u0090\u0005"+
+		"f\u0000\u0000\u0090\u0091\u0005i\u0000\u0000\u0091\u0092\u0005e\u0000"+
+		"\u0000\u0092\u0093\u0005l\u0000\u0000\u0093\u0094\u0005d\u0000\u0000\u0094"+
+		"\f\u0001\u0000\u0000\u0000\u0095\u0096\u0005,\u0000\u0000\u0096\u000e"+
+		"\u0001\u0000\u0000\u0000\u0097\u0098\u0005p\u0000\u0000\u0098\u0099\u0005"+
+		"u\u0000\u0000\u0099\u009a\u0005b\u0000\u0000\u009a\u009b\u0005l\u0000"+
+		"\u0000\u009b\u009c\u0005i\u0000\u0000\u009c\u009d\u0005c\u0000\u0000\u009d"+
+		"\u0010\u0001\u0000\u0000\u0000\u009e\u009f\u0005p\u0000\u0000\u009f\u00a0"+
+		"\u0005r\u0000\u0000\u00a0\u00a1\u0005i\u0000\u0000\u00a1\u00a2\u0005v"+
+		"\u0000\u0000\u00a2\u00a3\u0005a\u0000\u0000\u00a3\u00a4\u0005t\u0000\u0000"+
+		"\u00a4\u00a5\u0005e\u0000\u0000\u00a5\u0012\u0001\u0000\u0000\u0000\u00a6"+
+		"\u00a7\u0005p\u0000\u0000\u00a7\u00a8\u0005r\u0000\u0000\u00a8\u00a9\u0005"+
+		"o\u0000\u0000\u00a9\u00aa\u0005t\u0000\u0000\u00aa\u00ab\u0005e\u0000"+
+		"\u0000\u00ab\u00ac\u0005c\u0000\u0000\u00ac\u00ad\u0005t\u0000\u0000\u00ad"+
+		"\u00ae\u0005e\u0000\u0000\u00ae\u00af\u0005d\u0000\u0000\u00af\u0014\u0001"+
+		"\u0000\u0000\u0000\u00b0\u00b1\u0005f\u0000\u0000\u00b1\u00b2\u0005u\u0000"+
+		"\u0000\u00b2\u00b3\u0005n\u0000\u0000\u00b3\u00b4\u0005c\u0000\u0000\u00b4"+
+		"\u0016\u0001\u0000\u0000\u0000\u00b5\u00b6\u0005(\u0000\u0000\u00b6\u0018"+
+		"\u0001\u0000\u0000\u0000\u00b7\u00b8\u0005:\u0000\u0000\u00b8\u001a\u0001"+
+		"\u0000\u0000\u0000\u00b9\u00ba\u0005)\u0000\u0000\u00ba\u001c\u0001\u0000"+
+		"\u0000\u0000\u00bb\u00bc\u0005r\u0000\u0000\u00bc\u00bd\u0005e\u0000\u0000"+
+		"\u00bd\u00be\u0005t\u0000\u0000\u00be\u00bf\u0005u\u0000\u0000\u00bf\u00c0"+
+		"\u0005r\u0000\u0000\u00c0\u00c1\u0005n\u0000\u0000\u00c1\u00c2\u0005s"+
+		"\u0000\u0000\u00c2\u001e\u0001\u0000\u0000\u0000\u00c3\u00c4\u0005i\u0000"+
+		"\u0000\u00c4\u00c5\u0005f\u0000\u0000\u00c5 \u0001\u0000\u0000\u0000\u00c6"+
+		"\u00c7\u0005e\u0000\u0000\u00c7\u00c8\u0005l\u0000\u0000\u00c8\u00c9\u0005"+
+		"i\u0000\u0000\u00c9\u00ca\u0005f\u0000\u0000\u00ca\"\u0001\u0000\u0000"+
+		"\u0000\u00cb\u00cc\u0005e\u0000\u0000\u00cc\u00cd\u0005l\u0000\u0000\u00cd"+
+		"\u00ce\u0005s\u0000\u0000\u00ce\u00cf\u0005e\u0000\u0000\u00cf$\u0001"+
+		"\u0000\u0000\u0000\u00d0\u00d1\u0005v\u0000\u0000\u00d1\u00d2\u0005a\u0000"+
+		"\u0000\u00d2\u00d3\u0005r\u0000\u0000\u00d3&\u0001\u0000\u0000\u0000\u00d4"+
+		"\u00d5\u0005=\u0000\u0000\u00d5(\u0001\u0000\u0000\u0000\u00d6\u00d7\u0005"+
+		"c\u0000\u0000\u00d7\u00d8\u0005o\u0000\u0000\u00d8\u00d9\u0005n\u0000"+
+		"\u0000\u00d9\u00da\u0005t\u0000\u0000\u00da\u00db\u0005i\u0000\u0000\u00db"+
+		"\u00dc\u0005n\u0000\u0000\u00dc\u00dd\u0005u\u0000\u0000\u00dd\u00de\u0005"+
+		"e\u0000\u0000\u00de*\u0001\u0000\u0000\u0000\u00df\u00e0\u0005b\u0000"+
+		"\u0000\u00e0\u00e1\u0005r\u0000\u0000\u00e1\u00e2\u0005e\u0000\u0000\u00e2"+
+		"\u00e3\u0005a\u0000\u0000\u00e3\u00e4\u0005k\u0000\u0000\u00e4,\u0001"+
+		"\u0000\u0000\u0000\u00e5\u00e6\u0005r\u0000\u0000\u00e6\u00e7\u0005e\u0000"+
+		"\u0000\u00e7\u00e8\u0005t\u0000\u0000\u00e8\u00e9\u0005u\u0000\u0000\u00e9"+
+		"\u00ea\u0005r\u0000\u0000\u00ea\u00eb\u0005n\u0000\u0000\u00eb.\u0001"+
+		"\u0000\u0000\u0000\u00ec\u00ed\u0005w\u0000\u0000\u00ed\u00ee\u0005h\u0000"+
+		"\u0000\u00ee\u00ef\u0005i\u0000\u0000\u00ef\u00f0\u0005l\u0000\u0000\u00f0"+
+		"\u00f1\u0005e\u0000\u0000\u00f10\u0001\u0000\u0000\u0000\u00f2\u00f3\u0005"+
+		"s\u0000\u0000\u00f3\u00f4\u0005o\u0000\u0000\u00f4\u00f5\u0005u\u0000"+
+		"\u0000\u00f5\u00f6\u0005t\u0000\u0000\u00f62\u0001\u0000\u0000\u0000\u00f7"+
+		"\u00f8\u0005+\u0000\u0000\u00f8\u00f9\u0005+\u0000\u0000\u00f94\u0001"+
+		"\u0000\u0000\u0000\u00fa\u00fb\u0005-\u0000\u0000\u00fb\u00fc\u0005-\u0000"+
+		"\u0000\u00fc6\u0001\u0000\u0000\u0000\u00fd\u00fe\u0005.\u0000\u0000\u00fe"+
+		"8\u0001\u0000\u0000\u0000\u00ff\u0100\u0005[\u0000\u0000\u0100:\u0001"+
+		"\u0000\u0000\u0000\u0101\u0102\u0005]\u0000\u0000\u0102<\u0001\u0000\u0000"+
+		"\u0000\u0103\u0104\u0005!\u0000\u0000\u0104>\u0001\u0000\u0000\u0000\u0105"+
+		"\u0106\u0005-\u0000\u0000\u0106@\u0001\u0000\u0000\u0000\u0107\u0108\u0005"+
+		"*\u0000\u0000\u0108B\u0001\u0000\u0000\u0000\u0109\u010a\u0005/\u0000"+
+		"\u0000\u010aD\u0001\u0000\u0000\u0000\u010b\u010c\u0005%\u0000\u0000\u010c"+
+		"F\u0001\u0000\u0000\u0000\u010d\u010e\u0005+\u0000\u0000\u010eH\u0001"+
+		"\u0000\u0000\u0000\u010f\u0110\u0005<\u0000\u0000\u0110J\u0001\u0000\u0000"+
+		"\u0000\u0111\u0112\u0005>\u0000\u0000\u0112L\u0001\u0000\u0000\u0000\u0113"+
+		"\u0114\u0005=\u0000\u0000\u0114\u0115\u0005=\u0000\u0000\u0115N\u0001"+
+		"\u0000\u0000\u0000\u0116\u0117\u0005<\u0000\u0000\u0117\u0118\u0005>\u0000"+
+		"\u0000\u0118P\u0001\u0000\u0000\u0000\u0119\u011a\u0005&\u0000\u0000\u011a"+
+		"\u011b\u0005&\u0000\u0000\u011bR\u0001\u0000\u0000\u0000\u011c\u011d\u0005"+
+		"|\u0000\u0000\u011d\u011e\u0005|\u0000\u0000\u011eT\u0001\u0000\u0000"+
+		"\u0000\u011f\u0120\u0005n\u0000\u0000\u0120\u0121\u0005e\u0000\u0000\u0121"+
+		"\u0122\u0005w\u0000\u0000\u0122V\u0001\u0000\u0000\u0000\u0123\u0124\u0005"+
+		"t\u0000\u0000\u0124\u0125\u0005h\u0000\u0000\u0125\u0126\u0005i\u0000"+
+		"\u0000\u0126\u0127\u0005s\u0000\u0000\u0127X\u0001\u0000\u0000\u0000\u0128"+
+		"\u0129\u0005t\u0000\u0000\u0129\u012a\u0005r\u0000\u0000\u012a\u012b\u0005"+
+		"u\u0000\u0000\u012b\u012c\u0005e\u0000\u0000\u012cZ\u0001\u0000\u0000"+
+		"\u0000\u012d\u012e\u0005f\u0000\u0000\u012e\u012f\u0005a\u0000\u0000\u012f"+
+		"\u0130\u0005l\u0000\u0000\u0130\u0131\u0005s\u0000\u0000\u0131\u0132\u0005"+
+		"e\u0000\u0000\u0132\\\u0001\u0000\u0000\u0000\u0133\u0134\u0005d\u0000"+
+		"\u0000\u0134\u0135\u0005o\u0000\u0000\u0135\u0136\u0005u\u0000\u0000\u0136"+
+		"\u0137\u0005b\u0000\u0000\u0137\u0138\u0005l\u0000\u0000\u0138\u0139\u0005"+
+		"e\u0000\u0000\u0139^\u0001\u0000\u0000\u0000\u013a\u013b\u0005b\u0000"+
+		"\u0000\u013b\u013c\u0005o\u0000\u0000\u013c\u013d\u0005o\u0000\u0000\u013d"+
+		"\u013e\u0005l\u0000\u0000\u013e`\u0001\u0000\u0000\u0000\u013f\u0140\u0005"+
+		"s\u0000\u0000\u0140\u0141\u0005t\u0000\u0000\u0141\u0142\u0005r\u0000"+
+		"\u0000\u0142\u0143\u0005i\u0000\u0000\u0143\u0144\u0005n\u0000\u0000\u0144"+
+		"\u0145\u0005g\u0000\u0000\u0145b\u0001\u0000\u0000\u0000\u0146\u014a\u0007"+
+		"\u0000\u0000\u0000\u0147\u0149\u0007\u0001\u0000\u0000\u0148\u0147\u0001"+
+		"\u0000\u0000\u0000\u0149\u014c\u0001\u0000\u0000\u0000\u014a\u0148\u0001"+
+		"\u0000\u0000\u0000\u014a\u014b\u0001\u0000\u0000\u0000\u014b\u015c\u0001"+
+		"\u0000\u0000\u0000\u014c\u014a\u0001\u0000\u0000\u0000\u014d\u015c\u0007"+
+		"\u0002\u0000\u0000\u014e\u0152\u0007\u0000\u0000\u0000\u014f\u0151\u0007"+
+		"\u0001\u0000\u0000\u0150\u014f\u0001\u0000\u0000\u0000\u0151\u0154\u0001"+
+		"\u0000\u0000\u0000\u0152\u0150\u0001\u0000\u0000\u0000\u0152\u0153\u0001"+
+		"\u0000\u0000\u0000\u0153\u0155\u0001\u0000\u0000\u0000\u0154\u0152\u0001"+
+		"\u0000\u0000\u0000\u0155\u0157\u0005.\u0000\u0000\u0156\u0158\u0007\u0001"+
+		"\u0000\u0000\u0157\u0156\u0001\u0000\u0000\u0000\u0158\u0159\u0001\u0000"+
+		"\u0000\u0000\u0159\u0157\u0001\u0000\u0000\u0000\u0159\u015a\u0001\u0000"+
+		"\u0000\u0000\u015a\u015c\u0001\u0000\u0000\u0000\u015b\u0146\u0001\u0000"+
+		"\u0000\u0000\u015b\u014d\u0001\u0000\u0000\u0000\u015b\u014e\u0001\u0000"+
+		"\u0000\u0000\u015cd\u0001\u0000\u0000\u0000\u015d\u0161\u0005\"\u0000"+
+		"\u0000\u015e\u0160\b\u0003\u0000\u0000\u015f\u015e\u0001\u0000\u0000\u0000"+
+		"\u0160\u0163\u0001\u0000\u0000\u0000\u0161\u015f\u0001\u0000\u0000\u0000"+
+		"\u0161\u0162\u0001\u0000\u0000\u0000\u0162\u0164\u0001\u0000\u0000\u0000"+
+		"\u0163\u0161\u0001\u0000\u0000\u0000\u0164\u0165\u0005\"\u0000\u0000\u0165"+
+		"f\u0001\u0000\u0000\u0000\u0166\u0168\u0005\r\u0000\u0000\u0167\u0166"+
+		"\u0001\u0000\u0000\u0000\u0167\u0168\u0001\u0000\u0000\u0000\u0168\u0169"+
+		"\u0001\u0000\u0000\u0000\u0169\u016a\u0005\n\u0000\u0000\u016a\u016b\u0001"+
+		"\u0000\u0000\u0000\u016b\u016c\u00063\u0000\u0000\u016ch\u0001\u0000\u0000"+
+		"\u0000\u016d\u0171\u0007\u0004\u0000\u0000\u016e\u0170\u0007\u0005\u0000"+
+		"\u0000\u016f\u016e\u0001\u0000\u0000\u0000\u0170\u0173\u0001\u0000\u0000"+
+		"\u0000\u0171\u016f\u0001\u0000\u0000\u0000\u0171\u0172\u0001\u0000\u0000"+
+		"\u0000\u0172j\u0001\u0000\u0000\u0000\u0173\u0171\u0001\u0000\u0000\u0000"+
+		"\u0174\u0175\u0005#\u0000\u0000\u0175\u0176\u0005#\u0000\u0000\u0176\u017a"+
+		"\u0001\u0000\u0000\u0000\u0177\u0179\b\u0006\u0000\u0000\u0178\u0177\u0001"+
+		"\u0000\u0000\u0000\u0179\u017c\u0001\u0000\u0000\u0000\u017a\u0178\u0001"+
+		"\u0000\u0000\u0000\u017a\u017b\u0001\u0000\u0000\u0000\u017b\u017d\u0001"+
+		"\u0000\u0000\u0000\u017c\u017a\u0001\u0000\u0000\u0000\u017d\u017e\u0006"+
+		"5\u0000\u0000\u017el\u0001\u0000\u0000\u0000\u017f\u0180\u0005#\u0000"+
+		"\u0000\u0180\u0181\u0005#\u0000\u0000\u0181\u0182\u0005#\u0000\u0000\u0182"+
+		"\u0186\u0001\u0000\u0000\u0000\u0183\u0185\t\u0000\u0000\u0000\u0184\u0183"+
+		"\u0001\u0000\u0000\u0000\u0185\u0188\u0001\u0000\u0000\u0000\u0186\u0187"+
+		"\u0001\u0000\u0000\u0000\u0186\u0184\u0001\u0000\u0000\u0000\u0187\u0189"+
+		"\u0001\u0000\u0000\u0000\u0188\u0186\u0001\u0000\u0000\u0000\u0189\u018a"+
+		"\u0005#\u0000\u0000\u018a\u018b\u0005#\u0000\u0000\u018b\u018c\u0005#"+
+		"\u0000\u0000\u018c\u018d\u0001\u0000\u0000\u0000\u018d\u018e\u00066\u0000"+
+		"\u0000\u018en\u0001\u0000\u0000\u0000\u018f\u0190\u0007\u0007\u0000\u0000"+
+		"\u0190\u0191\u0001\u0000\u0000\u0000\u0191\u0192\u00067\u0000\u0000\u0192"+
+		"p\u0001\u0000\u0000\u0000\n\u0000\u014a\u0152\u0159\u015b\u0161\u0167"+
+		"\u0171\u017a\u0186\u0001\u0006\u0000\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
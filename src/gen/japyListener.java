@@ -227,165 +227,137 @@ public interface japyListener extends ParseTreeListener {
 	 */
 	void exitStatementDec(japyParser.StatementDecContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expression}.
+	 * Enter a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpression(japyParser.ExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link japyParser#expression}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpression(japyParser.ExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionOr}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionOr(japyParser.ExpressionOrContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionOr}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpressionOr(japyParser.ExpressionOrContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionOrTemp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionOrTemp(japyParser.ExpressionOrTempContext ctx);
+	void enterExpressionAdd(japyParser.ExpressionAddContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionOrTemp}.
+	 * Exit a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx);
+	void exitExpressionAdd(japyParser.ExpressionAddContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionAnd}.
+	 * Enter a parse tree produced by the {@code expressionIndex}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionAnd(japyParser.ExpressionAndContext ctx);
+	void enterExpressionIndex(japyParser.ExpressionIndexContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionAnd}.
+	 * Exit a parse tree produced by the {@code expressionIndex}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAnd(japyParser.ExpressionAndContext ctx);
+	void exitExpressionIndex(japyParser.ExpressionIndexContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionAndTemp}.
+	 * Enter a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionAndTemp(japyParser.ExpressionAndTempContext ctx);
+	void enterExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionAndTemp}.
+	 * Exit a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx);
+	void exitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionEq}.
+	 * Enter a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
 	void enterExpressionEq(japyParser.ExpressionEqContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionEq}.
+	 * Exit a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
 	void exitExpressionEq(japyParser.ExpressionEqContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionEqTemp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionEqTemp(japyParser.ExpressionEqTempContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionEqTemp}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionCmp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionCmp(japyParser.ExpressionCmpContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionCmp}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpressionCmp(japyParser.ExpressionCmpContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionCmpTemp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionCmpTemp}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionAdd}.
+	 * Enter a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionAdd(japyParser.ExpressionAddContext ctx);
+	void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionAdd}.
+	 * Exit a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAdd(japyParser.ExpressionAddContext ctx);
+	void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionAddTemp}.
+	 * Enter a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionAddTemp(japyParser.ExpressionAddTempContext ctx);
+	void enterExpressionAnd(japyParser.ExpressionAndContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionAddTemp}.
+	 * Exit a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx);
+	void exitExpressionAnd(japyParser.ExpressionAndContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionMultMod}.
+	 * Enter a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
 	void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionMultMod}.
+	 * Exit a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
 	void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionMultModTemp}.
+	 * Enter a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx);
+	void enterExpressionCmp(japyParser.ExpressionCmpContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionMultModTemp}.
+	 * Exit a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx);
+	void exitExpressionCmp(japyParser.ExpressionCmpContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionUnary}.
+	 * Enter a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx);
+	void enterExpressionOr(japyParser.ExpressionOrContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionUnary}.
+	 * Exit a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx);
+	void exitExpressionOr(japyParser.ExpressionOrContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionMethods}.
+	 * Enter a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionMethods(japyParser.ExpressionMethodsContext ctx);
+	void enterExpressionPrimary(japyParser.ExpressionPrimaryContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionMethods}.
+	 * Exit a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionMethods(japyParser.ExpressionMethodsContext ctx);
+	void exitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link japyParser#expressionMethodsTemp}.
+	 * Enter a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx);
+	void enterExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link japyParser#expressionMethodsTemp}.
+	 * Exit a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx);
+	void exitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link japyParser#expressionOther}.
 	 * @param ctx the parse tree
@@ -32,13 +32,8 @@ public class japyParser extends Parser {
 		RULE_statementBlock = 12, RULE_statementContinue = 13, RULE_statementBreak = 14, 
 		RULE_statementReturn = 15, RULE_statementClosedLoop = 16, RULE_statementOpenLoop = 17, 
 		RULE_statementWrite = 18, RULE_statementAssignment = 19, RULE_statementInc = 20, 
-		RULE_statementDec = 21, RULE_expression = 22, RULE_expressionOr = 23, 
-		RULE_expressionOrTemp = 24, RULE_expressionAnd = 25, RULE_expressionAndTemp = 26, 
-		RULE_expressionEq = 27, RULE_expressionEqTemp = 28, RULE_expressionCmp = 29, 
-		RULE_expressionCmpTemp = 30, RULE_expressionAdd = 31, RULE_expressionAddTemp = 32, 
-		RULE_expressionMultMod = 33, RULE_expressionMultModTemp = 34, RULE_expressionUnary = 35, 
-		RULE_expressionMethods = 36, RULE_expressionMethodsTemp = 37, RULE_expressionOther = 38, 
-		RULE_japyType = 39, RULE_singleType = 40;
+		RULE_statementDec = 21, RULE_expression = 22, RULE_expressionOther = 23, 
+		RULE_japyType = 24, RULE_singleType = 25;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"program", "classDeclaration", "entryClassDeclaration", "fieldDeclaration", 
@@ -46,11 +41,7 @@ public class japyParser extends Parser {
 			"openConditional", "openStatement", "statement", "statementVarDef", "statementBlock", 
 			"statementContinue", "statementBreak", "statementReturn", "statementClosedLoop", 
 			"statementOpenLoop", "statementWrite", "statementAssignment", "statementInc", 
-			"statementDec", "expression", "expressionOr", "expressionOrTemp", "expressionAnd", 
-			"expressionAndTemp", "expressionEq", "expressionEqTemp", "expressionCmp", 
-			"expressionCmpTemp", "expressionAdd", "expressionAddTemp", "expressionMultMod", 
-			"expressionMultModTemp", "expressionUnary", "expressionMethods", "expressionMethodsTemp", 
-			"expressionOther", "japyType", "singleType"
+			"statementDec", "expression", "expressionOther", "japyType", "singleType"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -60,9 +51,9 @@ public class japyParser extends Parser {
 			null, "'class'", "'inherits'", "'begin'", "'end'", "'MAIN'", "'field'", 
 			"','", "'public'", "'private'", "'protected'", "'func'", "'('", "':'", 
 			"')'", "'returns'", "'if'", "'elif'", "'else'", "'var'", "'='", "'continue'", 
-			"'break'", "'return'", "'while'", "'sout'", "'++'", "'--'", "'||'", "'&&'", 
-			"'=='", "'<>'", "'<'", "'>'", "'+'", "'-'", "'*'", "'/'", "'%'", "'!'", 
-			"'.'", "'['", "']'", "'new'", "'this'", "'true'", "'false'", "'double'", 
+			"'break'", "'return'", "'while'", "'sout'", "'++'", "'--'", "'.'", "'['", 
+			"']'", "'!'", "'-'", "'*'", "'/'", "'%'", "'+'", "'<'", "'>'", "'=='", 
+			"'<>'", "'&&'", "'||'", "'new'", "'this'", "'true'", "'false'", "'double'", 
 			"'bool'", "'string'"
 		};
 	}
@@ -169,37 +160,37 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(85);
+			setState(55);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1794L) != 0)) {
 				{
 				{
-				setState(82);
+				setState(52);
 				((ProgramContext)_localctx).c1 = classDeclaration();
 				}
 				}
-				setState(87);
+				setState(57);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(88);
+			setState(58);
 			((ProgramContext)_localctx).mainclass = entryClassDeclaration();
-			setState(92);
+			setState(62);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1794L) != 0)) {
 				{
 				{
-				setState(89);
+				setState(59);
 				((ProgramContext)_localctx).c3 = classDeclaration();
 				}
 				}
-				setState(94);
+				setState(64);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(95);
+			setState(65);
 			match(EOF);
 			}
 		}
@@ -263,61 +254,61 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(98);
+			setState(68);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
 				{
-				setState(97);
+				setState(67);
 				access_modifier();
 				}
 			}
 
-			setState(100);
+			setState(70);
 			match(T__0);
-			setState(101);
+			setState(71);
 			((ClassDeclarationContext)_localctx).className = match(ID);
-			setState(104);
+			setState(74);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__1) {
 				{
-				setState(102);
+				setState(72);
 				match(T__1);
-				setState(103);
+				setState(73);
 				((ClassDeclarationContext)_localctx).classParent = match(ID);
 				}
 			}
 
-			setState(106);
+			setState(76);
 			match(T__2);
-			setState(111);
+			setState(81);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 3904L) != 0)) {
 				{
-				setState(109);
+				setState(79);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 				case 1:
 					{
-					setState(107);
+					setState(77);
 					fieldDeclaration();
 					}
 					break;
 				case 2:
 					{
-					setState(108);
+					setState(78);
 					methodDeclaration();
 					}
 					break;
 				}
 				}
-				setState(113);
+				setState(83);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(114);
+			setState(84);
 			match(T__3);
 			}
 		}
@@ -363,10 +354,10 @@ public class japyParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(116);
+			setState(86);
 			match(T__4);
 			}
-			setState(117);
+			setState(87);
 			classDeclaration();
 			}
 		}
@@ -422,35 +413,35 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(120);
+			setState(90);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
 				{
-				setState(119);
+				setState(89);
 				access_modifier();
 				}
 			}
 
-			setState(122);
+			setState(92);
 			match(T__5);
-			setState(123);
+			setState(93);
 			((FieldDeclarationContext)_localctx).fieldType = japyType();
-			setState(124);
+			setState(94);
 			((FieldDeclarationContext)_localctx).fieldName = match(ID);
-			setState(129);
+			setState(99);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__6) {
 				{
 				{
-				setState(125);
+				setState(95);
 				match(T__6);
-				setState(126);
+				setState(96);
 				((FieldDeclarationContext)_localctx).ii = match(ID);
 				}
 				}
-				setState(131);
+				setState(101);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -495,7 +486,7 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(132);
+			setState(102);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -573,79 +564,79 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(135);
+			setState(105);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
 				{
-				setState(134);
+				setState(104);
 				((MethodDeclarationContext)_localctx).methodAccessModifier = access_modifier();
 				}
 			}
 
-			setState(137);
+			setState(107);
 			match(T__10);
-			setState(138);
+			setState(108);
 			((MethodDeclarationContext)_localctx).methodName = match(ID);
-			setState(139);
+			setState(109);
 			match(T__11);
-			setState(152);
+			setState(122);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(140);
+				setState(110);
 				((MethodDeclarationContext)_localctx).param1 = match(ID);
-				setState(141);
+				setState(111);
 				match(T__12);
-				setState(142);
+				setState(112);
 				((MethodDeclarationContext)_localctx).typeP1 = japyType();
-				setState(149);
+				setState(119);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__6) {
 					{
 					{
-					setState(143);
+					setState(113);
 					match(T__6);
-					setState(144);
+					setState(114);
 					((MethodDeclarationContext)_localctx).param2 = match(ID);
-					setState(145);
+					setState(115);
 					match(T__12);
-					setState(146);
+					setState(116);
 					((MethodDeclarationContext)_localctx).typeP2 = japyType();
 					}
 					}
-					setState(151);
+					setState(121);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(154);
+			setState(124);
 			match(T__13);
-			setState(155);
+			setState(125);
 			match(T__14);
-			setState(156);
+			setState(126);
 			((MethodDeclarationContext)_localctx).t = japyType();
-			setState(157);
+			setState(127);
 			match(T__2);
-			setState(161);
+			setState(131);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424551759880L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846878658568L) != 0)) {
 				{
 				{
-				setState(158);
+				setState(128);
 				((MethodDeclarationContext)_localctx).s = statement();
 				}
 				}
-				setState(163);
+				setState(133);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(164);
+			setState(134);
 			match(T__3);
 			}
 		}
@@ -729,83 +720,83 @@ public class japyParser extends Parser {
 		ClosedStatementContext _localctx = new ClosedStatementContext(_ctx, getState());
 		enterRule(_localctx, 12, RULE_closedStatement);
 		try {
-			setState(177);
+			setState(147);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(166);
+				setState(136);
 				((ClosedStatementContext)_localctx).s1 = statementBlock();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(167);
+				setState(137);
 				((ClosedStatementContext)_localctx).conditionalStat = closedConditional();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(168);
+				setState(138);
 				((ClosedStatementContext)_localctx).s3 = statementClosedLoop();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(169);
+				setState(139);
 				((ClosedStatementContext)_localctx).s4 = statementWrite();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(170);
+				setState(140);
 				((ClosedStatementContext)_localctx).s5 = statementAssignment();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(171);
+				setState(141);
 				((ClosedStatementContext)_localctx).s6 = statementReturn();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(172);
+				setState(142);
 				((ClosedStatementContext)_localctx).s7 = statementVarDef();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(173);
+				setState(143);
 				((ClosedStatementContext)_localctx).s8 = statementContinue();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(174);
+				setState(144);
 				((ClosedStatementContext)_localctx).s9 = statementBreak();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(175);
+				setState(145);
 				((ClosedStatementContext)_localctx).incStat = statementInc();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(176);
+				setState(146);
 				((ClosedStatementContext)_localctx).decStat = statementDec();
 				}
 				break;
@@ -867,41 +858,41 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(179);
+			setState(149);
 			match(T__15);
-			setState(180);
+			setState(150);
 			match(T__11);
-			setState(181);
-			((ClosedConditionalContext)_localctx).ifExp = expression();
-			setState(182);
+			setState(151);
+			((ClosedConditionalContext)_localctx).ifExp = expression(0);
+			setState(152);
 			match(T__13);
-			setState(183);
+			setState(153);
 			((ClosedConditionalContext)_localctx).ifStat = closedStatement();
-			setState(192);
+			setState(162);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__16) {
 				{
 				{
-				setState(184);
+				setState(154);
 				match(T__16);
-				setState(185);
+				setState(155);
 				match(T__11);
-				setState(186);
-				((ClosedConditionalContext)_localctx).elifExp = expression();
-				setState(187);
+				setState(156);
+				((ClosedConditionalContext)_localctx).elifExp = expression(0);
+				setState(157);
 				match(T__13);
-				setState(188);
+				setState(158);
 				((ClosedConditionalContext)_localctx).elifStat = closedStatement();
 				}
 				}
-				setState(194);
+				setState(164);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(195);
+			setState(165);
 			match(T__17);
-			setState(196);
+			setState(166);
 			((ClosedConditionalContext)_localctx).elseStmt = closedStatement();
 			}
 		}
@@ -970,21 +961,21 @@ public class japyParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(245);
+			setState(215);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(198);
+				setState(168);
 				match(T__15);
-				setState(199);
+				setState(169);
 				match(T__11);
-				setState(200);
-				((OpenConditionalContext)_localctx).ifExp = expression();
-				setState(201);
+				setState(170);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(171);
 				match(T__13);
-				setState(202);
+				setState(172);
 				((OpenConditionalContext)_localctx).ifStat = statement();
 				}
 				break;
@@ -992,49 +983,49 @@ public class japyParser extends Parser {
 				enterOuterAlt(_localctx, 2);
 				{
 				{
-				setState(204);
+				setState(174);
 				match(T__15);
-				setState(205);
+				setState(175);
 				match(T__11);
-				setState(206);
-				((OpenConditionalContext)_localctx).ifExp = expression();
-				setState(207);
+				setState(176);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(177);
 				match(T__13);
-				setState(208);
+				setState(178);
 				((OpenConditionalContext)_localctx).secondIfStat = closedStatement();
-				setState(217);
+				setState(187);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(209);
+						setState(179);
 						match(T__16);
-						setState(210);
+						setState(180);
 						match(T__11);
-						setState(211);
-						((OpenConditionalContext)_localctx).elifExp = expression();
-						setState(212);
+						setState(181);
+						((OpenConditionalContext)_localctx).elifExp = expression(0);
+						setState(182);
 						match(T__13);
-						setState(213);
+						setState(183);
 						((OpenConditionalContext)_localctx).elifStat = closedStatement();
 						}
 						} 
 					}
-					setState(219);
+					setState(189);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 				}
-				setState(220);
+				setState(190);
 				match(T__16);
-				setState(221);
+				setState(191);
 				match(T__11);
-				setState(222);
-				((OpenConditionalContext)_localctx).lastElifExp = expression();
-				setState(223);
+				setState(192);
+				((OpenConditionalContext)_localctx).lastElifExp = expression(0);
+				setState(193);
 				match(T__13);
-				setState(224);
+				setState(194);
 				((OpenConditionalContext)_localctx).lastElifStmt = statement();
 				}
 				}
@@ -1043,41 +1034,41 @@ public class japyParser extends Parser {
 				enterOuterAlt(_localctx, 3);
 				{
 				{
-				setState(226);
+				setState(196);
 				match(T__15);
-				setState(227);
+				setState(197);
 				match(T__11);
-				setState(228);
-				((OpenConditionalContext)_localctx).ifExp = expression();
-				setState(229);
+				setState(198);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(199);
 				match(T__13);
-				setState(230);
+				setState(200);
 				((OpenConditionalContext)_localctx).thirdIfStat = closedStatement();
-				setState(239);
+				setState(209);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__16) {
 					{
 					{
-					setState(231);
+					setState(201);
 					match(T__16);
-					setState(232);
+					setState(202);
 					match(T__11);
-					setState(233);
-					((OpenConditionalContext)_localctx).elifExp = expression();
-					setState(234);
+					setState(203);
+					((OpenConditionalContext)_localctx).elifExp = expression(0);
+					setState(204);
 					match(T__13);
-					setState(235);
+					setState(205);
 					((OpenConditionalContext)_localctx).elifStat = closedStatement();
 					}
 					}
-					setState(241);
+					setState(211);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(242);
+				setState(212);
 				match(T__17);
-				setState(243);
+				setState(213);
 				((OpenConditionalContext)_localctx).elseStmt = openStatement();
 				}
 				}
@@ -1128,20 +1119,20 @@ public class japyParser extends Parser {
 		OpenStatementContext _localctx = new OpenStatementContext(_ctx, getState());
 		enterRule(_localctx, 18, RULE_openStatement);
 		try {
-			setState(249);
+			setState(219);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__23:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(247);
+				setState(217);
 				((OpenStatementContext)_localctx).s1 = statementOpenLoop();
 				}
 				break;
 			case T__15:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(248);
+				setState(218);
 				((OpenStatementContext)_localctx).conditionalStat = openConditional();
 				}
 				break;
@@ -1193,20 +1184,20 @@ public class japyParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 20, RULE_statement);
 		try {
-			setState(253);
+			setState(223);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(251);
+				setState(221);
 				((StatementContext)_localctx).s1 = closedStatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(252);
+				setState(222);
 				((StatementContext)_localctx).s2 = openStatement();
 				}
 				break;
@@ -1265,31 +1256,31 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(255);
+			setState(225);
 			match(T__18);
-			setState(256);
+			setState(226);
 			((StatementVarDefContext)_localctx).i1 = match(ID);
-			setState(257);
+			setState(227);
 			match(T__19);
-			setState(258);
-			((StatementVarDefContext)_localctx).e1 = expression();
-			setState(265);
+			setState(228);
+			((StatementVarDefContext)_localctx).e1 = expression(0);
+			setState(235);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__6) {
 				{
 				{
-				setState(259);
+				setState(229);
 				match(T__6);
-				setState(260);
+				setState(230);
 				((StatementVarDefContext)_localctx).i2 = match(ID);
-				setState(261);
+				setState(231);
 				match(T__19);
-				setState(262);
-				((StatementVarDefContext)_localctx).e2 = expression();
+				setState(232);
+				((StatementVarDefContext)_localctx).e2 = expression(0);
 				}
 				}
-				setState(267);
+				setState(237);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1341,23 +1332,23 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(268);
+			setState(238);
 			match(T__2);
-			setState(272);
+			setState(242);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424551759880L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846878658568L) != 0)) {
 				{
 				{
-				setState(269);
+				setState(239);
 				((StatementBlockContext)_localctx).s = statement();
 				}
 				}
-				setState(274);
+				setState(244);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(275);
+			setState(245);
 			match(T__3);
 			}
 		}
@@ -1400,7 +1391,7 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(277);
+			setState(247);
 			((StatementContinueContext)_localctx).myContinue = match(T__20);
 			}
 		}
@@ -1443,7 +1434,7 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(279);
+			setState(249);
 			((StatementBreakContext)_localctx).myBreak = match(T__21);
 			}
 		}
@@ -1490,10 +1481,10 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(281);
+			setState(251);
 			((StatementReturnContext)_localctx).myReturn = match(T__22);
-			setState(282);
-			((StatementReturnContext)_localctx).e = expression();
+			setState(252);
+			((StatementReturnContext)_localctx).e = expression(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1542,15 +1533,15 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(284);
+			setState(254);
 			match(T__23);
-			setState(285);
+			setState(255);
 			match(T__11);
-			setState(286);
-			((StatementClosedLoopContext)_localctx).e = expression();
-			setState(287);
+			setState(256);
+			((StatementClosedLoopContext)_localctx).e = expression(0);
+			setState(257);
 			match(T__13);
-			setState(288);
+			setState(258);
 			((StatementClosedLoopContext)_localctx).s = closedStatement();
 			}
 		}
@@ -1600,15 +1591,15 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(290);
+			setState(260);
 			match(T__23);
-			setState(291);
+			setState(261);
 			match(T__11);
-			setState(292);
-			((StatementOpenLoopContext)_localctx).e = expression();
-			setState(293);
+			setState(262);
+			((StatementOpenLoopContext)_localctx).e = expression(0);
+			setState(263);
 			match(T__13);
-			setState(294);
+			setState(264);
 			((StatementOpenLoopContext)_localctx).s = openStatement();
 			}
 		}
@@ -1655,13 +1646,13 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(296);
+			setState(266);
 			((StatementWriteContext)_localctx).printLine = match(T__24);
-			setState(297);
+			setState(267);
 			match(T__11);
-			setState(298);
-			((StatementWriteContext)_localctx).e = expression();
-			setState(299);
+			setState(268);
+			((StatementWriteContext)_localctx).e = expression(0);
+			setState(269);
 			match(T__13);
 			}
 		}
@@ -1712,12 +1703,12 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(301);
-			((StatementAssignmentContext)_localctx).left = expression();
-			setState(302);
+			setState(271);
+			((StatementAssignmentContext)_localctx).left = expression(0);
+			setState(272);
 			((StatementAssignmentContext)_localctx).assignOp = match(T__19);
-			setState(303);
-			((StatementAssignmentContext)_localctx).right = expression();
+			setState(273);
+			((StatementAssignmentContext)_localctx).right = expression(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1763,9 +1754,9 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(305);
-			((StatementIncContext)_localctx).lvalExpr = expression();
-			setState(306);
+			setState(275);
+			((StatementIncContext)_localctx).lvalExpr = expression(0);
+			setState(276);
 			((StatementIncContext)_localctx).incOp = match(T__25);
 			}
 		}
@@ -1812,9 +1803,9 @@ public class japyParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(308);
-			((StatementDecContext)_localctx).lvalExpr = expression();
-			setState(309);
+			setState(278);
+			((StatementDecContext)_localctx).lvalExpr = expression(0);
+			setState(279);
 			((StatementDecContext)_localctx).decOp = match(T__26);
 			}
 		}
@@ -1831,210 +1822,155 @@ public class japyParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ExpressionContext extends ParserRuleContext {
-		public ExpressionOrContext e;
-		public ExpressionOrContext expressionOr() {
-			return getRuleContext(ExpressionOrContext.class,0);
-		}
 		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionAddContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token addOp;
+		public Token subOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionAddContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpression(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionAdd(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpression(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionAdd(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpression(this);
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionAdd(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionContext expression() throws RecognitionException {
-		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_expression);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(311);
-			((ExpressionContext)_localctx).e = expressionOr();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionOrContext extends ParserRuleContext {
-		public ExpressionAndContext a;
-		public ExpressionOrTempContext ot;
-		public ExpressionAndContext expressionAnd() {
-			return getRuleContext(ExpressionAndContext.class,0);
-		}
-		public ExpressionOrTempContext expressionOrTemp() {
-			return getRuleContext(ExpressionOrTempContext.class,0);
+	public static class ExpressionIndexContext extends ExpressionContext {
+		public ExpressionContext e;
+		public Token leftBrace;
+		public ExpressionContext e3;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionOrContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionOr; }
+		public ExpressionIndexContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionOr(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionIndex(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionOr(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionIndex(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionOr(this);
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionIndex(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionOrContext expressionOr() throws RecognitionException {
-		ExpressionOrContext _localctx = new ExpressionOrContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_expressionOr);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(313);
-			((ExpressionOrContext)_localctx).a = expressionAnd();
-			setState(314);
-			((ExpressionOrContext)_localctx).ot = expressionOrTemp();
-			}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionFieldAccessContext extends ExpressionContext {
+		public ExpressionContext e;
+		public Token dotOp;
+		public Token ii;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public TerminalNode ID() { return getToken(japyParser.ID, 0); }
+		public ExpressionFieldAccessContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionFieldAccess(this);
 		}
-		finally {
-			exitRule();
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionFieldAccess(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionFieldAccess(this);
+			else return visitor.visitChildren(this);
 		}
-		return _localctx;
 	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionOrTempContext extends ParserRuleContext {
-		public Token orOp;
-		public ExpressionAndContext a;
-		public ExpressionOrTempContext ot;
-		public ExpressionAndContext expressionAnd() {
-			return getRuleContext(ExpressionAndContext.class,0);
-		}
-		public ExpressionOrTempContext expressionOrTemp() {
-			return getRuleContext(ExpressionOrTempContext.class,0);
+	public static class ExpressionEqContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token eqOp;
+		public Token neqOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionOrTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionOrTemp; }
+		public ExpressionEqContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionOrTemp(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionEq(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionOrTemp(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionEq(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionOrTemp(this);
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionEq(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionOrTempContext expressionOrTemp() throws RecognitionException {
-		ExpressionOrTempContext _localctx = new ExpressionOrTempContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_expressionOrTemp);
-		try {
-			setState(321);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__27:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(316);
-				((ExpressionOrTempContext)_localctx).orOp = match(T__27);
-				setState(317);
-				((ExpressionOrTempContext)_localctx).a = expressionAnd();
-				setState(318);
-				((ExpressionOrTempContext)_localctx).ot = expressionOrTemp();
-				}
-				break;
-			case T__2:
-			case T__3:
-			case T__6:
-			case T__11:
-			case T__13:
-			case T__15:
-			case T__16:
-			case T__17:
-			case T__18:
-			case T__19:
-			case T__20:
-			case T__21:
-			case T__22:
-			case T__23:
-			case T__24:
-			case T__25:
-			case T__26:
-			case T__34:
-			case T__38:
-			case T__41:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionUnaryContext extends ExpressionContext {
+		public Token notOp;
+		public Token negOp;
+		public ExpressionContext u;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public ExpressionUnaryContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionUnary(this);
 		}
-		finally {
-			exitRule();
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionUnary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionUnary(this);
+			else return visitor.visitChildren(this);
 		}
-		return _localctx;
 	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAndContext extends ParserRuleContext {
-		public ExpressionEqContext e;
-		public ExpressionAndTempContext at;
-		public ExpressionEqContext expressionEq() {
-			return getRuleContext(ExpressionEqContext.class,0);
-		}
-		public ExpressionAndTempContext expressionAndTemp() {
-			return getRuleContext(ExpressionAndTempContext.class,0);
+	public static class ExpressionAndContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token andOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionAndContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionAnd; }
+		public ExpressionAndContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
 			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionAnd(this);
@@ -2049,1076 +1985,443 @@ public class japyParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionAndContext expressionAnd() throws RecognitionException {
-		ExpressionAndContext _localctx = new ExpressionAndContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_expressionAnd);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(323);
-			((ExpressionAndContext)_localctx).e = expressionEq();
-			setState(324);
-			((ExpressionAndContext)_localctx).at = expressionAndTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAndTempContext extends ParserRuleContext {
-		public Token andOp;
-		public ExpressionEqContext e;
-		public ExpressionAndTempContext at;
-		public ExpressionEqContext expressionEq() {
-			return getRuleContext(ExpressionEqContext.class,0);
-		}
-		public ExpressionAndTempContext expressionAndTemp() {
-			return getRuleContext(ExpressionAndTempContext.class,0);
+	public static class ExpressionMultModContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token mulOp;
+		public Token divOp;
+		public Token modOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionAndTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionAndTemp; }
+		public ExpressionMultModContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionAndTemp(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMultMod(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionAndTemp(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMultMod(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionAndTemp(this);
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMultMod(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionAndTempContext expressionAndTemp() throws RecognitionException {
-		ExpressionAndTempContext _localctx = new ExpressionAndTempContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_expressionAndTemp);
-		try {
-			setState(331);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__28:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(326);
-				((ExpressionAndTempContext)_localctx).andOp = match(T__28);
-				setState(327);
-				((ExpressionAndTempContext)_localctx).e = expressionEq();
-				setState(328);
-				((ExpressionAndTempContext)_localctx).at = expressionAndTemp();
-				}
-				break;
-			case T__2:
-			case T__3:
-			case T__6:
-			case T__11:
-			case T__13:
-			case T__15:
-			case T__16:
-			case T__17:
-			case T__18:
-			case T__19:
-			case T__20:
-			case T__21:
-			case T__22:
-			case T__23:
-			case T__24:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__34:
-			case T__38:
-			case T__41:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionEqContext extends ParserRuleContext {
-		public ExpressionCmpContext c;
-		public ExpressionEqTempContext et;
-		public ExpressionCmpContext expressionCmp() {
-			return getRuleContext(ExpressionCmpContext.class,0);
-		}
-		public ExpressionEqTempContext expressionEqTemp() {
-			return getRuleContext(ExpressionEqTempContext.class,0);
-		}
-		public ExpressionEqContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionEq; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionEq(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionEq(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionEq(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionEqContext expressionEq() throws RecognitionException {
-		ExpressionEqContext _localctx = new ExpressionEqContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_expressionEq);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(333);
-			((ExpressionEqContext)_localctx).c = expressionCmp();
-			setState(334);
-			((ExpressionEqContext)_localctx).et = expressionEqTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionEqTempContext extends ParserRuleContext {
-		public Token eqOp;
-		public Token neqOp;
-		public ExpressionCmpContext c;
-		public ExpressionEqTempContext et;
-		public ExpressionCmpContext expressionCmp() {
-			return getRuleContext(ExpressionCmpContext.class,0);
-		}
-		public ExpressionEqTempContext expressionEqTemp() {
-			return getRuleContext(ExpressionEqTempContext.class,0);
-		}
-		public ExpressionEqTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionEqTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionEqTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionEqTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionEqTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionEqTempContext expressionEqTemp() throws RecognitionException {
-		ExpressionEqTempContext _localctx = new ExpressionEqTempContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_expressionEqTemp);
-		try {
-			setState(344);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__29:
-			case T__30:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(338);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__29:
-					{
-					setState(336);
-					((ExpressionEqTempContext)_localctx).eqOp = match(T__29);
-					}
-					break;
-				case T__30:
-					{
-					setState(337);
-					((ExpressionEqTempContext)_localctx).neqOp = match(T__30);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(340);
-				((ExpressionEqTempContext)_localctx).c = expressionCmp();
-				setState(341);
-				((ExpressionEqTempContext)_localctx).et = expressionEqTemp();
-				}
-				break;
-			case T__2:
-			case T__3:
-			case T__6:
-			case T__11:
-			case T__13:
-			case T__15:
-			case T__16:
-			case T__17:
-			case T__18:
-			case T__19:
-			case T__20:
-			case T__21:
-			case T__22:
-			case T__23:
-			case T__24:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__34:
-			case T__38:
-			case T__41:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionCmpContext extends ParserRuleContext {
-		public ExpressionAddContext a;
-		public ExpressionCmpTempContext ct;
-		public ExpressionAddContext expressionAdd() {
-			return getRuleContext(ExpressionAddContext.class,0);
-		}
-		public ExpressionCmpTempContext expressionCmpTemp() {
-			return getRuleContext(ExpressionCmpTempContext.class,0);
-		}
-		public ExpressionCmpContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionCmp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionCmp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionCmp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionCmp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionCmpContext expressionCmp() throws RecognitionException {
-		ExpressionCmpContext _localctx = new ExpressionCmpContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_expressionCmp);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(346);
-			((ExpressionCmpContext)_localctx).a = expressionAdd();
-			setState(347);
-			((ExpressionCmpContext)_localctx).ct = expressionCmpTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionCmpTempContext extends ParserRuleContext {
-		public Token ltOp;
-		public Token gtOp;
-		public ExpressionAddContext a;
-		public ExpressionCmpTempContext ct;
-		public ExpressionAddContext expressionAdd() {
-			return getRuleContext(ExpressionAddContext.class,0);
-		}
-		public ExpressionCmpTempContext expressionCmpTemp() {
-			return getRuleContext(ExpressionCmpTempContext.class,0);
-		}
-		public ExpressionCmpTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionCmpTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionCmpTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionCmpTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionCmpTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionCmpTempContext expressionCmpTemp() throws RecognitionException {
-		ExpressionCmpTempContext _localctx = new ExpressionCmpTempContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_expressionCmpTemp);
-		try {
-			setState(357);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__31:
-			case T__32:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(351);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__31:
-					{
-					setState(349);
-					((ExpressionCmpTempContext)_localctx).ltOp = match(T__31);
-					}
-					break;
-				case T__32:
-					{
-					setState(350);
-					((ExpressionCmpTempContext)_localctx).gtOp = match(T__32);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(353);
-				((ExpressionCmpTempContext)_localctx).a = expressionAdd();
-				setState(354);
-				((ExpressionCmpTempContext)_localctx).ct = expressionCmpTemp();
-				}
-				break;
-			case T__2:
-			case T__3:
-			case T__6:
-			case T__11:
-			case T__13:
-			case T__15:
-			case T__16:
-			case T__17:
-			case T__18:
-			case T__19:
-			case T__20:
-			case T__21:
-			case T__22:
-			case T__23:
-			case T__24:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__29:
-			case T__30:
-			case T__34:
-			case T__38:
-			case T__41:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAddContext extends ParserRuleContext {
-		public ExpressionMultModContext m;
-		public ExpressionAddTempContext at;
-		public ExpressionMultModContext expressionMultMod() {
-			return getRuleContext(ExpressionMultModContext.class,0);
-		}
-		public ExpressionAddTempContext expressionAddTemp() {
-			return getRuleContext(ExpressionAddTempContext.class,0);
-		}
-		public ExpressionAddContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionAdd; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionAdd(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionAdd(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionAdd(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionAddContext expressionAdd() throws RecognitionException {
-		ExpressionAddContext _localctx = new ExpressionAddContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_expressionAdd);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(359);
-			((ExpressionAddContext)_localctx).m = expressionMultMod();
-			setState(360);
-			((ExpressionAddContext)_localctx).at = expressionAddTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAddTempContext extends ParserRuleContext {
-		public Token addOp;
-		public Token subOp;
-		public ExpressionMultModContext m;
-		public ExpressionAddTempContext at;
-		public ExpressionMultModContext expressionMultMod() {
-			return getRuleContext(ExpressionMultModContext.class,0);
-		}
-		public ExpressionAddTempContext expressionAddTemp() {
-			return getRuleContext(ExpressionAddTempContext.class,0);
-		}
-		public ExpressionAddTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionAddTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionAddTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionAddTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionAddTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionAddTempContext expressionAddTemp() throws RecognitionException {
-		ExpressionAddTempContext _localctx = new ExpressionAddTempContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_expressionAddTemp);
-		try {
-			setState(370);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(364);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__33:
-					{
-					setState(362);
-					((ExpressionAddTempContext)_localctx).addOp = match(T__33);
-					}
-					break;
-				case T__34:
-					{
-					setState(363);
-					((ExpressionAddTempContext)_localctx).subOp = match(T__34);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(366);
-				((ExpressionAddTempContext)_localctx).m = expressionMultMod();
-				setState(367);
-				((ExpressionAddTempContext)_localctx).at = expressionAddTemp();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMultModContext extends ParserRuleContext {
-		public ExpressionUnaryContext u;
-		public ExpressionMultModTempContext mt;
-		public ExpressionUnaryContext expressionUnary() {
-			return getRuleContext(ExpressionUnaryContext.class,0);
-		}
-		public ExpressionMultModTempContext expressionMultModTemp() {
-			return getRuleContext(ExpressionMultModTempContext.class,0);
-		}
-		public ExpressionMultModContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMultMod; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMultMod(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMultMod(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMultMod(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionMultModContext expressionMultMod() throws RecognitionException {
-		ExpressionMultModContext _localctx = new ExpressionMultModContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_expressionMultMod);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(372);
-			((ExpressionMultModContext)_localctx).u = expressionUnary();
-			setState(373);
-			((ExpressionMultModContext)_localctx).mt = expressionMultModTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMultModTempContext extends ParserRuleContext {
-		public Token mulOp;
-		public Token divOp;
-		public Token modOp;
-		public ExpressionUnaryContext u;
-		public ExpressionMultModTempContext mt;
-		public ExpressionUnaryContext expressionUnary() {
-			return getRuleContext(ExpressionUnaryContext.class,0);
-		}
-		public ExpressionMultModTempContext expressionMultModTemp() {
-			return getRuleContext(ExpressionMultModTempContext.class,0);
-		}
-		public ExpressionMultModTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMultModTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMultModTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMultModTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMultModTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionMultModTempContext expressionMultModTemp() throws RecognitionException {
-		ExpressionMultModTempContext _localctx = new ExpressionMultModTempContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_expressionMultModTemp);
-		try {
-			setState(384);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__35:
-			case T__36:
-			case T__37:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(378);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__35:
-					{
-					setState(375);
-					((ExpressionMultModTempContext)_localctx).mulOp = match(T__35);
-					}
-					break;
-				case T__36:
-					{
-					setState(376);
-					((ExpressionMultModTempContext)_localctx).divOp = match(T__36);
-					}
-					break;
-				case T__37:
-					{
-					setState(377);
-					((ExpressionMultModTempContext)_localctx).modOp = match(T__37);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(380);
-				((ExpressionMultModTempContext)_localctx).u = expressionUnary();
-				setState(381);
-				((ExpressionMultModTempContext)_localctx).mt = expressionMultModTemp();
-				}
-				break;
-			case T__2:
-			case T__3:
-			case T__6:
-			case T__11:
-			case T__13:
-			case T__15:
-			case T__16:
-			case T__17:
-			case T__18:
-			case T__19:
-			case T__20:
-			case T__21:
-			case T__22:
-			case T__23:
-			case T__24:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__29:
-			case T__30:
-			case T__31:
-			case T__32:
-			case T__33:
-			case T__34:
-			case T__38:
-			case T__41:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionUnaryContext extends ParserRuleContext {
-		public Token notOp;
-		public Token negOp;
-		public ExpressionUnaryContext u;
-		public ExpressionMethodsContext m;
-		public ExpressionUnaryContext expressionUnary() {
-			return getRuleContext(ExpressionUnaryContext.class,0);
-		}
-		public ExpressionMethodsContext expressionMethods() {
-			return getRuleContext(ExpressionMethodsContext.class,0);
+	public static class ExpressionCmpContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token ltOp;
+		public Token gtOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionUnaryContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionUnary; }
+		public ExpressionCmpContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionUnary(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionCmp(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionUnary(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionCmp(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionUnary(this);
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionCmp(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionUnaryContext expressionUnary() throws RecognitionException {
-		ExpressionUnaryContext _localctx = new ExpressionUnaryContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_expressionUnary);
-		try {
-			setState(392);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__34:
-			case T__38:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(388);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__38:
-					{
-					setState(386);
-					((ExpressionUnaryContext)_localctx).notOp = match(T__38);
-					}
-					break;
-				case T__34:
-					{
-					setState(387);
-					((ExpressionUnaryContext)_localctx).negOp = match(T__34);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(390);
-				((ExpressionUnaryContext)_localctx).u = expressionUnary();
-				}
-				break;
-			case T__11:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(391);
-				((ExpressionUnaryContext)_localctx).m = expressionMethods();
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionOrContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token orOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		finally {
-			exitRule();
+		public ExpressionOrContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionOr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionOr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionOr(this);
+			else return visitor.visitChildren(this);
 		}
-		return _localctx;
 	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMethodsContext extends ParserRuleContext {
+	public static class ExpressionPrimaryContext extends ExpressionContext {
 		public ExpressionOtherContext o;
-		public ExpressionMethodsTempContext mt;
 		public ExpressionOtherContext expressionOther() {
 			return getRuleContext(ExpressionOtherContext.class,0);
 		}
-		public ExpressionMethodsTempContext expressionMethodsTemp() {
-			return getRuleContext(ExpressionMethodsTempContext.class,0);
-		}
-		public ExpressionMethodsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMethods; }
+		public ExpressionPrimaryContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMethods(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionPrimary(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMethods(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionPrimary(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMethods(this);
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionPrimary(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionMethodsContext expressionMethods() throws RecognitionException {
-		ExpressionMethodsContext _localctx = new ExpressionMethodsContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_expressionMethods);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(394);
-			((ExpressionMethodsContext)_localctx).o = expressionOther();
-			setState(395);
-			((ExpressionMethodsContext)_localctx).mt = expressionMethodsTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMethodsTempContext extends ParserRuleContext {
+	public static class ExpressionMethodCallContext extends ExpressionContext {
+		public ExpressionContext e;
 		public Token dotOp;
 		public Token i;
 		public ExpressionContext e1;
 		public ExpressionContext e2;
-		public Token ii;
-		public Token leftBrace;
-		public ExpressionContext e3;
-		public ExpressionMethodsTempContext mt;
-		public ExpressionMethodsTempContext expressionMethodsTemp() {
-			return getRuleContext(ExpressionMethodsTempContext.class,0);
-		}
-		public TerminalNode ID() { return getToken(japyParser.ID, 0); }
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
 		public ExpressionContext expression(int i) {
 			return getRuleContext(ExpressionContext.class,i);
 		}
-		public ExpressionMethodsTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMethodsTemp; }
+		public TerminalNode ID() { return getToken(japyParser.ID, 0); }
+		public ExpressionMethodCallContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMethodsTemp(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).enterExpressionMethodCall(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMethodsTemp(this);
+			if ( listener instanceof japyListener ) ((japyListener)listener).exitExpressionMethodCall(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMethodsTemp(this);
+			if ( visitor instanceof japyVisitor ) return ((japyVisitor<? extends T>)visitor).visitExpressionMethodCall(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final ExpressionMethodsTempContext expressionMethodsTemp() throws RecognitionException {
-		ExpressionMethodsTempContext _localctx = new ExpressionMethodsTempContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_expressionMethodsTemp);
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 44;
+		enterRecursionRule(_localctx, 44, RULE_expression, _p);
 		int _la;
 		try {
-			setState(421);
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(288);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__39:
-			case T__40:
-				enterOuterAlt(_localctx, 1);
+			case T__11:
+			case T__42:
+			case T__43:
+			case T__44:
+			case T__45:
+			case CONST_NUM:
+			case CONST_STR:
+			case ID:
 				{
-				setState(417);
+				_localctx = new ExpressionPrimaryContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(282);
+				((ExpressionPrimaryContext)_localctx).o = expressionOther();
+				}
+				break;
+			case T__30:
+			case T__31:
+				{
+				_localctx = new ExpressionUnaryContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(285);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
-				case 1:
+				switch (_input.LA(1)) {
+				case T__30:
 					{
-					setState(397);
-					((ExpressionMethodsTempContext)_localctx).dotOp = match(T__39);
-					setState(398);
-					((ExpressionMethodsTempContext)_localctx).i = match(ID);
-					setState(399);
-					match(T__11);
-					setState(408);
+					setState(283);
+					((ExpressionUnaryContext)_localctx).notOp = match(T__30);
+					}
+					break;
+				case T__31:
+					{
+					setState(284);
+					((ExpressionUnaryContext)_localctx).negOp = match(T__31);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(287);
+				((ExpressionUnaryContext)_localctx).u = expression(7);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(346);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(344);
 					_errHandler.sync(this);
-					_la = _input.LA(1);
-					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424486158336L) != 0)) {
+					switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+					case 1:
 						{
-						setState(400);
-						((ExpressionMethodsTempContext)_localctx).e1 = expression();
-						setState(405);
+						_localctx = new ExpressionMultModContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionMultModContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(290);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(294);
 						_errHandler.sync(this);
-						_la = _input.LA(1);
-						while (_la==T__6) {
+						switch (_input.LA(1)) {
+						case T__32:
+							{
+							setState(291);
+							((ExpressionMultModContext)_localctx).mulOp = match(T__32);
+							}
+							break;
+						case T__33:
+							{
+							setState(292);
+							((ExpressionMultModContext)_localctx).divOp = match(T__33);
+							}
+							break;
+						case T__34:
+							{
+							setState(293);
+							((ExpressionMultModContext)_localctx).modOp = match(T__34);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(296);
+						((ExpressionMultModContext)_localctx).r = expression(7);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionAddContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionAddContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(297);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(300);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__35:
+							{
+							setState(298);
+							((ExpressionAddContext)_localctx).addOp = match(T__35);
+							}
+							break;
+						case T__31:
+							{
+							setState(299);
+							((ExpressionAddContext)_localctx).subOp = match(T__31);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(302);
+						((ExpressionAddContext)_localctx).r = expression(6);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionCmpContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionCmpContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(303);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(306);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__36:
+							{
+							setState(304);
+							((ExpressionCmpContext)_localctx).ltOp = match(T__36);
+							}
+							break;
+						case T__37:
 							{
+							setState(305);
+							((ExpressionCmpContext)_localctx).gtOp = match(T__37);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(308);
+						((ExpressionCmpContext)_localctx).r = expression(5);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionEqContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionEqContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(309);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(312);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__38:
 							{
-							setState(401);
-							match(T__6);
-							setState(402);
-							((ExpressionMethodsTempContext)_localctx).e2 = expression();
+							setState(310);
+							((ExpressionEqContext)_localctx).eqOp = match(T__38);
 							}
+							break;
+						case T__39:
+							{
+							setState(311);
+							((ExpressionEqContext)_localctx).neqOp = match(T__39);
 							}
-							setState(407);
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(314);
+						((ExpressionEqContext)_localctx).r = expression(4);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionAndContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionAndContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(315);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(316);
+						((ExpressionAndContext)_localctx).andOp = match(T__40);
+						setState(317);
+						((ExpressionAndContext)_localctx).r = expression(3);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExpressionOrContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionOrContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(318);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(319);
+						((ExpressionOrContext)_localctx).orOp = match(T__41);
+						setState(320);
+						((ExpressionOrContext)_localctx).r = expression(2);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExpressionMethodCallContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionMethodCallContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(321);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(322);
+						((ExpressionMethodCallContext)_localctx).dotOp = match(T__27);
+						setState(323);
+						((ExpressionMethodCallContext)_localctx).i = match(ID);
+						setState(324);
+						match(T__11);
+						setState(333);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846813057024L) != 0)) {
+							{
+							setState(325);
+							((ExpressionMethodCallContext)_localctx).e1 = expression(0);
+							setState(330);
 							_errHandler.sync(this);
 							_la = _input.LA(1);
+							while (_la==T__6) {
+								{
+								{
+								setState(326);
+								match(T__6);
+								setState(327);
+								((ExpressionMethodCallContext)_localctx).e2 = expression(0);
+								}
+								}
+								setState(332);
+								_errHandler.sync(this);
+								_la = _input.LA(1);
+							}
+							}
 						}
-						}
-					}
 
-					setState(410);
-					match(T__13);
-					}
-					break;
-				case 2:
-					{
-					setState(411);
-					((ExpressionMethodsTempContext)_localctx).dotOp = match(T__39);
-					setState(412);
-					((ExpressionMethodsTempContext)_localctx).ii = match(ID);
-					}
-					break;
-				case 3:
-					{
-					setState(413);
-					((ExpressionMethodsTempContext)_localctx).leftBrace = match(T__40);
-					setState(414);
-					((ExpressionMethodsTempContext)_localctx).e3 = expression();
-					setState(415);
-					match(T__41);
+						setState(335);
+						match(T__13);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExpressionFieldAccessContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionFieldAccessContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(336);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(337);
+						((ExpressionFieldAccessContext)_localctx).dotOp = match(T__27);
+						setState(338);
+						((ExpressionFieldAccessContext)_localctx).ii = match(ID);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ExpressionIndexContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionIndexContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(339);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(340);
+						((ExpressionIndexContext)_localctx).leftBrace = match(T__28);
+						setState(341);
+						((ExpressionIndexContext)_localctx).e3 = expression(0);
+						setState(342);
+						match(T__29);
+						}
+						break;
 					}
-					break;
-				}
-				setState(419);
-				((ExpressionMethodsTempContext)_localctx).mt = expressionMethodsTemp();
-				}
-				break;
-			case T__2:
-			case T__3:
-			case T__6:
-			case T__11:
-			case T__13:
-			case T__15:
-			case T__16:
-			case T__17:
-			case T__18:
-			case T__19:
-			case T__20:
-			case T__21:
-			case T__22:
-			case T__23:
-			case T__24:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__29:
-			case T__30:
-			case T__31:
-			case T__32:
-			case T__33:
-			case T__34:
-			case T__35:
-			case T__36:
-			case T__37:
-			case T__38:
-			case T__41:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
+					} 
 				}
-				break;
-			default:
-				throw new NoViableAltException(this);
+				setState(348);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -3127,7 +2430,7 @@ public class japyParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			exitRule();
+			unrollRecursionContexts(_parentctx);
 		}
 		return _localctx;
 	}
@@ -3185,140 +2488,140 @@ public class japyParser extends Parser {
 
 	public final ExpressionOtherContext expressionOther() throws RecognitionException {
 		ExpressionOtherContext _localctx = new ExpressionOtherContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_expressionOther);
+		enterRule(_localctx, 46, RULE_expressionOther);
 		int _la;
 		try {
-			setState(461);
+			setState(387);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(423);
+				setState(349);
 				((ExpressionOtherContext)_localctx).n = match(CONST_NUM);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(424);
+				setState(350);
 				((ExpressionOtherContext)_localctx).s = match(CONST_STR);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(425);
+				setState(351);
 				((ExpressionOtherContext)_localctx).newModifier = match(T__42);
-				setState(426);
+				setState(352);
 				((ExpressionOtherContext)_localctx).st = singleType();
-				setState(427);
-				((ExpressionOtherContext)_localctx).leftBrace = match(T__40);
-				setState(428);
-				((ExpressionOtherContext)_localctx).size = expression();
-				setState(429);
-				match(T__41);
+				setState(353);
+				((ExpressionOtherContext)_localctx).leftBrace = match(T__28);
+				setState(354);
+				((ExpressionOtherContext)_localctx).size = expression(0);
+				setState(355);
+				match(T__29);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(431);
+				setState(357);
 				((ExpressionOtherContext)_localctx).newModifier = match(T__42);
-				setState(432);
+				setState(358);
 				((ExpressionOtherContext)_localctx).i = match(ID);
-				setState(433);
+				setState(359);
 				match(T__11);
-				setState(434);
+				setState(360);
 				match(T__13);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(435);
+				setState(361);
 				((ExpressionOtherContext)_localctx).selfModifier = match(T__43);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(436);
+				setState(362);
 				((ExpressionOtherContext)_localctx).trueModifier = match(T__44);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(437);
+				setState(363);
 				((ExpressionOtherContext)_localctx).falseModifier = match(T__45);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(438);
+				setState(364);
 				((ExpressionOtherContext)_localctx).i1 = match(ID);
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(439);
+				setState(365);
 				((ExpressionOtherContext)_localctx).i2 = match(ID);
-				setState(440);
-				((ExpressionOtherContext)_localctx).leftBrace = match(T__40);
-				setState(441);
-				((ExpressionOtherContext)_localctx).e = expression();
-				setState(442);
-				match(T__41);
+				setState(366);
+				((ExpressionOtherContext)_localctx).leftBrace = match(T__28);
+				setState(367);
+				((ExpressionOtherContext)_localctx).e = expression(0);
+				setState(368);
+				match(T__29);
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(444);
+				setState(370);
 				((ExpressionOtherContext)_localctx).leftPara = match(T__11);
-				setState(445);
-				((ExpressionOtherContext)_localctx).ee = expression();
-				setState(446);
+				setState(371);
+				((ExpressionOtherContext)_localctx).ee = expression(0);
+				setState(372);
 				match(T__13);
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(448);
+				setState(374);
 				((ExpressionOtherContext)_localctx).i3 = match(ID);
-				setState(449);
+				setState(375);
 				match(T__11);
-				setState(458);
+				setState(384);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424486158336L) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846813057024L) != 0)) {
 					{
-					setState(450);
-					((ExpressionOtherContext)_localctx).e3 = expression();
-					setState(455);
+					setState(376);
+					((ExpressionOtherContext)_localctx).e3 = expression(0);
+					setState(381);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__6) {
 						{
 						{
-						setState(451);
+						setState(377);
 						match(T__6);
-						setState(452);
-						((ExpressionOtherContext)_localctx).e4 = expression();
+						setState(378);
+						((ExpressionOtherContext)_localctx).e4 = expression(0);
 						}
 						}
-						setState(457);
+						setState(383);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(460);
+				setState(386);
 				match(T__13);
 				}
 				break;
@@ -3362,22 +2665,22 @@ public class japyParser extends Parser {
 
 	public final JapyTypeContext japyType() throws RecognitionException {
 		JapyTypeContext _localctx = new JapyTypeContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_japyType);
+		enterRule(_localctx, 48, RULE_japyType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(463);
+			setState(389);
 			((JapyTypeContext)_localctx).st = singleType();
-			setState(466);
+			setState(392);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__40) {
+			if (_la==T__28) {
 				{
-				setState(464);
-				match(T__40);
-				setState(465);
-				match(T__41);
+				setState(390);
+				match(T__28);
+				setState(391);
+				match(T__29);
 				}
 			}
 
@@ -3419,34 +2722,34 @@ public class japyParser extends Parser {
 
 	public final SingleTypeContext singleType() throws RecognitionException {
 		SingleTypeContext _localctx = new SingleTypeContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_singleType);
+		enterRule(_localctx, 50, RULE_singleType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(472);
+			setState(398);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__46:
 				{
-				setState(468);
+				setState(394);
 				match(T__46);
 				}
 				break;
 			case T__47:
 				{
-				setState(469);
+				setState(395);
 				match(T__47);
 				}
 				break;
 			case T__48:
 				{
-				setState(470);
+				setState(396);
 				match(T__48);
 				}
 				break;
 			case ID:
 				{
-				setState(471);
+				setState(397);
 				((SingleTypeContext)_localctx).i = match(ID);
 				}
 				break;
@@ -3466,8 +2769,39 @@ public class japyParser extends Parser {
 		return _localctx;
 	}
 
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 22:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 6);
+		case 1:
+			return precpred(_ctx, 5);
+		case 2:
+			return precpred(_ctx, 4);
+		case 3:
+			return precpred(_ctx, 3);
+		case 4:
+			return precpred(_ctx, 2);
+		case 5:
+			return precpred(_ctx, 1);
+		case 6:
+			return precpred(_ctx, 10);
+		case 7:
+			return precpred(_ctx, 9);
+		case 8:
+			return precpred(_ctx, 8);
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\u0004\u00018\u01db\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u00018\u0191\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3475,296 +2809,261 @@ public class japyParser extends Parser {
 		"\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002\u0012\u0007\u0012"+
 		"\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002\u0015\u0007\u0015"+
 		"\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002\u0018\u0007\u0018"+
-		"\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002\u001b\u0007\u001b"+
-		"\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e"+
-		"\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
-		"#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002"+
-		"(\u0007(\u0001\u0000\u0005\u0000T\b\u0000\n\u0000\f\u0000W\t\u0000\u0001"+
-		"\u0000\u0001\u0000\u0005\u0000[\b\u0000\n\u0000\f\u0000^\t\u0000\u0001"+
-		"\u0000\u0001\u0000\u0001\u0001\u0003\u0001c\b\u0001\u0001\u0001\u0001"+
-		"\u0001\u0001\u0001\u0001\u0001\u0003\u0001i\b\u0001\u0001\u0001\u0001"+
-		"\u0001\u0001\u0001\u0005\u0001n\b\u0001\n\u0001\f\u0001q\t\u0001\u0001"+
-		"\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0003"+
-		"\u0003y\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
-		"\u0003\u0005\u0003\u0080\b\u0003\n\u0003\f\u0003\u0083\t\u0003\u0001\u0004"+
-		"\u0001\u0004\u0001\u0005\u0003\u0005\u0088\b\u0005\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0005\u0005\u0094\b\u0005\n\u0005\f\u0005\u0097"+
-		"\t\u0005\u0003\u0005\u0099\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0005\u0005\u00a0\b\u0005\n\u0005\f\u0005\u00a3"+
-		"\t\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-		"\u0006\u0001\u0006\u0003\u0006\u00b2\b\u0006\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\u0007\u0005\u0007\u00bf\b\u0007\n\u0007\f\u0007"+
-		"\u00c2\t\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001"+
+		"\u0002\u0019\u0007\u0019\u0001\u0000\u0005\u00006\b\u0000\n\u0000\f\u0000"+
+		"9\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000=\b\u0000\n\u0000\f\u0000"+
+		"@\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0003\u0001E\b\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001K\b\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0005\u0001P\b\u0001\n\u0001\f\u0001S\t"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0003\u0003\u0003[\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0005\u0003b\b\u0003\n\u0003\f\u0003e\t\u0003\u0001"+
+		"\u0004\u0001\u0004\u0001\u0005\u0003\u0005j\b\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0005\u0005v\b\u0005\n\u0005\f\u0005y\t"+
+		"\u0005\u0003\u0005{\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0005\u0005\u0082\b\u0005\n\u0005\f\u0005\u0085\t\u0005"+
+		"\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0001\u0006\u0003\u0006\u0094\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0005\u0007\u00a1\b\u0007\n\u0007\f\u0007\u00a4"+
+		"\t\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001"+
 		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00d8\b\b\n\b\f\b\u00db"+
-		"\t\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00ba\b\b\n\b\f\b\u00bd\t\b"+
+		"\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
 		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005"+
-		"\b\u00ee\b\b\n\b\f\b\u00f1\t\b\u0001\b\u0001\b\u0001\b\u0003\b\u00f6\b"+
-		"\b\u0001\t\u0001\t\u0003\t\u00fa\b\t\u0001\n\u0001\n\u0003\n\u00fe\b\n"+
+		"\b\u00d0\b\b\n\b\f\b\u00d3\t\b\u0001\b\u0001\b\u0001\b\u0003\b\u00d8\b"+
+		"\b\u0001\t\u0001\t\u0003\t\u00dc\b\t\u0001\n\u0001\n\u0003\n\u00e0\b\n"+
 		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
-		"\u0001\u000b\u0001\u000b\u0005\u000b\u0108\b\u000b\n\u000b\f\u000b\u010b"+
-		"\t\u000b\u0001\f\u0001\f\u0005\f\u010f\b\f\n\f\f\f\u0112\t\f\u0001\f\u0001"+
+		"\u0001\u000b\u0001\u000b\u0005\u000b\u00ea\b\u000b\n\u000b\f\u000b\u00ed"+
+		"\t\u000b\u0001\f\u0001\f\u0005\f\u00f1\b\f\n\f\f\f\u00f4\t\f\u0001\f\u0001"+
 		"\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001"+
 		"\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
 		"\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
 		"\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
 		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001"+
 		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001"+
-		"\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0003\u0018\u0142\b\u0018\u0001\u0019\u0001\u0019\u0001"+
-		"\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0003"+
-		"\u001a\u014c\b\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0001"+
-		"\u001c\u0003\u001c\u0153\b\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001"+
-		"\u001c\u0003\u001c\u0159\b\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
-		"\u001e\u0001\u001e\u0003\u001e\u0160\b\u001e\u0001\u001e\u0001\u001e\u0001"+
-		"\u001e\u0001\u001e\u0003\u001e\u0166\b\u001e\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001 \u0001 \u0003 \u016d\b \u0001 \u0001 \u0001 \u0001 \u0003"+
-		" \u0173\b \u0001!\u0001!\u0001!\u0001\"\u0001\"\u0001\"\u0003\"\u017b"+
-		"\b\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u0181\b\"\u0001#\u0001#\u0003"+
-		"#\u0185\b#\u0001#\u0001#\u0003#\u0189\b#\u0001$\u0001$\u0001$\u0001%\u0001"+
-		"%\u0001%\u0001%\u0001%\u0001%\u0005%\u0194\b%\n%\f%\u0197\t%\u0003%\u0199"+
-		"\b%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0003%\u01a2\b%\u0001"+
-		"%\u0001%\u0003%\u01a6\b%\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
-		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
-		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
-		"&\u0001&\u0001&\u0001&\u0005&\u01c6\b&\n&\f&\u01c9\t&\u0003&\u01cb\b&"+
-		"\u0001&\u0003&\u01ce\b&\u0001\'\u0001\'\u0001\'\u0003\'\u01d3\b\'\u0001"+
-		"(\u0001(\u0001(\u0001(\u0003(\u01d9\b(\u0001(\u0000\u0000)\u0000\u0002"+
+		"\u0016\u0001\u0016\u0003\u0016\u011e\b\u0016\u0001\u0016\u0003\u0016\u0121"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0127"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u012d"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0133"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0139"+
+		"\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0005\u0016\u0149\b\u0016\n\u0016\f\u0016"+
+		"\u014c\t\u0016\u0003\u0016\u014e\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0005\u0016\u0159\b\u0016\n\u0016\f\u0016\u015c\t\u0016\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0005\u0017"+
+		"\u017c\b\u0017\n\u0017\f\u0017\u017f\t\u0017\u0003\u0017\u0181\b\u0017"+
+		"\u0001\u0017\u0003\u0017\u0184\b\u0017\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0003\u0018\u0189\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019"+
+		"\u0003\u0019\u018f\b\u0019\u0001\u0019\u0000\u0001,\u001a\u0000\u0002"+
 		"\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e"+
-		" \"$&(*,.02468:<>@BDFHJLNP\u0000\u0001\u0001\u0000\b\n\u01f2\u0000U\u0001"+
-		"\u0000\u0000\u0000\u0002b\u0001\u0000\u0000\u0000\u0004t\u0001\u0000\u0000"+
-		"\u0000\u0006x\u0001\u0000\u0000\u0000\b\u0084\u0001\u0000\u0000\u0000"+
-		"\n\u0087\u0001\u0000\u0000\u0000\f\u00b1\u0001\u0000\u0000\u0000\u000e"+
-		"\u00b3\u0001\u0000\u0000\u0000\u0010\u00f5\u0001\u0000\u0000\u0000\u0012"+
-		"\u00f9\u0001\u0000\u0000\u0000\u0014\u00fd\u0001\u0000\u0000\u0000\u0016"+
-		"\u00ff\u0001\u0000\u0000\u0000\u0018\u010c\u0001\u0000\u0000\u0000\u001a"+
-		"\u0115\u0001\u0000\u0000\u0000\u001c\u0117\u0001\u0000\u0000\u0000\u001e"+
-		"\u0119\u0001\u0000\u0000\u0000 \u011c\u0001\u0000\u0000\u0000\"\u0122"+
-		"\u0001\u0000\u0000\u0000$\u0128\u0001\u0000\u0000\u0000&\u012d\u0001\u0000"+
-		"\u0000\u0000(\u0131\u0001\u0000\u0000\u0000*\u0134\u0001\u0000\u0000\u0000"+
-		",\u0137\u0001\u0000\u0000\u0000.\u0139\u0001\u0000\u0000\u00000\u0141"+
-		"\u0001\u0000\u0000\u00002\u0143\u0001\u0000\u0000\u00004\u014b\u0001\u0000"+
-		"\u0000\u00006\u014d\u0001\u0000\u0000\u00008\u0158\u0001\u0000\u0000\u0000"+
-		":\u015a\u0001\u0000\u0000\u0000<\u0165\u0001\u0000\u0000\u0000>\u0167"+
-		"\u0001\u0000\u0000\u0000@\u0172\u0001\u0000\u0000\u0000B\u0174\u0001\u0000"+
-		"\u0000\u0000D\u0180\u0001\u0000\u0000\u0000F\u0188\u0001\u0000\u0000\u0000"+
-		"H\u018a\u0001\u0000\u0000\u0000J\u01a5\u0001\u0000\u0000\u0000L\u01cd"+
-		"\u0001\u0000\u0000\u0000N\u01cf\u0001\u0000\u0000\u0000P\u01d8\u0001\u0000"+
-		"\u0000\u0000RT\u0003\u0002\u0001\u0000SR\u0001\u0000\u0000\u0000TW\u0001"+
-		"\u0000\u0000\u0000US\u0001\u0000\u0000\u0000UV\u0001\u0000\u0000\u0000"+
-		"VX\u0001\u0000\u0000\u0000WU\u0001\u0000\u0000\u0000X\\\u0003\u0004\u0002"+
-		"\u0000Y[\u0003\u0002\u0001\u0000ZY\u0001\u0000\u0000\u0000[^\u0001\u0000"+
-		"\u0000\u0000\\Z\u0001\u0000\u0000\u0000\\]\u0001\u0000\u0000\u0000]_\u0001"+
-		"\u0000\u0000\u0000^\\\u0001\u0000\u0000\u0000_`\u0005\u0000\u0000\u0001"+
-		"`\u0001\u0001\u0000\u0000\u0000ac\u0003\b\u0004\u0000ba\u0001\u0000\u0000"+
-		"\u0000bc\u0001\u0000\u0000\u0000cd\u0001\u0000\u0000\u0000de\u0005\u0001"+
-		"\u0000\u0000eh\u00055\u0000\u0000fg\u0005\u0002\u0000\u0000gi\u00055\u0000"+
-		"\u0000hf\u0001\u0000\u0000\u0000hi\u0001\u0000\u0000\u0000ij\u0001\u0000"+
-		"\u0000\u0000jo\u0005\u0003\u0000\u0000kn\u0003\u0006\u0003\u0000ln\u0003"+
-		"\n\u0005\u0000mk\u0001\u0000\u0000\u0000ml\u0001\u0000\u0000\u0000nq\u0001"+
-		"\u0000\u0000\u0000om\u0001\u0000\u0000\u0000op\u0001\u0000\u0000\u0000"+
-		"pr\u0001\u0000\u0000\u0000qo\u0001\u0000\u0000\u0000rs\u0005\u0004\u0000"+
-		"\u0000s\u0003\u0001\u0000\u0000\u0000tu\u0005\u0005\u0000\u0000uv\u0003"+
-		"\u0002\u0001\u0000v\u0005\u0001\u0000\u0000\u0000wy\u0003\b\u0004\u0000"+
-		"xw\u0001\u0000\u0000\u0000xy\u0001\u0000\u0000\u0000yz\u0001\u0000\u0000"+
-		"\u0000z{\u0005\u0006\u0000\u0000{|\u0003N\'\u0000|\u0081\u00055\u0000"+
-		"\u0000}~\u0005\u0007\u0000\u0000~\u0080\u00055\u0000\u0000\u007f}\u0001"+
-		"\u0000\u0000\u0000\u0080\u0083\u0001\u0000\u0000\u0000\u0081\u007f\u0001"+
-		"\u0000\u0000\u0000\u0081\u0082\u0001\u0000\u0000\u0000\u0082\u0007\u0001"+
-		"\u0000\u0000\u0000\u0083\u0081\u0001\u0000\u0000\u0000\u0084\u0085\u0007"+
-		"\u0000\u0000\u0000\u0085\t\u0001\u0000\u0000\u0000\u0086\u0088\u0003\b"+
-		"\u0004\u0000\u0087\u0086\u0001\u0000\u0000\u0000\u0087\u0088\u0001\u0000"+
-		"\u0000\u0000\u0088\u0089\u0001\u0000\u0000\u0000\u0089\u008a\u0005\u000b"+
-		"\u0000\u0000\u008a\u008b\u00055\u0000\u0000\u008b\u0098\u0005\f\u0000"+
-		"\u0000\u008c\u008d\u00055\u0000\u0000\u008d\u008e\u0005\r\u0000\u0000"+
-		"\u008e\u0095\u0003N\'\u0000\u008f\u0090\u0005\u0007\u0000\u0000\u0090"+
-		"\u0091\u00055\u0000\u0000\u0091\u0092\u0005\r\u0000\u0000\u0092\u0094"+
-		"\u0003N\'\u0000\u0093\u008f\u0001\u0000\u0000\u0000\u0094\u0097\u0001"+
-		"\u0000\u0000\u0000\u0095\u0093\u0001\u0000\u0000\u0000\u0095\u0096\u0001"+
-		"\u0000\u0000\u0000\u0096\u0099\u0001\u0000\u0000\u0000\u0097\u0095\u0001"+
-		"\u0000\u0000\u0000\u0098\u008c\u0001\u0000\u0000\u0000\u0098\u0099\u0001"+
-		"\u0000\u0000\u0000\u0099\u009a\u0001\u0000\u0000\u0000\u009a\u009b\u0005"+
-		"\u000e\u0000\u0000\u009b\u009c\u0005\u000f\u0000\u0000\u009c\u009d\u0003"+
-		"N\'\u0000\u009d\u00a1\u0005\u0003\u0000\u0000\u009e\u00a0\u0003\u0014"+
-		"\n\u0000\u009f\u009e\u0001\u0000\u0000\u0000\u00a0\u00a3\u0001\u0000\u0000"+
-		"\u0000\u00a1\u009f\u0001\u0000\u0000\u0000\u00a1\u00a2\u0001\u0000\u0000"+
-		"\u0000\u00a2\u00a4\u0001\u0000\u0000\u0000\u00a3\u00a1\u0001\u0000\u0000"+
-		"\u0000\u00a4\u00a5\u0005\u0004\u0000\u0000\u00a5\u000b\u0001\u0000\u0000"+
-		"\u0000\u00a6\u00b2\u0003\u0018\f\u0000\u00a7\u00b2\u0003\u000e\u0007\u0000"+
-		"\u00a8\u00b2\u0003 \u0010\u0000\u00a9\u00b2\u0003$\u0012\u0000\u00aa\u00b2"+
-		"\u0003&\u0013\u0000\u00ab\u00b2\u0003\u001e\u000f\u0000\u00ac\u00b2\u0003"+
-		"\u0016\u000b\u0000\u00ad\u00b2\u0003\u001a\r\u0000\u00ae\u00b2\u0003\u001c"+
-		"\u000e\u0000\u00af\u00b2\u0003(\u0014\u0000\u00b0\u00b2\u0003*\u0015\u0000"+
-		"\u00b1\u00a6\u0001\u0000\u0000\u0000\u00b1\u00a7\u0001\u0000\u0000\u0000"+
-		"\u00b1\u00a8\u0001\u0000\u0000\u0000\u00b1\u00a9\u0001\u0000\u0000\u0000"+
-		"\u00b1\u00aa\u0001\u0000\u0000\u0000\u00b1\u00ab\u0001\u0000\u0000\u0000"+
-		"\u00b1\u00ac\u0001\u0000\u0000\u0000\u00b1\u00ad\u0001\u0000\u0000\u0000"+
-		"\u00b1\u00ae\u0001\u0000\u0000\u0000\u00b1\u00af\u0001\u0000\u0000\u0000"+
-		"\u00b1\u00b0\u0001\u0000\u0000\u0000\u00b2\r\u0001\u0000\u0000\u0000\u00b3"+
-		"\u00b4\u0005\u0010\u0000\u0000\u00b4\u00b5\u0005\f\u0000\u0000\u00b5\u00b6"+
-		"\u0003,\u0016\u0000\u00b6\u00b7\u0005\u000e\u0000\u0000\u00b7\u00c0\u0003"+
-		"\f\u0006\u0000\u00b8\u00b9\u0005\u0011\u0000\u0000\u00b9\u00ba\u0005\f"+
-		"\u0000\u0000\u00ba\u00bb\u0003,\u0016\u0000\u00bb\u00bc\u0005\u000e\u0000"+
-		"\u0000\u00bc\u00bd\u0003\f\u0006\u0000\u00bd\u00bf\u0001\u0000\u0000\u0000"+
-		"\u00be\u00b8\u0001\u0000\u0000\u0000\u00bf\u00c2\u0001\u0000\u0000\u0000"+
-		"\u00c0\u00be\u0001\u0000\u0000\u0000\u00c0\u00c1\u0001\u0000\u0000\u0000"+
-		"\u00c1\u00c3\u0001\u0000\u0000\u0000\u00c2\u00c0\u0001\u0000\u0000\u0000"+
-		"\u00c3\u00c4\u0005\u0012\u0000\u0000\u00c4\u00c5\u0003\f\u0006\u0000\u00c5"+
-		"\u000f\u0001\u0000\u0000\u0000\u00c6\u00c7\u0005\u0010\u0000\u0000\u00c7"+
-		"\u00c8\u0005\f\u0000\u0000\u00c8\u00c9\u0003,\u0016\u0000\u00c9\u00ca"+
-		"\u0005\u000e\u0000\u0000\u00ca\u00cb\u0003\u0014\n\u0000\u00cb\u00f6\u0001"+
-		"\u0000\u0000\u0000\u00cc\u00cd\u0005\u0010\u0000\u0000\u00cd\u00ce\u0005"+
-		"\f\u0000\u0000\u00ce\u00cf\u0003,\u0016\u0000\u00cf\u00d0\u0005\u000e"+
-		"\u0000\u0000\u00d0\u00d9\u0003\f\u0006\u0000\u00d1\u00d2\u0005\u0011\u0000"+
-		"\u0000\u00d2\u00d3\u0005\f\u0000\u0000\u00d3\u00d4\u0003,\u0016\u0000"+
-		"\u00d4\u00d5\u0005\u000e\u0000\u0000\u00d5\u00d6\u0003\f\u0006\u0000\u00d6"+
-		"\u00d8\u0001\u0000\u0000\u0000\u00d7\u00d1\u0001\u0000\u0000\u0000\u00d8"+
-		"\u00db\u0001\u0000\u0000\u0000\u00d9\u00d7\u0001\u0000\u0000\u0000\u00d9"+
-		"\u00da\u0001\u0000\u0000\u0000\u00da\u00dc\u0001\u0000\u0000\u0000\u00db"+
-		"\u00d9\u0001\u0000\u0000\u0000\u00dc\u00dd\u0005\u0011\u0000\u0000\u00dd"+
-		"\u00de\u0005\f\u0000\u0000\u00de\u00df\u0003,\u0016\u0000\u00df\u00e0"+
-		"\u0005\u000e\u0000\u0000\u00e0\u00e1\u0003\u0014\n\u0000\u00e1\u00f6\u0001"+
-		"\u0000\u0000\u0000\u00e2\u00e3\u0005\u0010\u0000\u0000\u00e3\u00e4\u0005"+
-		"\f\u0000\u0000\u00e4\u00e5\u0003,\u0016\u0000\u00e5\u00e6\u0005\u000e"+
-		"\u0000\u0000\u00e6\u00ef\u0003\f\u0006\u0000\u00e7\u00e8\u0005\u0011\u0000"+
-		"\u0000\u00e8\u00e9\u0005\f\u0000\u0000\u00e9\u00ea\u0003,\u0016\u0000"+
-		"\u00ea\u00eb\u0005\u000e\u0000\u0000\u00eb\u00ec\u0003\f\u0006\u0000\u00ec"+
-		"\u00ee\u0001\u0000\u0000\u0000\u00ed\u00e7\u0001\u0000\u0000\u0000\u00ee"+
-		"\u00f1\u0001\u0000\u0000\u0000\u00ef\u00ed\u0001\u0000\u0000\u0000\u00ef"+
-		"\u00f0\u0001\u0000\u0000\u0000\u00f0\u00f2\u0001\u0000\u0000\u0000\u00f1"+
-		"\u00ef\u0001\u0000\u0000\u0000\u00f2\u00f3\u0005\u0012\u0000\u0000\u00f3"+
-		"\u00f4\u0003\u0012\t\u0000\u00f4\u00f6\u0001\u0000\u0000\u0000\u00f5\u00c6"+
-		"\u0001\u0000\u0000\u0000\u00f5\u00cc\u0001\u0000\u0000\u0000\u00f5\u00e2"+
-		"\u0001\u0000\u0000\u0000\u00f6\u0011\u0001\u0000\u0000\u0000\u00f7\u00fa"+
-		"\u0003\"\u0011\u0000\u00f8\u00fa\u0003\u0010\b\u0000\u00f9\u00f7\u0001"+
-		"\u0000\u0000\u0000\u00f9\u00f8\u0001\u0000\u0000\u0000\u00fa\u0013\u0001"+
-		"\u0000\u0000\u0000\u00fb\u00fe\u0003\f\u0006\u0000\u00fc\u00fe\u0003\u0012"+
-		"\t\u0000\u00fd\u00fb\u0001\u0000\u0000\u0000\u00fd\u00fc\u0001\u0000\u0000"+
-		"\u0000\u00fe\u0015\u0001\u0000\u0000\u0000\u00ff\u0100\u0005\u0013\u0000"+
-		"\u0000\u0100\u0101\u00055\u0000\u0000\u0101\u0102\u0005\u0014\u0000\u0000"+
-		"\u0102\u0109\u0003,\u0016\u0000\u0103\u0104\u0005\u0007\u0000\u0000\u0104"+
-		"\u0105\u00055\u0000\u0000\u0105\u0106\u0005\u0014\u0000\u0000\u0106\u0108"+
-		"\u0003,\u0016\u0000\u0107\u0103\u0001\u0000\u0000\u0000\u0108\u010b\u0001"+
-		"\u0000\u0000\u0000\u0109\u0107\u0001\u0000\u0000\u0000\u0109\u010a\u0001"+
-		"\u0000\u0000\u0000\u010a\u0017\u0001\u0000\u0000\u0000\u010b\u0109\u0001"+
-		"\u0000\u0000\u0000\u010c\u0110\u0005\u0003\u0000\u0000\u010d\u010f\u0003"+
-		"\u0014\n\u0000\u010e\u010d\u0001\u0000\u0000\u0000\u010f\u0112\u0001\u0000"+
-		"\u0000\u0000\u0110\u010e\u0001\u0000\u0000\u0000\u0110\u0111\u0001\u0000"+
-		"\u0000\u0000\u0111\u0113\u0001\u0000\u0000\u0000\u0112\u0110\u0001\u0000"+
-		"\u0000\u0000\u0113\u0114\u0005\u0004\u0000\u0000\u0114\u0019\u0001\u0000"+
-		"\u0000\u0000\u0115\u0116\u0005\u0015\u0000\u0000\u0116\u001b\u0001\u0000"+
-		"\u0000\u0000\u0117\u0118\u0005\u0016\u0000\u0000\u0118\u001d\u0001\u0000"+
-		"\u0000\u0000\u0119\u011a\u0005\u0017\u0000\u0000\u011a\u011b\u0003,\u0016"+
-		"\u0000\u011b\u001f\u0001\u0000\u0000\u0000\u011c\u011d\u0005\u0018\u0000"+
-		"\u0000\u011d\u011e\u0005\f\u0000\u0000\u011e\u011f\u0003,\u0016\u0000"+
-		"\u011f\u0120\u0005\u000e\u0000\u0000\u0120\u0121\u0003\f\u0006\u0000\u0121"+
-		"!\u0001\u0000\u0000\u0000\u0122\u0123\u0005\u0018\u0000\u0000\u0123\u0124"+
-		"\u0005\f\u0000\u0000\u0124\u0125\u0003,\u0016\u0000\u0125\u0126\u0005"+
-		"\u000e\u0000\u0000\u0126\u0127\u0003\u0012\t\u0000\u0127#\u0001\u0000"+
-		"\u0000\u0000\u0128\u0129\u0005\u0019\u0000\u0000\u0129\u012a\u0005\f\u0000"+
-		"\u0000\u012a\u012b\u0003,\u0016\u0000\u012b\u012c\u0005\u000e\u0000\u0000"+
-		"\u012c%\u0001\u0000\u0000\u0000\u012d\u012e\u0003,\u0016\u0000\u012e\u012f"+
-		"\u0005\u0014\u0000\u0000\u012f\u0130\u0003,\u0016\u0000\u0130\'\u0001"+
-		"\u0000\u0000\u0000\u0131\u0132\u0003,\u0016\u0000\u0132\u0133\u0005\u001a"+
-		"\u0000\u0000\u0133)\u0001\u0000\u0000\u0000\u0134\u0135\u0003,\u0016\u0000"+
-		"\u0135\u0136\u0005\u001b\u0000\u0000\u0136+\u0001\u0000\u0000\u0000\u0137"+
-		"\u0138\u0003.\u0017\u0000\u0138-\u0001\u0000\u0000\u0000\u0139\u013a\u0003"+
-		"2\u0019\u0000\u013a\u013b\u00030\u0018\u0000\u013b/\u0001\u0000\u0000"+
-		"\u0000\u013c\u013d\u0005\u001c\u0000\u0000\u013d\u013e\u00032\u0019\u0000"+
-		"\u013e\u013f\u00030\u0018\u0000\u013f\u0142\u0001\u0000\u0000\u0000\u0140"+
-		"\u0142\u0001\u0000\u0000\u0000\u0141\u013c\u0001\u0000\u0000\u0000\u0141"+
-		"\u0140\u0001\u0000\u0000\u0000\u01421\u0001\u0000\u0000\u0000\u0143\u0144"+
-		"\u00036\u001b\u0000\u0144\u0145\u00034\u001a\u0000\u01453\u0001\u0000"+
-		"\u0000\u0000\u0146\u0147\u0005\u001d\u0000\u0000\u0147\u0148\u00036\u001b"+
-		"\u0000\u0148\u0149\u00034\u001a\u0000\u0149\u014c\u0001\u0000\u0000\u0000"+
-		"\u014a\u014c\u0001\u0000\u0000\u0000\u014b\u0146\u0001\u0000\u0000\u0000"+
-		"\u014b\u014a\u0001\u0000\u0000\u0000\u014c5\u0001\u0000\u0000\u0000\u014d"+
-		"\u014e\u0003:\u001d\u0000\u014e\u014f\u00038\u001c\u0000\u014f7\u0001"+
-		"\u0000\u0000\u0000\u0150\u0153\u0005\u001e\u0000\u0000\u0151\u0153\u0005"+
-		"\u001f\u0000\u0000\u0152\u0150\u0001\u0000\u0000\u0000\u0152\u0151\u0001"+
-		"\u0000\u0000\u0000\u0153\u0154\u0001\u0000\u0000\u0000\u0154\u0155\u0003"+
-		":\u001d\u0000\u0155\u0156\u00038\u001c\u0000\u0156\u0159\u0001\u0000\u0000"+
-		"\u0000\u0157\u0159\u0001\u0000\u0000\u0000\u0158\u0152\u0001\u0000\u0000"+
-		"\u0000\u0158\u0157\u0001\u0000\u0000\u0000\u01599\u0001\u0000\u0000\u0000"+
-		"\u015a\u015b\u0003>\u001f\u0000\u015b\u015c\u0003<\u001e\u0000\u015c;"+
-		"\u0001\u0000\u0000\u0000\u015d\u0160\u0005 \u0000\u0000\u015e\u0160\u0005"+
-		"!\u0000\u0000\u015f\u015d\u0001\u0000\u0000\u0000\u015f\u015e\u0001\u0000"+
-		"\u0000\u0000\u0160\u0161\u0001\u0000\u0000\u0000\u0161\u0162\u0003>\u001f"+
-		"\u0000\u0162\u0163\u0003<\u001e\u0000\u0163\u0166\u0001\u0000\u0000\u0000"+
-		"\u0164\u0166\u0001\u0000\u0000\u0000\u0165\u015f\u0001\u0000\u0000\u0000"+
-		"\u0165\u0164\u0001\u0000\u0000\u0000\u0166=\u0001\u0000\u0000\u0000\u0167"+
-		"\u0168\u0003B!\u0000\u0168\u0169\u0003@ \u0000\u0169?\u0001\u0000\u0000"+
-		"\u0000\u016a\u016d\u0005\"\u0000\u0000\u016b\u016d\u0005#\u0000\u0000"+
-		"\u016c\u016a\u0001\u0000\u0000\u0000\u016c\u016b\u0001\u0000\u0000\u0000"+
-		"\u016d\u016e\u0001\u0000\u0000\u0000\u016e\u016f\u0003B!\u0000\u016f\u0170"+
-		"\u0003@ \u0000\u0170\u0173\u0001\u0000\u0000\u0000\u0171\u0173\u0001\u0000"+
-		"\u0000\u0000\u0172\u016c\u0001\u0000\u0000\u0000\u0172\u0171\u0001\u0000"+
-		"\u0000\u0000\u0173A\u0001\u0000\u0000\u0000\u0174\u0175\u0003F#\u0000"+
-		"\u0175\u0176\u0003D\"\u0000\u0176C\u0001\u0000\u0000\u0000\u0177\u017b"+
-		"\u0005$\u0000\u0000\u0178\u017b\u0005%\u0000\u0000\u0179\u017b\u0005&"+
-		"\u0000\u0000\u017a\u0177\u0001\u0000\u0000\u0000\u017a\u0178\u0001\u0000"+
-		"\u0000\u0000\u017a\u0179\u0001\u0000\u0000\u0000\u017b\u017c\u0001\u0000"+
-		"\u0000\u0000\u017c\u017d\u0003F#\u0000\u017d\u017e\u0003D\"\u0000\u017e"+
-		"\u0181\u0001\u0000\u0000\u0000\u017f\u0181\u0001\u0000\u0000\u0000\u0180"+
-		"\u017a\u0001\u0000\u0000\u0000\u0180\u017f\u0001\u0000\u0000\u0000\u0181"+
-		"E\u0001\u0000\u0000\u0000\u0182\u0185\u0005\'\u0000\u0000\u0183\u0185"+
-		"\u0005#\u0000\u0000\u0184\u0182\u0001\u0000\u0000\u0000\u0184\u0183\u0001"+
-		"\u0000\u0000\u0000\u0185\u0186\u0001\u0000\u0000\u0000\u0186\u0189\u0003"+
-		"F#\u0000\u0187\u0189\u0003H$\u0000\u0188\u0184\u0001\u0000\u0000\u0000"+
-		"\u0188\u0187\u0001\u0000\u0000\u0000\u0189G\u0001\u0000\u0000\u0000\u018a"+
-		"\u018b\u0003L&\u0000\u018b\u018c\u0003J%\u0000\u018cI\u0001\u0000\u0000"+
-		"\u0000\u018d\u018e\u0005(\u0000\u0000\u018e\u018f\u00055\u0000\u0000\u018f"+
-		"\u0198\u0005\f\u0000\u0000\u0190\u0195\u0003,\u0016\u0000\u0191\u0192"+
-		"\u0005\u0007\u0000\u0000\u0192\u0194\u0003,\u0016\u0000\u0193\u0191\u0001"+
-		"\u0000\u0000\u0000\u0194\u0197\u0001\u0000\u0000\u0000\u0195\u0193\u0001"+
-		"\u0000\u0000\u0000\u0195\u0196\u0001\u0000\u0000\u0000\u0196\u0199\u0001"+
-		"\u0000\u0000\u0000\u0197\u0195\u0001\u0000\u0000\u0000\u0198\u0190\u0001"+
-		"\u0000\u0000\u0000\u0198\u0199\u0001\u0000\u0000\u0000\u0199\u019a\u0001"+
-		"\u0000\u0000\u0000\u019a\u01a2\u0005\u000e\u0000\u0000\u019b\u019c\u0005"+
-		"(\u0000\u0000\u019c\u01a2\u00055\u0000\u0000\u019d\u019e\u0005)\u0000"+
-		"\u0000\u019e\u019f\u0003,\u0016\u0000\u019f\u01a0\u0005*\u0000\u0000\u01a0"+
-		"\u01a2\u0001\u0000\u0000\u0000\u01a1\u018d\u0001\u0000\u0000\u0000\u01a1"+
-		"\u019b\u0001\u0000\u0000\u0000\u01a1\u019d\u0001\u0000\u0000\u0000\u01a2"+
-		"\u01a3\u0001\u0000\u0000\u0000\u01a3\u01a6\u0003J%\u0000\u01a4\u01a6\u0001"+
-		"\u0000\u0000\u0000\u01a5\u01a1\u0001\u0000\u0000\u0000\u01a5\u01a4\u0001"+
-		"\u0000\u0000\u0000\u01a6K\u0001\u0000\u0000\u0000\u01a7\u01ce\u00052\u0000"+
-		"\u0000\u01a8\u01ce\u00053\u0000\u0000\u01a9\u01aa\u0005+\u0000\u0000\u01aa"+
-		"\u01ab\u0003P(\u0000\u01ab\u01ac\u0005)\u0000\u0000\u01ac\u01ad\u0003"+
-		",\u0016\u0000\u01ad\u01ae\u0005*\u0000\u0000\u01ae\u01ce\u0001\u0000\u0000"+
-		"\u0000\u01af\u01b0\u0005+\u0000\u0000\u01b0\u01b1\u00055\u0000\u0000\u01b1"+
-		"\u01b2\u0005\f\u0000\u0000\u01b2\u01ce\u0005\u000e\u0000\u0000\u01b3\u01ce"+
-		"\u0005,\u0000\u0000\u01b4\u01ce\u0005-\u0000\u0000\u01b5\u01ce\u0005."+
-		"\u0000\u0000\u01b6\u01ce\u00055\u0000\u0000\u01b7\u01b8\u00055\u0000\u0000"+
-		"\u01b8\u01b9\u0005)\u0000\u0000\u01b9\u01ba\u0003,\u0016\u0000\u01ba\u01bb"+
-		"\u0005*\u0000\u0000\u01bb\u01ce\u0001\u0000\u0000\u0000\u01bc\u01bd\u0005"+
-		"\f\u0000\u0000\u01bd\u01be\u0003,\u0016\u0000\u01be\u01bf\u0005\u000e"+
-		"\u0000\u0000\u01bf\u01ce\u0001\u0000\u0000\u0000\u01c0\u01c1\u00055\u0000"+
-		"\u0000\u01c1\u01ca\u0005\f\u0000\u0000\u01c2\u01c7\u0003,\u0016\u0000"+
-		"\u01c3\u01c4\u0005\u0007\u0000\u0000\u01c4\u01c6\u0003,\u0016\u0000\u01c5"+
-		"\u01c3\u0001\u0000\u0000\u0000\u01c6\u01c9\u0001\u0000\u0000\u0000\u01c7"+
-		"\u01c5\u0001\u0000\u0000\u0000\u01c7\u01c8\u0001\u0000\u0000\u0000\u01c8"+
-		"\u01cb\u0001\u0000\u0000\u0000\u01c9\u01c7\u0001\u0000\u0000\u0000\u01ca"+
-		"\u01c2\u0001\u0000\u0000\u0000\u01ca\u01cb\u0001\u0000\u0000\u0000\u01cb"+
-		"\u01cc\u0001\u0000\u0000\u0000\u01cc\u01ce\u0005\u000e\u0000\u0000\u01cd"+
-		"\u01a7\u0001\u0000\u0000\u0000\u01cd\u01a8\u0001\u0000\u0000\u0000\u01cd"+
-		"\u01a9\u0001\u0000\u0000\u0000\u01cd\u01af\u0001\u0000\u0000\u0000\u01cd"+
-		"\u01b3\u0001\u0000\u0000\u0000\u01cd\u01b4\u0001\u0000\u0000\u0000\u01cd"+
-		"\u01b5\u0001\u0000\u0000\u0000\u01cd\u01b6\u0001\u0000\u0000\u0000\u01cd"+
-		"\u01b7\u0001\u0000\u0000\u0000\u01cd\u01bc\u0001\u0000\u0000\u0000\u01cd"+
-		"\u01c0\u0001\u0000\u0000\u0000\u01ceM\u0001\u0000\u0000\u0000\u01cf\u01d2"+
-		"\u0003P(\u0000\u01d0\u01d1\u0005)\u0000\u0000\u01d1\u01d3\u0005*\u0000"+
-		"\u0000\u01d2\u01d0\u0001\u0000\u0000\u0000\u01d2\u01d3\u0001\u0000\u0000"+
-		"\u0000\u01d3O\u0001\u0000\u0000\u0000\u01d4\u01d9\u0005/\u0000\u0000\u01d5"+
-		"\u01d9\u00050\u0000\u0000\u01d6\u01d9\u00051\u0000\u0000\u01d7\u01d9\u0005"+
-		"5\u0000\u0000\u01d8\u01d4\u0001\u0000\u0000\u0000\u01d8\u01d5\u0001\u0000"+
-		"\u0000\u0000\u01d8\u01d6\u0001\u0000\u0000\u0000\u01d8\u01d7\u0001\u0000"+
-		"\u0000\u0000\u01d9Q\u0001\u0000\u0000\u0000*U\\bhmox\u0081\u0087\u0095"+
-		"\u0098\u00a1\u00b1\u00c0\u00d9\u00ef\u00f5\u00f9\u00fd\u0109\u0110\u0141"+
-		"\u014b\u0152\u0158\u015f\u0165\u016c\u0172\u017a\u0180\u0184\u0188\u0195"+
-		"\u0198\u01a1\u01a5\u01c7\u01ca\u01cd\u01d2\u01d8";
+		" \"$&(*,.02\u0000\u0001\u0001\u0000\b\n\u01b7\u00007\u0001\u0000\u0000"+
+		"\u0000\u0002D\u0001\u0000\u0000\u0000\u0004V\u0001\u0000\u0000\u0000\u0006"+
+		"Z\u0001\u0000\u0000\u0000\bf\u0001\u0000\u0000\u0000\ni\u0001\u0000\u0000"+
+		"\u0000\f\u0093\u0001\u0000\u0000\u0000\u000e\u0095\u0001\u0000\u0000\u0000"+
+		"\u0010\u00d7\u0001\u0000\u0000\u0000\u0012\u00db\u0001\u0000\u0000\u0000"+
+		"\u0014\u00df\u0001\u0000\u0000\u0000\u0016\u00e1\u0001\u0000\u0000\u0000"+
+		"\u0018\u00ee\u0001\u0000\u0000\u0000\u001a\u00f7\u0001\u0000\u0000\u0000"+
+		"\u001c\u00f9\u0001\u0000\u0000\u0000\u001e\u00fb\u0001\u0000\u0000\u0000"+
+		" \u00fe\u0001\u0000\u0000\u0000\"\u0104\u0001\u0000\u0000\u0000$\u010a"+
+		"\u0001\u0000\u0000\u0000&\u010f\u0001\u0000\u0000\u0000(\u0113\u0001\u0000"+
+		"\u0000\u0000*\u0116\u0001\u0000\u0000\u0000,\u0120\u0001\u0000\u0000\u0000"+
+		".\u0183\u0001\u0000\u0000\u00000\u0185\u0001\u0000\u0000\u00002\u018e"+
+		"\u0001\u0000\u0000\u000046\u0003\u0002\u0001\u000054\u0001\u0000\u0000"+
+		"\u000069\u0001\u0000\u0000\u000075\u0001\u0000\u0000\u000078\u0001\u0000"+
+		"\u0000\u00008:\u0001\u0000\u0000\u000097\u0001\u0000\u0000\u0000:>\u0003"+
+		"\u0004\u0002\u0000;=\u0003\u0002\u0001\u0000<;\u0001\u0000\u0000\u0000"+
+		"=@\u0001\u0000\u0000\u0000><\u0001\u0000\u0000\u0000>?\u0001\u0000\u0000"+
+		"\u0000?A\u0001\u0000\u0000\u0000@>\u0001\u0000\u0000\u0000AB\u0005\u0000"+
+		"\u0000\u0001B\u0001\u0001\u0000\u0000\u0000CE\u0003\b\u0004\u0000DC\u0001"+
+		"\u0000\u0000\u0000DE\u0001\u0000\u0000\u0000EF\u0001\u0000\u0000\u0000"+
+		"FG\u0005\u0001\u0000\u0000GJ\u00055\u0000\u0000HI\u0005\u0002\u0000\u0000"+
+		"IK\u00055\u0000\u0000JH\u0001\u0000\u0000\u0000JK\u0001\u0000\u0000\u0000"+
+		"KL\u0001\u0000\u0000\u0000LQ\u0005\u0003\u0000\u0000MP\u0003\u0006\u0003"+
+		"\u0000NP\u0003\n\u0005\u0000OM\u0001\u0000\u0000\u0000ON\u0001\u0000\u0000"+
+		"\u0000PS\u0001\u0000\u0000\u0000QO\u0001\u0000\u0000\u0000QR\u0001\u0000"+
+		"\u0000\u0000RT\u0001\u0000\u0000\u0000SQ\u0001\u0000\u0000\u0000TU\u0005"+
+		"\u0004\u0000\u0000U\u0003\u0001\u0000\u0000\u0000VW\u0005\u0005\u0000"+
+		"\u0000WX\u0003\u0002\u0001\u0000X\u0005\u0001\u0000\u0000\u0000Y[\u0003"+
+		"\b\u0004\u0000ZY\u0001\u0000\u0000\u0000Z[\u0001\u0000\u0000\u0000[\\"+
+		"\u0001\u0000\u0000\u0000\\]\u0005\u0006\u0000\u0000]^\u00030\u0018\u0000"+
+		"^c\u00055\u0000\u0000_`\u0005\u0007\u0000\u0000`b\u00055\u0000\u0000a"+
+		"_\u0001\u0000\u0000\u0000be\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000"+
+		"\u0000cd\u0001\u0000\u0000\u0000d\u0007\u0001\u0000\u0000\u0000ec\u0001"+
+		"\u0000\u0000\u0000fg\u0007\u0000\u0000\u0000g\t\u0001\u0000\u0000\u0000"+
+		"hj\u0003\b\u0004\u0000ih\u0001\u0000\u0000\u0000ij\u0001\u0000\u0000\u0000"+
+		"jk\u0001\u0000\u0000\u0000kl\u0005\u000b\u0000\u0000lm\u00055\u0000\u0000"+
+		"mz\u0005\f\u0000\u0000no\u00055\u0000\u0000op\u0005\r\u0000\u0000pw\u0003"+
+		"0\u0018\u0000qr\u0005\u0007\u0000\u0000rs\u00055\u0000\u0000st\u0005\r"+
+		"\u0000\u0000tv\u00030\u0018\u0000uq\u0001\u0000\u0000\u0000vy\u0001\u0000"+
+		"\u0000\u0000wu\u0001\u0000\u0000\u0000wx\u0001\u0000\u0000\u0000x{\u0001"+
+		"\u0000\u0000\u0000yw\u0001\u0000\u0000\u0000zn\u0001\u0000\u0000\u0000"+
+		"z{\u0001\u0000\u0000\u0000{|\u0001\u0000\u0000\u0000|}\u0005\u000e\u0000"+
+		"\u0000}~\u0005\u000f\u0000\u0000~\u007f\u00030\u0018\u0000\u007f\u0083"+
+		"\u0005\u0003\u0000\u0000\u0080\u0082\u0003\u0014\n\u0000\u0081\u0080\u0001"+
+		"\u0000\u0000\u0000\u0082\u0085\u0001\u0000\u0000\u0000\u0083\u0081\u0001"+
+		"\u0000\u0000\u0000\u0083\u0084\u0001\u0000\u0000\u0000\u0084\u0086\u0001"+
+		"\u0000\u0000\u0000\u0085\u0083\u0001\u0000\u0000\u0000\u0086\u0087\u0005"+
+		"\u0004\u0000\u0000\u0087\u000b\u0001\u0000\u0000\u0000\u0088\u0094\u0003"+
+		"\u0018\f\u0000\u0089\u0094\u0003\u000e\u0007\u0000\u008a\u0094\u0003 "+
+		"\u0010\u0000\u008b\u0094\u0003$\u0012\u0000\u008c\u0094\u0003&\u0013\u0000"+
+		"\u008d\u0094\u0003\u001e\u000f\u0000\u008e\u0094\u0003\u0016\u000b\u0000"+
+		"\u008f\u0094\u0003\u001a\r\u0000\u0090\u0094\u0003\u001c\u000e\u0000\u0091"+
+		"\u0094\u0003(\u0014\u0000\u0092\u0094\u0003*\u0015\u0000\u0093\u0088\u0001"+
+		"\u0000\u0000\u0000\u0093\u0089\u0001\u0000\u0000\u0000\u0093\u008a\u0001"+
+		"\u0000\u0000\u0000\u0093\u008b\u0001\u0000\u0000\u0000\u0093\u008c\u0001"+
+		"\u0000\u0000\u0000\u0093\u008d\u0001\u0000\u0000\u0000\u0093\u008e\u0001"+
+		"\u0000\u0000\u0000\u0093\u008f\u0001\u0000\u0000\u0000\u0093\u0090\u0001"+
+		"\u0000\u0000\u0000\u0093\u0091\u0001\u0000\u0000\u0000\u0093\u0092\u0001"+
+		"\u0000\u0000\u0000\u0094\r\u0001\u0000\u0000\u0000\u0095\u0096\u0005\u0010"+
+		"\u0000\u0000\u0096\u0097\u0005\f\u0000\u0000\u0097\u0098\u0003,\u0016"+
+		"\u0000\u0098\u0099\u0005\u000e\u0000\u0000\u0099\u00a2\u0003\f\u0006\u0000"+
+		"\u009a\u009b\u0005\u0011\u0000\u0000\u009b\u009c\u0005\f\u0000\u0000\u009c"+
+		"\u009d\u0003,\u0016\u0000\u009d\u009e\u0005\u000e\u0000\u0000\u009e\u009f"+
+		"\u0003\f\u0006\u0000\u009f\u00a1\u0001\u0000\u0000\u0000\u00a0\u009a\u0001"+
+		"\u0000\u0000\u0000\u00a1\u00a4\u0001\u0000\u0000\u0000\u00a2\u00a0\u0001"+
+		"\u0000\u0000\u0000\u00a2\u00a3\u0001\u0000\u0000\u0000\u00a3\u00a5\u0001"+
+		"\u0000\u0000\u0000\u00a4\u00a2\u0001\u0000\u0000\u0000\u00a5\u00a6\u0005"+
+		"\u0012\u0000\u0000\u00a6\u00a7\u0003\f\u0006\u0000\u00a7\u000f\u0001\u0000"+
+		"\u0000\u0000\u00a8\u00a9\u0005\u0010\u0000\u0000\u00a9\u00aa\u0005\f\u0000"+
+		"\u0000\u00aa\u00ab\u0003,\u0016\u0000\u00ab\u00ac\u0005\u000e\u0000\u0000"+
+		"\u00ac\u00ad\u0003\u0014\n\u0000\u00ad\u00d8\u0001\u0000\u0000\u0000\u00ae"+
+		"\u00af\u0005\u0010\u0000\u0000\u00af\u00b0\u0005\f\u0000\u0000\u00b0\u00b1"+
+		"\u0003,\u0016\u0000\u00b1\u00b2\u0005\u000e\u0000\u0000\u00b2\u00bb\u0003"+
+		"\f\u0006\u0000\u00b3\u00b4\u0005\u0011\u0000\u0000\u00b4\u00b5\u0005\f"+
+		"\u0000\u0000\u00b5\u00b6\u0003,\u0016\u0000\u00b6\u00b7\u0005\u000e\u0000"+
+		"\u0000\u00b7\u00b8\u0003\f\u0006\u0000\u00b8\u00ba\u0001\u0000\u0000\u0000"+
+		"\u00b9\u00b3\u0001\u0000\u0000\u0000\u00ba\u00bd\u0001\u0000\u0000\u0000"+
+		"\u00bb\u00b9\u0001\u0000\u0000\u0000\u00bb\u00bc\u0001\u0000\u0000\u0000"+
+		"\u00bc\u00be\u0001\u0000\u0000\u0000\u00bd\u00bb\u0001\u0000\u0000\u0000"+
+		"\u00be\u00bf\u0005\u0011\u0000\u0000\u00bf\u00c0\u0005\f\u0000\u0000\u00c0"+
+		"\u00c1\u0003,\u0016\u0000\u00c1\u00c2\u0005\u000e\u0000\u0000\u00c2\u00c3"+
+		"\u0003\u0014\n\u0000\u00c3\u00d8\u0001\u0000\u0000\u0000\u00c4\u00c5\u0005"+
+		"\u0010\u0000\u0000\u00c5\u00c6\u0005\f\u0000\u0000\u00c6\u00c7\u0003,"+
+		"\u0016\u0000\u00c7\u00c8\u0005\u000e\u0000\u0000\u00c8\u00d1\u0003\f\u0006"+
+		"\u0000\u00c9\u00ca\u0005\u0011\u0000\u0000\u00ca\u00cb\u0005\f\u0000\u0000"+
+		"\u00cb\u00cc\u0003,\u0016\u0000\u00cc\u00cd\u0005\u000e\u0000\u0000\u00cd"+
+		"\u00ce\u0003\f\u0006\u0000\u00ce\u00d0\u0001\u0000\u0000\u0000\u00cf\u00c9"+
+		"\u0001\u0000\u0000\u0000\u00d0\u00d3\u0001\u0000\u0000\u0000\u00d1\u00cf"+
+		"\u0001\u0000\u0000\u0000\u00d1\u00d2\u0001\u0000\u0000\u0000\u00d2\u00d4"+
+		"\u0001\u0000\u0000\u0000\u00d3\u00d1\u0001\u0000\u0000\u0000\u00d4\u00d5"+
+		"\u0005\u0012\u0000\u0000\u00d5\u00d6\u0003\u0012\t\u0000\u00d6\u00d8\u0001"+
+		"\u0000\u0000\u0000\u00d7\u00a8\u0001\u0000\u0000\u0000\u00d7\u00ae\u0001"+
+		"\u0000\u0000\u0000\u00d7\u00c4\u0001\u0000\u0000\u0000\u00d8\u0011\u0001"+
+		"\u0000\u0000\u0000\u00d9\u00dc\u0003\"\u0011\u0000\u00da\u00dc\u0003\u0010"+
+		"\b\u0000\u00db\u00d9\u0001\u0000\u0000\u0000\u00db\u00da\u0001\u0000\u0000"+
+		"\u0000\u00dc\u0013\u0001\u0000\u0000\u0000\u00dd\u00e0\u0003\f\u0006\u0000"+
+		"\u00de\u00e0\u0003\u0012\t\u0000\u00df\u00dd\u0001\u0000\u0000\u0000\u00df"+
+		"\u00de\u0001\u0000\u0000\u0000\u00e0\u0015\u0001\u0000\u0000\u0000\u00e1"+
+		"\u00e2\u0005\u0013\u0000\u0000\u00e2\u00e3\u00055\u0000\u0000\u00e3\u00e4"+
+		"\u0005\u0014\u0000\u0000\u00e4\u00eb\u0003,\u0016\u0000\u00e5\u00e6\u0005"+
+		"\u0007\u0000\u0000\u00e6\u00e7\u00055\u0000\u0000\u00e7\u00e8\u0005\u0014"+
+		"\u0000\u0000\u00e8\u00ea\u0003,\u0016\u0000\u00e9\u00e5\u0001\u0000\u0000"+
+		"\u0000\u00ea\u00ed\u0001\u0000\u0000\u0000\u00eb\u00e9\u0001\u0000\u0000"+
+		"\u0000\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec\u0017\u0001\u0000\u0000"+
+		"\u0000\u00ed\u00eb\u0001\u0000\u0000\u0000\u00ee\u00f2\u0005\u0003\u0000"+
+		"\u0000\u00ef\u00f1\u0003\u0014\n\u0000\u00f0\u00ef\u0001\u0000\u0000\u0000"+
+		"\u00f1\u00f4\u0001\u0000\u0000\u0000\u00f2\u00f0\u0001\u0000\u0000\u0000"+
+		"\u00f2\u00f3\u0001\u0000\u0000\u0000\u00f3\u00f5\u0001\u0000\u0000\u0000"+
+		"\u00f4\u00f2\u0001\u0000\u0000\u0000\u00f5\u00f6\u0005\u0004\u0000\u0000"+
+		"\u00f6\u0019\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005\u0015\u0000\u0000"+
+		"\u00f8\u001b\u0001\u0000\u0000\u0000\u00f9\u00fa\u0005\u0016\u0000\u0000"+
+		"\u00fa\u001d\u0001\u0000\u0000\u0000\u00fb\u00fc\u0005\u0017\u0000\u0000"+
+		"\u00fc\u00fd\u0003,\u0016\u0000\u00fd\u001f\u0001\u0000\u0000\u0000\u00fe"+
+		"\u00ff\u0005\u0018\u0000\u0000\u00ff\u0100\u0005\f\u0000\u0000\u0100\u0101"+
+		"\u0003,\u0016\u0000\u0101\u0102\u0005\u000e\u0000\u0000\u0102\u0103\u0003"+
+		"\f\u0006\u0000\u0103!\u0001\u0000\u0000\u0000\u0104\u0105\u0005\u0018"+
+		"\u0000\u0000\u0105\u0106\u0005\f\u0000\u0000\u0106\u0107\u0003,\u0016"+
+		"\u0000\u0107\u0108\u0005\u000e\u0000\u0000\u0108\u0109\u0003\u0012\t\u0000"+
+		"\u0109#\u0001\u0000\u0000\u0000\u010a\u010b\u0005\u0019\u0000\u0000\u010b"+
+		"\u010c\u0005\f\u0000\u0000\u010c\u010d\u0003,\u0016\u0000\u010d\u010e"+
+		"\u0005\u000e\u0000\u0000\u010e%\u0001\u0000\u0000\u0000\u010f\u0110\u0003"+
+		",\u0016\u0000\u0110\u0111\u0005\u0014\u0000\u0000\u0111\u0112\u0003,\u0016"+
+		"\u0000\u0112\'\u0001\u0000\u0000\u0000\u0113\u0114\u0003,\u0016\u0000"+
+		"\u0114\u0115\u0005\u001a\u0000\u0000\u0115)\u0001\u0000\u0000\u0000\u0116"+
+		"\u0117\u0003,\u0016\u0000\u0117\u0118\u0005\u001b\u0000\u0000\u0118+\u0001"+
+		"\u0000\u0000\u0000\u0119\u011a\u0006\u0016\uffff\uffff\u0000\u011a\u0121"+
+		"\u0003.\u0017\u0000\u011b\u011e\u0005\u001f\u0000\u0000\u011c\u011e\u0005"+
+		" \u0000\u0000\u011d\u011b\u0001\u0000\u0000\u0000\u011d\u011c\u0001\u0000"+
+		"\u0000\u0000\u011e\u011f\u0001\u0000\u0000\u0000\u011f\u0121\u0003,\u0016"+
+		"\u0007\u0120\u0119\u0001\u0000\u0000\u0000\u0120\u011d\u0001\u0000\u0000"+
+		"\u0000\u0121\u015a\u0001\u0000\u0000\u0000\u0122\u0126\n\u0006\u0000\u0000"+
+		"\u0123\u0127\u0005!\u0000\u0000\u0124\u0127\u0005\"\u0000\u0000\u0125"+
+		"\u0127\u0005#\u0000\u0000\u0126\u0123\u0001\u0000\u0000\u0000\u0126\u0124"+
+		"\u0001\u0000\u0000\u0000\u0126\u0125\u0001\u0000\u0000\u0000\u0127\u0128"+
+		"\u0001\u0000\u0000\u0000\u0128\u0159\u0003,\u0016\u0007\u0129\u012c\n"+
+		"\u0005\u0000\u0000\u012a\u012d\u0005$\u0000\u0000\u012b\u012d\u0005 \u0000"+
+		"\u0000\u012c\u012a\u0001\u0000\u0000\u0000\u012c\u012b\u0001\u0000\u0000"+
+		"\u0000\u012d\u012e\u0001\u0000\u0000\u0000\u012e\u0159\u0003,\u0016\u0006"+
+		"\u012f\u0132\n\u0004\u0000\u0000\u0130\u0133\u0005%\u0000\u0000\u0131"+
+		"\u0133\u0005&\u0000\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0132\u0131"+
+		"\u0001\u0000\u0000\u0000\u0133\u0134\u0001\u0000\u0000\u0000\u0134\u0159"+
+		"\u0003,\u0016\u0005\u0135\u0138\n\u0003\u0000\u0000\u0136\u0139\u0005"+
+		"\'\u0000\u0000\u0137\u0139\u0005(\u0000\u0000\u0138\u0136\u0001\u0000"+
+		"\u0000\u0000\u0138\u0137\u0001\u0000\u0000\u0000\u0139\u013a\u0001\u0000"+
+		"\u0000\u0000\u013a\u0159\u0003,\u0016\u0004\u013b\u013c\n\u0002\u0000"+
+		"\u0000\u013c\u013d\u0005)\u0000\u0000\u013d\u0159\u0003,\u0016\u0003\u013e"+
+		"\u013f\n\u0001\u0000\u0000\u013f\u0140\u0005*\u0000\u0000\u0140\u0159"+
+		"\u0003,\u0016\u0002\u0141\u0142\n\n\u0000\u0000\u0142\u0143\u0005\u001c"+
+		"\u0000\u0000\u0143\u0144\u00055\u0000\u0000\u0144\u014d\u0005\f\u0000"+
+		"\u0000\u0145\u014a\u0003,\u0016\u0000\u0146\u0147\u0005\u0007\u0000\u0000"+
+		"\u0147\u0149\u0003,\u0016\u0000\u0148\u0146\u0001\u0000\u0000\u0000\u0149"+
+		"\u014c\u0001\u0000\u0000\u0000\u014a\u0148\u0001\u0000\u0000\u0000\u014a"+
+		"\u014b\u0001\u0000\u0000\u0000\u014b\u014e\u0001\u0000\u0000\u0000\u014c"+
+		"\u014a\u0001\u0000\u0000\u0000\u014d\u0145\u0001\u0000\u0000\u0000\u014d"+
+		"\u014e\u0001\u0000\u0000\u0000\u014e\u014f\u0001\u0000\u0000\u0000\u014f"+
+		"\u0159\u0005\u000e\u0000\u0000\u0150\u0151\n\t\u0000\u0000\u0151\u0152"+
+		"\u0005\u001c\u0000\u0000\u0152\u0159\u00055\u0000\u0000\u0153\u0154\n"+
+		"\b\u0000\u0000\u0154\u0155\u0005\u001d\u0000\u0000\u0155\u0156\u0003,"+
+		"\u0016\u0000\u0156\u0157\u0005\u001e\u0000\u0000\u0157\u0159\u0001\u0000"+
+		"\u0000\u0000\u0158\u0122\u0001\u0000\u0000\u0000\u0158\u0129\u0001\u0000"+
+		"\u0000\u0000\u0158\u012f\u0001\u0000\u0000\u0000\u0158\u0135\u0001\u0000"+
+		"\u0000\u0000\u0158\u013b\u0001\u0000\u0000\u0000\u0158\u013e\u0001\u0000"+
+		"\u0000\u0000\u0158\u0141\u0001\u0000\u0000\u0000\u0158\u0150\u0001\u0000"+
+		"\u0000\u0000\u0158\u0153\u0001\u0000\u0000\u0000\u0159\u015c\u0001\u0000"+
+		"\u0000\u0000\u015a\u0158\u0001\u0000\u0000\u0000\u015a\u015b\u0001\u0000"+
+		"\u0000\u0000\u015b-\u0001\u0000\u0000\u0000\u015c\u015a\u0001\u0000\u0000"+
+		"\u0000\u015d\u0184\u00052\u0000\u0000\u015e\u0184\u00053\u0000\u0000\u015f"+
+		"\u0160\u0005+\u0000\u0000\u0160\u0161\u00032\u0019\u0000\u0161\u0162\u0005"+
+		"\u001d\u0000\u0000\u0162\u0163\u0003,\u0016\u0000\u0163\u0164\u0005\u001e"+
+		"\u0000\u0000\u0164\u0184\u0001\u0000\u0000\u0000\u0165\u0166\u0005+\u0000"+
+		"\u0000\u0166\u0167\u00055\u0000\u0000\u0167\u0168\u0005\f\u0000\u0000"+
+		"\u0168\u0184\u0005\u000e\u0000\u0000\u0169\u0184\u0005,\u0000\u0000\u016a"+
+		"\u0184\u0005-\u0000\u0000\u016b\u0184\u0005.\u0000\u0000\u016c\u0184\u0005"+
+		"5\u0000\u0000\u016d\u016e\u00055\u0000\u0000\u016e\u016f\u0005\u001d\u0000"+
+		"\u0000\u016f\u0170\u0003,\u0016\u0000\u0170\u0171\u0005\u001e\u0000\u0000"+
+		"\u0171\u0184\u0001\u0000\u0000\u0000\u0172\u0173\u0005\f\u0000\u0000\u0173"+
+		"\u0174\u0003,\u0016\u0000\u0174\u0175\u0005\u000e\u0000\u0000\u0175\u0184"+
+		"\u0001\u0000\u0000\u0000\u0176\u0177\u00055\u0000\u0000\u0177\u0180\u0005"+
+		"\f\u0000\u0000\u0178\u017d\u0003,\u0016\u0000\u0179\u017a\u0005\u0007"+
+		"\u0000\u0000\u017a\u017c\u0003,\u0016\u0000\u017b\u0179\u0001\u0000\u0000"+
+		"\u0000\u017c\u017f\u0001\u0000\u0000\u0000\u017d\u017b\u0001\u0000\u0000"+
+		"\u0000\u017d\u017e\u0001\u0000\u0000\u0000\u017e\u0181\u0001\u0000\u0000"+
+		"\u0000\u017f\u017d\u0001\u0000\u0000\u0000\u0180\u0178\u0001\u0000\u0000"+
+		"\u0000\u0180\u0181\u0001\u0000\u0000\u0000\u0181\u0182\u0001\u0000\u0000"+
+		"\u0000\u0182\u0184\u0005\u000e\u0000\u0000\u0183\u015d\u0001\u0000\u0000"+
+		"\u0000\u0183\u015e\u0001\u0000\u0000\u0000\u0183\u015f\u0001\u0000\u0000"+
+		"\u0000\u0183\u0165\u0001\u0000\u0000\u0000\u0183\u0169\u0001\u0000\u0000"+
+		"\u0000\u0183\u016a\u0001\u0000\u0000\u0000\u0183\u016b\u0001\u0000\u0000"+
+		"\u0000\u0183\u016c\u0001\u0000\u0000\u0000\u0183\u016d\u0001\u0000\u0000"+
+		"\u0000\u0183\u0172\u0001\u0000\u0000\u0000\u0183\u0176\u0001\u0000\u0000"+
+		"\u0000\u0184/\u0001\u0000\u0000\u0000\u0185\u0188\u00032\u0019\u0000\u0186"+
+		"\u0187\u0005\u001d\u0000\u0000\u0187\u0189\u0005\u001e\u0000\u0000\u0188"+
+		"\u0186\u0001\u0000\u0000\u0000\u0188\u0189\u0001\u0000\u0000\u0000\u0189"+
+		"1\u0001\u0000\u0000\u0000\u018a\u018f\u0005/\u0000\u0000\u018b\u018f\u0005"+
+		"0\u0000\u0000\u018c\u018f\u00051\u0000\u0000\u018d\u018f\u00055\u0000"+
+		"\u0000\u018e\u018a\u0001\u0000\u0000\u0000\u018e\u018b\u0001\u0000\u0000"+
+		"\u0000\u018e\u018c\u0001\u0000\u0000\u0000\u018e\u018d\u0001\u0000\u0000"+
+		"\u0000\u018f3\u0001\u0000\u0000\u0000$7>DJOQZciwz\u0083\u0093\u00a2\u00bb"+
+		"\u00d1\u00d7\u00db\u00df\u00eb\u00f2\u011d\u0120\u0126\u012c\u0132\u0138"+
+		"\u014a\u014d\u0158\u015a\u017d\u0180\u0183\u0188\u018e";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -142,101 +142,82 @@ public interface japyVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitStatementDec(japyParser.StatementDecContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expression}.
+	 * Visit a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpression(japyParser.ExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionOr}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionOr(japyParser.ExpressionOrContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionOrTemp}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx);
+	T visitExpressionAdd(japyParser.ExpressionAddContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionAnd}.
+	 * Visit a parse tree produced by the {@code expressionIndex}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionAnd(japyParser.ExpressionAndContext ctx);
+	T visitExpressionIndex(japyParser.ExpressionIndexContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionAndTemp}.
+	 * Visit a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx);
+	T visitExpressionFieldAccess(japyParser.ExpressionFieldAccessContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionEq}.
+	 * Visit a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitExpressionEq(japyParser.ExpressionEqContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionEqTemp}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionCmp}.
+	 * Visit a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionCmp(japyParser.ExpressionCmpContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionCmpTemp}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionAdd}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionAdd(japyParser.ExpressionAddContext ctx);
+	T visitExpressionUnary(japyParser.ExpressionUnaryContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionAddTemp}.
+	 * Visit a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx);
+	T visitExpressionAnd(japyParser.ExpressionAndContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionMultMod}.
+	 * Visit a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitExpressionMultMod(japyParser.ExpressionMultModContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionMultModTemp}.
+	 * Visit a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx);
+	T visitExpressionCmp(japyParser.ExpressionCmpContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionUnary}.
+	 * Visit a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionUnary(japyParser.ExpressionUnaryContext ctx);
+	T visitExpressionOr(japyParser.ExpressionOrContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionMethods}.
+	 * Visit a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionMethods(japyParser.ExpressionMethodsContext ctx);
+	T visitExpressionPrimary(japyParser.ExpressionPrimaryContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link japyParser#expressionMethodsTemp}.
+	 * Visit a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link japyParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx);
+	T visitExpressionMethodCall(japyParser.ExpressionMethodCallContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link japyParser#expressionOther}.
 	 * @param ctx the parse tree